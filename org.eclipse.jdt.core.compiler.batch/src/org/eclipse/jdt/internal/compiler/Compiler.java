@@ -79,6 +79,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 	public int annotationProcessorStartIndex = 0;
 	public ReferenceBinding[] referenceBindings;
 	public boolean useSingleThread = true; // by default the compiler will not use worker threads to read/process/write
+	public boolean parseMethodBodiesAhead = false; // when using worker threads, whether method bodies are parsed ahead of processing
+	private MethodBodyParseManager methodBodyParseManager;
 
 	// number of initial units parsed at once (-1: none)
 
@@ -479,6 +481,8 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 							}));
 				}
 			} else {
+				if (shouldParseMethodBodiesAhead())
+					this.methodBodyParseManager = new MethodBodyParseManager(this, startingIndex);
 				try (ProcessTaskManager processingTask = new ProcessTaskManager(this, startingIndex)){
 					int acceptedCount = 0;
 					// process all units (some more could be injected in the loop by the lookup environment)
@@ -510,6 +514,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 					} finally {
 						this.requestor.endBatch();
 					}
+				} finally {
+					if (this.methodBodyParseManager != null) {
+						this.methodBodyParseManager.close();
+						this.methodBodyParseManager = null;
+					}
 				}
 			}
 			if (!lastRound) {
@@ -548,6 +557,25 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		return null;
 	}
 
+	/*
+	 * Answers the unit at the given index without releasing it, or null if not known (yet).
+	 */
+	synchronized CompilationUnitDeclaration peekUnitToProcess(int index) {
+		if (this.unitsToProcess != null && index < this.totalUnits)
+			return this.unitsToProcess[index];
+		return null;
+	}
+
+	/*
+	 * Parsing ahead happens on a dedicated parser, whose problems are replayed in order,
+	 * so it is only supported for the standard parser and without annotation processing.
+	 */
+	private boolean shouldParseMethodBodiesAhead() {
+		return this.parseMethodBodiesAhead
+				&& this.annotationProcessorManager == null
+				&& this.parser.getClass() == Parser.class;
+	}
+
 	/*
 	 * Returns whether the compilation unit at the given index should be
 	 * cleaned up after processing. This basically means whether or not
@@ -794,7 +822,11 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 		this.lookupEnvironment.unitBeingCompleted = unit;
 		long parseStart = System.currentTimeMillis();
 
-		this.parser.getMethodBodies(unit);
+		MethodBodyParseManager parseManager = this.methodBodyParseManager;
+		if (parseManager != null)
+			parseManager.getMethodBodies(unit, i);
+		else
+			this.parser.getMethodBodies(unit);
 
 		long resolveStart = System.currentTimeMillis();
 		this.stats.parseTime += resolveStart - parseStart;
@@ -830,6 +862,13 @@ public class Compiler implements ITypeRequestor, ProblemSeverities {
 
 		this.stats.generateTime += System.currentTimeMillis() - generateStart;
 
+		this.stats.functionalExpressionCopies += unit.functionalExpressionCopies;
+		this.stats.functionalExpressionReparses += unit.functionalExpressionReparses;
+		if (unit.functionalExpressionReparses > this.stats.mostReparsedUnitReparses) {
+			this.stats.mostReparsedUnitReparses = unit.functionalExpressionReparses;
+			this.stats.mostReparsedUnit = unit.getFileName();
+		}
+
 		// refresh the total number of units known at this stage
 		unit.compilationResult.totalUnitsKnown = this.totalUnits;
 
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.ast.ASTNode;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.TypeDeclaration;
+import org.eclipse.jdt.internal.compiler.impl.ReferenceContext;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.eclipse.jdt.internal.compiler.lookup.SourceTypeBinding;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+
+/**
+ * Parses the method bodies of units waiting to be processed before actually needed (ahead), on worker threads.
+ * <p>
+ * Resolution, flow analysis and code generation still run one unit after another on the compiler processing
+ * thread, since the {@link org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment} is not thread safe. Method
+ * body parsing updates the flags of the method, initializer and type declarations it fills, which the processing
+ * thread updates too when it resolves the signatures of these methods on behalf of another unit (e.g.
+ * {@link ASTNode#IsCanonicalConstructor} or {@link ASTNode#HasTypeAnnotations}). The fields and methods of a unit
+ * are therefore faulted in on the processing thread before its bodies are parsed ahead, leaving the declarations of
+ * a unit being parsed ahead to its worker thread until the unit gets processed.
+ * Problems detected while parsing ahead are not recorded right away: they are replayed into the unit's
+ * {@link CompilationResult} when the unit gets processed, i.e. at the very point where a sequential compiler would
+ * have reported them. Both the problems and the generated class files are therefore identical to a sequential
+ * compilation.
+ * </p>
+ */
+public class MethodBodyParseManager implements AutoCloseable {
+	private static final int CACHE_SIZE = 15; // number of units parsed ahead, do not keep too many method bodies in memory
+	/**
+	 * Leave 2 threads for compiler + writer, but use at least one parser thread so that parsing ahead also overlaps
+	 * with processing on small machines. Executor should process in fifo order (first in first out).
+	 */
+	private static final ExecutorService PARSER_SERVICE = createExecutor(Math.max(1, Math.min(CACHE_SIZE, Runtime.getRuntime().availableProcessors() - 2)));
+
+	private static ExecutorService createExecutor(int threadCount) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, /* keepAliveTime */ 5, TimeUnit.MINUTES,
+				new LinkedBlockingQueue<>(), r -> {
+					Thread t = new Thread(r, "Compiler Method Body Parser"); //$NON-NLS-1$
+					t.setDaemon(true);
+					return t;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private final Compiler compiler;
+	/** parsers are not thread safe, each parse ahead task borrows one together with its reporter **/
+	private final Queue<DeferringProblemReporter> idleReporters = new ConcurrentLinkedQueue<>();
+	private final Map<CompilationUnitDeclaration, Future<DeferredProblems>> cache = new ConcurrentHashMap<>();
+	/** index of the next unit to be parsed ahead, only accessed from the processing thread **/
+	private int nextIndex;
+	/** once closed, the tasks that did not start yet leave their unit alone **/
+	private volatile boolean closed;
+
+	public MethodBodyParseManager(Compiler compiler, int startingIndex) {
+		this.compiler = compiler;
+		this.nextIndex = startingIndex;
+	}
+
+	/**
+	 * Replaces {@link Parser#getMethodBodies(CompilationUnitDeclaration)} for the unit at the given index,
+	 * meant to be called from the processing thread in the order of the units to process.
+	 */
+	public void getMethodBodies(CompilationUnitDeclaration unit, int index) throws Error {
+		Future<DeferredProblems> future = this.cache.remove(unit);
+		queueNextParseAhead(index + 1);
+		if (future == null) {
+			// unit was not scheduled, e.g. it was added by the lookup environment while processing
+			this.compiler.parser.getMethodBodies(unit);
+			return;
+		}
+		DeferredProblems deferred;
+		try {
+			// in most cases future is already completed
+			deferred = future.get();
+			this.compiler.stats.unitsParsedAhead++;
+		} catch (InterruptedException interrupt) {
+			throw new AbortCompilation(true/* silent */, new RuntimeException(interrupt));
+		} catch (ExecutionException e) {
+			// rethrow the caught exception from the parsing threads in the processing thread
+			if (e.getCause() instanceof Error err) {
+				throw err;
+			}
+			if (e.getCause() instanceof RuntimeException ex) {
+				throw ex;
+			}
+			throw new RuntimeException(e);
+		}
+		deferred.replay(this.compiler.problemReporter);
+	}
+
+	private void queueNextParseAhead(int fromIndex) {
+		if (this.nextIndex < fromIndex) {
+			this.nextIndex = fromIndex;
+		}
+		while (this.cache.size() < CACHE_SIZE) {
+			CompilationUnitDeclaration nextUnit = this.compiler.peekUnitToProcess(this.nextIndex);
+			if (nextUnit == null) {
+				return;
+			}
+			this.nextIndex++;
+			if (nextUnit.ignoreMethodBodies
+					|| (nextUnit.bits & ASTNode.HasAllMethodBodies) != 0
+					|| nextUnit.compilationResult.hasBeenAccepted) {
+				continue; // nothing to parse
+			}
+			DeferredProblems failed = faultInFieldsAndMethods(nextUnit);
+			this.cache.put(nextUnit, failed != null
+					? CompletableFuture.completedFuture(failed)
+					: PARSER_SERVICE.submit(() -> parseAhead(nextUnit)));
+		}
+	}
+
+	/**
+	 * Resolves the signatures of the fields and methods of the given unit, as its processing would do right after
+	 * parsing the method bodies. A failure is kept to be rethrown when the unit gets processed.
+	 */
+	private DeferredProblems faultInFieldsAndMethods(CompilationUnitDeclaration unit) {
+		if (unit.scope == null || unit.types == null)
+			return null;
+		LookupEnvironment environment = this.compiler.lookupEnvironment;
+		CompilationUnitDeclaration unitBeingCompleted = environment.unitBeingCompleted;
+		environment.unitBeingCompleted = unit;
+		try {
+			for (TypeDeclaration type : unit.types) {
+				if (type.binding != null)
+					faultInFieldsAndMethods(type.binding);
+			}
+		} catch (Error | RuntimeException e) {
+			DeferredProblems failed = new DeferredProblems();
+			failed.failure = e;
+			return failed;
+		} finally {
+			environment.unitBeingCompleted = unitBeingCompleted;
+		}
+		return null;
+	}
+
+	private static void faultInFieldsAndMethods(SourceTypeBinding type) {
+		type.fields();
+		type.methods();
+		for (ReferenceBinding memberType : type.memberTypes()) {
+			if (memberType instanceof SourceTypeBinding sourceMemberType)
+				faultInFieldsAndMethods(sourceMemberType);
+		}
+	}
+
+	private DeferredProblems parseAhead(CompilationUnitDeclaration unit) {
+		if (this.closed)
+			return null; // the compilation is over, nobody will ask for this unit
+		DeferringProblemReporter reporter = this.idleReporters.poll();
+		if (reporter == null) {
+			reporter = new DeferringProblemReporter(this.compiler.problemReporter);
+			reporter.parser = new Parser(reporter, this.compiler.options.parseLiteralExpressionsAsConstants);
+		}
+		DeferredProblems deferred = new DeferredProblems();
+		reporter.deferred = deferred;
+		try {
+			reporter.parser.getMethodBodies(unit);
+		} catch (Error | RuntimeException e) {
+			// rethrown in the processing thread once the problems recorded so far are replayed
+			deferred.failure = e;
+		} finally {
+			reporter.deferred = null;
+			reporter.referenceContext = null;
+			this.idleReporters.offer(reporter);
+		}
+		return deferred;
+	}
+
+	/**
+	 * Waits for the tasks that are already parsing a unit, so that no AST of the compilation is modified once it ends.
+	 * The tasks that did not start yet return right away.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		boolean interrupted = false;
+		for (Future<DeferredProblems> future : this.cache.values()) {
+			while (true) {
+				try {
+					future.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true; // keep waiting, the running task does not check for interrupts
+				} catch (ExecutionException e) {
+					break; // the failure is only of interest to the processing of the unit
+				}
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+		this.cache.clear();
+		this.idleReporters.clear();
+	}
+
+	private record DeferredProblem(CategorizedProblem problem, CompilationResult unitResult, ReferenceContext referenceContext, boolean mandatoryError) {
+		// data only
+	}
+
+	/** Problems reported while parsing the method bodies of one unit ahead **/
+	static class DeferredProblems {
+		final List<DeferredProblem> problems = new ArrayList<>();
+		Throwable failure;
+
+		void replay(ProblemReporter reporter) throws Error {
+			for (DeferredProblem problem : this.problems) {
+				reporter.record(problem.problem(), problem.unitResult(), problem.referenceContext(), problem.mandatoryError());
+			}
+			if (this.failure instanceof Error error) {
+				throw error;
+			}
+			if (this.failure instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+		}
+	}
+
+	/** Keeps the problems reported while parsing ahead, until they can be recorded in order **/
+	static class DeferringProblemReporter extends ProblemReporter {
+		Parser parser;
+		DeferredProblems deferred;
+
+		DeferringProblemReporter(ProblemReporter reporter) {
+			super(reporter.policy, reporter.options, reporter.problemFactory);
+		}
+
+		@Override
+		public void record(CategorizedProblem problem, CompilationResult unitResult, ReferenceContext context, boolean mandatoryError) {
+			this.deferred.problems.add(new DeferredProblem(problem, unitResult, context, mandatoryError));
+		}
+	}
+}
@@ -306,6 +306,12 @@ public abstract class AbstractMethodDeclaration
 	 */
 	public void generateCode(ClassScope classScope, ClassFile classFile) {
 
+		IMethodAnalysisCache analysisCache = classScope == null ? null : classScope.environment().root.methodAnalysisCache;
+		if (analysisCache != null && analysisCache.reusedProblems(this) != null) {
+			// the problems of its code generation were reported with the ones of its analysis, and the class file lacks
+			// this method: only compilers discarding their class files, such as the reconciler, reuse problems
+			return;
+		}
 		classFile.codeStream.wideMode = false; // reset wideMode to false
 		if (this.ignoreFurtherInvestigation) {
 			// method is known to have errors, dump a problem method
@@ -377,6 +383,31 @@ public abstract class AbstractMethodDeclaration
 			System.arraycopy(problems, 0, problemsCopy, 0, problemsLength);
 			classFile.addProblemMethod(this, this.binding, problemsCopy, problemResetPC);
 		}
+		if (analysisCache != null && unitResult != null)
+			recordAnalysisProblems(analysisCache, problemCount);
+	}
+
+	/**
+	 * Notifies the given cache of the problems reported since the unit had the given number of problems.
+	 */
+	protected void recordAnalysisProblems(IMethodAnalysisCache analysisCache, int problemCount) {
+		int count = this.compilationResult.problemCount - problemCount;
+		if (count <= 0)
+			return;
+		CategorizedProblem[] problems = new CategorizedProblem[count];
+		System.arraycopy(this.compilationResult.problems, problemCount, problems, 0, count);
+		analysisCache.recordProblems(this, problems);
+	}
+
+	/**
+	 * Reports the given problems of a previous analysis of this method as if they were found by analyzing it.
+	 */
+	protected void reportReusedProblems(CategorizedProblem[] reusedProblems) {
+		ProblemReporter problemReporter = this.scope.problemReporter();
+		for (CategorizedProblem problem : reusedProblems) {
+			boolean mandatory = problem.isError() && ProblemReporter.getIrritant(problem.getID()) == 0;
+			problemReporter.record(problem, this.compilationResult, this, mandatory);
+		}
 	}
 
 	public void generateCode(ClassFile classFile) {
@@ -40,6 +40,7 @@ import org.eclipse.jdt.internal.compiler.impl.ReferenceContext;
 import org.eclipse.jdt.internal.compiler.lookup.*;
 import org.eclipse.jdt.internal.compiler.lookup.Substitution.NullSubstitution;
 import org.eclipse.jdt.internal.compiler.parser.NLSTag;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilationUnit;
 import org.eclipse.jdt.internal.compiler.problem.AbortMethod;
 import org.eclipse.jdt.internal.compiler.problem.AbortType;
@@ -91,6 +92,11 @@ public class CompilationUnitDeclaration extends ASTNode implements ProblemSeveri
 	int suppressWarningsCount;
 	public int functionalExpressionsCount;
 	public FunctionalExpression[] functionalExpressions;
+	char[] functionalExpressionsSource; // shared by the copies of the functional expressions, see FunctionalExpression#getCopySource()
+	Parser lambdaParser; // parses the copies of the lambda expressions, see LambdaExpression#copy()
+	Map<Integer, Integer> lambdaShapes; // shapes of the lambda bodies by source start, see LambdaExpression#getBlockShape()
+	public int functionalExpressionCopies; // resolved copies asked for by overload resolution and inference
+	public int functionalExpressionReparses; // copies parsed for them, the others were reused
 
 public CompilationUnitDeclaration(ProblemReporter problemReporter, CompilationResult compilationResult, int sourceLength) {
 	this.problemReporter = problemReporter;
@@ -160,6 +166,9 @@ public void cleanUp() {
 	}
 
 	this.compilationResult.recoveryScannerData = null; // recovery is already done
+	this.functionalExpressionsSource = null;
+	this.lambdaParser = null;
+	this.lambdaShapes = null;
 
 	ClassFile[] classFiles = this.compilationResult.getClassFiles();
 	for (ClassFile classFile : classFiles) {
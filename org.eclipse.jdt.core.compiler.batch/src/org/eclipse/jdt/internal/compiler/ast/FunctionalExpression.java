@@ -70,6 +70,20 @@ public abstract class FunctionalExpression extends Expression {
 		return false;
 	}
 
+	/**
+	 * Answers a source buffer holding the text of this expression at its source positions, to parse a virgin copy of it.
+	 * The buffer is shared by the functional expressions of the unit, so that each copy does not allocate a buffer as
+	 * large as the position of the expression.
+	 */
+	char[] getCopySource() {
+		CompilationUnitDeclaration unit = this.enclosingScope.referenceCompilationUnit();
+		char[] source = unit.functionalExpressionsSource;
+		if (source == null || source.length <= this.sourceEnd)
+			unit.functionalExpressionsSource = source = new char[Math.max(this.sourceEnd, unit.sourceEnd) + 1];
+		System.arraycopy(this.text, 0, source, this.sourceStart, this.sourceEnd - this.sourceStart + 1);
+		return source;
+	}
+
 	public void setCompilationResult(CompilationResult compilationResult) {
 		this.compilationResult = compilationResult;
 	}
@@ -76,6 +76,7 @@ import org.eclipse.jdt.internal.compiler.problem.AbortCompilation;
 import org.eclipse.jdt.internal.compiler.problem.AbortCompilationUnit;
 import org.eclipse.jdt.internal.compiler.problem.AbortMethod;
 import org.eclipse.jdt.internal.compiler.problem.AbortType;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
 import org.eclipse.jdt.internal.compiler.problem.ProblemSeverities;
 
 public class LambdaExpression extends FunctionalExpression implements IPolyExpression, ReferenceContext, ProblemSeverities, TypeOrLambda {
@@ -100,6 +101,10 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 	private Set<TypeBinding> thrownExceptions;
 	private static final SyntheticArgumentBinding [] NO_SYNTHETIC_ARGUMENTS = new SyntheticArgumentBinding[0];
 	private static final Block NO_BODY = new Block(0);
+	// shape of a block body, as found by its return statements:
+	private static final int RETURNS_VALUE = 1;
+	private static final int RETURNS_VOID = 2;
+	private static final int LAST_RETURNS_VALUE = 4;
 	private HashMap<TypeBinding, LambdaExpression> copiesPerTargetType;
 	protected Expression [] resultExpressions = NO_EXPRESSIONS;
 	private Map<Integer/*sourceStart*/, LocalTypeBinding> localTypes; // support look-up of a local type from this lambda copy
@@ -791,7 +796,37 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 	}
 
 	private void analyzeShape() { // Simple minded analysis for code assist & potential compatibility.
+		if (this.body instanceof Expression && ((Expression) this.body).isTrulyExpression()) {
+			// When completion is still in progress, it is not possible to ask if the expression constitutes a statement expression. See https://bugs.eclipse.org/bugs/show_bug.cgi?id=435219
+			this.voidCompatible = this.assistNode ? true : ((Expression) this.body).statementExpression();
+			this.valueCompatible = true; // expression could be of type void - we can't determine that as we are working with unresolved expressions, for potential compatibility it is OK.
+		} else {
+			// For code assist, we need to be a bit tolerant/fuzzy here: the code is being written "just now", if we are too pedantic, selection/completion will break;
+			if (this.assistNode) {
+				this.voidCompatible = true;
+				this.valueCompatible = true;
+			}
+			int shape = getBlockShape();
+			if ((shape & (RETURNS_VALUE | RETURNS_VOID)) != 0) { // the last return statement decides
+				this.valueCompatible = (shape & LAST_RETURNS_VALUE) != 0;
+				this.voidCompatible = !this.valueCompatible;
+			}
+			if ((shape & RETURNS_VALUE) != 0)
+				this.returnsValue = true;
+			if ((shape & RETURNS_VOID) != 0)
+				this.returnsVoid = true;
+			if (!this.returnsValue && !this.returnsVoid)
+				this.valueCompatible = this.body.doesNotCompleteNormally();
+		}
+	}
+
+	/**
+	 * Answers the kinds of return statements of the block body, which do not depend on the target type. Computed once
+	 * for the lambda and its copies, including the copies of the enclosing lambdas, as their bodies are the same.
+	 */
+	private int getBlockShape() {
 		class ShapeComputer extends ASTVisitor {
+			int shape;
 			@Override
 			public boolean visit(TypeDeclaration type, BlockScope skope) {
 				return false;
@@ -806,32 +841,25 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 			}
 		    @Override
 			public boolean visit(ReturnStatement returnStatement, BlockScope skope) {
-		    	if (returnStatement.expression != null) {
-		    		LambdaExpression.this.valueCompatible = true;
-		    		LambdaExpression.this.voidCompatible = false;
-		    		LambdaExpression.this.returnsValue = true;
-		    	} else {
-		    		LambdaExpression.this.voidCompatible = true;
-		    		LambdaExpression.this.valueCompatible = false;
-		    		LambdaExpression.this.returnsVoid = true;
-		    	}
+		    	if (returnStatement.expression != null)
+		    		this.shape |= RETURNS_VALUE | LAST_RETURNS_VALUE;
+		    	else
+		    		this.shape = (this.shape | RETURNS_VOID) & ~LAST_RETURNS_VALUE;
 		    	return false;
 		    }
 		}
-		if (this.body instanceof Expression && ((Expression) this.body).isTrulyExpression()) {
-			// When completion is still in progress, it is not possible to ask if the expression constitutes a statement expression. See https://bugs.eclipse.org/bugs/show_bug.cgi?id=435219
-			this.voidCompatible = this.assistNode ? true : ((Expression) this.body).statementExpression();
-			this.valueCompatible = true; // expression could be of type void - we can't determine that as we are working with unresolved expressions, for potential compatibility it is OK.
-		} else {
-			// For code assist, we need to be a bit tolerant/fuzzy here: the code is being written "just now", if we are too pedantic, selection/completion will break;
-			if (this.assistNode) {
-				this.voidCompatible = true;
-				this.valueCompatible = true;
-			}
-			this.body.traverse(new ShapeComputer(), null);
-			if (!this.returnsValue && !this.returnsVoid)
-				this.valueCompatible = this.body.doesNotCompleteNormally();
-		}
+		CompilationUnitDeclaration unit = this.assistNode || this.enclosingScope == null ? null : this.enclosingScope.referenceCompilationUnit();
+		Integer shape = unit == null || unit.lambdaShapes == null ? null : unit.lambdaShapes.get(this.sourceStart);
+		if (shape != null)
+			return shape.intValue();
+		ShapeComputer computer = new ShapeComputer();
+		this.body.traverse(computer, null);
+		if (unit != null) {
+			if (unit.lambdaShapes == null)
+				unit.lambdaShapes = new HashMap<>();
+			unit.lambdaShapes.put(this.sourceStart, computer.shape);
+		}
+		return computer.shape;
 	}
 
 	@Override
@@ -879,6 +907,10 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 		if (!super.isPertinentToApplicability(targetType, null))
 			return CompatibilityResult.COMPATIBLE;
 
+		CompatibilityResult shapeResult = checkShape(targetType, skope, reportShapeProblem);
+		if (shapeResult != null)
+			return shapeResult; // no need to resolve a copy
+
 		LambdaExpression copy = null;
 		try {
 			copy = cachedResolvedCopy(targetType, argumentsTypeElided(), false, skope); // if argument types are elided, we don't care for result expressions against *this* target, any valid target is OK.
@@ -931,6 +963,35 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 		return CompatibilityResult.COMPATIBLE;
 	}
 
+	/**
+	 * Answers the result of {@link #internalIsCompatibleWith(TypeBinding, Scope, boolean)} when the void or value
+	 * compatibility of the body, which does not depend on the target type, already rules out the given target type,
+	 * or null when a copy resolved against it is needed. Saves resolving a copy, and the copies of the nested lambdas,
+	 * against the candidates of a different shape.
+	 */
+	private CompatibilityResult checkShape(TypeBinding targetType, Scope skope, boolean reportShapeProblem) {
+		if (this.assistNode || this.committed)
+			return null;
+		TypeBinding groundType = findGroundTargetType(this.enclosingScope, targetType, targetType, argumentsTypeElided());
+		MethodBinding sam = groundType == null ? null : groundType.getSingleAbstractMethod(this.enclosingScope, true);
+		if (sam == null || !sam.isValidBinding() || sam.parameters.length != this.arguments.length)
+			return null;
+		boolean voidReturn = sam.returnType.id == TypeIds.T_void;
+		boolean incompatible;
+		if (this.body instanceof Expression && ((Expression) this.body).isTrulyExpression()) {
+			incompatible = voidReturn && !((Expression) this.body).statementExpression(); // value compatibility needs the resolved type
+		} else {
+			incompatible = (getBlockShape() & (voidReturn ? RETURNS_VALUE : RETURNS_VOID)) != 0;
+		}
+		if (!incompatible || !isPertinentToApplicability(targetType, null)) // a copy failure would answer compatible otherwise
+			return null;
+		if (reportShapeProblem && !voidReturn) {
+			skope.problemReporter().missingValueFromLambda(this, sam.returnType);
+			return CompatibilityResult.REPORTED;
+		}
+		return CompatibilityResult.INCOMPATIBLE;
+	}
+
 	static class CopyFailureException extends RuntimeException {
 		private static final long serialVersionUID = 1L;
 	}
@@ -960,6 +1021,7 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 		if (sam.parameters.length != this.arguments.length)
 			return null;
 
+		this.enclosingScope.referenceCompilationUnit().functionalExpressionCopies++;
 		LambdaExpression copy = null;
 		if (this.copiesPerTargetType != null) {
 			copy = this.copiesPerTargetType.get(targetType);
@@ -1107,11 +1169,18 @@ public class LambdaExpression extends FunctionalExpression implements IPolyExpre
 	 * @return a virgin copy of `this' by reparsing the stashed textual form.
 	 */
 	LambdaExpression copy() {
-		final Parser parser = new Parser(this.enclosingScope.problemReporter(), false);
-		char [] source = new char [this.sourceEnd+1];
-		System.arraycopy(this.text, 0, source, this.sourceStart, this.sourceEnd - this.sourceStart + 1);
+		ProblemReporter problemReporter = this.enclosingScope.problemReporter();
+		CompilationUnitDeclaration unit = this.enclosingScope.referenceCompilationUnit();
+		Parser parser = unit.lambdaParser;
+		if (parser == null || problemReporter != unit.problemReporter) {
+			parser = new Parser(problemReporter, false);
+			if (problemReporter == unit.problemReporter)
+				unit.lambdaParser = parser; // parsing resolves nothing, hence never needs the parser again before returning
+		}
+		char [] source = getCopySource();
+		unit.functionalExpressionReparses++;
 		LambdaExpression copy =  (LambdaExpression) parser.parseLambdaExpression(source,this.sourceStart, this.sourceEnd - this.sourceStart + 1,
-										this.enclosingScope.referenceCompilationUnit(), false /* record line separators */);
+										unit, false /* record line separators */);
 
 		if (copy != null) { // ==> syntax errors == null
 			if (copy.sourceStart != this.sourceStart || copy.sourceEnd != this.sourceEnd)
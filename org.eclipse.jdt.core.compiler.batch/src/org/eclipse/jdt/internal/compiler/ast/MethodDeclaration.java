@@ -31,6 +31,7 @@ package org.eclipse.jdt.internal.compiler.ast;
 
 import java.util.List;
 import java.util.function.BiPredicate;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.ASTVisitor;
 import org.eclipse.jdt.internal.compiler.CompilationResult;
@@ -63,6 +64,8 @@ public class MethodDeclaration extends AbstractMethodDeclaration {
 		// starting of the code analysis for methods
 		if (this.ignoreFurtherInvestigation)
 			return;
+		IMethodAnalysisCache analysisCache = classScope.environment().root.methodAnalysisCache;
+		int problemCount = this.compilationResult.problemCount;
 		try {
 			if (this.binding == null)
 				return;
@@ -76,6 +79,17 @@ public class MethodDeclaration extends AbstractMethodDeclaration {
 					}
 				}
 			}
+			// whether the method is used depends on the other methods, the problems of its analysis only on itself
+			problemCount = this.compilationResult.problemCount;
+			CategorizedProblem[] reusedProblems = analysisCache == null ? null : analysisCache.reusedProblems(this);
+			if (reusedProblems != null) {
+				if (!hasFieldsUsedOnlyInCompound(classScope.outerMostClassScope().referenceContext.binding)) {
+					reportReusedProblems(reusedProblems);
+					return;
+				}
+				// the analysis of this method may be the one reporting such a field as unused
+				analysisCache.dropReusedProblems(this);
+			}
 
 			// skip enum implicit methods
 			if (this.binding.declaringClass.isEnum() && (this.selector == TypeConstants.VALUES || this.selector == TypeConstants.VALUEOF))
@@ -199,7 +213,29 @@ public class MethodDeclaration extends AbstractMethodDeclaration {
 			this.scope.checkUnclosedCloseables(flowInfo, null, null/*don't report against a specific location*/, null);
 		} catch (AbortMethod e) {
 			this.ignoreFurtherInvestigation = true;
+		} finally {
+			if (analysisCache != null)
+				recordAnalysisProblems(analysisCache, problemCount);
+		}
+	}
+
+	/**
+	 * Answers whether a field of the given type or of its member types is only used by compound assignments and
+	 * increments, whose analysis consumes the uses and reports the field as unused after the last one, see
+	 * {@link Reference#reportOnlyUselesslyReadPrivateField(BlockScope, FieldBinding, boolean)}.
+	 */
+	private static boolean hasFieldsUsedOnlyInCompound(SourceTypeBinding type) {
+		if (type == null)
+			return false;
+		for (FieldBinding field : type.fields()) {
+			if (field.isUsedOnlyInCompound())
+				return true;
+		}
+		for (ReferenceBinding memberType : type.memberTypes()) {
+			if (memberType instanceof SourceTypeBinding sourceMemberType && hasFieldsUsedOnlyInCompound(sourceMemberType))
+				return true;
 		}
+		return false;
 	}
 
 	@Override
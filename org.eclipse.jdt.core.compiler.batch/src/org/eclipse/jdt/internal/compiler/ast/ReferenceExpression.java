@@ -123,11 +123,12 @@ public class ReferenceExpression extends FunctionalExpression implements IPolyEx
 	 */
 	private ReferenceExpression copy() {
 		final Parser parser = new Parser(this.enclosingScope.problemReporter(), false);
-		char [] source = new char [this.sourceEnd+1];
-		System.arraycopy(this.text, 0, source, this.sourceStart, this.sourceEnd - this.sourceStart + 1);
+		char [] source = getCopySource();
 		parser.scanner = this.scanner;
+		CompilationUnitDeclaration unit = this.enclosingScope.referenceCompilationUnit();
+		unit.functionalExpressionReparses++;
 		ReferenceExpression copy =  (ReferenceExpression) parser.parseReferenceExpression(source, this.sourceStart, this.sourceEnd - this.sourceStart + 1,
-										this.enclosingScope.referenceCompilationUnit(), false /* record line separators */);
+										unit, false /* record line separators */);
 		copy.original = this;
 		copy.sourceStart = this.sourceStart;
 		copy.sourceEnd = this.sourceEnd;
@@ -988,6 +989,7 @@ public class ReferenceExpression extends FunctionalExpression implements IPolyEx
 	// Cache resolved copies against various target types, so repeat overload resolution and possibly type inference could be avoided.
 	private ReferenceExpression cachedResolvedCopy(TypeBinding targetType) {
 
+		this.enclosingScope.referenceCompilationUnit().functionalExpressionCopies++;
 		ReferenceExpression copy = this.copiesPerTargetType != null ? this.copiesPerTargetType.get(targetType) : null;
 		if (copy != null)
 			return copy;
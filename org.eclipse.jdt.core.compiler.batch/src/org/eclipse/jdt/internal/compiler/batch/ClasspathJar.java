@@ -21,15 +21,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache.JarFingerprint;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
 import org.eclipse.jdt.internal.compiler.classfmt.ExternalAnnotationDecorator;
 import org.eclipse.jdt.internal.compiler.classfmt.ExternalAnnotationProvider;
@@ -49,9 +53,39 @@ public class ClasspathJar extends ClasspathLocation {
 protected File file;
 protected ZipFile zipFile;
 protected ZipFile annotationZipFile;
+/** set when the zip file is opened, null if its class files are not cached */
+protected JarFingerprint fingerprint;
 protected boolean closeZipFileAtEnd;
 protected Set<String> packageCache;
 protected List<String> annotationPaths;
+/** set when the zip file is shared with other compilations, see {@link #setShareArchives(boolean)} */
+private SharedArchive sharedArchive;
+
+/**
+ * Archives kept open between compilations by path, null unless archives are shared.
+ */
+private static Map<String, SharedArchive> SharedArchives;
+
+private static class SharedArchive {
+	final JarFingerprint fingerprint;
+	final ZipFile zipFile;
+	/** computed by the first compilation that needs it, never modified afterwards */
+	volatile Set<String> packageNames;
+
+	/** opens the archive of the given file, so that the zip file is owned by this shared archive as soon as it exists */
+	SharedArchive(JarFingerprint fingerprint, File file) throws IOException {
+		this.fingerprint = fingerprint;
+		this.zipFile = new ZipFile(file);
+	}
+
+	void close() {
+		try {
+			this.zipFile.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+}
 
 public ClasspathJar(File file, boolean closeZipFileAtEnd,
 		AccessRuleSet accessRuleSet, String destinationPath) {
@@ -112,15 +146,15 @@ public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageN
 		return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = ClassFileReaderCache.read(this.zipFile, qualifiedBinaryFileName, this.fingerprint);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
 				ClassFileReader classReader = (ClassFileReader) reader;
-				if (classReader.moduleName == null)
-					classReader.moduleName = modName;
-				else
+				if (classReader.moduleName != null)
 					modName = classReader.moduleName;
+				else if (this.fingerprint == null) // cached readers are shared, hence not modified
+					classReader.moduleName = modName;
 			}
 			searchPaths:
 			if (this.annotationPaths != null) {
@@ -193,7 +227,57 @@ public char[][][] findTypeNames(final String qualifiedPackageName, String module
 @Override
 public void initialize() throws IOException {
 	if (this.zipFile == null) {
-		this.zipFile = new ZipFile(this.file);
+		this.sharedArchive = getSharedArchive(this.file);
+		if (this.sharedArchive != null) {
+			this.zipFile = this.sharedArchive.zipFile;
+			this.fingerprint = ClassFileReaderCache.MAX_SIZE > 0 ? this.sharedArchive.fingerprint : null;
+		} else {
+			this.zipFile = new ZipFile(this.file);
+			this.fingerprint = JarFingerprint.of(this.file.getPath());
+		}
+	}
+}
+/**
+ * Sets whether the archives are kept open between compilations, together with their package names, which is
+ * worthwhile for a long running compiler, see {@link CompilerDaemon}. A shared archive is opened again if its jar
+ * was modified since it was opened. Archives must only be shared by compilations that run one after the other, since
+ * a compilation may close the shared archive of a modified jar that another compilation is reading.
+ */
+public static void setShareArchives(boolean share) {
+	synchronized (ClasspathJar.class) {
+		if (share) {
+			if (SharedArchives == null)
+				SharedArchives = new HashMap<>();
+		} else if (SharedArchives != null) {
+			for (SharedArchive archive : SharedArchives.values())
+				archive.close();
+			SharedArchives = null;
+		}
+	}
+}
+private static SharedArchive getSharedArchive(File file) throws IOException {
+	synchronized (ClasspathJar.class) {
+		if (SharedArchives == null)
+			return null;
+		String path = file.getPath();
+		JarFingerprint fingerprint = JarFingerprint.read(path);
+		if (fingerprint == null)
+			return null;
+		SharedArchive archive = SharedArchives.get(path);
+		if (archive != null) {
+			if (archive.fingerprint.equals(fingerprint))
+				return archive;
+			SharedArchives.remove(path);
+			archive.close();
+		}
+		archive = new SharedArchive(fingerprint, file);
+		try {
+			SharedArchives.put(path, archive);
+		} catch (RuntimeException | Error e) {
+			archive.close(); // not registered, nobody else would close it
+			throw e;
+		}
+		return archive;
 	}
 }
 void acceptModule(ClassFileReader reader) {
@@ -229,6 +313,10 @@ protected void addToPackageCache(String fileName, boolean endsWithSep) {
 public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
 	if (this.packageCache != null)
 		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
+	if (this.sharedArchive != null && this.sharedArchive.packageNames != null) {
+		this.packageCache = this.sharedArchive.packageNames;
+		return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
+	}
 
 	this.packageCache = new HashSet<>(41);
 	this.packageCache.add(Util.EMPTY_STRING);
@@ -237,6 +325,8 @@ public synchronized char[][] getModulesDeclaringPackage(String qualifiedPackageN
 		String fileName = e.nextElement().getName();
 		addToPackageCache(fileName, false);
 	}
+	if (this.sharedArchive != null)
+		this.sharedArchive.packageNames = this.packageCache;
 	return singletonModuleNameIf(this.packageCache.contains(qualifiedPackageName));
 }
 @Override
@@ -270,6 +360,12 @@ public char[][] listPackages() {
 @Override
 public void reset() {
 	super.reset();
+	if (this.sharedArchive != null) {
+		// kept open for the next compilations
+		this.zipFile = null;
+		this.fingerprint = null;
+		this.sharedArchive = null;
+	}
 	if (this.closeZipFileAtEnd) {
 		if (this.zipFile != null) {
 			try {
@@ -278,6 +374,7 @@ public void reset() {
 				// ignore
 			}
 			this.zipFile = null;
+			this.fingerprint = null;
 		}
 		if (this.annotationZipFile != null) {
 			try {
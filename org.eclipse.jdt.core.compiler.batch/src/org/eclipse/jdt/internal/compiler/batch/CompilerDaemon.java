@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.batch;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.AclEntry;
+import java.nio.file.attribute.AclEntryPermission;
+import java.nio.file.attribute.AclEntryType;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Set;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache.Statistics;
+
+/**
+ * A long running batch compiler, which compiles the command lines it reads one after the other in the same VM, so
+ * that the JIT compiled compiler, the opened jars, the JRT images, the ct.sym files and the decoded class files of the
+ * jars are reused by the next compilations. Jars that were modified since a previous compilation are read again.
+ * <p>
+ * Started by <code>-daemon [-port &lt;n&gt; [-tokenFile &lt;file&gt;]]</code> as first argument of {@link Main}.
+ * Requests are read from the standard input, or from the connections to the given port of the loopback address (0 for
+ * any free port, the port is then printed). Since any local process can connect to that port, the first line of a
+ * connection must be a random token that the daemon writes to a file only its owner can read: the given file, or a
+ * temporary file whose path is printed. Connections that do not start with the token are closed without serving them.
+ * A request is a line holding a command line as given to {@link Main}. Paths are relative to the
+ * working directory of the daemon. The answer of a request is the output of the compilation followed by the line
+ * <code>ecj-daemon: exit &lt;code&gt; time &lt;milliseconds&gt;</code>, where the exit code is the one of
+ * {@link Main#main(String[])}. The requests <code>#stats</code> and <code>#shutdown</code> print the cache statistics
+ * and stop the daemon.
+ * </p>
+ */
+public class CompilerDaemon {
+
+public static final String DONE_PREFIX = "ecj-daemon: exit "; //$NON-NLS-1$
+public static final String STATS_REQUEST = "#stats"; //$NON-NLS-1$
+public static final String SHUTDOWN_REQUEST = "#shutdown"; //$NON-NLS-1$
+public static final String UNAUTHORIZED = "ecj-daemon: unauthorized"; //$NON-NLS-1$
+
+private int requests;
+private long totalTime;
+private boolean shutdown;
+/** the token that the first line of each connection must hold, null until a token file is written */
+private byte[] token;
+
+public static void main(String[] argv) throws IOException {
+	int port = -1;
+	Path tokenFile = null;
+	for (int i = 0; i < argv.length; i++) {
+		if ("-port".equals(argv[i]) && i + 1 < argv.length) { //$NON-NLS-1$
+			port = Integer.parseInt(argv[++i]);
+		} else if ("-tokenFile".equals(argv[i]) && i + 1 < argv.length) { //$NON-NLS-1$
+			tokenFile = Path.of(argv[++i]);
+		} else {
+			System.err.println("Usage: -daemon [-port <n> [-tokenFile <file>]]"); //$NON-NLS-1$
+			System.exit(-1);
+		}
+	}
+	CompilerDaemon daemon = new CompilerDaemon();
+	if (port < 0) {
+		daemon.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+				new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+	} else {
+		daemon.listen(port, tokenFile);
+	}
+}
+
+public CompilerDaemon() {
+	ClasspathJar.setShareArchives(true);
+}
+
+private void listen(int port, Path tokenFile) throws IOException {
+	try (ServerSocket serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+		tokenFile = writeToken(tokenFile);
+		try {
+			System.out.println("ecj-daemon: listening on port " + serverSocket.getLocalPort() + ", token in " + tokenFile); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.flush();
+			while (!this.shutdown) {
+				try (Socket socket = serverSocket.accept();
+						BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+						PrintWriter writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+					serveConnection(reader, writer);
+				} catch (IOException e) {
+					System.err.println("ecj-daemon: " + e); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			Files.deleteIfExists(tokenFile);
+		}
+	} finally {
+		ClasspathJar.setShareArchives(false);
+	}
+}
+
+/**
+ * Creates a new random token for the connections, and writes it to the given file, or to a new temporary file if null.
+ * The file is created anew, readable and writable by its owner only.
+ *
+ * @return the file holding the token
+ */
+public Path writeToken(Path tokenFile) throws IOException {
+	byte[] bytes = new byte[32];
+	new SecureRandom().nextBytes(bytes);
+	String newToken = HexFormat.of().formatHex(bytes);
+	Path directory = tokenFile == null ? Path.of(System.getProperty("java.io.tmpdir")) : tokenFile.toAbsolutePath().getParent(); //$NON-NLS-1$
+	boolean posix = Files.getFileStore(directory).supportsFileAttributeView(PosixFileAttributeView.class);
+	FileAttribute<?>[] attributes = posix
+			? new FileAttribute<?>[] { PosixFilePermissions.asFileAttribute(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)) }
+			: new FileAttribute<?>[0];
+	if (tokenFile == null) {
+		tokenFile = Files.createTempFile("ecj-daemon", ".token", attributes); //$NON-NLS-1$ //$NON-NLS-2$
+	} else {
+		// never write the token to a file that another user created or may read
+		Files.deleteIfExists(tokenFile);
+		Files.createFile(tokenFile, attributes);
+	}
+	if (!posix)
+		restrictToOwner(tokenFile);
+	Files.writeString(tokenFile, newToken, StandardCharsets.US_ASCII);
+	this.token = newToken.getBytes(StandardCharsets.US_ASCII);
+	return tokenFile;
+}
+
+private static void restrictToOwner(Path file) throws IOException {
+	AclFileAttributeView view = Files.getFileAttributeView(file, AclFileAttributeView.class);
+	if (view == null)
+		throw new IOException("Cannot restrict the access to " + file); //$NON-NLS-1$
+	Set<AclEntryPermission> permissions = EnumSet.of(AclEntryPermission.READ_DATA, AclEntryPermission.WRITE_DATA,
+			AclEntryPermission.APPEND_DATA, AclEntryPermission.READ_ATTRIBUTES, AclEntryPermission.WRITE_ATTRIBUTES,
+			AclEntryPermission.READ_ACL, AclEntryPermission.WRITE_ACL, AclEntryPermission.DELETE, AclEntryPermission.SYNCHRONIZE);
+	view.setAcl(Collections.singletonList(AclEntry.newBuilder()
+			.setType(AclEntryType.ALLOW)
+			.setPrincipal(view.getOwner())
+			.setPermissions(permissions)
+			.build()));
+}
+
+/**
+ * Answers the requests of a connection, whose first line must be the token written by {@link #writeToken(Path)}.
+ * A connection that does not start with the token is answered {@link #UNAUTHORIZED} and not served.
+ *
+ * @return whether the connection was served
+ */
+public boolean serveConnection(BufferedReader reader, PrintWriter writer) throws IOException {
+	String line = reader.readLine();
+	if (this.token == null || line == null
+			|| !MessageDigest.isEqual(this.token, line.trim().getBytes(StandardCharsets.US_ASCII))) {
+		writer.println(UNAUTHORIZED);
+		writer.flush();
+		return false;
+	}
+	serve(reader, writer);
+	return true;
+}
+
+/**
+ * Answers the requests read from the given reader until the end of the input or a shutdown request.
+ */
+public void serve(BufferedReader reader, PrintWriter writer) throws IOException {
+	String line;
+	while (!this.shutdown && (line = reader.readLine()) != null) {
+		line = line.trim();
+		if (line.isEmpty())
+			continue;
+		if (SHUTDOWN_REQUEST.equals(line)) {
+			this.shutdown = true;
+			writer.println(DONE_PREFIX + 0 + " time 0"); //$NON-NLS-1$
+		} else if (STATS_REQUEST.equals(line)) {
+			printStatistics(writer);
+			writer.println(DONE_PREFIX + 0 + " time 0"); //$NON-NLS-1$
+		} else {
+			compile(Main.tokenize(line), writer);
+		}
+		writer.flush();
+	}
+}
+
+/**
+ * Compiles the given command line, and writes its output and exit code to the given writer.
+ *
+ * @return whether the compilation succeeded
+ */
+public boolean compile(String[] commandLine, PrintWriter writer) {
+	StringWriter output = new StringWriter();
+	PrintWriter printWriter = new PrintWriter(output);
+	long start = System.nanoTime();
+	Main main = new Main(printWriter, printWriter, false /* systemExit */, null /* options */, null /* progress */);
+	boolean succeeded = main.compile(commandLine);
+	long time = (System.nanoTime() - start) / 1_000_000;
+	this.requests++;
+	this.totalTime += time;
+	printWriter.flush();
+	writer.print(output.toString());
+	writer.println(DONE_PREFIX + (succeeded ? 0 : -1) + " time " + time); //$NON-NLS-1$
+	return succeeded;
+}
+
+private void printStatistics(PrintWriter writer) {
+	writer.println("compilations: " + this.requests + ", total time: " + this.totalTime + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	if (this.requests > 0)
+		writer.println("average time: " + this.totalTime / this.requests + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+	Statistics statistics = ClassFileReaderCache.getStatistics();
+	writer.println("class file cache: " + statistics.hits() + " hits, " + statistics.misses() + " misses, " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			+ statistics.evictions() + " evictions, " + statistics.entries() + " class files, " + statistics.size() + " bytes"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+}
+}
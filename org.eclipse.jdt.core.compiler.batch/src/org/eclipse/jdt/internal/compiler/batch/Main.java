@@ -999,6 +999,21 @@ public class Main implements ProblemSeverities, SuffixConstants {
 								String.valueOf(compilerStats.generateTime),
 								String.valueOf(((int) (compilerStats.generateTime * 1000.0 / time)) / 10.0),
 							}));
+				if (compilerStats.unitsParsedAhead != 0) {
+					printlnOut(
+							this.main.bind("compile.unitsParsedAhead", //$NON-NLS-1$
+								String.valueOf(compilerStats.unitsParsedAhead)));
+				}
+				if (compilerStats.functionalExpressionCopies != 0) {
+					printlnOut(
+							this.main.bind("compile.functionalExpressionCopies", //$NON-NLS-1$
+								new String[] {
+									String.valueOf(compilerStats.functionalExpressionCopies),
+									String.valueOf(compilerStats.functionalExpressionReparses),
+									String.valueOf(compilerStats.mostReparsedUnitReparses),
+									compilerStats.mostReparsedUnit == null ? "" : new String(compilerStats.mostReparsedUnit), //$NON-NLS-1$
+								}));
+				}
 			}
 		}
 
@@ -1442,6 +1457,15 @@ public static File[][] getLibrariesFiles(File[] files) {
 }
 
 public static void main(String[] argv) {
+	if (argv.length > 0 && "-daemon".equals(argv[0])) { //$NON-NLS-1$
+		try {
+			CompilerDaemon.main(Arrays.copyOfRange(argv, 1, argv.length));
+		} catch (IOException e) {
+			e.printStackTrace();
+			System.exit(-1);
+		}
+		return;
+	}
 	new Main(new PrintWriter(System.out), new PrintWriter(System.err), true/*systemExit*/, null/*options*/, null/*progress*/).compile(argv);
 }
 
@@ -4699,6 +4723,8 @@ public void performCompilation() {
 		// temporary code to allow the compiler to revert to a single thread
 		String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 		this.batchCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+		setting = System.getProperty("jdt.compiler.parseMethodBodiesAhead"); //$NON-NLS-1$
+		this.batchCompiler.parseMethodBodiesAhead = setting != null && setting.equals("true"); //$NON-NLS-1$
 
 		if (this.compilerOptions.processAnnotations) {
 			initializeAnnotationProcessorManager();
@@ -1409,6 +1409,9 @@ private void initialize() throws ClassFormatException {
 				annotation.initialize();
 			}
 		}
+		for (int i = 0, max = this.recordComponentsCount; i < max; i++) {
+			this.recordComponents[i].initialize();
+		}
 		this.getEnclosingMethod();
 		reset();
 	} catch(RuntimeException e) {
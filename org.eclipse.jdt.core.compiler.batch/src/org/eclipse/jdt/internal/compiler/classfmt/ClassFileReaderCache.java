@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.classfmt;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Process wide cache of the class files read from jars, shared by all compilations (batch compiler and builder) so
+ * that the class files of unchanged jars are decoded once.
+ * <p>
+ * Cached readers are fully initialized, i.e. they do not refer to the class file bytes anymore and are not modified
+ * afterwards, hence can be shared by lookup environments running on different threads. They are keyed by the
+ * {@link JarFingerprint fingerprint} of their jar, so that a modified jar is read again. The cache is bounded by the
+ * total size of the cached class files: the least recently used ones are evicted first.
+ * </p>
+ * <p>
+ * The cache is disabled unless the system property {@code org.eclipse.jdt.class_file_cache_size} gives its size,
+ * since it keeps its readers alive between compilations, on top of the bindings of each lookup environment. A decoded
+ * reader does not keep the code of its methods, hence retains somewhat less than its class file: the readers of the
+ * batch compiler and of JUnit retain 0.7 to 0.9 times the size of their class files, so the readers of a full cache
+ * retain about its size.
+ * </p>
+ */
+public final class ClassFileReaderCache {
+
+/**
+ * Total size in bytes of the class files that can be cached, 0 (the default) disables the cache.
+ */
+public static final long MAX_SIZE = Long.getLong("org.eclipse.jdt.class_file_cache_size", 0).longValue(); //$NON-NLS-1$
+
+/**
+ * Identifies the content of a jar, computed when the jar is opened.
+ */
+public record JarFingerprint(String path, long lastModified, long size) {
+	/**
+	 * Returns the fingerprint of the given jar, or null if it cannot be read or if the cache is disabled.
+	 */
+	public static JarFingerprint of(String path) {
+		if (MAX_SIZE <= 0)
+			return null;
+		return read(path);
+	}
+
+	/**
+	 * Returns the fingerprint of the given jar, or null if it cannot be read.
+	 */
+	public static JarFingerprint read(String path) {
+		try {
+			BasicFileAttributes attributes = Files.readAttributes(Path.of(path), BasicFileAttributes.class);
+			return new JarFingerprint(path, attributes.lastModifiedTime().toMillis(), attributes.size());
+		} catch (IOException | RuntimeException e) {
+			return null; // do not cache
+		}
+	}
+}
+
+/**
+ * Cache metrics, for diagnostics.
+ */
+public record Statistics(long hits, long misses, long evictions, int entries, long size) {
+	// data only
+}
+
+private record Key(JarFingerprint jar, String fileName) {
+	// data only
+}
+
+private record CachedReader(ClassFileReader reader, long size) {
+	// data only
+}
+
+/** Access ordered, synchronized by itself */
+private static final LinkedHashMap<Key, CachedReader> CACHE = new LinkedHashMap<>(1024, 0.75f, true);
+private static long cachedSize;
+private static long hits;
+private static long misses;
+private static long evictions;
+
+private ClassFileReaderCache() {
+	// static only
+}
+
+/**
+ * Reads the given class file from the given jar, answering the cached reader if the jar was not modified since it
+ * was cached. Without fingerprint, the class file is simply read as by {@link ClassFileReader#read(ZipFile, String)}.
+ * Callers must not modify the answered reader.
+ *
+ * @return the reader, or null if the jar has no such entry
+ */
+public static ClassFileReader read(ZipFile zip, String fileName, JarFingerprint jar) throws ClassFormatException, IOException {
+	if (jar == null)
+		return ClassFileReader.read(zip, fileName);
+	Key key = new Key(jar, fileName);
+	synchronized (CACHE) {
+		CachedReader cached = CACHE.get(key);
+		if (cached != null) {
+			hits++;
+			return cached.reader();
+		}
+	}
+	ZipEntry entry = zip.getEntry(fileName);
+	if (entry == null)
+		return null;
+	ClassFileReader reader = ClassFileReader.read(zip, fileName, true);
+	if (reader == null)
+		return null;
+	long size = entry.getSize();
+	if (size < 0)
+		size = entry.getCompressedSize();
+	synchronized (CACHE) {
+		misses++;
+		if (size > MAX_SIZE)
+			return reader;
+		CachedReader previous = CACHE.put(key, new CachedReader(reader, size));
+		if (previous != null)
+			cachedSize -= previous.size(); // read concurrently
+		cachedSize += size;
+		for (Iterator<CachedReader> iterator = CACHE.values().iterator(); cachedSize > MAX_SIZE && iterator.hasNext();) {
+			cachedSize -= iterator.next().size();
+			iterator.remove();
+			evictions++;
+		}
+	}
+	return reader;
+}
+
+/**
+ * Evicts all cached readers, e.g. when running low on memory.
+ */
+public static void clear() {
+	synchronized (CACHE) {
+		evictions += CACHE.size();
+		CACHE.clear();
+		cachedSize = 0;
+	}
+}
+
+public static Statistics getStatistics() {
+	synchronized (CACHE) {
+		return new Statistics(hits, misses, evictions, CACHE.size(), cachedSize);
+	}
+}
+}
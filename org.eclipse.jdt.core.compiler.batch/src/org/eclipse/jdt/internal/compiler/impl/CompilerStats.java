@@ -28,6 +28,15 @@ public class CompilerStats implements Comparable {
 	public long analyzeTime;
 	public long generateTime;
 
+	// units whose method bodies were parsed ahead on worker threads, see MethodBodyParseManager
+	public long unitsParsedAhead;
+
+	// functional expressions resolved against the candidate target types of overload resolution and inference
+	public long functionalExpressionCopies;
+	public long functionalExpressionReparses;
+	public char[] mostReparsedUnit;
+	public long mostReparsedUnitReparses;
+
 /**
  * Returns the total elapsed time (between start and end)
  * @return the time spent between start and end
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.compiler.lookup;
+
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+
+/**
+ * Keeps the problems found by the flow analysis and the code generation of the methods of a compilation, so that the
+ * methods that did not change since a previous compilation can report the problems of their previous analysis instead
+ * of being analyzed again. Such methods are still resolved, so that the members and imports they use are marked as
+ * such, but their code is not generated: only a compiler that does not use the generated class files, such as the one
+ * reconciling a working copy, may answer problems to reuse.
+ * <p>
+ * This interface may be implemented by clients.
+ * </p>
+ *
+ * @see LookupEnvironment#methodAnalysisCache
+ */
+public interface IMethodAnalysisCache {
+
+	/**
+	 * Answers the problems found by the flow analysis and the code generation of an identical method in an identical
+	 * unit, to report instead of analyzing the given method and generating its code, or null if it must be analyzed.
+	 *
+	 * @param method
+	 *            the method about to be analyzed, or whose code is about to be generated
+	 * @return the problems to report, or null
+	 */
+	public CategorizedProblem[] reusedProblems(AbstractMethodDeclaration method);
+
+	/**
+	 * Notifies that the given method is analyzed although it has problems to reuse, which it then ignores.
+	 *
+	 * @param method
+	 *            the method about to be analyzed
+	 */
+	public void dropReusedProblems(AbstractMethodDeclaration method);
+
+	/**
+	 * Notifies the problems reported by the flow analysis or the code generation of the given method, or the reused
+	 * problems it reported instead. Called after each of these phases that reported problems.
+	 *
+	 * @param method
+	 *            the method
+	 * @param problems
+	 *            the problems reported by the phase
+	 */
+	public void recordProblems(AbstractMethodDeclaration method, CategorizedProblem[] problems);
+}
@@ -2441,6 +2441,7 @@ void updateCaches(UnresolvedReferenceBinding unresolvedType, ReferenceBinding re
 }
 
 public IQualifiedTypeResolutionListener[] resolutionListeners;	// ROOT_ONLY
+public IMethodAnalysisCache methodAnalysisCache;	// ROOT_ONLY
 
 public void addResolutionListener(IQualifiedTypeResolutionListener resolutionListener) {
 	synchronized (this.root) {
@@ -19,7 +19,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.compiler.lookup;
 
-import java.util.HashMap;
 import java.util.function.Supplier;
 import org.eclipse.jdt.internal.compiler.ast.ASTNode;
 import org.eclipse.jdt.internal.compiler.ast.Wildcard;
@@ -67,16 +66,27 @@ import org.eclipse.jdt.internal.compiler.util.Util;
 */
 public class TypeSystem {
 
+	/**
+	 * Auxiliary lookup table of the parameterized types, by generic type, type arguments and enclosing type.
+	 * <p>
+	 * The table uses open addressing over the keys and their hash, computed once when a key is added: lookups compute
+	 * the hash of their components and compare the components in place, without allocating a key. A key registered
+	 * with an unresolved type is updated in place when the type gets resolved, which does not change its hash since
+	 * unresolved and resolved types hash the same.
+	 * </p>
+	 */
 	public final class HashedParameterizedTypes {
 
 		private final class PTBKey implements HotSwappable {
 			protected ReferenceBinding type; // must ensure the type is resolved
 			public TypeBinding[] arguments;
 			private ReferenceBinding enclosingType;
-			public PTBKey(ReferenceBinding type, TypeBinding[] arguments, ReferenceBinding enclosingType, LookupEnvironment environment) {
+			final int hash;
+			public PTBKey(ReferenceBinding type, TypeBinding[] arguments, ReferenceBinding enclosingType, int hash, LookupEnvironment environment) {
 				this.type = type;
 				this.arguments = arguments;
 				this.enclosingType = enclosingType;
+				this.hash = hash;
 
 				if(environment != null) {
 					// only add as wrapper when used in put()
@@ -111,46 +121,89 @@ public class TypeSystem {
 					}
 				}
 			}
-			@Override
-			public boolean equals(Object other) {
-				PTBKey that = (PTBKey) other;  // homogeneous container.
-				return this.type == that.type && this.enclosingType == that.enclosingType && Util.effectivelyEqual(this.arguments, that.arguments); //$IDENTITY-COMPARISON$
+			boolean matches(ReferenceBinding otherType, TypeBinding[] otherArguments, ReferenceBinding otherEnclosingType) {
+				return this.type == otherType && this.enclosingType == otherEnclosingType && Util.effectivelyEqual(this.arguments, otherArguments); //$IDENTITY-COMPARISON$
 			}
-			final int hash(TypeBinding b) {
-				if(b instanceof WildcardBinding || b instanceof TypeVariableBinding || b.getClass() == ParameterizedTypeBinding.class) {
-					return System.identityHashCode(b);
-				}
-				return b.hashCode();
+		}
+
+		private static int hash(TypeBinding b) {
+			if(b instanceof WildcardBinding || b instanceof TypeVariableBinding || b.getClass() == ParameterizedTypeBinding.class) {
+				return System.identityHashCode(b);
 			}
-			@Override
-			public int hashCode() {
-				final int prime=31;
-				int hashCode = 1 + hash(this.type);
-				if (this.enclosingType != null && this.enclosingType.getClass() == ParameterizedTypeBinding.class) {
-					// Note: this works as in swapUnresolved, a null enclosingType is never replaced by a
-					// ParameterizedTypeBinding (just by a non-generic or RawTypeBinding)
-					hashCode = hashCode * prime + System.identityHashCode(this.enclosingType);
-				}
-				for (int i = 0, length = this.arguments == null ? 0 : this.arguments.length; i < length; i++) {
-					hashCode = hashCode * prime + hash(this.arguments[i]);
-				}
-				return hashCode;
+			return b.hashCode();
+		}
+
+		private static int hash(ReferenceBinding type, TypeBinding[] arguments, ReferenceBinding enclosingType) {
+			final int prime=31;
+			int hashCode = 1 + hash(type);
+			if (enclosingType != null && enclosingType.getClass() == ParameterizedTypeBinding.class) {
+				// Note: this works as in swapUnresolved, a null enclosingType is never replaced by a
+				// ParameterizedTypeBinding (just by a non-generic or RawTypeBinding)
+				hashCode = hashCode * prime + System.identityHashCode(enclosingType);
+			}
+			for (int i = 0, length = arguments == null ? 0 : arguments.length; i < length; i++) {
+				hashCode = hashCode * prime + hash(arguments[i]);
 			}
+			return hashCode;
 		}
 
-		HashMap<PTBKey, ParameterizedTypeBinding []> hashedParameterizedTypes = new HashMap<>(256);
+		private PTBKey[] keys = new PTBKey[256];
+		private ParameterizedTypeBinding[][] values = new ParameterizedTypeBinding[256][];
+		private int size;
+
+		/**
+		 * Answers the slot of the given key, or the complement of the free slot where it would be added.
+		 */
+		private int slot(ReferenceBinding type, TypeBinding[] arguments, ReferenceBinding enclosingType, int hash) {
+			int mask = this.keys.length - 1;
+			for (int i = (hash ^ (hash >>> 16)) & mask;; i = (i + 1) & mask) {
+				PTBKey key = this.keys[i];
+				if (key == null)
+					return ~i;
+				if (key.hash == hash && key.matches(type, arguments, enclosingType))
+					return i;
+			}
+		}
+
+		private void grow() {
+			PTBKey[] oldKeys = this.keys;
+			ParameterizedTypeBinding[][] oldValues = this.values;
+			int length = oldKeys.length * 2, mask = length - 1;
+			this.keys = new PTBKey[length];
+			this.values = new ParameterizedTypeBinding[length][];
+			for (int i = 0; i < oldKeys.length; i++) {
+				PTBKey key = oldKeys[i];
+				if (key == null)
+					continue;
+				int j = (key.hash ^ (key.hash >>> 16)) & mask;
+				while (this.keys[j] != null)
+					j = (j + 1) & mask;
+				this.keys[j] = key;
+				this.values[j] = oldValues[i];
+			}
+		}
+
+		private TypeBinding[] getUnannotatedTypes(TypeBinding[] typeArguments) {
+			if (typeArguments == null)
+				return null;
+			TypeBinding[] unannotatedTypes = typeArguments;
+			for (int i = 0, length = typeArguments.length; i < length; i++) {
+				TypeBinding unannotatedType = getUnannotatedType(typeArguments[i]);
+				if (unannotatedType != typeArguments[i]) { //$IDENTITY-COMPARISON$
+					if (unannotatedTypes == typeArguments)
+						System.arraycopy(typeArguments, 0, unannotatedTypes = new TypeBinding[length], 0, length);
+					unannotatedTypes[i] = unannotatedType;
+				}
+			}
+			return unannotatedTypes;
+		}
 
 		ParameterizedTypeBinding get(ReferenceBinding genericType, TypeBinding[] typeArguments, ReferenceBinding enclosingType, AnnotationBinding[] annotations) {
 
 			ReferenceBinding unannotatedGenericType = (ReferenceBinding) getUnannotatedType(genericType);
-			int typeArgumentsLength = typeArguments == null ? 0: typeArguments.length;
-			TypeBinding [] unannotatedTypeArguments = typeArguments == null ? null : new TypeBinding[typeArgumentsLength];
-			for (int i = 0; i < typeArgumentsLength; i++) {
-				unannotatedTypeArguments[i] = getUnannotatedType(typeArguments[i]);
-			}
+			TypeBinding [] unannotatedTypeArguments = getUnannotatedTypes(typeArguments);
 			ReferenceBinding unannotatedEnclosingType = enclosingType == null ? null : (ReferenceBinding) getUnannotatedType(enclosingType);
 
-			PTBKey key = new PTBKey(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType, null);
 			ReferenceBinding genericTypeToMatch = unannotatedGenericType, enclosingTypeToMatch = unannotatedEnclosingType;
 			TypeBinding [] typeArgumentsToMatch = unannotatedTypeArguments;
 			if (TypeSystem.this instanceof AnnotatableTypeSystem) {
@@ -158,7 +211,9 @@ public class TypeSystem {
 				enclosingTypeToMatch = enclosingType;
 				typeArgumentsToMatch = typeArguments;
 			}
-			ParameterizedTypeBinding [] parameterizedTypeBindings = this.hashedParameterizedTypes.get(key);
+			int slot = slot(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType,
+					hash(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType));
+			ParameterizedTypeBinding [] parameterizedTypeBindings = slot < 0 ? null : this.values[slot];
 			for (int i = 0, length = parameterizedTypeBindings == null ? 0 : parameterizedTypeBindings.length; i < length; i++) {
 				ParameterizedTypeBinding parameterizedType = parameterizedTypeBindings[i];
 				if (parameterizedType.actualType() != genericTypeToMatch) { //$IDENTITY-COMPARISON$
@@ -177,25 +232,30 @@ public class TypeSystem {
 		void put (ReferenceBinding genericType, TypeBinding[] typeArguments, ReferenceBinding enclosingType, ParameterizedTypeBinding parameterizedType)  {
 			ReferenceBinding unannotatedGenericType = (ReferenceBinding) getUnannotatedType(genericType);
 			int typeArgumentsLength = typeArguments == null ? 0: typeArguments.length;
-			TypeBinding [] unannotatedTypeArguments = typeArguments == null ? null : new TypeBinding[typeArgumentsLength];
+			TypeBinding [] unannotatedTypeArguments = typeArguments == null ? null : new TypeBinding[typeArgumentsLength]; // owned by the key
 			for (int i = 0; i < typeArgumentsLength; i++) {
 				unannotatedTypeArguments[i] = getUnannotatedType(typeArguments[i]);
 			}
 			ReferenceBinding unannotatedEnclosingType = enclosingType == null ? null : (ReferenceBinding) getUnannotatedType(enclosingType);
 
-			PTBKey key = new PTBKey(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType, TypeSystem.this.environment);
-
-			ParameterizedTypeBinding [] parameterizedTypeBindings = this.hashedParameterizedTypes.get(key);
-			int slot;
-			if (parameterizedTypeBindings == null) {
-				slot = 0;
-				parameterizedTypeBindings = new ParameterizedTypeBinding[1];
-			} else {
-				slot = parameterizedTypeBindings.length;
-				System.arraycopy(parameterizedTypeBindings, 0, parameterizedTypeBindings = new ParameterizedTypeBinding[slot + 1], 0, slot);
+			int hash = hash(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType);
+			int slot = slot(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType, hash);
+			if (slot >= 0) {
+				ParameterizedTypeBinding [] parameterizedTypeBindings = this.values[slot];
+				int length = parameterizedTypeBindings.length;
+				System.arraycopy(parameterizedTypeBindings, 0, parameterizedTypeBindings = new ParameterizedTypeBinding[length + 1], 0, length);
+				parameterizedTypeBindings[length] = parameterizedType;
+				this.values[slot] = parameterizedTypeBindings;
+				return;
+			}
+			if ((this.size + 1) * 4 > this.keys.length * 3) {
+				grow();
+				slot = slot(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType, hash);
 			}
-			parameterizedTypeBindings[slot] = parameterizedType;
-			this.hashedParameterizedTypes.put(key, parameterizedTypeBindings);
+			slot = ~slot;
+			this.keys[slot] = new PTBKey(unannotatedGenericType, unannotatedTypeArguments, unannotatedEnclosingType, hash, TypeSystem.this.environment);
+			this.values[slot] = new ParameterizedTypeBinding[] { parameterizedType };
+			this.size++;
 		}
 	}
 
@@ -145,6 +145,16 @@ public class Scanner {
 	public static final String INVALID_CHAR_IN_STRING = "Invalid_Char_In_String"; //$NON-NLS-1$
 	public static final String INVALID_DIGIT = "Invalid_Digit"; //$NON-NLS-1$
 	private static final int[] EMPTY_LINE_ENDS = Util.EMPTY_INT_ARRAY;
+	/** the ASCII characters that end a run of characters a block comment only needs to skip */
+	private static final boolean[] BLOCK_COMMENT_STOPS = new boolean[128];
+	static {
+		BLOCK_COMMENT_STOPS['*'] = true; // end of comment
+		BLOCK_COMMENT_STOPS['/'] = true;
+		BLOCK_COMMENT_STOPS['\\'] = true; // unicode escape
+		BLOCK_COMMENT_STOPS['\r'] = true; // line separators
+		BLOCK_COMMENT_STOPS['\n'] = true;
+		BLOCK_COMMENT_STOPS['@'] = true; // tags
+	}
 
 	public static final String INVALID_BINARY = "Invalid_Binary_Literal"; //$NON-NLS-1$
 
@@ -1295,7 +1305,7 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 
 			// ---------Consume white space and handles startPosition---------
 			whiteStart = this.currentPosition;
-			boolean isWhiteSpace, hasWhiteSpaces = false;
+			boolean isWhiteSpace, hasWhiteSpaces = skipWhiteSpaces();
 			int offset;
 			int unicodePtr;
 			boolean checkIfUnicode = false;
@@ -1544,7 +1554,13 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 										this.currentPosition++;
 								} //jump over the \\
 								boolean isUnicode = false;
+								int limit = Math.min(this.eofPosition, this.source.length);
 								while (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
+									int run = skipLineCommentCharacters(this.currentPosition, limit);
+									if (run > this.currentPosition) {
+										this.currentPosition = run;
+										this.currentCharacter = this.source[run - 1];
+									}
 									if (this.currentPosition >= this.eofPosition) {
 										this.lastCommentLinePosition = this.currentPosition;
 										this.currentPosition ++;
@@ -1664,6 +1680,9 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 								}
 								//loop until end of comment */
 								int firstTag = 0;
+								// a run of skipped characters stops before the last character of the source, so that its end
+								// is still detected on the character read after the run
+								int limit = Math.min(this.eofPosition, this.source.length) - 1;
 								while ((this.currentCharacter != '/') || (!star)) {
 									if (this.currentPosition >= this.eofPosition) {
 										throw unterminatedComment();
@@ -1689,6 +1708,11 @@ protected TerminalToken getNextToken0() throws InvalidInputException {
 										default:
 											star = false;
 									}
+									int run = skipBlockCommentCharacters(this.currentPosition, limit);
+									if (run > this.currentPosition) {
+										this.currentPosition = run;
+										star = false;
+									}
 									//get next char
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -2232,6 +2256,7 @@ public final void jumpOverMethodBody() {
 			this.withoutUnicodePtr = 0;
 			// ---------Consume white space and handles startPosition---------
 			boolean isWhiteSpace;
+			skipWhiteSpaces();
 			do {
 				this.startPosition = this.currentPosition;
 				if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -2418,7 +2443,13 @@ public final void jumpOverMethodBody() {
 										this.currentPosition++;
 								} //jump over the \\
 								boolean isUnicode = false;
+								int limit = Math.min(this.eofPosition, this.source.length);
 								while (this.currentCharacter != '\r' && this.currentCharacter != '\n') {
+									int run = skipLineCommentCharacters(this.currentPosition, limit);
+									if (run > this.currentPosition) {
+										this.currentPosition = run;
+										this.currentCharacter = this.source[run - 1];
+									}
 									if (this.currentPosition >= this.eofPosition) {
 										this.lastCommentLinePosition = this.currentPosition;
 										this.currentPosition ++;
@@ -2533,6 +2564,9 @@ public final void jumpOverMethodBody() {
 								}
 								//loop until end of comment */
 								int firstTag = 0;
+								// a run of skipped characters stops before the last character of the source, so that its end
+								// is still detected on the character read after the run
+								int limit = Math.min(this.eofPosition, this.source.length) - 1;
 								while ((this.currentCharacter != '/') || (!star)) {
 									if (this.currentPosition >= this.eofPosition) {
 										return;
@@ -2558,6 +2592,11 @@ public final void jumpOverMethodBody() {
 										default:
 											star = false;
 									}
+									int run = skipBlockCommentCharacters(this.currentPosition, limit);
+									if (run > this.currentPosition) {
+										this.currentPosition = run;
+										star = false;
+									}
 									//get next char
 									previous = this.currentPosition;
 									if (((this.currentCharacter = this.source[this.currentPosition++]) == '\\')
@@ -2727,6 +2766,66 @@ public final void jumpOverMethodBody() {
 	}
 	return;
 }
+/**
+ * Consumes the run of white spaces without unicode escape at the current position, recording its line separators,
+ * and answers whether there was one. The white spaces after the end of the source, or written with unicode escapes,
+ * are left to the per character loops of the callers.
+ */
+private boolean skipWhiteSpaces() {
+	char[] src = this.source;
+	int limit = Math.min(this.eofPosition, src.length);
+	int start = this.currentPosition;
+	while (this.currentPosition < limit) {
+		char c = src[this.currentPosition];
+		switch (c) {
+			case 10 : /* \ u000a: LINE FEED               */
+			case 13 : /* \ u000d: CARRIAGE RETURN         */
+				this.currentCharacter = c;
+				this.currentPosition++;
+				if (this.recordLineSeparator) {
+					pushLineSeparator();
+				}
+				break;
+			case 12 : /* \ u000c: FORM FEED               */
+			case 32 : /* \ u0020: SPACE                   */
+			case 9 : /* \ u0009: HORIZONTAL TABULATION   */
+				this.currentCharacter = c;
+				this.currentPosition++;
+				break;
+			default :
+				return this.currentPosition != start;
+		}
+	}
+	return this.currentPosition != start;
+}
+/**
+ * Answers the position of the first character from the given position and before the given limit that a line comment
+ * needs to look at, i.e. a line separator or a backslash.
+ */
+private int skipLineCommentCharacters(int position, int limit) {
+	char[] src = this.source;
+	while (position < limit) {
+		char c = src[position];
+		if (c == '\r' || c == '\n' || c == '\\')
+			break;
+		position++;
+	}
+	return position;
+}
+/**
+ * Answers the position of the first character from the given position and before the given limit that a block comment
+ * needs to look at, i.e. a character that may end the comment, a line separator, a backslash or a tag.
+ */
+private int skipBlockCommentCharacters(int position, int limit) {
+	char[] src = this.source;
+	while (position < limit) {
+		char c = src[position];
+		if (c < 128 && BLOCK_COMMENT_STOPS[c])
+			break;
+		position++;
+	}
+	return position;
+}
 public final boolean jumpOverUnicodeWhiteSpace() throws InvalidInputException {
 	//BOOLEAN
 	//handle the case of unicode. Jump over the next whiteSpace
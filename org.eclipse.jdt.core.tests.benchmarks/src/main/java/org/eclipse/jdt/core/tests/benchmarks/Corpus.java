@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import org.eclipse.jdt.internal.compiler.batch.CompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+
+/**
+ * Source files bundled with the benchmarks, under <code>corpus/</code>. The corpora must not be changed once
+ * results have been recorded, otherwise the results are not comparable anymore: add a new corpus instead.
+ */
+public enum Corpus {
+
+	/**
+	 * Everyday code: collections, records, enums, switches, lambdas, exceptions and string building.
+	 */
+	GENERAL("general",
+			"p/Inventory.java",
+			"p/Item.java",
+			"p/Category.java",
+			"p/ReportWriter.java"),
+
+	/**
+	 * Generic method invocations, streams and collectors, which spend most of their resolution in type inference.
+	 */
+	INFERENCE("inference",
+			"p/Pipelines.java",
+			"p/Graphs.java"),
+
+	/**
+	 * Methods with many locals, loops, nested try statements and switches, which spend most of their analysis in
+	 * merging flow infos.
+	 */
+	FLOW("flow",
+			"p/StateMachine.java",
+			"p/Checks.java"),
+
+	/**
+	 * Self-typed builders and stream pipelines over nested parameterized types and wildcards, which spend much of
+	 * their resolution in creating and looking up parameterized types.
+	 */
+	GENERICS("generics",
+			"p/Builders.java",
+			"p/Streams.java"),
+
+	/**
+	 * Library code in the style of the JDK: a license header, documentation comments on every member and four space
+	 * indentation, which spends most of its tokenization in comments and white spaces.
+	 */
+	DOCUMENTED("documented",
+			"p/OrderedTable.java");
+
+	private final String folder;
+	private final String[] fileNames;
+	private char[][] contents;
+
+	private Corpus(String folder, String... fileNames) {
+		this.folder = folder;
+		this.fileNames = fileNames;
+	}
+
+	/**
+	 * Returns the contents of the files of this corpus.
+	 */
+	public synchronized char[][] getContents() {
+		if (this.contents == null) {
+			char[][] result = new char[this.fileNames.length][];
+			for (int i = 0; i < this.fileNames.length; i++) {
+				String resource = "corpus/" + this.folder + '/' + this.fileNames[i];
+				try (InputStream stream = Corpus.class.getClassLoader().getResourceAsStream(resource)) {
+					if (stream == null)
+						throw new IllegalStateException("Missing corpus file " + resource);
+					result[i] = new String(stream.readAllBytes(), StandardCharsets.UTF_8).toCharArray();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+			this.contents = result;
+		}
+		return this.contents;
+	}
+
+	/**
+	 * Returns new compilation units for the files of this corpus.
+	 */
+	public ICompilationUnit[] getCompilationUnits() {
+		char[][] sources = getContents();
+		ICompilationUnit[] units = new ICompilationUnit[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			units[i] = new CompilationUnit(sources[i], this.fileNames[i], "UTF-8");
+		}
+		return units;
+	}
+}
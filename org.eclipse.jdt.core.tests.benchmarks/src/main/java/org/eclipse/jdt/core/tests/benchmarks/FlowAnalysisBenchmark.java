@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.tests.benchmarks.StagedCompiler.Stage;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.flow.UnconditionalFlowInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Analyses the units of the {@link Corpus#FLOW flow corpus}, whose analysis is dominated by
+ * {@link UnconditionalFlowInfo#mergedWith(UnconditionalFlowInfo)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(batchSize = StageBenchmark.BATCH_SIZE)
+@Measurement(batchSize = StageBenchmark.BATCH_SIZE)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlowAnalysisBenchmark extends StageBenchmark {
+
+	@Override
+	protected Corpus getCorpus() {
+		return Corpus.FLOW;
+	}
+
+	@Override
+	protected Stage getStage() {
+		return Stage.ANALYSE;
+	}
+
+	@Benchmark
+	public CompilationUnitDeclaration[] analyseCode() {
+		nextUnits();
+		for (CompilationUnitDeclaration unit : this.units) {
+			this.compiler.analyse(unit);
+		}
+		return this.units;
+	}
+}
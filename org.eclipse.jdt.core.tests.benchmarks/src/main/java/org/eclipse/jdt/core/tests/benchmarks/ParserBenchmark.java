@@ -0,0 +1,66 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.internal.compiler.CompilationResult;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.parser.Parser;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+import org.eclipse.jdt.internal.compiler.problem.ProblemReporter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses the files of a corpus, including their method bodies, with {@link Parser#parse(ICompilationUnit, CompilationResult)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParserBenchmark {
+
+	@Param({ "GENERAL", "INFERENCE", "FLOW" })
+	public Corpus corpus;
+
+	private CompilerOptions options;
+	private Parser parser;
+
+	@Setup
+	public void setup() {
+		this.options = new CompilerOptions(StagedCompiler.getDefaultOptions());
+		ProblemReporter problemReporter = new ProblemReporter(DefaultErrorHandlingPolicies.proceedWithAllProblems(), this.options,
+				new DefaultProblemFactory());
+		this.parser = new Parser(problemReporter, true /*optimizeStringLiterals*/);
+		this.corpus.getContents();
+	}
+
+	@Benchmark
+	public void parse(Blackhole blackhole) {
+		for (ICompilationUnit unit : this.corpus.getCompilationUnits()) {
+			CompilationResult result = new CompilationResult(unit, 0, 1, this.options.maxProblemsPerUnit);
+			CompilationUnitDeclaration declaration = this.parser.parse(unit, result);
+			blackhole.consume(declaration);
+		}
+	}
+}
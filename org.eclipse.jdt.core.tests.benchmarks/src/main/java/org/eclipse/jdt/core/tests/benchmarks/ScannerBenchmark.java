@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.parser.Scanner;
+import org.eclipse.jdt.internal.compiler.parser.TerminalToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Tokenizes the files of a corpus with {@link Scanner#getNextToken()}, skipping the comments like the parser, or
+ * answering them along with the positions of the line separators like the formatter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScannerBenchmark {
+
+	@Param({ "GENERAL", "INFERENCE", "FLOW", "DOCUMENTED" })
+	public Corpus corpus;
+
+	private char[][] sources;
+	private Scanner scanner;
+	private Scanner commentScanner;
+
+	@Setup
+	public void setup() {
+		this.sources = this.corpus.getContents();
+		this.scanner = new Scanner(false /*comment*/, false /*whitespace*/, false /*nls*/, ClassFileConstants.JDK17 /*sourceLevel*/,
+				null /*taskTags*/, null /*taskPriorities*/, true /*taskCaseSensitive*/);
+		this.commentScanner = new Scanner(true /*comment*/, false /*whitespace*/, false /*nls*/, ClassFileConstants.JDK17 /*sourceLevel*/,
+				null /*taskTags*/, null /*taskPriorities*/, true /*taskCaseSensitive*/);
+		this.commentScanner.recordLineSeparator = true;
+	}
+
+	@Benchmark
+	public int getNextToken() throws InvalidInputException {
+		int tokens = 0;
+		for (char[] source : this.sources) {
+			this.scanner.setSource(source);
+			while (this.scanner.getNextToken() != TerminalToken.TokenNameEOF) {
+				tokens++;
+			}
+		}
+		return tokens;
+	}
+
+	@Benchmark
+	public int getNextTokenWithComments() throws InvalidInputException {
+		int tokens = 0;
+		for (char[] source : this.sources) {
+			this.commentScanner.setSource(source);
+			while (this.commentScanner.getNextToken() != TerminalToken.TokenNameEOF) {
+				tokens++;
+			}
+		}
+		return tokens;
+	}
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import org.eclipse.jdt.core.tests.benchmarks.StagedCompiler.Stage;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base of the benchmarks of a compiler stage. A stage cannot be run twice on the same units, hence before each
+ * iteration, {@link #BATCH_SIZE} copies of the units of the corpus are compiled up to the measured stage by as many
+ * compilers, and each invocation runs the stage on the next copy. The benchmarks run in
+ * {@link org.openjdk.jmh.annotations.Mode#SingleShotTime single shot} with a batch of {@link #BATCH_SIZE}
+ * invocations, so that each iteration consumes exactly the prepared copies and its score is the time of the whole
+ * batch, without any setup in between. The binary types of the JDK that the measured stage needs are still read during
+ * the measured stage.
+ */
+public abstract class StageBenchmark {
+
+	/** number of invocations of an iteration, and of copies of the units compiled before it **/
+	public static final int BATCH_SIZE = 20;
+
+	private FileSystem environment;
+	private StagedCompiler[] compilers;
+	private CompilationUnitDeclaration[][] batch;
+	private int next;
+	protected StagedCompiler compiler;
+	protected CompilationUnitDeclaration[] units;
+
+	protected abstract Corpus getCorpus();
+
+	protected abstract Stage getStage();
+
+	@Setup
+	public void setupEnvironment() {
+		this.environment = StagedCompiler.createNameEnvironment();
+	}
+
+	@Setup(Level.Iteration)
+	public void setupUnits() {
+		this.compilers = new StagedCompiler[BATCH_SIZE];
+		this.batch = new CompilationUnitDeclaration[BATCH_SIZE][];
+		for (int i = 0; i < BATCH_SIZE; i++) {
+			this.compilers[i] = new StagedCompiler(this.environment);
+			this.batch[i] = this.compilers[i].compileUpTo(getCorpus().getCompilationUnits(), getStage());
+		}
+		this.next = 0;
+	}
+
+	/**
+	 * Sets {@link #compiler} and {@link #units} to the next copy of the units prepared for the current iteration, so
+	 * that the copies already run can be collected.
+	 */
+	protected void nextUnits() {
+		if (this.next == BATCH_SIZE)
+			throw new IllegalStateException("More than " + BATCH_SIZE + " invocations in an iteration, the batch size must not be changed");
+		this.compiler = this.compilers[this.next];
+		this.units = this.batch[this.next];
+		this.compilers[this.next] = null;
+		this.batch[this.next++] = null;
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+}
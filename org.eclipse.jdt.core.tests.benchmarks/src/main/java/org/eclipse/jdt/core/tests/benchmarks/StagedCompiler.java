@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
+import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+
+/**
+ * A compiler whose stages can be run one at a time, as {@link Compiler#process(CompilationUnitDeclaration, int)}
+ * runs them, so that a benchmark can measure a single stage once the previous ones are done.
+ */
+public class StagedCompiler extends Compiler {
+
+	public StagedCompiler(INameEnvironment environment) {
+		super(environment,
+				DefaultErrorHandlingPolicies.proceedWithAllProblems(),
+				new CompilerOptions(getDefaultOptions()),
+				result -> { /* discard */ },
+				new DefaultProblemFactory());
+	}
+
+	/**
+	 * Returns the options of the benchmarks: Java 17, with the default warnings.
+	 */
+	public static Map<String, String> getDefaultOptions() {
+		Map<String, String> options = new HashMap<>();
+		options.put(CompilerOptions.OPTION_Compliance, CompilerOptions.VERSION_17);
+		options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_17);
+		options.put(CompilerOptions.OPTION_TargetPlatform, CompilerOptions.VERSION_17);
+		return options;
+	}
+
+	/**
+	 * Returns a name environment on the system modules of the running JDK.
+	 */
+	public static FileSystem createNameEnvironment() {
+		String jrtFs = System.getProperty("java.home") + File.separator + "lib" + File.separator + "jrt-fs.jar";
+		return new FileSystem(new String[] { jrtFs }, null, null);
+	}
+
+	/**
+	 * Parses the given units without their method bodies, then builds and completes their type bindings.
+	 */
+	public CompilationUnitDeclaration[] build(ICompilationUnit[] sourceUnits) {
+		beginToCompile(sourceUnits);
+		CompilationUnitDeclaration[] units = new CompilationUnitDeclaration[this.totalUnits];
+		System.arraycopy(this.unitsToProcess, 0, units, 0, this.totalUnits);
+		return units;
+	}
+
+	/**
+	 * Parses the method bodies of the given unit, then faults in and verifies its methods.
+	 */
+	public void prepareResolve(CompilationUnitDeclaration unit) {
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		this.parser.getMethodBodies(unit);
+		if (unit.scope != null) {
+			unit.scope.faultInTypes();
+			unit.scope.verifyMethods(this.lookupEnvironment.methodVerifier());
+		}
+	}
+
+	/**
+	 * Type checks the given unit, which includes the type inference of its generic method invocations.
+	 */
+	public void resolve(CompilationUnitDeclaration unit) {
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		unit.resolve();
+	}
+
+	/**
+	 * Runs the flow analysis of the given resolved unit.
+	 */
+	public void analyse(CompilationUnitDeclaration unit) {
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		unit.analyseCode();
+	}
+
+	/**
+	 * Generates the class files of the given analysed unit.
+	 */
+	public void generate(CompilationUnitDeclaration unit) {
+		this.lookupEnvironment.unitBeingCompleted = unit;
+		unit.generateCode();
+	}
+
+	/**
+	 * Runs all stages up to the given one (excluded) on the given units.
+	 */
+	public CompilationUnitDeclaration[] compileUpTo(ICompilationUnit[] sourceUnits, Stage stage) {
+		CompilationUnitDeclaration[] units = build(sourceUnits);
+		for (CompilationUnitDeclaration unit : units) {
+			prepareResolve(unit);
+			if (stage.compareTo(Stage.RESOLVE) > 0)
+				resolve(unit);
+			if (stage.compareTo(Stage.ANALYSE) > 0)
+				analyse(unit);
+		}
+		return units;
+	}
+
+	public enum Stage {
+		RESOLVE, ANALYSE, GENERATE
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
+import org.eclipse.jdt.internal.compiler.lookup.TypeSystem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Looks up parameterized types of the JDK with {@link TypeSystem#getParameterizedType(ReferenceBinding, TypeBinding[], ReferenceBinding)},
+ * as type references and substitutions do. All the looked up types are already known by the type system, except the
+ * first time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TypeSystemBenchmark {
+
+	private static final String[] GENERIC_TYPES = {
+			"java.util.List",
+			"java.util.Set",
+			"java.util.Optional",
+			"java.util.Map",
+			"java.util.HashMap",
+			"java.util.function.Function",
+			"java.util.function.BiFunction",
+	};
+	private static final String[] ARGUMENT_TYPES = {
+			"java.lang.Object",
+			"java.lang.String",
+			"java.lang.Integer",
+			"java.lang.Number",
+			"java.lang.CharSequence",
+			"java.lang.Runnable",
+	};
+
+	private FileSystem environment;
+	private LookupEnvironment lookupEnvironment;
+	private ReferenceBinding[] genericTypes;
+	private TypeBinding[][] arguments;
+
+	@Setup
+	public void setup() {
+		this.environment = StagedCompiler.createNameEnvironment();
+		this.lookupEnvironment = new StagedCompiler(this.environment).lookupEnvironment;
+		List<TypeBinding> argumentTypes = new ArrayList<>();
+		for (String name : ARGUMENT_TYPES) {
+			argumentTypes.add(getType(name));
+		}
+		// also parameterized arguments, e.g. List<String>
+		ReferenceBinding list = getType("java.util.List");
+		for (String name : ARGUMENT_TYPES) {
+			argumentTypes.add(this.lookupEnvironment.createParameterizedType(list, new TypeBinding[] { getType(name) }, null));
+		}
+		List<ReferenceBinding> types = new ArrayList<>();
+		List<TypeBinding[]> typeArguments = new ArrayList<>();
+		for (String name : GENERIC_TYPES) {
+			ReferenceBinding genericType = getType(name);
+			int arity = genericType.typeVariables().length;
+			for (int i = 0, size = argumentTypes.size(); i < size; i++) {
+				TypeBinding[] combination = new TypeBinding[arity];
+				for (int j = 0; j < arity; j++) {
+					combination[j] = argumentTypes.get((i + j * 3) % size);
+				}
+				types.add(genericType);
+				typeArguments.add(combination);
+			}
+		}
+		this.genericTypes = types.toArray(new ReferenceBinding[types.size()]);
+		this.arguments = typeArguments.toArray(new TypeBinding[typeArguments.size()][]);
+	}
+
+	private ReferenceBinding getType(String name) {
+		ReferenceBinding type = this.lookupEnvironment.getType(CharOperation.splitOn('.', name.toCharArray()));
+		if (type == null)
+			throw new IllegalStateException("Cannot find " + name);
+		return type;
+	}
+
+	@TearDown
+	public void tearDown() {
+		this.environment.cleanup();
+	}
+
+	@Benchmark
+	public void getParameterizedType(Blackhole blackhole) {
+		for (int i = 0; i < this.genericTypes.length; i++) {
+			blackhole.consume(this.lookupEnvironment.createParameterizedType(this.genericTypes[i], this.arguments[i], null));
+		}
+	}
+}
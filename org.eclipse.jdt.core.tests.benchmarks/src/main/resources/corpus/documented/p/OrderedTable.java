@@ -0,0 +1,403 @@
+/*
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package p;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * A table of entries kept in the order of their keys, backed by two parallel
+ * arrays. Lookups are binary searches, insertions and removals shift the
+ * entries that follow the affected position.
+ *
+ * <p>This class is meant for small to medium tables that are read far more
+ * often than they are modified, for which the compact layout of the arrays
+ * outweighs the cost of shifting entries. Larger tables, or tables that are
+ * frequently modified, are better served by a balanced tree.
+ *
+ * <p>The iterators returned by this class are <i>fail-fast</i>: if the table
+ * is structurally modified at any time after the iterator is created, in any
+ * way except through the iterator's own {@code remove} method, the iterator
+ * throws a {@link ConcurrentModificationException}.
+ *
+ * <p><strong>Note that this implementation is not synchronized.</strong>
+ * If multiple threads access a table concurrently, and at least one of the
+ * threads modifies the table structurally, it <i>must</i> be synchronized
+ * externally.
+ *
+ * @param <K> the type of keys maintained by this table
+ * @param <V> the type of mapped values
+ *
+ * @see java.util.TreeMap
+ * @see java.util.HashMap
+ */
+public class OrderedTable<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * The default initial capacity, used when no capacity is given to the
+     * constructor.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The comparator used to maintain order in this table, never
+     * {@code null}.
+     *
+     * @serial
+     */
+    private final Comparator<? super K> comparator;
+
+    /**
+     * The keys of the table, sorted with the {@link #comparator}; only the
+     * first {@link #size} elements are used.
+     */
+    private Object[] keys;
+
+    /**
+     * The values of the table, at the index of their key.
+     */
+    private Object[] values;
+
+    /**
+     * The number of entries in the table.
+     */
+    private int size;
+
+    /**
+     * The number of structural modifications to the table, checked by the
+     * iterators to detect concurrent modifications.
+     */
+    private int modCount;
+
+    /**
+     * Constructs a new, empty table, ordered by the given comparator.
+     *
+     * @param comparator the comparator that will be used to order this
+     *        table
+     * @throws NullPointerException if the comparator is {@code null}
+     */
+    public OrderedTable(Comparator<? super K> comparator) {
+        this(comparator, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new, empty table with the given initial capacity, ordered
+     * by the given comparator.
+     *
+     * @param comparator the comparator that will be used to order this
+     *        table
+     * @param initialCapacity the initial capacity of the table
+     * @throws NullPointerException if the comparator is {@code null}
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public OrderedTable(Comparator<? super K> comparator, int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("Illegal capacity: " + initialCapacity);
+        }
+        this.comparator = Objects.requireNonNull(comparator);
+        this.keys = new Object[initialCapacity];
+        this.values = new Object[initialCapacity];
+    }
+
+    /**
+     * Returns the number of key-value mappings in this table.
+     *
+     * @return the number of key-value mappings in this table
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the index of the given key, or {@code -(insertion point) - 1}
+     * if the table does not contain it. The insertion point is the index at
+     * which the key would be inserted.
+     *
+     * @param key the key to search for
+     * @return the index of the key, or a negative value if it is absent
+     */
+    @SuppressWarnings("unchecked")
+    private int indexOf(Object key) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            // the keys of the table are all instances of K
+            int cmp = comparator.compare((K) keys[mid], (K) key);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid; // key found
+            }
+        }
+        return -(low + 1); // key not found
+    }
+
+    /**
+     * Returns {@code true} if this table contains a mapping for the specified
+     * key.
+     *
+     * @param key key whose presence in this table is to be tested
+     * @return {@code true} if this table contains a mapping for the
+     *         specified key
+     * @throws ClassCastException if the specified key cannot be compared
+     *         with the keys currently in the table
+     */
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null}
+     * if this table contains no mapping for the key.
+     *
+     * <p>A return value of {@code null} does not <i>necessarily</i> indicate
+     * that the table contains no mapping for the key; it's also possible that
+     * the table explicitly maps the key to {@code null}. The
+     * {@link #containsKey containsKey} operation may be used to distinguish
+     * these two cases.
+     *
+     * @param key the key whose associated value is to be returned
+     * @return the value to which the specified key is mapped, or
+     *         {@code null} if this table contains no mapping for the key
+     * @throws ClassCastException if the specified key cannot be compared
+     *         with the keys currently in the table
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int index = indexOf(key);
+        return index >= 0 ? (V) values[index] : null;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this table.
+     * If the table previously contained a mapping for the key, the old value
+     * is replaced.
+     *
+     * @param key key with which the specified value is to be associated
+     * @param value value to be associated with the specified key
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}
+     * @throws ClassCastException if the specified key cannot be compared
+     *         with the keys currently in the table
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int index = indexOf(key);
+        if (index >= 0) {
+            V oldValue = (V) values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        index = -(index + 1);
+        if (size == keys.length) {
+            /*
+             * Grow by half of the current capacity, like the array lists,
+             * but by at least one entry for tables created empty.
+             */
+            int newCapacity = Math.max(size + 1, size + (size >> 1));
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(values, index, values, index + 1, size - index);
+        keys[index] = key;
+        values[index] = value;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    /**
+     * Removes the mapping for this key from this table if present.
+     *
+     * @param key key for which mapping should be removed
+     * @return the previous value associated with {@code key}, or
+     *         {@code null} if there was no mapping for {@code key}
+     * @throws ClassCastException if the specified key cannot be compared
+     *         with the keys currently in the table
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V oldValue = (V) values[index];
+        removeAt(index);
+        return oldValue;
+    }
+
+    /**
+     * Removes the entry at the given index, shifting the entries that follow
+     * it.
+     *
+     * @param index the index of the entry to remove
+     */
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        // clear to let GC do its work
+        keys[--size] = null;
+        values[size] = null;
+        modCount++;
+    }
+
+    /**
+     * Removes all of the mappings from this table. The table will be empty
+     * after this call returns.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns the first (lowest) key currently in this table.
+     *
+     * @return the first (lowest) key currently in this table
+     * @throws NoSuchElementException if this table is empty
+     */
+    @SuppressWarnings("unchecked")
+    public K firstKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (K) keys[0];
+    }
+
+    /**
+     * Returns the last (highest) key currently in this table.
+     *
+     * @return the last (highest) key currently in this table
+     * @throws NoSuchElementException if this table is empty
+     */
+    @SuppressWarnings("unchecked")
+    public K lastKey() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (K) keys[size - 1];
+    }
+
+    /**
+     * Performs the given action for each entry in this table, in the order
+     * of the keys, until all entries have been processed or the action
+     * throws an exception.
+     *
+     * @param action the action to be performed for each entry
+     * @throws NullPointerException if the specified action is null
+     * @throws ConcurrentModificationException if an entry is found to be
+     *         added or removed during iteration
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+            if (expectedModCount != modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Returns a {@link Set} view of the mappings contained in this table,
+     * in ascending key order. The set is backed by the table, so changes to
+     * the table are reflected in the set.
+     *
+     * @return a set view of the mappings contained in this table, sorted in
+     *         ascending key order
+     */
+    @Override
+    public java.util.Set<Map.Entry<K, V>> entrySet() {
+        return new java.util.AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * An iterator over the entries of the table, in the order of their keys.
+     */
+    private final class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        /** the index of the next entry to return */
+        private int next;
+
+        /** the index of the last entry returned, or -1 if none */
+        private int lastReturned = -1;
+
+        /** the modification count that the table is expected to have */
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = next++;
+            return new SimpleImmutableEntry<>((K) keys[lastReturned], (V) values[lastReturned]);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(lastReturned);
+            next = lastReturned; // the next entry moved to the removed index
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+}
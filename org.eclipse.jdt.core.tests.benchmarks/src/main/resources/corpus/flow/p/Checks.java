@@ -0,0 +1,1882 @@
+package p;
+
+/**
+ * Validation code with many locals, so that flow infos also track the locals beyond the first 64.
+ */
+public class Checks {
+
+	public static final boolean STRICT = Boolean.getBoolean("p.strict");
+
+	public static int check0(int[] values, String[] names, boolean lenient) {
+		int v0;
+		int v1;
+		int v2;
+		int v3;
+		int v4;
+		int v5;
+		int v6;
+		int v7;
+		int v8;
+		int v9;
+		int v10;
+		int v11;
+		int v12;
+		int v13;
+		int v14;
+		int v15;
+		int v16;
+		int v17;
+		int v18;
+		int v19;
+		int v20;
+		int v21;
+		int v22;
+		int v23;
+		int v24;
+		int v25;
+		int v26;
+		int v27;
+		int v28;
+		int v29;
+		int v30;
+		int v31;
+		int v32;
+		int v33;
+		int v34;
+		int v35;
+		int v36;
+		int v37;
+		int v38;
+		int v39;
+		int v40;
+		int v41;
+		int v42;
+		int v43;
+		int v44;
+		int v45;
+		int v46;
+		int v47;
+		int v48;
+		int v49;
+		int v50;
+		int v51;
+		int v52;
+		int v53;
+		int v54;
+		int v55;
+		int v56;
+		int v57;
+		int v58;
+		int v59;
+		int v60;
+		int v61;
+		int v62;
+		int v63;
+		int v64;
+		int v65;
+		int v66;
+		int v67;
+		int v68;
+		int v69;
+		int v70;
+		int v71;
+		int v72;
+		int v73;
+		int v74;
+		int v75;
+		int v76;
+		int v77;
+		int v78;
+		int v79;
+		int v80;
+		int v81;
+		int v82;
+		int v83;
+		int v84;
+		int v85;
+		int v86;
+		int v87;
+		int v88;
+		int v89;
+		final String label;
+		int errors = 0;
+		if (values.length > 0) {
+			v0 = values[0];
+		} else {
+			v0 = 0;
+		}
+		v1 = values.length > 1 && values[1] > v0 ? values[1] : v0 + 1;
+		switch (v1 % 3) {
+			case 0:
+				v2 = v0;
+				break;
+			case 1:
+				v2 = v1 * 2;
+				break;
+			default:
+				v2 = -v1;
+		}
+		try {
+			v3 = Integer.parseInt(names[3 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v3 = v2;
+		}
+		v4 = 0;
+		for (int j = 0; j < v3 % 10; j++) {
+			if (j == v2)
+				continue;
+			v4 += j;
+			if (v4 > 100)
+				break;
+		}
+		do {
+			v5 = v4 / 2;
+		} while (v5 > 1000);
+		v6 = STRICT ? (v5 > 0 ? v5 : 0) : v3 + v1;
+		if (v6 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 7) {
+			v7 = values[7];
+		} else {
+			v7 = 7;
+		}
+		v8 = values.length > 8 && values[8] > v7 ? values[8] : v7 + 1;
+		switch (v8 % 3) {
+			case 0:
+				v9 = v7;
+				break;
+			case 1:
+				v9 = v8 * 2;
+				break;
+			default:
+				v9 = -v8;
+		}
+		try {
+			v10 = Integer.parseInt(names[10 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v10 = v9;
+		}
+		v11 = 0;
+		for (int j = 0; j < v10 % 10; j++) {
+			if (j == v9)
+				continue;
+			v11 += j;
+			if (v11 > 100)
+				break;
+		}
+		do {
+			v12 = v11 / 2;
+		} while (v12 > 1000);
+		v13 = STRICT ? (v12 > 0 ? v12 : 0) : v10 + v8;
+		if (v13 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 14) {
+			v14 = values[14];
+		} else {
+			v14 = 14;
+		}
+		v15 = values.length > 15 && values[15] > v14 ? values[15] : v14 + 1;
+		switch (v15 % 3) {
+			case 0:
+				v16 = v14;
+				break;
+			case 1:
+				v16 = v15 * 2;
+				break;
+			default:
+				v16 = -v15;
+		}
+		try {
+			v17 = Integer.parseInt(names[17 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v17 = v16;
+		}
+		v18 = 0;
+		for (int j = 0; j < v17 % 10; j++) {
+			if (j == v16)
+				continue;
+			v18 += j;
+			if (v18 > 100)
+				break;
+		}
+		do {
+			v19 = v18 / 2;
+		} while (v19 > 1000);
+		v20 = STRICT ? (v19 > 0 ? v19 : 0) : v17 + v15;
+		if (v20 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 21) {
+			v21 = values[21];
+		} else {
+			v21 = 21;
+		}
+		v22 = values.length > 22 && values[22] > v21 ? values[22] : v21 + 1;
+		switch (v22 % 3) {
+			case 0:
+				v23 = v21;
+				break;
+			case 1:
+				v23 = v22 * 2;
+				break;
+			default:
+				v23 = -v22;
+		}
+		try {
+			v24 = Integer.parseInt(names[24 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v24 = v23;
+		}
+		v25 = 0;
+		for (int j = 0; j < v24 % 10; j++) {
+			if (j == v23)
+				continue;
+			v25 += j;
+			if (v25 > 100)
+				break;
+		}
+		do {
+			v26 = v25 / 2;
+		} while (v26 > 1000);
+		v27 = STRICT ? (v26 > 0 ? v26 : 0) : v24 + v22;
+		if (v27 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 28) {
+			v28 = values[28];
+		} else {
+			v28 = 28;
+		}
+		v29 = values.length > 29 && values[29] > v28 ? values[29] : v28 + 1;
+		switch (v29 % 3) {
+			case 0:
+				v30 = v28;
+				break;
+			case 1:
+				v30 = v29 * 2;
+				break;
+			default:
+				v30 = -v29;
+		}
+		try {
+			v31 = Integer.parseInt(names[31 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v31 = v30;
+		}
+		v32 = 0;
+		for (int j = 0; j < v31 % 10; j++) {
+			if (j == v30)
+				continue;
+			v32 += j;
+			if (v32 > 100)
+				break;
+		}
+		do {
+			v33 = v32 / 2;
+		} while (v33 > 1000);
+		v34 = STRICT ? (v33 > 0 ? v33 : 0) : v31 + v29;
+		if (v34 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 35) {
+			v35 = values[35];
+		} else {
+			v35 = 35;
+		}
+		v36 = values.length > 36 && values[36] > v35 ? values[36] : v35 + 1;
+		switch (v36 % 3) {
+			case 0:
+				v37 = v35;
+				break;
+			case 1:
+				v37 = v36 * 2;
+				break;
+			default:
+				v37 = -v36;
+		}
+		try {
+			v38 = Integer.parseInt(names[38 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v38 = v37;
+		}
+		v39 = 0;
+		for (int j = 0; j < v38 % 10; j++) {
+			if (j == v37)
+				continue;
+			v39 += j;
+			if (v39 > 100)
+				break;
+		}
+		do {
+			v40 = v39 / 2;
+		} while (v40 > 1000);
+		v41 = STRICT ? (v40 > 0 ? v40 : 0) : v38 + v36;
+		if (v41 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 42) {
+			v42 = values[42];
+		} else {
+			v42 = 42;
+		}
+		v43 = values.length > 43 && values[43] > v42 ? values[43] : v42 + 1;
+		switch (v43 % 3) {
+			case 0:
+				v44 = v42;
+				break;
+			case 1:
+				v44 = v43 * 2;
+				break;
+			default:
+				v44 = -v43;
+		}
+		try {
+			v45 = Integer.parseInt(names[45 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v45 = v44;
+		}
+		v46 = 0;
+		for (int j = 0; j < v45 % 10; j++) {
+			if (j == v44)
+				continue;
+			v46 += j;
+			if (v46 > 100)
+				break;
+		}
+		do {
+			v47 = v46 / 2;
+		} while (v47 > 1000);
+		v48 = STRICT ? (v47 > 0 ? v47 : 0) : v45 + v43;
+		if (v48 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 49) {
+			v49 = values[49];
+		} else {
+			v49 = 49;
+		}
+		v50 = values.length > 50 && values[50] > v49 ? values[50] : v49 + 1;
+		switch (v50 % 3) {
+			case 0:
+				v51 = v49;
+				break;
+			case 1:
+				v51 = v50 * 2;
+				break;
+			default:
+				v51 = -v50;
+		}
+		try {
+			v52 = Integer.parseInt(names[52 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v52 = v51;
+		}
+		v53 = 0;
+		for (int j = 0; j < v52 % 10; j++) {
+			if (j == v51)
+				continue;
+			v53 += j;
+			if (v53 > 100)
+				break;
+		}
+		do {
+			v54 = v53 / 2;
+		} while (v54 > 1000);
+		v55 = STRICT ? (v54 > 0 ? v54 : 0) : v52 + v50;
+		if (v55 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 56) {
+			v56 = values[56];
+		} else {
+			v56 = 56;
+		}
+		v57 = values.length > 57 && values[57] > v56 ? values[57] : v56 + 1;
+		switch (v57 % 3) {
+			case 0:
+				v58 = v56;
+				break;
+			case 1:
+				v58 = v57 * 2;
+				break;
+			default:
+				v58 = -v57;
+		}
+		try {
+			v59 = Integer.parseInt(names[59 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v59 = v58;
+		}
+		v60 = 0;
+		for (int j = 0; j < v59 % 10; j++) {
+			if (j == v58)
+				continue;
+			v60 += j;
+			if (v60 > 100)
+				break;
+		}
+		do {
+			v61 = v60 / 2;
+		} while (v61 > 1000);
+		v62 = STRICT ? (v61 > 0 ? v61 : 0) : v59 + v57;
+		if (v62 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 63) {
+			v63 = values[63];
+		} else {
+			v63 = 63;
+		}
+		v64 = values.length > 64 && values[64] > v63 ? values[64] : v63 + 1;
+		switch (v64 % 3) {
+			case 0:
+				v65 = v63;
+				break;
+			case 1:
+				v65 = v64 * 2;
+				break;
+			default:
+				v65 = -v64;
+		}
+		try {
+			v66 = Integer.parseInt(names[66 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v66 = v65;
+		}
+		v67 = 0;
+		for (int j = 0; j < v66 % 10; j++) {
+			if (j == v65)
+				continue;
+			v67 += j;
+			if (v67 > 100)
+				break;
+		}
+		do {
+			v68 = v67 / 2;
+		} while (v68 > 1000);
+		v69 = STRICT ? (v68 > 0 ? v68 : 0) : v66 + v64;
+		if (v69 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 70) {
+			v70 = values[70];
+		} else {
+			v70 = 70;
+		}
+		v71 = values.length > 71 && values[71] > v70 ? values[71] : v70 + 1;
+		switch (v71 % 3) {
+			case 0:
+				v72 = v70;
+				break;
+			case 1:
+				v72 = v71 * 2;
+				break;
+			default:
+				v72 = -v71;
+		}
+		try {
+			v73 = Integer.parseInt(names[73 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v73 = v72;
+		}
+		v74 = 0;
+		for (int j = 0; j < v73 % 10; j++) {
+			if (j == v72)
+				continue;
+			v74 += j;
+			if (v74 > 100)
+				break;
+		}
+		do {
+			v75 = v74 / 2;
+		} while (v75 > 1000);
+		v76 = STRICT ? (v75 > 0 ? v75 : 0) : v73 + v71;
+		if (v76 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 77) {
+			v77 = values[77];
+		} else {
+			v77 = 77;
+		}
+		v78 = values.length > 78 && values[78] > v77 ? values[78] : v77 + 1;
+		switch (v78 % 3) {
+			case 0:
+				v79 = v77;
+				break;
+			case 1:
+				v79 = v78 * 2;
+				break;
+			default:
+				v79 = -v78;
+		}
+		try {
+			v80 = Integer.parseInt(names[80 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v80 = v79;
+		}
+		v81 = 0;
+		for (int j = 0; j < v80 % 10; j++) {
+			if (j == v79)
+				continue;
+			v81 += j;
+			if (v81 > 100)
+				break;
+		}
+		do {
+			v82 = v81 / 2;
+		} while (v82 > 1000);
+		v83 = STRICT ? (v82 > 0 ? v82 : 0) : v80 + v78;
+		if (v83 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 84) {
+			v84 = values[84];
+		} else {
+			v84 = 84;
+		}
+		v85 = values.length > 85 && values[85] > v84 ? values[85] : v84 + 1;
+		switch (v85 % 3) {
+			case 0:
+				v86 = v84;
+				break;
+			case 1:
+				v86 = v85 * 2;
+				break;
+			default:
+				v86 = -v85;
+		}
+		try {
+			v87 = Integer.parseInt(names[87 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v87 = v86;
+		}
+		v88 = 0;
+		for (int j = 0; j < v87 % 10; j++) {
+			if (j == v86)
+				continue;
+			v88 += j;
+			if (v88 > 100)
+				break;
+		}
+		do {
+			v89 = v88 / 2;
+		} while (v89 > 1000);
+		if (errors > 0) {
+			label = "invalid";
+		} else if (lenient) {
+			label = "lenient";
+		} else {
+			label = "valid";
+		}
+		int sum = label.length();
+		sum += v0 + v1 - v2;
+		sum += v3 + v4 - v5;
+		sum += v6 + v7 - v8;
+		sum += v9 + v10 - v11;
+		sum += v12 + v13 - v14;
+		sum += v15 + v16 - v17;
+		sum += v18 + v19 - v20;
+		sum += v21 + v22 - v23;
+		sum += v24 + v25 - v26;
+		sum += v27 + v28 - v29;
+		sum += v30 + v31 - v32;
+		sum += v33 + v34 - v35;
+		sum += v36 + v37 - v38;
+		sum += v39 + v40 - v41;
+		sum += v42 + v43 - v44;
+		sum += v45 + v46 - v47;
+		sum += v48 + v49 - v50;
+		sum += v51 + v52 - v53;
+		sum += v54 + v55 - v56;
+		sum += v57 + v58 - v59;
+		sum += v60 + v61 - v62;
+		sum += v63 + v64 - v65;
+		sum += v66 + v67 - v68;
+		sum += v69 + v70 - v71;
+		sum += v72 + v73 - v74;
+		sum += v75 + v76 - v77;
+		sum += v78 + v79 - v80;
+		sum += v81 + v82 - v83;
+		sum += v84 + v85 - v86;
+		sum += v87 + v88 - v89;
+		return errors > 0 ? -errors : sum;
+	}
+
+	public static int check1(int[] values, String[] names, boolean lenient) {
+		int v0;
+		int v1;
+		int v2;
+		int v3;
+		int v4;
+		int v5;
+		int v6;
+		int v7;
+		int v8;
+		int v9;
+		int v10;
+		int v11;
+		int v12;
+		int v13;
+		int v14;
+		int v15;
+		int v16;
+		int v17;
+		int v18;
+		int v19;
+		int v20;
+		int v21;
+		int v22;
+		int v23;
+		int v24;
+		int v25;
+		int v26;
+		int v27;
+		int v28;
+		int v29;
+		int v30;
+		int v31;
+		int v32;
+		int v33;
+		int v34;
+		int v35;
+		int v36;
+		int v37;
+		int v38;
+		int v39;
+		int v40;
+		int v41;
+		int v42;
+		int v43;
+		int v44;
+		int v45;
+		int v46;
+		int v47;
+		int v48;
+		int v49;
+		int v50;
+		int v51;
+		int v52;
+		int v53;
+		int v54;
+		int v55;
+		int v56;
+		int v57;
+		int v58;
+		int v59;
+		int v60;
+		int v61;
+		int v62;
+		int v63;
+		int v64;
+		int v65;
+		int v66;
+		int v67;
+		int v68;
+		int v69;
+		int v70;
+		int v71;
+		int v72;
+		int v73;
+		int v74;
+		int v75;
+		int v76;
+		int v77;
+		int v78;
+		int v79;
+		int v80;
+		int v81;
+		int v82;
+		int v83;
+		int v84;
+		int v85;
+		int v86;
+		int v87;
+		int v88;
+		int v89;
+		final String label;
+		int errors = 0;
+		if (values.length > 0) {
+			v0 = values[0];
+		} else {
+			v0 = 0;
+		}
+		v1 = values.length > 1 && values[1] > v0 ? values[1] : v0 + 1;
+		switch (v1 % 3) {
+			case 0:
+				v2 = v0;
+				break;
+			case 1:
+				v2 = v1 * 2;
+				break;
+			default:
+				v2 = -v1;
+		}
+		try {
+			v3 = Integer.parseInt(names[3 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v3 = v2;
+		}
+		v4 = 0;
+		for (int j = 0; j < v3 % 10; j++) {
+			if (j == v2)
+				continue;
+			v4 += j;
+			if (v4 > 100)
+				break;
+		}
+		do {
+			v5 = v4 / 2;
+		} while (v5 > 1000);
+		v6 = STRICT ? (v5 > 0 ? v5 : 0) : v3 + v1;
+		if (v6 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 7) {
+			v7 = values[7];
+		} else {
+			v7 = 7;
+		}
+		v8 = values.length > 8 && values[8] > v7 ? values[8] : v7 + 1;
+		switch (v8 % 3) {
+			case 0:
+				v9 = v7;
+				break;
+			case 1:
+				v9 = v8 * 2;
+				break;
+			default:
+				v9 = -v8;
+		}
+		try {
+			v10 = Integer.parseInt(names[10 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v10 = v9;
+		}
+		v11 = 0;
+		for (int j = 0; j < v10 % 10; j++) {
+			if (j == v9)
+				continue;
+			v11 += j;
+			if (v11 > 100)
+				break;
+		}
+		do {
+			v12 = v11 / 2;
+		} while (v12 > 1000);
+		v13 = STRICT ? (v12 > 0 ? v12 : 0) : v10 + v8;
+		if (v13 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 14) {
+			v14 = values[14];
+		} else {
+			v14 = 14;
+		}
+		v15 = values.length > 15 && values[15] > v14 ? values[15] : v14 + 1;
+		switch (v15 % 3) {
+			case 0:
+				v16 = v14;
+				break;
+			case 1:
+				v16 = v15 * 2;
+				break;
+			default:
+				v16 = -v15;
+		}
+		try {
+			v17 = Integer.parseInt(names[17 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v17 = v16;
+		}
+		v18 = 0;
+		for (int j = 0; j < v17 % 10; j++) {
+			if (j == v16)
+				continue;
+			v18 += j;
+			if (v18 > 100)
+				break;
+		}
+		do {
+			v19 = v18 / 2;
+		} while (v19 > 1000);
+		v20 = STRICT ? (v19 > 0 ? v19 : 0) : v17 + v15;
+		if (v20 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 21) {
+			v21 = values[21];
+		} else {
+			v21 = 21;
+		}
+		v22 = values.length > 22 && values[22] > v21 ? values[22] : v21 + 1;
+		switch (v22 % 3) {
+			case 0:
+				v23 = v21;
+				break;
+			case 1:
+				v23 = v22 * 2;
+				break;
+			default:
+				v23 = -v22;
+		}
+		try {
+			v24 = Integer.parseInt(names[24 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v24 = v23;
+		}
+		v25 = 0;
+		for (int j = 0; j < v24 % 10; j++) {
+			if (j == v23)
+				continue;
+			v25 += j;
+			if (v25 > 100)
+				break;
+		}
+		do {
+			v26 = v25 / 2;
+		} while (v26 > 1000);
+		v27 = STRICT ? (v26 > 0 ? v26 : 0) : v24 + v22;
+		if (v27 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 28) {
+			v28 = values[28];
+		} else {
+			v28 = 28;
+		}
+		v29 = values.length > 29 && values[29] > v28 ? values[29] : v28 + 1;
+		switch (v29 % 3) {
+			case 0:
+				v30 = v28;
+				break;
+			case 1:
+				v30 = v29 * 2;
+				break;
+			default:
+				v30 = -v29;
+		}
+		try {
+			v31 = Integer.parseInt(names[31 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v31 = v30;
+		}
+		v32 = 0;
+		for (int j = 0; j < v31 % 10; j++) {
+			if (j == v30)
+				continue;
+			v32 += j;
+			if (v32 > 100)
+				break;
+		}
+		do {
+			v33 = v32 / 2;
+		} while (v33 > 1000);
+		v34 = STRICT ? (v33 > 0 ? v33 : 0) : v31 + v29;
+		if (v34 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 35) {
+			v35 = values[35];
+		} else {
+			v35 = 35;
+		}
+		v36 = values.length > 36 && values[36] > v35 ? values[36] : v35 + 1;
+		switch (v36 % 3) {
+			case 0:
+				v37 = v35;
+				break;
+			case 1:
+				v37 = v36 * 2;
+				break;
+			default:
+				v37 = -v36;
+		}
+		try {
+			v38 = Integer.parseInt(names[38 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v38 = v37;
+		}
+		v39 = 0;
+		for (int j = 0; j < v38 % 10; j++) {
+			if (j == v37)
+				continue;
+			v39 += j;
+			if (v39 > 100)
+				break;
+		}
+		do {
+			v40 = v39 / 2;
+		} while (v40 > 1000);
+		v41 = STRICT ? (v40 > 0 ? v40 : 0) : v38 + v36;
+		if (v41 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 42) {
+			v42 = values[42];
+		} else {
+			v42 = 42;
+		}
+		v43 = values.length > 43 && values[43] > v42 ? values[43] : v42 + 1;
+		switch (v43 % 3) {
+			case 0:
+				v44 = v42;
+				break;
+			case 1:
+				v44 = v43 * 2;
+				break;
+			default:
+				v44 = -v43;
+		}
+		try {
+			v45 = Integer.parseInt(names[45 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v45 = v44;
+		}
+		v46 = 0;
+		for (int j = 0; j < v45 % 10; j++) {
+			if (j == v44)
+				continue;
+			v46 += j;
+			if (v46 > 100)
+				break;
+		}
+		do {
+			v47 = v46 / 2;
+		} while (v47 > 1000);
+		v48 = STRICT ? (v47 > 0 ? v47 : 0) : v45 + v43;
+		if (v48 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 49) {
+			v49 = values[49];
+		} else {
+			v49 = 49;
+		}
+		v50 = values.length > 50 && values[50] > v49 ? values[50] : v49 + 1;
+		switch (v50 % 3) {
+			case 0:
+				v51 = v49;
+				break;
+			case 1:
+				v51 = v50 * 2;
+				break;
+			default:
+				v51 = -v50;
+		}
+		try {
+			v52 = Integer.parseInt(names[52 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v52 = v51;
+		}
+		v53 = 0;
+		for (int j = 0; j < v52 % 10; j++) {
+			if (j == v51)
+				continue;
+			v53 += j;
+			if (v53 > 100)
+				break;
+		}
+		do {
+			v54 = v53 / 2;
+		} while (v54 > 1000);
+		v55 = STRICT ? (v54 > 0 ? v54 : 0) : v52 + v50;
+		if (v55 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 56) {
+			v56 = values[56];
+		} else {
+			v56 = 56;
+		}
+		v57 = values.length > 57 && values[57] > v56 ? values[57] : v56 + 1;
+		switch (v57 % 3) {
+			case 0:
+				v58 = v56;
+				break;
+			case 1:
+				v58 = v57 * 2;
+				break;
+			default:
+				v58 = -v57;
+		}
+		try {
+			v59 = Integer.parseInt(names[59 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v59 = v58;
+		}
+		v60 = 0;
+		for (int j = 0; j < v59 % 10; j++) {
+			if (j == v58)
+				continue;
+			v60 += j;
+			if (v60 > 100)
+				break;
+		}
+		do {
+			v61 = v60 / 2;
+		} while (v61 > 1000);
+		v62 = STRICT ? (v61 > 0 ? v61 : 0) : v59 + v57;
+		if (v62 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 63) {
+			v63 = values[63];
+		} else {
+			v63 = 63;
+		}
+		v64 = values.length > 64 && values[64] > v63 ? values[64] : v63 + 1;
+		switch (v64 % 3) {
+			case 0:
+				v65 = v63;
+				break;
+			case 1:
+				v65 = v64 * 2;
+				break;
+			default:
+				v65 = -v64;
+		}
+		try {
+			v66 = Integer.parseInt(names[66 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v66 = v65;
+		}
+		v67 = 0;
+		for (int j = 0; j < v66 % 10; j++) {
+			if (j == v65)
+				continue;
+			v67 += j;
+			if (v67 > 100)
+				break;
+		}
+		do {
+			v68 = v67 / 2;
+		} while (v68 > 1000);
+		v69 = STRICT ? (v68 > 0 ? v68 : 0) : v66 + v64;
+		if (v69 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 70) {
+			v70 = values[70];
+		} else {
+			v70 = 70;
+		}
+		v71 = values.length > 71 && values[71] > v70 ? values[71] : v70 + 1;
+		switch (v71 % 3) {
+			case 0:
+				v72 = v70;
+				break;
+			case 1:
+				v72 = v71 * 2;
+				break;
+			default:
+				v72 = -v71;
+		}
+		try {
+			v73 = Integer.parseInt(names[73 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v73 = v72;
+		}
+		v74 = 0;
+		for (int j = 0; j < v73 % 10; j++) {
+			if (j == v72)
+				continue;
+			v74 += j;
+			if (v74 > 100)
+				break;
+		}
+		do {
+			v75 = v74 / 2;
+		} while (v75 > 1000);
+		v76 = STRICT ? (v75 > 0 ? v75 : 0) : v73 + v71;
+		if (v76 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 77) {
+			v77 = values[77];
+		} else {
+			v77 = 77;
+		}
+		v78 = values.length > 78 && values[78] > v77 ? values[78] : v77 + 1;
+		switch (v78 % 3) {
+			case 0:
+				v79 = v77;
+				break;
+			case 1:
+				v79 = v78 * 2;
+				break;
+			default:
+				v79 = -v78;
+		}
+		try {
+			v80 = Integer.parseInt(names[80 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v80 = v79;
+		}
+		v81 = 0;
+		for (int j = 0; j < v80 % 10; j++) {
+			if (j == v79)
+				continue;
+			v81 += j;
+			if (v81 > 100)
+				break;
+		}
+		do {
+			v82 = v81 / 2;
+		} while (v82 > 1000);
+		v83 = STRICT ? (v82 > 0 ? v82 : 0) : v80 + v78;
+		if (v83 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 84) {
+			v84 = values[84];
+		} else {
+			v84 = 84;
+		}
+		v85 = values.length > 85 && values[85] > v84 ? values[85] : v84 + 1;
+		switch (v85 % 3) {
+			case 0:
+				v86 = v84;
+				break;
+			case 1:
+				v86 = v85 * 2;
+				break;
+			default:
+				v86 = -v85;
+		}
+		try {
+			v87 = Integer.parseInt(names[87 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v87 = v86;
+		}
+		v88 = 0;
+		for (int j = 0; j < v87 % 10; j++) {
+			if (j == v86)
+				continue;
+			v88 += j;
+			if (v88 > 100)
+				break;
+		}
+		do {
+			v89 = v88 / 2;
+		} while (v89 > 1000);
+		if (errors > 0) {
+			label = "invalid";
+		} else if (lenient) {
+			label = "lenient";
+		} else {
+			label = "valid";
+		}
+		int sum = label.length();
+		sum += v0 + v1 - v2;
+		sum += v3 + v4 - v5;
+		sum += v6 + v7 - v8;
+		sum += v9 + v10 - v11;
+		sum += v12 + v13 - v14;
+		sum += v15 + v16 - v17;
+		sum += v18 + v19 - v20;
+		sum += v21 + v22 - v23;
+		sum += v24 + v25 - v26;
+		sum += v27 + v28 - v29;
+		sum += v30 + v31 - v32;
+		sum += v33 + v34 - v35;
+		sum += v36 + v37 - v38;
+		sum += v39 + v40 - v41;
+		sum += v42 + v43 - v44;
+		sum += v45 + v46 - v47;
+		sum += v48 + v49 - v50;
+		sum += v51 + v52 - v53;
+		sum += v54 + v55 - v56;
+		sum += v57 + v58 - v59;
+		sum += v60 + v61 - v62;
+		sum += v63 + v64 - v65;
+		sum += v66 + v67 - v68;
+		sum += v69 + v70 - v71;
+		sum += v72 + v73 - v74;
+		sum += v75 + v76 - v77;
+		sum += v78 + v79 - v80;
+		sum += v81 + v82 - v83;
+		sum += v84 + v85 - v86;
+		sum += v87 + v88 - v89;
+		return errors > 0 ? -errors : sum;
+	}
+
+	public static int check2(int[] values, String[] names, boolean lenient) {
+		int v0;
+		int v1;
+		int v2;
+		int v3;
+		int v4;
+		int v5;
+		int v6;
+		int v7;
+		int v8;
+		int v9;
+		int v10;
+		int v11;
+		int v12;
+		int v13;
+		int v14;
+		int v15;
+		int v16;
+		int v17;
+		int v18;
+		int v19;
+		int v20;
+		int v21;
+		int v22;
+		int v23;
+		int v24;
+		int v25;
+		int v26;
+		int v27;
+		int v28;
+		int v29;
+		int v30;
+		int v31;
+		int v32;
+		int v33;
+		int v34;
+		int v35;
+		int v36;
+		int v37;
+		int v38;
+		int v39;
+		int v40;
+		int v41;
+		int v42;
+		int v43;
+		int v44;
+		int v45;
+		int v46;
+		int v47;
+		int v48;
+		int v49;
+		int v50;
+		int v51;
+		int v52;
+		int v53;
+		int v54;
+		int v55;
+		int v56;
+		int v57;
+		int v58;
+		int v59;
+		int v60;
+		int v61;
+		int v62;
+		int v63;
+		int v64;
+		int v65;
+		int v66;
+		int v67;
+		int v68;
+		int v69;
+		int v70;
+		int v71;
+		int v72;
+		int v73;
+		int v74;
+		int v75;
+		int v76;
+		int v77;
+		int v78;
+		int v79;
+		int v80;
+		int v81;
+		int v82;
+		int v83;
+		int v84;
+		int v85;
+		int v86;
+		int v87;
+		int v88;
+		int v89;
+		final String label;
+		int errors = 0;
+		if (values.length > 0) {
+			v0 = values[0];
+		} else {
+			v0 = 0;
+		}
+		v1 = values.length > 1 && values[1] > v0 ? values[1] : v0 + 1;
+		switch (v1 % 3) {
+			case 0:
+				v2 = v0;
+				break;
+			case 1:
+				v2 = v1 * 2;
+				break;
+			default:
+				v2 = -v1;
+		}
+		try {
+			v3 = Integer.parseInt(names[3 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v3 = v2;
+		}
+		v4 = 0;
+		for (int j = 0; j < v3 % 10; j++) {
+			if (j == v2)
+				continue;
+			v4 += j;
+			if (v4 > 100)
+				break;
+		}
+		do {
+			v5 = v4 / 2;
+		} while (v5 > 1000);
+		v6 = STRICT ? (v5 > 0 ? v5 : 0) : v3 + v1;
+		if (v6 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 7) {
+			v7 = values[7];
+		} else {
+			v7 = 7;
+		}
+		v8 = values.length > 8 && values[8] > v7 ? values[8] : v7 + 1;
+		switch (v8 % 3) {
+			case 0:
+				v9 = v7;
+				break;
+			case 1:
+				v9 = v8 * 2;
+				break;
+			default:
+				v9 = -v8;
+		}
+		try {
+			v10 = Integer.parseInt(names[10 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v10 = v9;
+		}
+		v11 = 0;
+		for (int j = 0; j < v10 % 10; j++) {
+			if (j == v9)
+				continue;
+			v11 += j;
+			if (v11 > 100)
+				break;
+		}
+		do {
+			v12 = v11 / 2;
+		} while (v12 > 1000);
+		v13 = STRICT ? (v12 > 0 ? v12 : 0) : v10 + v8;
+		if (v13 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 14) {
+			v14 = values[14];
+		} else {
+			v14 = 14;
+		}
+		v15 = values.length > 15 && values[15] > v14 ? values[15] : v14 + 1;
+		switch (v15 % 3) {
+			case 0:
+				v16 = v14;
+				break;
+			case 1:
+				v16 = v15 * 2;
+				break;
+			default:
+				v16 = -v15;
+		}
+		try {
+			v17 = Integer.parseInt(names[17 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v17 = v16;
+		}
+		v18 = 0;
+		for (int j = 0; j < v17 % 10; j++) {
+			if (j == v16)
+				continue;
+			v18 += j;
+			if (v18 > 100)
+				break;
+		}
+		do {
+			v19 = v18 / 2;
+		} while (v19 > 1000);
+		v20 = STRICT ? (v19 > 0 ? v19 : 0) : v17 + v15;
+		if (v20 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 21) {
+			v21 = values[21];
+		} else {
+			v21 = 21;
+		}
+		v22 = values.length > 22 && values[22] > v21 ? values[22] : v21 + 1;
+		switch (v22 % 3) {
+			case 0:
+				v23 = v21;
+				break;
+			case 1:
+				v23 = v22 * 2;
+				break;
+			default:
+				v23 = -v22;
+		}
+		try {
+			v24 = Integer.parseInt(names[24 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v24 = v23;
+		}
+		v25 = 0;
+		for (int j = 0; j < v24 % 10; j++) {
+			if (j == v23)
+				continue;
+			v25 += j;
+			if (v25 > 100)
+				break;
+		}
+		do {
+			v26 = v25 / 2;
+		} while (v26 > 1000);
+		v27 = STRICT ? (v26 > 0 ? v26 : 0) : v24 + v22;
+		if (v27 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 28) {
+			v28 = values[28];
+		} else {
+			v28 = 28;
+		}
+		v29 = values.length > 29 && values[29] > v28 ? values[29] : v28 + 1;
+		switch (v29 % 3) {
+			case 0:
+				v30 = v28;
+				break;
+			case 1:
+				v30 = v29 * 2;
+				break;
+			default:
+				v30 = -v29;
+		}
+		try {
+			v31 = Integer.parseInt(names[31 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v31 = v30;
+		}
+		v32 = 0;
+		for (int j = 0; j < v31 % 10; j++) {
+			if (j == v30)
+				continue;
+			v32 += j;
+			if (v32 > 100)
+				break;
+		}
+		do {
+			v33 = v32 / 2;
+		} while (v33 > 1000);
+		v34 = STRICT ? (v33 > 0 ? v33 : 0) : v31 + v29;
+		if (v34 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 35) {
+			v35 = values[35];
+		} else {
+			v35 = 35;
+		}
+		v36 = values.length > 36 && values[36] > v35 ? values[36] : v35 + 1;
+		switch (v36 % 3) {
+			case 0:
+				v37 = v35;
+				break;
+			case 1:
+				v37 = v36 * 2;
+				break;
+			default:
+				v37 = -v36;
+		}
+		try {
+			v38 = Integer.parseInt(names[38 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v38 = v37;
+		}
+		v39 = 0;
+		for (int j = 0; j < v38 % 10; j++) {
+			if (j == v37)
+				continue;
+			v39 += j;
+			if (v39 > 100)
+				break;
+		}
+		do {
+			v40 = v39 / 2;
+		} while (v40 > 1000);
+		v41 = STRICT ? (v40 > 0 ? v40 : 0) : v38 + v36;
+		if (v41 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 42) {
+			v42 = values[42];
+		} else {
+			v42 = 42;
+		}
+		v43 = values.length > 43 && values[43] > v42 ? values[43] : v42 + 1;
+		switch (v43 % 3) {
+			case 0:
+				v44 = v42;
+				break;
+			case 1:
+				v44 = v43 * 2;
+				break;
+			default:
+				v44 = -v43;
+		}
+		try {
+			v45 = Integer.parseInt(names[45 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v45 = v44;
+		}
+		v46 = 0;
+		for (int j = 0; j < v45 % 10; j++) {
+			if (j == v44)
+				continue;
+			v46 += j;
+			if (v46 > 100)
+				break;
+		}
+		do {
+			v47 = v46 / 2;
+		} while (v47 > 1000);
+		v48 = STRICT ? (v47 > 0 ? v47 : 0) : v45 + v43;
+		if (v48 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 49) {
+			v49 = values[49];
+		} else {
+			v49 = 49;
+		}
+		v50 = values.length > 50 && values[50] > v49 ? values[50] : v49 + 1;
+		switch (v50 % 3) {
+			case 0:
+				v51 = v49;
+				break;
+			case 1:
+				v51 = v50 * 2;
+				break;
+			default:
+				v51 = -v50;
+		}
+		try {
+			v52 = Integer.parseInt(names[52 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v52 = v51;
+		}
+		v53 = 0;
+		for (int j = 0; j < v52 % 10; j++) {
+			if (j == v51)
+				continue;
+			v53 += j;
+			if (v53 > 100)
+				break;
+		}
+		do {
+			v54 = v53 / 2;
+		} while (v54 > 1000);
+		v55 = STRICT ? (v54 > 0 ? v54 : 0) : v52 + v50;
+		if (v55 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 56) {
+			v56 = values[56];
+		} else {
+			v56 = 56;
+		}
+		v57 = values.length > 57 && values[57] > v56 ? values[57] : v56 + 1;
+		switch (v57 % 3) {
+			case 0:
+				v58 = v56;
+				break;
+			case 1:
+				v58 = v57 * 2;
+				break;
+			default:
+				v58 = -v57;
+		}
+		try {
+			v59 = Integer.parseInt(names[59 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v59 = v58;
+		}
+		v60 = 0;
+		for (int j = 0; j < v59 % 10; j++) {
+			if (j == v58)
+				continue;
+			v60 += j;
+			if (v60 > 100)
+				break;
+		}
+		do {
+			v61 = v60 / 2;
+		} while (v61 > 1000);
+		v62 = STRICT ? (v61 > 0 ? v61 : 0) : v59 + v57;
+		if (v62 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 63) {
+			v63 = values[63];
+		} else {
+			v63 = 63;
+		}
+		v64 = values.length > 64 && values[64] > v63 ? values[64] : v63 + 1;
+		switch (v64 % 3) {
+			case 0:
+				v65 = v63;
+				break;
+			case 1:
+				v65 = v64 * 2;
+				break;
+			default:
+				v65 = -v64;
+		}
+		try {
+			v66 = Integer.parseInt(names[66 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v66 = v65;
+		}
+		v67 = 0;
+		for (int j = 0; j < v66 % 10; j++) {
+			if (j == v65)
+				continue;
+			v67 += j;
+			if (v67 > 100)
+				break;
+		}
+		do {
+			v68 = v67 / 2;
+		} while (v68 > 1000);
+		v69 = STRICT ? (v68 > 0 ? v68 : 0) : v66 + v64;
+		if (v69 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 70) {
+			v70 = values[70];
+		} else {
+			v70 = 70;
+		}
+		v71 = values.length > 71 && values[71] > v70 ? values[71] : v70 + 1;
+		switch (v71 % 3) {
+			case 0:
+				v72 = v70;
+				break;
+			case 1:
+				v72 = v71 * 2;
+				break;
+			default:
+				v72 = -v71;
+		}
+		try {
+			v73 = Integer.parseInt(names[73 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v73 = v72;
+		}
+		v74 = 0;
+		for (int j = 0; j < v73 % 10; j++) {
+			if (j == v72)
+				continue;
+			v74 += j;
+			if (v74 > 100)
+				break;
+		}
+		do {
+			v75 = v74 / 2;
+		} while (v75 > 1000);
+		v76 = STRICT ? (v75 > 0 ? v75 : 0) : v73 + v71;
+		if (v76 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 77) {
+			v77 = values[77];
+		} else {
+			v77 = 77;
+		}
+		v78 = values.length > 78 && values[78] > v77 ? values[78] : v77 + 1;
+		switch (v78 % 3) {
+			case 0:
+				v79 = v77;
+				break;
+			case 1:
+				v79 = v78 * 2;
+				break;
+			default:
+				v79 = -v78;
+		}
+		try {
+			v80 = Integer.parseInt(names[80 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v80 = v79;
+		}
+		v81 = 0;
+		for (int j = 0; j < v80 % 10; j++) {
+			if (j == v79)
+				continue;
+			v81 += j;
+			if (v81 > 100)
+				break;
+		}
+		do {
+			v82 = v81 / 2;
+		} while (v82 > 1000);
+		v83 = STRICT ? (v82 > 0 ? v82 : 0) : v80 + v78;
+		if (v83 < 0 && !lenient) {
+			errors++;
+		}
+		if (values.length > 84) {
+			v84 = values[84];
+		} else {
+			v84 = 84;
+		}
+		v85 = values.length > 85 && values[85] > v84 ? values[85] : v84 + 1;
+		switch (v85 % 3) {
+			case 0:
+				v86 = v84;
+				break;
+			case 1:
+				v86 = v85 * 2;
+				break;
+			default:
+				v86 = -v85;
+		}
+		try {
+			v87 = Integer.parseInt(names[87 % names.length]);
+		} catch (NumberFormatException e) {
+			if (!lenient)
+				errors++;
+			v87 = v86;
+		}
+		v88 = 0;
+		for (int j = 0; j < v87 % 10; j++) {
+			if (j == v86)
+				continue;
+			v88 += j;
+			if (v88 > 100)
+				break;
+		}
+		do {
+			v89 = v88 / 2;
+		} while (v89 > 1000);
+		if (errors > 0) {
+			label = "invalid";
+		} else if (lenient) {
+			label = "lenient";
+		} else {
+			label = "valid";
+		}
+		int sum = label.length();
+		sum += v0 + v1 - v2;
+		sum += v3 + v4 - v5;
+		sum += v6 + v7 - v8;
+		sum += v9 + v10 - v11;
+		sum += v12 + v13 - v14;
+		sum += v15 + v16 - v17;
+		sum += v18 + v19 - v20;
+		sum += v21 + v22 - v23;
+		sum += v24 + v25 - v26;
+		sum += v27 + v28 - v29;
+		sum += v30 + v31 - v32;
+		sum += v33 + v34 - v35;
+		sum += v36 + v37 - v38;
+		sum += v39 + v40 - v41;
+		sum += v42 + v43 - v44;
+		sum += v45 + v46 - v47;
+		sum += v48 + v49 - v50;
+		sum += v51 + v52 - v53;
+		sum += v54 + v55 - v56;
+		sum += v57 + v58 - v59;
+		sum += v60 + v61 - v62;
+		sum += v63 + v64 - v65;
+		sum += v66 + v67 - v68;
+		sum += v69 + v70 - v71;
+		sum += v72 + v73 - v74;
+		sum += v75 + v76 - v77;
+		sum += v78 + v79 - v80;
+		sum += v81 + v82 - v83;
+		sum += v84 + v85 - v86;
+		sum += v87 + v88 - v89;
+		return errors > 0 ? -errors : sum;
+	}
+
+}
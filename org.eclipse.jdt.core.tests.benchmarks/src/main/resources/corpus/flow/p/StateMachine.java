@@ -0,0 +1,183 @@
+package p;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A hand written tokenizer, with loops, labeled breaks, switches and nested try statements.
+ */
+public class StateMachine {
+
+	public enum State {
+		START, IDENTIFIER, NUMBER, STRING, ESCAPE, COMMENT, LINE_COMMENT, OPERATOR, END
+	}
+
+	public static final int MAX_TOKEN_LENGTH = 1024;
+
+	private final Reader reader;
+	private final StringBuilder token = new StringBuilder();
+	private int line = 1;
+	private int column;
+	private int pushedBack = -1;
+
+	public StateMachine(Reader reader) {
+		this.reader = reader;
+	}
+
+	private int read() throws IOException {
+		int c;
+		if (this.pushedBack >= 0) {
+			c = this.pushedBack;
+			this.pushedBack = -1;
+		} else {
+			c = this.reader.read();
+		}
+		if (c == '\n') {
+			this.line++;
+			this.column = 0;
+		} else {
+			this.column++;
+		}
+		return c;
+	}
+
+	public String next() throws IOException {
+		State state = State.START;
+		int c;
+		boolean dot = false;
+		boolean exponent = false;
+		char quote = 0;
+		this.token.setLength(0);
+		loop: while (true) {
+			c = read();
+			switch (state) {
+				case START:
+					if (c < 0) {
+						state = State.END;
+						break loop;
+					} else if (Character.isWhitespace(c)) {
+						continue loop;
+					} else if (Character.isJavaIdentifierStart(c)) {
+						state = State.IDENTIFIER;
+					} else if (Character.isDigit(c)) {
+						state = State.NUMBER;
+					} else if (c == '"' || c == '\'') {
+						state = State.STRING;
+						quote = (char) c;
+					} else if (c == '/') {
+						int d = read();
+						if (d == '*') {
+							state = State.COMMENT;
+							continue loop;
+						} else if (d == '/') {
+							state = State.LINE_COMMENT;
+							continue loop;
+						}
+						this.pushedBack = d;
+						state = State.OPERATOR;
+					} else {
+						state = State.OPERATOR;
+					}
+					this.token.append((char) c);
+					if (state == State.OPERATOR)
+						break loop;
+					break;
+				case IDENTIFIER:
+					if (c >= 0 && Character.isJavaIdentifierPart(c)) {
+						this.token.append((char) c);
+					} else {
+						this.pushedBack = c;
+						break loop;
+					}
+					break;
+				case NUMBER:
+					if (c >= 0 && Character.isDigit(c)) {
+						this.token.append((char) c);
+					} else if (c == '.' && !dot && !exponent) {
+						dot = true;
+						this.token.append('.');
+					} else if ((c == 'e' || c == 'E') && !exponent) {
+						exponent = true;
+						this.token.append((char) c);
+					} else {
+						this.pushedBack = c;
+						break loop;
+					}
+					break;
+				case STRING:
+					if (c < 0 || c == '\n')
+						throw new IOException("Unterminated string at line " + this.line);
+					this.token.append((char) c);
+					if (c == '\\')
+						state = State.ESCAPE;
+					else if (c == quote)
+						break loop;
+					break;
+				case ESCAPE:
+					if (c < 0)
+						throw new IOException("Unterminated escape at line " + this.line);
+					this.token.append((char) c);
+					state = State.STRING;
+					break;
+				case COMMENT:
+					if (c < 0)
+						throw new IOException("Unterminated comment at line " + this.line);
+					if (c == '*') {
+						int d = read();
+						if (d == '/')
+							state = State.START;
+						else
+							this.pushedBack = d;
+					}
+					break;
+				case LINE_COMMENT:
+					if (c < 0) {
+						state = State.END;
+						break loop;
+					}
+					if (c == '\n')
+						state = State.START;
+					break;
+				default:
+					throw new IllegalStateException(state.toString());
+			}
+			if (this.token.length() > MAX_TOKEN_LENGTH)
+				throw new IOException("Token too long at line " + this.line + ", column " + this.column);
+		}
+		return state == State.END ? null : this.token.toString();
+	}
+
+	public int count() throws IOException {
+		int count = 0;
+		int identifiers = 0;
+		int numbers = 0;
+		int others = 0;
+		String next;
+		try {
+			while ((next = next()) != null) {
+				count++;
+				char first = next.charAt(0);
+				if (Character.isJavaIdentifierStart(first)) {
+					identifiers++;
+				} else if (Character.isDigit(first)) {
+					numbers++;
+				} else {
+					others++;
+				}
+			}
+		} catch (IOException e) {
+			if (count == 0)
+				throw e;
+			System.err.println("Stopped after " + count + " tokens: " + e.getMessage());
+		} finally {
+			try {
+				this.reader.close();
+			} catch (IOException e) {
+				// ignore
+			} finally {
+				System.out.println(identifiers + " identifiers, " + numbers + " numbers, " + others + " others");
+			}
+		}
+		return count;
+	}
+}
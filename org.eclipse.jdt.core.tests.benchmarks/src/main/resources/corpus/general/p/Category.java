@@ -0,0 +1,47 @@
+package p;
+
+/**
+ * Categories of inventory items.
+ */
+public enum Category {
+	FOOD("Food", 0.05),
+	BOOKS("Books", 0.0),
+	ELECTRONICS("Electronics", 0.2),
+	CLOTHING("Clothing", 0.1),
+	TOYS("Toys", 0.1);
+
+	private final String label;
+	private final double taxRate;
+
+	Category(String label, double taxRate) {
+		this.label = label;
+		this.taxRate = taxRate;
+	}
+
+	public String getLabel() {
+		return this.label;
+	}
+
+	public double getTaxRate() {
+		return this.taxRate;
+	}
+
+	public static Category parse(String text) {
+		switch (text.trim().toLowerCase()) {
+			case "food":
+			case "groceries":
+				return FOOD;
+			case "books":
+				return BOOKS;
+			case "electronics":
+			case "devices":
+				return ELECTRONICS;
+			case "clothing":
+				return CLOTHING;
+			case "toys":
+				return TOYS;
+			default:
+				throw new IllegalArgumentException("Unknown category: " + text);
+		}
+	}
+}
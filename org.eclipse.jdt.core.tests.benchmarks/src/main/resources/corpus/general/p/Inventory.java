@@ -0,0 +1,171 @@
+package p;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+/**
+ * A mutable inventory of items, indexed by name and by category.
+ */
+public class Inventory implements Iterable<Item> {
+
+	public static class MissingItemException extends Exception {
+		private static final long serialVersionUID = 1L;
+
+		public MissingItemException(String name) {
+			super("No item named " + name);
+		}
+	}
+
+	public interface Listener {
+		void itemChanged(Item oldItem, Item newItem);
+	}
+
+	private final Map<String, Item> itemsByName = new HashMap<>();
+	private final Map<Category, List<Item>> itemsByCategory = new EnumMap<>(Category.class);
+	private final List<Listener> listeners = new ArrayList<>();
+	private int modificationCount;
+
+	public void addListener(Listener listener) {
+		this.listeners.add(listener);
+	}
+
+	public void removeListener(Listener listener) {
+		this.listeners.remove(listener);
+	}
+
+	public void add(Item item) {
+		Item previous = this.itemsByName.put(item.name(), item);
+		if (previous != null) {
+			this.itemsByCategory.get(previous.category()).remove(previous);
+		}
+		this.itemsByCategory.computeIfAbsent(item.category(), category -> new ArrayList<>()).add(item);
+		this.modificationCount++;
+		fireChanged(previous, item);
+	}
+
+	public Item get(String name) throws MissingItemException {
+		Item item = this.itemsByName.get(name);
+		if (item == null)
+			throw new MissingItemException(name);
+		return item;
+	}
+
+	public Item remove(String name) throws MissingItemException {
+		Item item = this.itemsByName.remove(name);
+		if (item == null)
+			throw new MissingItemException(name);
+		this.itemsByCategory.get(item.category()).remove(item);
+		this.modificationCount++;
+		fireChanged(item, null);
+		return item;
+	}
+
+	public void restock(String name, int quantity) throws MissingItemException {
+		Item item = get(name);
+		add(item.withQuantity(item.quantity() + quantity));
+	}
+
+	public boolean sell(String name, int quantity) throws MissingItemException {
+		Item item = get(name);
+		if (item.quantity() < quantity)
+			return false;
+		add(item.withQuantity(item.quantity() - quantity));
+		return true;
+	}
+
+	public List<Item> getItems(Category category) {
+		List<Item> items = this.itemsByCategory.get(category);
+		if (items == null)
+			return Collections.emptyList();
+		List<Item> result = new ArrayList<>(items);
+		Collections.sort(result);
+		return result;
+	}
+
+	public List<Item> find(Predicate<? super Item> filter) {
+		List<Item> result = new ArrayList<>();
+		for (Item item : this) {
+			if (filter.test(item))
+				result.add(item);
+		}
+		result.sort(null);
+		return result;
+	}
+
+	public List<Item> getLowStock(int threshold) {
+		return find(item -> item.quantity() <= threshold);
+	}
+
+	public Map<Category, Long> getTotalsInCents() {
+		Map<Category, Long> totals = new TreeMap<>();
+		for (Map.Entry<Category, List<Item>> entry : this.itemsByCategory.entrySet()) {
+			long total = 0;
+			for (Item item : entry.getValue()) {
+				total += item.totalInCents() + item.taxInCents();
+			}
+			totals.put(entry.getKey(), Long.valueOf(total));
+		}
+		return totals;
+	}
+
+	public int load(Reader reader) throws IOException {
+		int count = 0;
+		BufferedReader lines = new BufferedReader(reader);
+		String line;
+		while ((line = lines.readLine()) != null) {
+			if (line.isBlank() || line.startsWith("#"))
+				continue;
+			try {
+				add(Item.parse(line));
+				count++;
+			} catch (IllegalArgumentException e) {
+				System.err.println("Skipping line: " + e.getMessage());
+			}
+		}
+		return count;
+	}
+
+	private void fireChanged(Item oldItem, Item newItem) {
+		for (Listener listener : new ArrayList<>(this.listeners)) {
+			listener.itemChanged(oldItem, newItem);
+		}
+	}
+
+	@Override
+	public Iterator<Item> iterator() {
+		Iterator<Item> iterator = this.itemsByName.values().iterator();
+		int expectedModificationCount = this.modificationCount;
+		return new Iterator<Item>() {
+			@Override
+			public boolean hasNext() {
+				checkModification();
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Item next() {
+				checkModification();
+				return iterator.next();
+			}
+
+			private void checkModification() {
+				if (Inventory.this.modificationCount != expectedModificationCount)
+					throw new IllegalStateException("Inventory modified during iteration");
+			}
+		};
+	}
+
+	public int size() {
+		return this.itemsByName.size();
+	}
+}
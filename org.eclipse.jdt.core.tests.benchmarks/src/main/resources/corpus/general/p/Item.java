@@ -0,0 +1,53 @@
+package p;
+
+import java.util.Objects;
+
+/**
+ * An item of the inventory.
+ */
+public record Item(String name, Category category, long priceInCents, int quantity) implements Comparable<Item> {
+
+	public Item {
+		Objects.requireNonNull(name);
+		Objects.requireNonNull(category);
+		if (priceInCents < 0)
+			throw new IllegalArgumentException("Negative price for " + name);
+		if (quantity < 0)
+			throw new IllegalArgumentException("Negative quantity for " + name);
+	}
+
+	public long totalInCents() {
+		return this.priceInCents * this.quantity;
+	}
+
+	public long taxInCents() {
+		return Math.round(totalInCents() * this.category.getTaxRate());
+	}
+
+	public Item withQuantity(int newQuantity) {
+		return new Item(this.name, this.category, this.priceInCents, newQuantity);
+	}
+
+	@Override
+	public int compareTo(Item other) {
+		int result = this.category.compareTo(other.category);
+		if (result != 0)
+			return result;
+		result = this.name.compareTo(other.name);
+		if (result != 0)
+			return result;
+		return Long.compare(this.priceInCents, other.priceInCents);
+	}
+
+	public static Item parse(String line) {
+		String[] fields = line.split(",");
+		if (fields.length != 4)
+			throw new IllegalArgumentException("Malformed item: " + line);
+		try {
+			return new Item(fields[0].trim(), Category.parse(fields[1]), Long.parseLong(fields[2].trim()),
+					Integer.parseInt(fields[3].trim()));
+		} catch (NumberFormatException e) {
+			throw new IllegalArgumentException("Malformed number in: " + line, e);
+		}
+	}
+}
@@ -0,0 +1,130 @@
+package p;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes reports of an inventory, as text or as CSV.
+ */
+public class ReportWriter {
+
+	public enum Format {
+		TEXT, CSV, HTML
+	}
+
+	private final Format format;
+	private final int width;
+
+	public ReportWriter(Format format, int width) {
+		this.format = format;
+		this.width = width;
+	}
+
+	public void write(Inventory inventory, Writer writer) throws IOException {
+		writeHeader(writer);
+		for (Category category : Category.values()) {
+			List<Item> items = inventory.getItems(category);
+			if (items.isEmpty())
+				continue;
+			writeCategory(category, items, writer);
+		}
+		writeTotals(inventory.getTotalsInCents(), writer);
+		writeFooter(writer);
+		writer.flush();
+	}
+
+	private void writeHeader(Writer writer) throws IOException {
+		switch (this.format) {
+			case TEXT -> writer.write(pad("Name", this.width) + pad("Quantity", 10) + pad("Price", 12) + '\n');
+			case CSV -> writer.write("name,category,quantity,price\n");
+			case HTML -> writer.write("<table>\n<tr><th>Name</th><th>Quantity</th><th>Price</th></tr>\n");
+		}
+	}
+
+	private void writeCategory(Category category, List<Item> items, Writer writer) throws IOException {
+		if (this.format == Format.TEXT) {
+			writer.write("== " + category.getLabel() + " ==\n");
+		} else if (this.format == Format.HTML) {
+			writer.write("<tr><th colspan=\"3\">" + escape(category.getLabel()) + "</th></tr>\n");
+		}
+		for (Item item : items) {
+			StringBuilder line = new StringBuilder();
+			switch (this.format) {
+				case TEXT:
+					line.append(pad(item.name(), this.width))
+						.append(pad(Integer.toString(item.quantity()), 10))
+						.append(pad(formatPrice(item.priceInCents()), 12));
+					break;
+				case CSV:
+					line.append(quote(item.name())).append(',')
+						.append(category.name()).append(',')
+						.append(item.quantity()).append(',')
+						.append(formatPrice(item.priceInCents()));
+					break;
+				case HTML:
+					line.append("<tr><td>").append(escape(item.name())).append("</td><td>")
+						.append(item.quantity()).append("</td><td>")
+						.append(formatPrice(item.priceInCents())).append("</td></tr>");
+					break;
+			}
+			writer.write(line.append('\n').toString());
+		}
+	}
+
+	private void writeTotals(Map<Category, Long> totals, Writer writer) throws IOException {
+		long total = 0;
+		for (Long value : totals.values()) {
+			total += value.longValue();
+		}
+		String text = "Total: " + formatPrice(total);
+		switch (this.format) {
+			case TEXT -> writer.write(text + '\n');
+			case CSV -> writer.write("# " + text + '\n');
+			case HTML -> writer.write("<tr><td colspan=\"3\">" + escape(text) + "</td></tr>\n");
+		}
+	}
+
+	private void writeFooter(Writer writer) throws IOException {
+		if (this.format == Format.HTML)
+			writer.write("</table>\n");
+	}
+
+	static String formatPrice(long cents) {
+		String sign = cents < 0 ? "-" : "";
+		long absolute = Math.abs(cents);
+		long fraction = absolute % 100;
+		return sign + (absolute / 100) + '.' + (fraction < 10 ? "0" : "") + fraction;
+	}
+
+	static String pad(String text, int width) {
+		if (text.length() >= width)
+			return text.substring(0, width - 1) + ' ';
+		StringBuilder builder = new StringBuilder(width).append(text);
+		while (builder.length() < width)
+			builder.append(' ');
+		return builder.toString();
+	}
+
+	static String quote(String text) {
+		if (text.indexOf(',') < 0 && text.indexOf('"') < 0)
+			return text;
+		return '"' + text.replace("\"", "\"\"") + '"';
+	}
+
+	static String escape(String text) {
+		StringBuilder builder = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+				case '<' -> builder.append("&lt;");
+				case '>' -> builder.append("&gt;");
+				case '&' -> builder.append("&amp;");
+				case '"' -> builder.append("&quot;");
+				default -> builder.append(c);
+			}
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,132 @@
+package p;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Self-typed builders and nested parameterized types, whose resolution creates and looks up many parameterized types.
+ */
+public class Builders {
+
+	public abstract static class Builder<T, B extends Builder<T, B>> {
+		protected final Map<String, List<Optional<T>>> values = new LinkedHashMap<>();
+
+		@SuppressWarnings("unchecked")
+		protected B self() {
+			return (B) this;
+		}
+
+		public B with(String key, T value) {
+			this.values.computeIfAbsent(key, k -> new ArrayList<>()).add(Optional.ofNullable(value));
+			return self();
+		}
+
+		public B withAll(Map<String, ? extends List<? extends T>> entries) {
+			for (Map.Entry<String, ? extends List<? extends T>> entry : entries.entrySet()) {
+				for (T value : entry.getValue()) {
+					with(entry.getKey(), value);
+				}
+			}
+			return self();
+		}
+
+		public abstract Node<T> build();
+	}
+
+	public static class Node<T> {
+		final Map<String, List<Optional<T>>> attributes;
+		final List<Node<T>> children;
+
+		Node(Map<String, List<Optional<T>>> attributes, List<Node<T>> children) {
+			this.attributes = attributes;
+			this.children = children;
+		}
+
+		public <R> Node<R> map(Function<? super T, ? extends R> mapper) {
+			Map<String, List<Optional<R>>> mapped = new LinkedHashMap<>();
+			for (Map.Entry<String, List<Optional<T>>> entry : this.attributes.entrySet()) {
+				List<Optional<R>> values = new ArrayList<>();
+				for (Optional<T> value : entry.getValue()) {
+					values.add(value.map(mapper));
+				}
+				mapped.put(entry.getKey(), values);
+			}
+			List<Node<R>> mappedChildren = new ArrayList<>();
+			for (Node<T> child : this.children) {
+				mappedChildren.add(child.map(mapper));
+			}
+			return new Node<>(mapped, mappedChildren);
+		}
+	}
+
+	public static class NodeBuilder<T> extends Builder<T, NodeBuilder<T>> {
+		private final List<Supplier<Node<T>>> children = new ArrayList<>();
+
+		public NodeBuilder<T> child(Supplier<Node<T>> child) {
+			this.children.add(child);
+			return this;
+		}
+
+		public NodeBuilder<T> child(NodeBuilder<T> child) {
+			return child(child::build);
+		}
+
+		@Override
+		public Node<T> build() {
+			List<Node<T>> built = new ArrayList<>();
+			for (Supplier<Node<T>> child : this.children) {
+				built.add(child.get());
+			}
+			return new Node<>(Collections.unmodifiableMap(this.values), built);
+		}
+	}
+
+	public static class Table<R, C, V> {
+		private final Map<R, Map<C, V>> rows = new LinkedHashMap<>();
+
+		public Table<R, C, V> put(R row, C column, V value) {
+			this.rows.computeIfAbsent(row, r -> new LinkedHashMap<>()).put(column, value);
+			return this;
+		}
+
+		public Optional<V> get(R row, C column) {
+			return Optional.ofNullable(this.rows.get(row)).map(columns -> columns.get(column));
+		}
+
+		public <W> Table<R, C, W> transform(Function<? super V, ? extends W> function) {
+			Table<R, C, W> result = new Table<>();
+			this.rows.forEach((row, columns) -> columns.forEach((column, value) -> result.put(row, column, function.apply(value))));
+			return result;
+		}
+
+		public Table<C, R, V> transpose() {
+			Table<C, R, V> result = new Table<>();
+			this.rows.forEach((row, columns) -> columns.forEach((column, value) -> result.put(column, row, value)));
+			return result;
+		}
+	}
+
+	public static Node<String> document() {
+		return new NodeBuilder<Integer>()
+				.with("version", 1)
+				.withAll(Map.of("sizes", List.of(1, 2, 3)))
+				.child(new NodeBuilder<Integer>().with("depth", 1).child(new NodeBuilder<Integer>().with("depth", 2)))
+				.child(() -> new NodeBuilder<Integer>().with("lazy", 0).build())
+				.build()
+				.map(String::valueOf);
+	}
+
+	public static Table<String, Integer, List<Map<String, Optional<Double>>>> table() {
+		Table<Integer, String, List<Map<String, Optional<Double>>>> table = new Table<>();
+		for (int i = 0; i < 3; i++) {
+			table.put(i, "row" + i, List.of(Map.of("value", Optional.of(i * 1.5))));
+		}
+		return table.transpose();
+	}
+}
@@ -0,0 +1,69 @@
+package p;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Stream pipelines over nested parameterized types, with wildcards and generic collectors.
+ */
+public class Streams {
+
+	public record Event<K extends Comparable<K>, V>(K key, List<V> values, Optional<Map<String, V>> details) {
+	}
+
+	public static <K extends Comparable<K>, V> Map<K, List<V>> flatten(List<Event<K, V>> events) {
+		return events.stream()
+				.collect(Collectors.groupingBy(Event::key, TreeMap::new,
+						Collectors.flatMapping(event -> event.values().stream(), Collectors.toList())));
+	}
+
+	public static <K extends Comparable<K>, V> Map<K, Set<String>> detailKeys(List<? extends Event<K, ? extends V>> events) {
+		return events.stream()
+				.filter(event -> event.details().isPresent())
+				.collect(Collectors.toMap(Event::key,
+						event -> event.details().map(Map::keySet).orElse(Set.of()),
+						(a, b) -> Stream.concat(a.stream(), b.stream()).collect(Collectors.toSet())));
+	}
+
+	public static <T, K, V> Collector<T, ?, Map<K, Optional<V>>> maxBy(Function<? super T, ? extends K> key,
+			Function<? super T, ? extends V> value, Comparator<? super V> comparator) {
+		return Collectors.groupingBy(key,
+				Collectors.mapping(value, Collectors.maxBy(comparator)));
+	}
+
+	public static <A, B, C> Stream<Entry<A, C>> join(Map<A, B> left, Map<B, C> right) {
+		return left.entrySet().stream()
+				.filter(entry -> right.containsKey(entry.getValue()))
+				.map(entry -> new SimpleEntry<>(entry.getKey(), right.get(entry.getValue())));
+	}
+
+	public static <T, R> List<R> zip(List<T> first, List<T> second, BiFunction<? super T, ? super T, ? extends R> function) {
+		return Stream.iterate(0, i -> i < Math.min(first.size(), second.size()), i -> i + 1)
+				.<R>map(i -> function.apply(first.get(i), second.get(i)))
+				.collect(Collectors.toList());
+	}
+
+	public static Map<String, Optional<Integer>> summary(List<Event<String, Integer>> events) {
+		Map<String, List<Integer>> flat = flatten(events);
+		Map<String, Set<String>> keys = detailKeys(events);
+		List<Entry<String, Integer>> sizes = join(
+				flat.entrySet().stream().collect(Collectors.toMap(Entry::getKey, entry -> entry.getValue().size())),
+				keys.values().stream().flatMap(Set::stream).distinct()
+						.collect(Collectors.toMap(String::length, Function.identity(), (a, b) -> a)))
+				.map(entry -> new SimpleEntry<>(entry.getKey(), entry.getValue().length()))
+				.collect(Collectors.toList());
+		return Stream.concat(sizes.stream(), zip(sizes, sizes, (a, b) -> new SimpleEntry<>(a.getKey() + b.getKey(), a.getValue() + b.getValue())).stream())
+				.collect(maxBy(Entry::getKey, Entry::getValue, Comparator.<Integer>naturalOrder()));
+	}
+}
@@ -0,0 +1,124 @@
+package p;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Generic graph algorithms, with bounded type variables and wildcards.
+ */
+public class Graphs {
+
+	public interface Graph<N> {
+		Set<N> nodes();
+
+		Set<N> successors(N node);
+
+		default <M> Graph<M> map(Function<? super N, ? extends M> mapper) {
+			Map<M, Set<M>> edges = new HashMap<>();
+			for (N node : nodes()) {
+				M mapped = mapper.apply(node);
+				edges.computeIfAbsent(mapped, m -> new HashSet<>())
+						.addAll(successors(node).stream().map(mapper).collect(Collectors.toSet()));
+			}
+			return of(edges);
+		}
+
+		static <N> Graph<N> of(Map<N, ? extends Set<N>> edges) {
+			return new Graph<N>() {
+				@Override
+				public Set<N> nodes() {
+					return edges.keySet();
+				}
+
+				@Override
+				public Set<N> successors(N node) {
+					Set<N> successors = edges.get(node);
+					return successors == null ? Collections.emptySet() : successors;
+				}
+			};
+		}
+	}
+
+	public record Edge<N, W extends Comparable<? super W>>(N from, N to, W weight) {
+	}
+
+	public static <N> List<N> breadthFirst(Graph<N> graph, N start, Predicate<? super N> filter) {
+		List<N> result = new ArrayList<>();
+		Set<N> visited = new HashSet<>(Collections.singleton(start));
+		Deque<N> queue = new ArrayDeque<>(List.of(start));
+		while (!queue.isEmpty()) {
+			N node = queue.removeFirst();
+			if (filter.test(node))
+				result.add(node);
+			graph.successors(node).stream().filter(visited::add).forEach(queue::addLast);
+		}
+		return result;
+	}
+
+	public static <N> Optional<List<N>> topologicalOrder(Graph<N> graph) {
+		Map<N, Integer> inDegrees = graph.nodes().stream()
+				.collect(Collectors.toMap(Function.identity(), n -> 0, Integer::sum, LinkedHashMap::new));
+		graph.nodes().forEach(n -> graph.successors(n).forEach(s -> inDegrees.merge(s, 1, Integer::sum)));
+		Deque<N> ready = inDegrees.entrySet().stream()
+				.filter(e -> e.getValue() == 0)
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toCollection(ArrayDeque::new));
+		List<N> order = new ArrayList<>();
+		while (!ready.isEmpty()) {
+			N node = ready.removeFirst();
+			order.add(node);
+			for (N successor : graph.successors(node)) {
+				if (inDegrees.merge(successor, -1, Integer::sum) == 0)
+					ready.addLast(successor);
+			}
+		}
+		return order.size() == inDegrees.size() ? Optional.of(order) : Optional.empty();
+	}
+
+	public static <N, W extends Comparable<? super W>> Map<N, W> shortestPaths(List<Edge<N, W>> edges, N start, W zero,
+			BiFunction<? super W, ? super W, ? extends W> plus) {
+		Map<N, List<Edge<N, W>>> outgoing = edges.stream().collect(Collectors.groupingBy(Edge::from));
+		Map<N, W> distances = new HashMap<>();
+		distances.put(start, zero);
+		java.util.PriorityQueue<Map.Entry<N, W>> queue = new java.util.PriorityQueue<>(Map.Entry.comparingByValue());
+		queue.add(Map.entry(start, zero));
+		while (!queue.isEmpty()) {
+			Map.Entry<N, W> current = queue.poll();
+			if (current.getValue().compareTo(distances.get(current.getKey())) > 0)
+				continue;
+			for (Edge<N, W> edge : outgoing.getOrDefault(current.getKey(), List.of())) {
+				W distance = plus.apply(current.getValue(), edge.weight());
+				W known = distances.get(edge.to());
+				if (known == null || distance.compareTo(known) < 0) {
+					distances.put(edge.to(), distance);
+					queue.add(Map.entry(edge.to(), distance));
+				}
+			}
+		}
+		return distances;
+	}
+
+	public static Map<String, Integer> sample() {
+		List<Edge<String, Integer>> edges = List.of(
+				new Edge<>("a", "b", 4), new Edge<>("a", "c", 1), new Edge<>("c", "b", 2), new Edge<>("b", "d", 5));
+		Graph<String> graph = Graph.of(edges.stream()
+				.collect(Collectors.groupingBy(Edge::from, Collectors.mapping(Edge::to, Collectors.toSet()))));
+		Graph<Integer> lengths = graph.map(String::length);
+		System.out.println(breadthFirst(lengths, 1, n -> n > 0));
+		System.out.println(topologicalOrder(graph).map(List::size).orElse(-1));
+		return shortestPaths(edges, "a", 0, Integer::sum);
+	}
+}
@@ -0,0 +1,130 @@
+package p;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Stream pipelines, whose generic method invocations are inferred from nested lambdas and method references.
+ */
+public class Pipelines {
+
+	public record Person(String name, String city, int age, List<String> skills) {
+	}
+
+	public record Pair<A, B>(A first, B second) {
+		public static <A, B> Pair<A, B> of(A first, B second) {
+			return new Pair<>(first, second);
+		}
+
+		public <C> Pair<A, C> withSecond(Function<? super B, ? extends C> mapper) {
+			return of(this.first, mapper.apply(this.second));
+		}
+	}
+
+	public static Map<String, List<String>> namesByCity(List<Person> persons) {
+		return persons.stream()
+				.collect(Collectors.groupingBy(Person::city, TreeMap::new,
+						Collectors.mapping(Person::name, Collectors.toList())));
+	}
+
+	public static Map<String, Double> averageAgeByCity(List<Person> persons) {
+		return persons.stream()
+				.collect(Collectors.groupingBy(Person::city, Collectors.averagingInt(Person::age)));
+	}
+
+	public static Map<Boolean, Long> countAdults(List<Person> persons) {
+		return persons.stream()
+				.collect(Collectors.partitioningBy(p -> p.age() >= 18, Collectors.counting()));
+	}
+
+	public static Optional<Person> oldestWithSkill(List<Person> persons, String skill) {
+		return persons.stream()
+				.filter(p -> p.skills().contains(skill))
+				.max(Comparator.comparingInt(Person::age).thenComparing(Person::name, Comparator.reverseOrder()));
+	}
+
+	public static Map<String, Set<String>> skillsByCity(List<Person> persons) {
+		return persons.stream()
+				.collect(Collectors.groupingBy(Person::city,
+						Collectors.flatMapping(p -> p.skills().stream(), Collectors.toCollection(java.util.TreeSet::new))));
+	}
+
+	public static List<Pair<String, Integer>> skillCounts(List<Person> persons) {
+		return persons.stream()
+				.flatMap(p -> p.skills().stream())
+				.collect(Collectors.toMap(Function.identity(), s -> 1, Integer::sum))
+				.entrySet().stream()
+				.map(e -> Pair.of(e.getKey(), e.getValue()))
+				.sorted(Comparator.comparing((Pair<String, Integer> p) -> p.second()).reversed()
+						.thenComparing(Pair::first))
+				.collect(Collectors.toList());
+	}
+
+	public static <T, K, V> Map<K, V> index(Collection<? extends T> values, Function<? super T, ? extends K> key,
+			Function<? super T, ? extends V> value, BinaryOperator<V> merge, Supplier<? extends Map<K, V>> factory) {
+		return values.stream().collect(Collectors.toMap(key, value, merge, factory));
+	}
+
+	public static Map<String, Integer> youngestByName(List<Person> persons) {
+		return index(persons, Person::name, Person::age, Math::min, TreeMap::new);
+	}
+
+	public static <T> Stream<List<T>> windows(List<T> list, int size) {
+		return IntStream.rangeClosed(0, list.size() - size)
+				.mapToObj(start -> list.subList(start, start + size));
+	}
+
+	public static List<Double> movingAverages(List<Integer> values, int size) {
+		return windows(values, size)
+				.map(window -> window.stream().mapToInt(Integer::intValue).average().orElse(0))
+				.collect(Collectors.toList());
+	}
+
+	public static <T, R> List<R> mapAll(List<? extends T> values, Function<? super T, ? extends R> mapper) {
+		return values.stream().<R>map(mapper).collect(Collectors.toList());
+	}
+
+	public static List<Pair<String, List<Integer>>> nested(List<Person> persons) {
+		return mapAll(persons, p -> Pair.of(p.name(), p.skills()))
+				.stream()
+				.map(pair -> pair.withSecond(skills -> mapAll(skills, String::length)))
+				.filter(pair -> !pair.second().isEmpty())
+				.collect(Collectors.toList());
+	}
+
+	public static String describe(List<Person> persons) {
+		return persons.stream()
+				.sorted(Comparator.comparing(Person::city).thenComparing(Person::age, Comparator.reverseOrder()))
+				.map(p -> p.name() + " (" + p.age() + ")")
+				.collect(Collectors.joining(", ", "[", "]"));
+	}
+
+	public static Map<String, Optional<Person>> oldestByCity(List<Person> persons) {
+		return persons.stream()
+				.collect(Collectors.groupingBy(Person::city, Collectors.maxBy(Comparator.comparingInt(Person::age))));
+	}
+
+	public static <T extends Comparable<? super T>> List<T> mergeSorted(List<? extends T> first, List<? extends T> second) {
+		return Stream.concat(first.stream(), second.stream()).sorted().collect(Collectors.toList());
+	}
+
+	public static List<String> sample() {
+		List<Person> persons = Arrays.asList(
+				new Person("Ada", "London", 36, List.of("math", "programming")),
+				new Person("Alan", "Manchester", 41, List.of("math", "cryptography")),
+				new Person("Grace", "New York", 85, List.of("programming", "compilers")));
+		return mergeSorted(mapAll(persons, Person::name), List.of(describe(persons)));
+	}
+}
@@ -19,10 +19,18 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 import junit.framework.Test;
 import org.eclipse.core.resources.IProject;
@@ -98,6 +106,324 @@ public class StateTest extends BuilderTests {
 	}
 
 
+	public void testWriteAndReadStateWithReferencesFile() throws JavaModelException, Exception {
+		IPath projectPath = env.addProject("References"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "a", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class B extends A {\n" +
+			"}" //$NON-NLS-1$
+		);
+		fullBuild();
+
+		IProject project = env.getProject(projectPath);
+		File referencesFile = File.createTempFile("references", ".dat");
+		try {
+			State savedState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+			State readState = writeAndReadState(project, savedState, referencesFile);
+			assertEqualLookupTables(savedState.getReferences(), readState.getReferences());
+			assertEquals(readState, savedState);
+
+			// unchanged collections are not written again
+			long length = referencesFile.length();
+			writeAndReadState(project, savedState, referencesFile);
+			assertEquals(length, referencesFile.length());
+
+			env.addClass(projectPath, "a", "B", //$NON-NLS-1$ //$NON-NLS-2$
+				"package a;\n" +
+				"public class B {\n" +
+				"	A a;\n" +
+				"}" //$NON-NLS-1$
+			);
+			env.addClass(projectPath, "a", "C", //$NON-NLS-1$ //$NON-NLS-2$
+				"package a;\n" +
+				"public class C {\n" +
+				"}" //$NON-NLS-1$
+			);
+			incrementalBuild();
+			State newState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+			readState = writeAndReadState(project, newState, referencesFile);
+			assertTrue("should append the changed collections", referencesFile.length() > length);
+			assertEqualLookupTables(newState.getReferences(), readState.getReferences());
+			assertEquals(readState, newState);
+		} finally {
+			referencesFile.delete();
+		}
+	}
+
+	/*
+	 * The state of an incremental build does not decode the reference collections of the previous state that it does
+	 * not need.
+	 */
+	public void testCopyStateKeepsReferencesUndecoded() throws JavaModelException, Exception {
+		IPath projectPath = env.addProject("CopyReferences"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "a", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class B extends A {\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "a", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class C {\n" +
+			"	int i;\n" +
+			"}" //$NON-NLS-1$
+		);
+		fullBuild();
+
+		IProject project = env.getProject(projectPath);
+		File referencesFile = File.createTempFile("references", ".dat");
+		try {
+			State savedState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+			State readState = writeAndReadState(project, savedState, referencesFile);
+			JavaModelManager.getJavaModelManager().setLastBuiltState(project, readState);
+
+			env.addClass(projectPath, "a", "C", //$NON-NLS-1$ //$NON-NLS-2$
+				"package a;\n" +
+				"public class C {\n" +
+				"	int i = 1;\n" +
+				"}" //$NON-NLS-1$
+			);
+			incrementalBuild();
+			State newState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+			assertNotSame(readState, newState);
+			Map<String, Object> values = getUndecodedValues(newState.getReferences());
+			for (Map.Entry<String, Object> entry : values.entrySet()) {
+				String typeLocator = entry.getKey();
+				if (typeLocator.endsWith("A.java") || typeLocator.endsWith("B.java")) //$NON-NLS-1$ //$NON-NLS-2$
+					assertTrue("should not decode " + typeLocator, entry.getValue() instanceof Integer);
+				else
+					assertTrue("should record " + typeLocator, entry.getValue() instanceof ReferenceCollection);
+			}
+			assertEqualLookupTables(savedState.getReferences(), newState.getReferences());
+		} finally {
+			referencesFile.delete();
+		}
+	}
+
+	/*
+	 * A structural change looks up the affected source files in the index of the references without decoding the
+	 * reference collections of the unaffected ones, and still recompiles the affected ones.
+	 */
+	public void testStructuralChangeKeepsReferencesUndecoded() throws JavaModelException, Exception {
+		IPath projectPath = env.addProject("StructuralChange"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class A {\n" +
+			"	public void foo() {}\n" +
+			"}" //$NON-NLS-1$
+		);
+		IPath b = env.addClass(projectPath, "a", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class B {\n" +
+			"	void test(A a) { a.foo(); }\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "a", "C", //$NON-NLS-1$ //$NON-NLS-2$
+			"package a;\n" +
+			"public class C {\n" +
+			"	int i;\n" +
+			"}" //$NON-NLS-1$
+		);
+		fullBuild();
+		expectingNoProblems();
+
+		IProject project = env.getProject(projectPath);
+		File referencesFile = File.createTempFile("references", ".dat");
+		try {
+			State savedState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+			State readState = writeAndReadState(project, savedState, referencesFile);
+			JavaModelManager.getJavaModelManager().setLastBuiltState(project, readState);
+
+			// removing A.foo() is a structural change, which B depends on
+			IPath a = env.addClass(projectPath, "a", "A", //$NON-NLS-1$ //$NON-NLS-2$
+				"package a;\n" +
+				"public class A {\n" +
+				"}" //$NON-NLS-1$
+			);
+			incrementalBuild();
+			expectingNoProblemsFor(a);
+			Problem[] problems = env.getProblemsFor(b);
+			assertEquals("B should be recompiled", 1, problems.length);
+			assertEquals("Unexpected problem", "The method foo() is undefined for the type A", problems[0].getMessage()); //$NON-NLS-1$
+
+			State newState = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+			assertNotSame(readState, newState);
+			Map<String, Object> values = getUndecodedValues(newState.getReferences());
+			for (Map.Entry<String, Object> entry : values.entrySet()) {
+				String typeLocator = entry.getKey();
+				if (typeLocator.endsWith("C.java")) //$NON-NLS-1$
+					assertTrue("should not decode " + typeLocator, entry.getValue() instanceof Integer);
+				else
+					assertTrue("should record " + typeLocator, entry.getValue() instanceof ReferenceCollection);
+			}
+		} finally {
+			referencesFile.delete();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	Map<String, Object> getUndecodedValues(Map<String, ReferenceCollection> references) {
+		try {
+			Field fld = references.getClass().getDeclaredField("values");
+			fld.setAccessible(true);
+			return (Map<String, Object>) fld.get(references);
+		} catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/*
+	 * The index of the references answers the same affected type locators as testing every reference collection, while
+	 * collections are recorded, removed, extended with dependencies and copied into the state of the next build.
+	 */
+	public void testAffectedLocators() throws JavaModelException, Exception {
+		IPath projectPath = env.addProject("AffectedLocators"); //$NON-NLS-1$
+		env.addExternalJars(projectPath, Util.getJavaClassLibs());
+		env.addClass(projectPath, "p", "A", //$NON-NLS-1$ //$NON-NLS-2$
+			"package p;\n" +
+			"public class A {\n" +
+			"}" //$NON-NLS-1$
+		);
+		env.addClass(projectPath, "q", "B", //$NON-NLS-1$ //$NON-NLS-2$
+			"package q;\n" +
+			"public class B extends p.A {\n" +
+			"}" //$NON-NLS-1$
+		);
+		fullBuild();
+
+		IProject project = env.getProject(projectPath);
+		State state = (State) JavaModelManager.getJavaModelManager().getPerProjectInfoCheckExistence(project).savedState;
+		state = copyState(state);
+		String[] packages = { "p", "q", "r", "p/s" };
+		String[] types = { "A", "B", "C", "D", "E", "F" };
+		Random random = new Random(42);
+		List<String> locators = new ArrayList<>(state.getReferences().keySet());
+		for (int i = 0; i < 300; i++) {
+			switch (random.nextInt(5)) {
+				case 0, 1 : {
+					String pkg = packages[random.nextInt(packages.length)];
+					String type = types[random.nextInt(types.length)];
+					String typeLocator = "src/" + pkg + "/" + type + ".java";
+					Set<String> qualifiedNames = new HashSet<>();
+					Set<String> simpleNames = new HashSet<>();
+					Set<String> rootNames = new HashSet<>();
+					for (int j = random.nextInt(4); --j >= 0;) {
+						String referencedPackage = packages[random.nextInt(packages.length)];
+						String referencedType = types[random.nextInt(types.length)];
+						qualifiedNames.add(referencedPackage);
+						qualifiedNames.add(referencedPackage + "/" + referencedType);
+						simpleNames.add(referencedType);
+						rootNames.add(referencedPackage.substring(0, 1));
+					}
+					ArrayList<char[]> typeNames = new ArrayList<>();
+					typeNames.add(type.toCharArray());
+					if (random.nextBoolean())
+						typeNames.add((type + "Helper").toCharArray());
+					invoke(state, "record",
+							new Class<?>[] { String.class, char[][][].class, char[][].class, char[][].class, char[].class, ArrayList.class },
+							typeLocator, ReferenceCollection.internQualifiedNames(qualifiedNames),
+							ReferenceCollection.internSimpleNames(simpleNames, true),
+							ReferenceCollection.internSimpleNames(rootNames, false), type.toCharArray(), typeNames);
+					if (!locators.contains(typeLocator))
+						locators.add(typeLocator);
+					break;
+				}
+				case 2 :
+					if (!locators.isEmpty()) {
+						String typeLocator = locators.remove(random.nextInt(locators.size()));
+						invoke(state, "removeLocator", new Class<?>[] { String.class, int.class }, typeLocator, 0);
+					}
+					break;
+				case 3 :
+					if (!locators.isEmpty()) {
+						String typeLocator = locators.get(random.nextInt(locators.size()));
+						String dependency = packages[random.nextInt(packages.length)].replace('/', '.') + "." + types[random.nextInt(types.length)];
+						invoke(state, "addDependencies", new Class<?>[] { String.class, String[].class }, typeLocator, new String[] { dependency });
+					}
+					break;
+				default :
+					state = copyState(state);
+			}
+			Set<String> qualifiedNames = new HashSet<>();
+			Set<String> simpleNames = new HashSet<>();
+			Set<String> rootNames = new HashSet<>();
+			for (int j = 1 + random.nextInt(2); --j >= 0;) {
+				String changedPackage = packages[random.nextInt(packages.length)];
+				String changedType = types[random.nextInt(types.length)];
+				qualifiedNames.add(changedPackage + "/" + changedType);
+				simpleNames.add(changedType);
+				rootNames.add(changedPackage.substring(0, 1));
+			}
+			char[][][] internedQualifiedNames = random.nextInt(8) == 0 ? null : ReferenceCollection.internQualifiedNames(qualifiedNames);
+			char[][] internedSimpleNames = random.nextInt(8) == 0 ? null : ReferenceCollection.internSimpleNames(simpleNames, true);
+			char[][] internedRootNames = random.nextInt(4) == 0 ? null : ReferenceCollection.internSimpleNames(rootNames, false);
+			assertEquals("Unexpected affected locators at step " + i,
+					getAffectedLocatorsByScan(state, internedQualifiedNames, internedSimpleNames, internedRootNames),
+					getAffectedLocators(state, internedQualifiedNames, internedSimpleNames, internedRootNames));
+		}
+	}
+
+	private static List<String> getAffectedLocatorsByScan(State state, char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+		List<String> result = new ArrayList<>();
+		for (Map.Entry<String, ReferenceCollection> entry : state.getReferences().entrySet())
+			if (entry.getValue().includes(qualifiedNames, simpleNames, rootNames))
+				result.add(entry.getKey());
+		Collections.sort(result);
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<String> getAffectedLocators(State state, char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+		List<String> result = new ArrayList<>((List<String>) invoke(state, "getAffectedLocators",
+				new Class<?>[] { char[][][].class, char[][].class, char[][].class }, qualifiedNames, simpleNames, rootNames));
+		Collections.sort(result);
+		return result;
+	}
+
+	/*
+	 * Answers the state of the next build, as the incremental builder copies it.
+	 */
+	private static State copyState(State lastState) {
+		try {
+			Constructor<State> constructor = State.class.getDeclaredConstructor();
+			constructor.setAccessible(true);
+			State state = constructor.newInstance();
+			invoke(state, "copyFrom", new Class<?>[] { State.class }, lastState);
+			return state;
+		} catch (ReflectiveOperationException | SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private static Object invoke(State state, String methodName, Class<?>[] parameterTypes, Object... arguments) {
+		try {
+			Method method = State.class.getDeclaredMethod(methodName, parameterTypes);
+			method.setAccessible(true);
+			return method.invoke(state, arguments);
+		} catch (ReflectiveOperationException | SecurityException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private State writeAndReadState(IProject project, State state, File referencesFile) throws IOException, CoreException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		JavaBuilder.writeState(state, new DataOutputStream(outputStream), referencesFile);
+		byte[] bytes = outputStream.toByteArray();
+		return JavaBuilder.readState(project, new DataInputStream(new ByteArrayInputStream(bytes)), referencesFile);
+	}
+
 	public void testBug563546() throws JavaModelException, Exception {
 		IPath project = env.addProject("Bug563546"); //$NON-NLS-1$
 		env.addExternalJars(project, Util.getJavaClassLibs());
@@ -37,6 +37,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.compiler.regression;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -44,7 +45,14 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
 import java.text.MessageFormat;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import javax.lang.model.SourceVersion;
@@ -56,10 +64,12 @@ import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.CompilerDaemon;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
 import org.eclipse.jdt.internal.compiler.batch.Main;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
@@ -771,6 +781,12 @@ public void test012(){
         "                       to support annotation-based null analysis.\n" +
         "                       The special name CLASSPATH will cause lookup of\n" +
         "                       external annotations from the classpath and sourcepath.\n" +
+        "    -daemon [-port <n> [-tokenFile <file>]]\n" +
+        "                       keep compiling the command lines read from the standard\n" +
+        "                       input (or from connections to the local port <n>, which\n" +
+        "                       must first send the token written to <file>),\n" +
+        "                       reusing opened jars and read class files. Must be the\n" +
+        "                       first option\n" +
         " \n" +
         "    -? -help           print this help message\n" +
         "    -v -version        print compiler version\n" +
@@ -13483,4 +13499,381 @@ public void testIssue4768(){
 
 		true);
 }
-}
\ No newline at end of file
+// parsing method bodies ahead on worker threads must report the same problems, in the same order
+// (annotation processing disables parsing ahead)
+public void testParseMethodBodiesAhead() {
+	String setting = System.getProperty("jdt.compiler.parseMethodBodiesAhead");
+	try {
+		System.setProperty("jdt.compiler.parseMethodBodiesAhead", "true");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"""
+				public class X {
+					void foo() { int i = ; new Y().bar(i); }
+				}
+				""",
+				"Y.java",
+				"""
+				public class Y {
+					void bar(int i) { String s = "" return; }
+					static { int j == 0; }
+				}
+				""",
+				"Z.java",
+				"""
+				public class Z {
+					Unknown baz() { return null; }
+					void qux() { int k = 1 }
+				}
+				""",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.8 -proc:none -nowarn -d \"" + OUTPUT_DIR + "\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/X.java (at line 2)\n" +
+			"	void foo() { int i = ; new Y().bar(i); }\n" +
+			"	                     ^\n" +
+			"Syntax error on token \";\", delete this token\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 2)\n" +
+			"	void bar(int i) { String s = \"\" return; }\n" +
+			"	                             ^^\n" +
+			"Syntax error, insert \";\" to complete BlockStatements\n" +
+			"----------\n" +
+			"3. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 3)\n" +
+			"	static { int j == 0; }\n" +
+			"	               ^^\n" +
+			"Syntax error on token \"==\", = expected\n" +
+			"----------\n" +
+			"----------\n" +
+			"4. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 2)\n" +
+			"	Unknown baz() { return null; }\n" +
+			"	^^^^^^^\n" +
+			"Unknown cannot be resolved to a type\n" +
+			"----------\n" +
+			"5. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Z.java (at line 3)\n" +
+			"	void qux() { int k = 1 }\n" +
+			"	                     ^\n" +
+			"Syntax error, insert \";\" to complete BlockStatements\n" +
+			"----------\n" +
+			"5 problems (5 errors)\n",
+			true);
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.parseMethodBodiesAhead");
+		else
+			System.setProperty("jdt.compiler.parseMethodBodiesAhead", setting);
+	}
+}
+// the units after the first one get their method bodies from the worker threads
+public void testParseMethodBodiesAhead2() {
+	String setting = System.getProperty("jdt.compiler.parseMethodBodiesAhead");
+	try {
+		System.setProperty("jdt.compiler.parseMethodBodiesAhead", "true");
+		this.runTest(
+			true,
+			new String[] {
+				"X.java",
+				"""
+				public class X {
+					int foo() { return new Y().bar() + new Z().baz(); }
+				}
+				""",
+				"Y.java",
+				"""
+				public class Y {
+					int bar() { return 1; }
+				}
+				""",
+				"Z.java",
+				"""
+				public class Z {
+					int baz() { return 2; }
+				}
+				""",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Z.java\""
+			+ " -1.8 -proc:none -time:detail -d \"" + OUTPUT_DIR + "\"",
+			new SubstringMatcher("[method bodies parsed ahead: 2 units]"),
+			EMPTY_STRING_MATCHER,
+			true);
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.parseMethodBodiesAhead");
+		else
+			System.setProperty("jdt.compiler.parseMethodBodiesAhead", setting);
+	}
+}
+// the signatures of R and Y, resolved on behalf of X, flag their declarations while their bodies are parsed ahead
+public void testParseMethodBodiesAhead3() {
+	String setting = System.getProperty("jdt.compiler.parseMethodBodiesAhead");
+	try {
+		System.setProperty("jdt.compiler.parseMethodBodiesAhead", "true");
+		this.runNegativeTest(
+			new String[] {
+				"X.java",
+				"""
+				public class X {
+					int foo() { return new R(1, "a").i() + new Y().bar(null).length(); }
+				}
+				""",
+				"R.java",
+				"""
+				public record R(int i, String s) {
+					public R(int i, String s) { this.i = i; this.s = s; int unused = ; }
+				}
+				""",
+				"Y.java",
+				"""
+				import java.lang.annotation.*;
+				public class Y {
+					@Target(ElementType.TYPE_USE) @interface T {}
+					@T String bar(@T String s) { return "" }
+				}
+				""",
+			},
+			"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "R.java\""
+			+ " \"" + OUTPUT_DIR +  File.separator + "Y.java\""
+			+ " -17 -proc:none -nowarn -d \"" + OUTPUT_DIR + "\"",
+			"",
+			"----------\n" +
+			"1. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/R.java (at line 2)\n" +
+			"	public R(int i, String s) { this.i = i; this.s = s; int unused = ; }\n" +
+			"	                                                               ^\n" +
+			"Syntax error on token \"=\", VariableInitializer expected after this token\n" +
+			"----------\n" +
+			"----------\n" +
+			"2. ERROR in ---OUTPUT_DIR_PLACEHOLDER---/Y.java (at line 4)\n" +
+			"	@T String bar(@T String s) { return \"\" }\n" +
+			"	                                    ^^\n" +
+			"Syntax error, insert \";\" to complete BlockStatements\n" +
+			"----------\n" +
+			"2 problems (2 errors)\n",
+			true);
+	} finally {
+		if (setting == null)
+			System.clearProperty("jdt.compiler.parseMethodBodiesAhead");
+		else
+			System.setProperty("jdt.compiler.parseMethodBodiesAhead", setting);
+	}
+}
+// the lambdas ruled out by their void/value shape are not copied: 5 copies instead of 8
+public void testFunctionalExpressionCopies() {
+	this.runTest(
+		true,
+		new String[] {
+			"X.java",
+			"""
+			interface I { void run(); }
+			interface J { int get(); }
+			public class X {
+				static void m(I i) {}
+				static void m(J j) {}
+				void test(Object o) {
+					m(() -> { return 1; });
+					m(() -> { System.out.print(""); });
+					m(() -> 1);
+					m(() -> { if (o == null) return; });
+				}
+			}
+			""",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "X.java\""
+		+ " -1.8 -proc:none -time:detail -d \"" + OUTPUT_DIR + "\"",
+		new SubstringMatcher("[functional expression copies: 5, re-parsed: 5, at most 5 in ---OUTPUT_DIR_PLACEHOLDER---/X.java]"),
+		EMPTY_STRING_MATCHER,
+		true);
+}
+// the lambdas reported because of their shape are not copied, only the last one is
+public void testFunctionalExpressionCopies2() {
+	this.runTest(
+		false,
+		new String[] {
+			"Y.java",
+			"""
+			interface K { int get(); }
+			public class Y {
+				static void n(K k) {}
+				void test() {
+					n(() -> { return; });
+					n(() -> { if (true) return; });
+					n(() -> { return 1; });
+				}
+			}
+			""",
+		},
+		"\"" + OUTPUT_DIR +  File.separator + "Y.java\""
+		+ " -1.8 -proc:none -time:detail -d \"" + OUTPUT_DIR + "\"",
+		new SubstringMatcher("[functional expression copies: 1, re-parsed: 1, at most 1 in ---OUTPUT_DIR_PLACEHOLDER---/Y.java]"),
+		new SubstringMatcher("4 problems (4 errors)"),
+		true);
+}
+public void testClassFileReaderCache() throws IOException {
+	if (ClassFileReaderCache.MAX_SIZE <= 0)
+		return; // cache disabled
+	String libPath = LIB_DIR + File.separator + "cached.jar";
+	String commandLine = "\"" + OUTPUT_DIR +  File.separator + "src/X.java\""
+			+ " -classpath \"" + libPath + "\""
+			+ " -1.8 -nowarn"
+			+ " -d \"" + OUTPUT_DIR + File.separator + "bin\" ";
+	try {
+		Util.createJar(
+				new String[] {
+						"p/L.java",
+						"package p;\n"
+						+ "public class L {\n"
+						+ "	public void foo() {}\n"
+						+ "}\n"
+				},
+				null,
+				libPath,
+				JavaCore.VERSION_1_8);
+		String[] testFiles = new String[] {
+				"src/X.java",
+				"public class X {\n"
+				+ "	void test(p.L l) { l.foo(); }\n"
+				+ "}\n",
+		};
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		long hits = ClassFileReaderCache.getStatistics().hits();
+		this.runConformTest(testFiles, commandLine, "", "", true);
+		assertTrue("Class files of an unchanged jar should be reused", ClassFileReaderCache.getStatistics().hits() > hits);
+
+		// a modified jar must be read again
+		Util.delete(libPath);
+		Util.createJar(
+				new String[] {
+						"p/L.java",
+						"package p;\n"
+						+ "public class L {\n"
+						+ "	public void foo() {}\n"
+						+ "	public void bar() {}\n"
+						+ "}\n"
+				},
+				null,
+				libPath,
+				JavaCore.VERSION_1_8);
+		this.runConformTest(
+				new String[] {
+						"src/X.java",
+						"public class X {\n"
+						+ "	void test(p.L l) { l.foo(); l.bar(); }\n"
+						+ "}\n",
+				},
+				commandLine, "", "", true);
+	} finally {
+		Util.delete(libPath);
+	}
+}
+public void testCompilerDaemon() throws IOException {
+	String libPath = LIB_DIR + File.separator + "daemon.jar";
+	String sourcePath = OUTPUT_DIR + File.separator + "src" + File.separator + "X.java";
+	String commandLine = "\"" + sourcePath + "\""
+			+ " -classpath \"" + libPath + "\""
+			+ " -1.8 -nowarn -d none";
+	CompilerDaemon daemon = new CompilerDaemon();
+	try {
+		Util.createJar(
+				new String[] {
+						"p/L.java",
+						"package p;\n"
+						+ "public class L {\n"
+						+ "	public void foo() {}\n"
+						+ "}\n"
+				},
+				null,
+				libPath,
+				JavaCore.VERSION_1_8);
+		new File(sourcePath).getParentFile().mkdirs();
+		Util.writeToFile(
+				"public class X {\n"
+				+ "	void test(p.L l) { l.foo(); }\n"
+				+ "}\n",
+				sourcePath);
+		StringWriter output = new StringWriter();
+		daemon.serve(new BufferedReader(new StringReader(commandLine + "\n" + commandLine + "\n")), new PrintWriter(output));
+		String[] lines = output.toString().split("\\R");
+		assertEquals("Unexpected output: " + output, 2, lines.length);
+		assertTrue("Unexpected output: " + output, lines[0].startsWith(CompilerDaemon.DONE_PREFIX + "0 time "));
+		assertTrue("Unexpected output: " + output, lines[1].startsWith(CompilerDaemon.DONE_PREFIX + "0 time "));
+
+		// a modified jar must be read again
+		Util.delete(libPath);
+		Util.createJar(
+				new String[] {
+						"p/L.java",
+						"package p;\n"
+						+ "public class L {\n"
+						+ "	public void foo() {}\n"
+						+ "	public void bar() {}\n"
+						+ "}\n"
+				},
+				null,
+				libPath,
+				JavaCore.VERSION_1_8);
+		Util.writeToFile(
+				"public class X {\n"
+				+ "	void test(p.L l) { l.foo(); l.bar(); }\n"
+				+ "}\n",
+				sourcePath);
+		output = new StringWriter();
+		boolean succeeded = daemon.compile(Main.tokenize(commandLine), new PrintWriter(output));
+		assertTrue("Unexpected output: " + output, succeeded);
+	} finally {
+		ClasspathJar.setShareArchives(false);
+		Util.delete(libPath);
+		Util.delete(sourcePath);
+	}
+}
+public void testCompilerDaemonUnauthorized() throws IOException {
+	String sourcePath = OUTPUT_DIR + File.separator + "src" + File.separator + "X.java";
+	String binPath = OUTPUT_DIR + File.separator + "bin";
+	String commandLine = "\"" + sourcePath + "\" -1.8 -nowarn -d \"" + binPath + "\"";
+	File classFile = new File(binPath, "X.class");
+	Path tokenFile = Path.of(OUTPUT_DIR, "daemon.token");
+	CompilerDaemon daemon = new CompilerDaemon();
+	try {
+		new File(sourcePath).getParentFile().mkdirs();
+		Util.writeToFile("public class X {}\n", sourcePath);
+
+		// no token was written yet
+		StringWriter output = new StringWriter();
+		assertFalse(daemon.serveConnection(new BufferedReader(new StringReader(commandLine + "\n")), new PrintWriter(output)));
+		assertEquals("Unexpected output", CompilerDaemon.UNAUTHORIZED, output.toString().trim());
+
+		assertEquals(tokenFile, daemon.writeToken(tokenFile));
+		String token = Files.readString(tokenFile);
+		if (Files.getFileStore(tokenFile).supportsFileAttributeView(PosixFileAttributeView.class))
+			assertEquals("Unexpected permissions", EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE),
+					Files.getPosixFilePermissions(tokenFile));
+
+		// a connection that does not start with the token is neither compiled nor shut down
+		for (String firstLine : new String[] { commandLine, CompilerDaemon.SHUTDOWN_REQUEST, "", token.substring(1), token + "0" }) {
+			output = new StringWriter();
+			boolean served = daemon.serveConnection(new BufferedReader(new StringReader(firstLine + "\n" + commandLine + "\n"
+					+ CompilerDaemon.SHUTDOWN_REQUEST + "\n")), new PrintWriter(output));
+			assertFalse("Served " + firstLine, served);
+			assertEquals("Unexpected output", CompilerDaemon.UNAUTHORIZED, output.toString().trim());
+			assertFalse("Unexpected class file", classFile.exists());
+		}
+
+		output = new StringWriter();
+		assertTrue(daemon.serveConnection(new BufferedReader(new StringReader(token + "\n" + commandLine + "\n")), new PrintWriter(output)));
+		assertTrue("Unexpected output: " + output, output.toString().startsWith(CompilerDaemon.DONE_PREFIX + "0 time "));
+		assertTrue("Missing class file", classFile.exists());
+	} finally {
+		ClasspathJar.setShareArchives(false);
+		Files.deleteIfExists(tokenFile);
+		Util.delete(sourcePath);
+		Util.delete(binPath);
+	}
+}
+}
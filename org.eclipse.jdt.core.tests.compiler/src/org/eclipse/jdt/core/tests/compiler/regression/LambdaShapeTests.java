@@ -3281,6 +3281,63 @@ public void testBug470232_For() {
 			"}\n"
 		});
 }
+// the candidates of the wrong void/value shape are ruled out without resolving a copy of the lambda
+public void testShapePruning_incompatible() {
+	this.runConformTest(
+		new String[] {
+			"X.java",
+			"interface I { void run(); }\n" +
+			"interface J { int get(); }\n" +
+			"public class X {\n" +
+			"	static void m(I i) { System.out.print(\"I\"); }\n" +
+			"	static void m(J j) { System.out.print(\"J\"); }\n" +
+			"	public static void main(String[] args) {\n" +
+			"		m(() -> { return 1; });\n" +
+			"		m(() -> { System.out.print(\"\"); });\n" +
+			"		m(() -> 1);\n" +
+			"		m(() -> { if (args == null) return; });\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"JIJI");
+}
+// a void block against a value returning candidate is reported without resolving a copy of the lambda
+public void testShapePruning_reported() {
+	this.runNegativeTest(
+		new String[] {
+			"Y.java",
+			"interface K { int get(); }\n" +
+			"public class Y {\n" +
+			"	static void n(K k) {}\n" +
+			"	void test() {\n" +
+			"		n(() -> { return; });\n" +
+			"		n(() -> { if (true) return; });\n" +
+			"		n(() -> { return 1; });\n" +
+			"	}\n" +
+			"}\n",
+		},
+		"----------\n" +
+		"1. ERROR in Y.java (at line 5)\n" +
+		"	n(() -> { return; });\n" +
+		"	^\n" +
+		"The method n(K) in the type Y is not applicable for the arguments (() -> {})\n" +
+		"----------\n" +
+		"2. ERROR in Y.java (at line 5)\n" +
+		"	n(() -> { return; });\n" +
+		"	          ^^^^^^^\n" +
+		"This method must return a result of type int\n" +
+		"----------\n" +
+		"3. ERROR in Y.java (at line 6)\n" +
+		"	n(() -> { if (true) return; });\n" +
+		"	^\n" +
+		"The method n(K) in the type Y is not applicable for the arguments (() -> {})\n" +
+		"----------\n" +
+		"4. ERROR in Y.java (at line 6)\n" +
+		"	n(() -> { if (true) return; });\n" +
+		"	                    ^^^^^^^\n" +
+		"This method must return a result of type int\n" +
+		"----------\n");
+}
 public static Class testClass() {
 	return LambdaShapeTests.class;
 }
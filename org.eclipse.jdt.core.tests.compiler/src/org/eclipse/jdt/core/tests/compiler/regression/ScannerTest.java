@@ -15,6 +15,7 @@ package org.eclipse.jdt.core.tests.compiler.regression;
 
 import static org.eclipse.jdt.internal.compiler.parser.TerminalToken.TokenNameEOF;
 
+import java.util.Arrays;
 import junit.framework.Test;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.ToolFactory;
@@ -2104,4 +2105,139 @@ public class ScannerTest extends AbstractRegressionTest {
 			"Method found: methodWithUnicodeChar\n" +
 			"Field found: fieldWithUnicodeChar");
 	}
+
+	private String scan(String source, int start, int end, boolean tokenizeComments) {
+		Scanner scanner = new Scanner(tokenizeComments, false, false, ClassFileConstants.JDK1_8, null, null, false);
+		scanner.recordLineSeparator = true;
+		scanner.setSource(source.toCharArray());
+		scanner.resetTo(start, end);
+		StringBuilder buffer = new StringBuilder();
+		try {
+			TerminalToken token;
+			while ((token = scanner.getNextToken()) != TokenNameEOF) {
+				buffer.append(token).append(' ').append(scanner.getCurrentTokenStartPosition()).append('-')
+						.append(scanner.getCurrentTokenEndPosition()).append('\n');
+			}
+		} catch (InvalidInputException e) {
+			buffer.append(e.getMessage()).append(' ').append(scanner.getCurrentTokenStartPosition()).append('\n');
+		}
+		return printComments(scanner, buffer);
+	}
+	private String jumpOverMethodBody(String source, int start, int end) {
+		Scanner scanner = new Scanner(false, false, false, ClassFileConstants.JDK1_8, null, null, false);
+		scanner.recordLineSeparator = true;
+		scanner.setSource(source.toCharArray());
+		scanner.resetTo(start, end);
+		scanner.jumpOverMethodBody();
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("position ").append(scanner.currentPosition).append('\n');
+		return printComments(scanner, buffer);
+	}
+	private String printComments(Scanner scanner, StringBuilder buffer) {
+		for (int i = 0; i <= scanner.commentPtr; i++)
+			buffer.append("comment ").append(scanner.commentStarts[i]).append(' ').append(scanner.commentStops[i]).append('\n');
+		buffer.append("line ends ").append(Arrays.toString(scanner.getLineEnds()));
+		return buffer.toString();
+	}
+	/*
+	 * Comments ending exactly at the end of the source, with and without tokenizing them
+	 */
+	public void testCommentAtEOF() {
+		assertEquals("TokenNameIdentifier 0-0\ncomment 2 -9\nline ends []", scan("a /* c */", 0, 8, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameCOMMENT_BLOCK 2-8\ncomment 2 -9\nline ends []", scan("a /* c */", 0, 8, true));
+		assertEquals("TokenNameIdentifier 0-0\ncomment 2 10\nline ends []", scan("a /** c */", 0, 9, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameCOMMENT_JAVADOC 2-9\ncomment 2 10\nline ends []", scan("a /** c */", 0, 9, true));
+		assertEquals("TokenNameIdentifier 0-0\ncomment 2 -6\nline ends []", scan("a /**/", 0, 5, false));
+		assertEquals("TokenNameIdentifier 0-0\ncomment -2 -6\nline ends []", scan("a // c", 0, 5, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameCOMMENT_LINE 2-5\ncomment -2 -6\nline ends []", scan("a // c", 0, 5, true));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameCOMMENT_LINE 2-3\ncomment -2 -4\nline ends []", scan("a //", 0, 3, true));
+	}
+	/*
+	 * Block comments that the end of the source interrupts
+	 */
+	public void testUnterminatedCommentAtEOF() {
+		assertEquals("TokenNameIdentifier 0-0\nUnterminated_Comment 2\nline ends []", scan("a /* c *", 0, 7, false));
+		assertEquals("TokenNameIdentifier 0-0\nUnterminated_Comment 2\nline ends []", scan("a /* c", 0, 5, true));
+		assertEquals("TokenNameIdentifier 0-0\nUnterminated_Comment 2\nline ends []", scan("a /*/", 0, 4, false));
+	}
+	/*
+	 * Ranges ending inside a block comment, right after it, inside a line comment and at its line end
+	 */
+	public void testResetToMidSource() {
+		String source = "int a; /* comment */ int b; // line\nint c;";
+		String declarationOfA = "TokenNameint 0-2\nTokenNameIdentifier 4-4\nTokenNameSEMICOLON 5-5\n";
+		String declarationOfB = "TokenNameint 21-23\nTokenNameIdentifier 25-25\nTokenNameSEMICOLON 26-26\n";
+		assertEquals(declarationOfA + "Unterminated_Comment 7\nline ends []", scan(source, 0, 13, false));
+		assertEquals(declarationOfA + "Unterminated_Comment 7\nline ends []", scan(source, 0, 18, false));
+		assertEquals(declarationOfA + "comment 7 -20\nline ends []", scan(source, 0, 19, false));
+		assertEquals(declarationOfA + "TokenNameIdentifier 21-22\ncomment 7 -20\nline ends []", scan(source, 0, 22, false));
+		assertEquals(declarationOfA + declarationOfB + "comment 7 -20\ncomment -28 -31\nline ends []", scan(source, 0, 30, false));
+		assertEquals(declarationOfA + declarationOfB + "comment 7 -20\ncomment -28 -35\nline ends [35]", scan(source, 0, 35, false));
+		assertEquals(declarationOfA + declarationOfB + "TokenNameIdentifier 36-36\ncomment 7 -20\ncomment -28 -35\nline ends [35]", scan(source, 0, 36, false));
+		assertEquals("TokenNameint 21-23\nTokenNameIdentifier 25-25\ncomment 7 -20\nline ends []", scan(source, 7, 25, false));
+	}
+	/*
+	 * Unicode escapes of line ends and comment delimiters, and backslashes, inside comments
+	 */
+	public void testEscapesInComments() {
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 19-19\ncomment 2 -18\nline ends []", scan("a /* b \\u000a c */ d", 0, 19, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 14-14\ncomment -2 -7\nline ends []", scan("a // b \\u000a c", 0, 14, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 20-20\nTokenNameIdentifier 22-22\ncomment -2 -7\nline ends [21]", scan("a // b \\u000d\\u000a c\nd", 0, 22, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 15-15\ncomment 2 -14\nline ends []", scan("a /* b \\u002a/ c", 0, 15, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 15-15\ncomment 2 -14\nline ends []", scan("a /* b *\\u002f c", 0, 15, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 26-26\ncomment 2 25\nline ends []", scan("a /** @see \\u0040param */ b", 0, 26, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 13-13\nTokenNameIdentifier 15-15\ncomment -2 -5\nline ends [14]", scan("a // \\uu000a b\nc", 0, 15, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 19-19\ncomment 2 -18\nline ends []", scan("a /* b \\\\ c \\ d */ e", 0, 19, false));
+		assertEquals("TokenNameIdentifier 0-0\nTokenNameIdentifier 16-16\ncomment -2 -15\nline ends [15]", scan("a // b \\\\ c \\ d\ne", 0, 16, false));
+	}
+	/*
+	 * CRLF line ends in white spaces and comments, recorded by getNextToken and by jumpOverMethodBody
+	 */
+	public void testCRLFLineEnds() {
+		String source = "class X {\r\n  void m() {\r\n    int a; // c\r\n    /* b\r\n     */\r\n    a = 1;\r\n  }\r\n}\r\n";
+		assertEquals(
+			"TokenNameclass 0-4\n" +
+			"TokenNameIdentifier 6-6\n" +
+			"TokenNameLBRACE 8-8\n" +
+			"TokenNamevoid 13-16\n" +
+			"TokenNameIdentifier 18-18\n" +
+			"TokenNameLPAREN 19-19\n" +
+			"TokenNameRPAREN 20-20\n" +
+			"TokenNameLBRACE 22-22\n" +
+			"TokenNameint 29-31\n" +
+			"TokenNameIdentifier 33-33\n" +
+			"TokenNameSEMICOLON 34-34\n" +
+			"TokenNameIdentifier 65-65\n" +
+			"TokenNameEQUAL 67-67\n" +
+			"TokenNameIntegerLiteral 69-69\n" +
+			"TokenNameSEMICOLON 70-70\n" +
+			"TokenNameRBRACE 75-75\n" +
+			"TokenNameRBRACE 78-78\n" +
+			"comment -36 -40\n" +
+			"comment 46 -59\n" +
+			"line ends [10, 24, 41, 51, 60, 72, 77, 80]",
+			scan(source, 0, source.length() - 1, false));
+		assertEquals(
+			"position 76\n" +
+			"comment -36 -40\n" +
+			"comment 46 -59\n" +
+			"line ends [24, 41, 51, 60, 72]",
+			jumpOverMethodBody(source, 23, source.length() - 1));
+
+		source = "{\r\n\r\n \n\r a /* \r\n */ // x\r\n}";
+		assertEquals(
+			"TokenNameLBRACE 0-0\n" +
+			"TokenNameIdentifier 9-9\n" +
+			"TokenNameRBRACE 26-26\n" +
+			"comment 11 -19\n" +
+			"comment -20 -24\n" +
+			"line ends [2, 4, 6, 7, 15, 25]",
+			scan(source, 0, source.length() - 1, false));
+		assertEquals(
+			"position 27\n" +
+			"comment 11 -19\n" +
+			"comment -20 -24\n" +
+			"line ends [2, 4, 6, 7, 15, 25]",
+			jumpOverMethodBody(source, 1, source.length() - 1));
+	}
 }
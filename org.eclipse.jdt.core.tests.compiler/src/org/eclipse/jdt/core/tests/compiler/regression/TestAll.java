@@ -94,6 +94,7 @@ public static Test suite() {
 	standardTests.add(InitializationTests.class);
 	standardTests.add(ResourceLeakTests.class);
 	standardTests.add(PackageBindingTest.class);
+	standardTests.add(TypeSystemTest.class);
 	standardTests.add(NameEnvironmentAnswerListenerTest.class);
 	standardTests.add(XtextDependencies.class);
 
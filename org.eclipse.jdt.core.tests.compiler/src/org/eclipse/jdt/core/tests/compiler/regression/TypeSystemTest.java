@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.compiler.regression;
+
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.tests.util.AbstractCompilerTest;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.Compiler;
+import org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.lookup.AnnotationBinding;
+import org.eclipse.jdt.internal.compiler.lookup.Binding;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
+import org.eclipse.jdt.internal.compiler.lookup.ParameterizedTypeBinding;
+import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
+import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
+
+/**
+ * Tests the lookup of the parameterized types of the type system, which answers the same binding for the same generic
+ * type, type arguments and enclosing type.
+ */
+public class TypeSystemTest extends AbstractCompilerTest {
+
+	private FileSystem nameEnvironment;
+	private LookupEnvironment environment;
+
+	public TypeSystemTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (this.nameEnvironment != null)
+			this.nameEnvironment.cleanup();
+		this.nameEnvironment = null;
+		this.environment = null;
+		super.tearDown();
+	}
+
+	/*
+	 * Creates the lookup environment of a compiler, whose type system is annotatable if annotations are stored.
+	 */
+	private void createEnvironment(boolean storeAnnotations) {
+		CompilerOptions options = new CompilerOptions();
+		options.sourceLevel = options.complianceLevel = ClassFileConstants.JDK1_8;
+		options.storeAnnotations = storeAnnotations;
+		this.nameEnvironment = new FileSystem(Util.getJavaClassLibs(), new String[0], null);
+		Compiler compiler = new Compiler(this.nameEnvironment, DefaultErrorHandlingPolicies.proceedWithAllProblems(), options,
+				result -> { /* nothing is compiled */ }, new DefaultProblemFactory());
+		this.environment = compiler.lookupEnvironment;
+	}
+
+	private ReferenceBinding getType(String name) {
+		ReferenceBinding type = this.environment.getType(CharOperation.splitOn('.', name.toCharArray()));
+		assertNotNull(name + " not found", type);
+		return type;
+	}
+
+	private ParameterizedTypeBinding parameterize(ReferenceBinding genericType, TypeBinding... typeArguments) {
+		return this.environment.createParameterizedType(genericType, typeArguments, null);
+	}
+
+	/*
+	 * The same type arguments answer the same binding, whatever the array holding them, and other type arguments
+	 * answer another binding.
+	 */
+	public void testParameterizedTypeLookup() {
+		createEnvironment(false);
+		ReferenceBinding map = getType("java.util.Map");
+		ReferenceBinding list = getType("java.util.List");
+		ReferenceBinding string = getType("java.lang.String");
+		ReferenceBinding integer = getType("java.lang.Integer");
+
+		TypeBinding[] arguments = { string, integer };
+		ParameterizedTypeBinding mapOfStringToInteger = parameterize(map, arguments);
+		arguments[0] = integer; // the table does not keep the array of the caller
+		assertSame("Same arguments should answer the same type", mapOfStringToInteger, parameterize(map, string, integer));
+		ParameterizedTypeBinding mapOfIntegerToInteger = parameterize(map, arguments);
+		assertNotSame("Other arguments should answer another type", mapOfStringToInteger, mapOfIntegerToInteger);
+		assertSame("Same arguments should answer the same type", mapOfIntegerToInteger, parameterize(map, integer, integer));
+		assertNotSame("Other arguments should answer another type", mapOfStringToInteger, parameterize(map, integer, string));
+
+		ParameterizedTypeBinding listOfString = parameterize(list, string);
+		assertNotSame("Other generic type should answer another type", listOfString, parameterize(map, string, string));
+		assertSame("Same arguments should answer the same type", listOfString, parameterize(list, string));
+		assertEquals("Unexpected type", "List<String>", new String(listOfString.shortReadableName()));
+	}
+
+	/*
+	 * The types added before the table grows are still found after it rehashed its keys.
+	 */
+	public void testParameterizedTypeGrowth() {
+		createEnvironment(false);
+		ReferenceBinding list = getType("java.util.List");
+		ReferenceBinding map = getType("java.util.Map");
+		ParameterizedTypeBinding[] lists = new ParameterizedTypeBinding[1000];
+		ParameterizedTypeBinding[] maps = new ParameterizedTypeBinding[1000];
+		TypeBinding argument = getType("java.lang.String");
+		for (int i = 0; i < lists.length; i++) {
+			lists[i] = parameterize(list, argument);
+			maps[i] = parameterize(map, argument, lists[i]);
+			argument = lists[i];
+		}
+		argument = getType("java.lang.String");
+		for (int i = 0; i < lists.length; i++) {
+			assertSame("List #" + i + " should be found", lists[i], parameterize(list, argument));
+			assertSame("Map #" + i + " should be found", maps[i], parameterize(map, argument, lists[i]));
+			for (int j = 0; j < i; j++)
+				assertNotSame("List #" + i + " should be another type than list #" + j, lists[j], lists[i]);
+			argument = lists[i];
+		}
+	}
+
+	/*
+	 * The annotated variants of a parameterized type are distinct bindings of the same id, found again by their
+	 * annotations, and share the unannotated type with the unannotated variant.
+	 */
+	public void testParameterizedTypeAnnotated() {
+		createEnvironment(true);
+		ReferenceBinding list = getType("java.util.List");
+		ReferenceBinding string = getType("java.lang.String");
+		AnnotationBinding[] deprecated = { this.environment.createAnnotation(getType("java.lang.Deprecated"), Binding.NO_ELEMENT_VALUE_PAIRS) };
+		AnnotationBinding[] functional = { this.environment.createAnnotation(getType("java.lang.FunctionalInterface"), Binding.NO_ELEMENT_VALUE_PAIRS) };
+
+		ParameterizedTypeBinding listOfString = parameterize(list, string);
+		assertFalse("Unexpected type annotations", listOfString.hasTypeAnnotations());
+
+		ParameterizedTypeBinding deprecatedList = this.environment.createParameterizedType(list, new TypeBinding[] { string }, null, deprecated);
+		assertNotSame("Annotated type should be another binding", listOfString, deprecatedList);
+		assertTrue("Missing type annotations", deprecatedList.hasTypeAnnotations());
+		assertEquals("Annotated type should have the same id", listOfString.id, deprecatedList.id);
+		assertSame("Same annotations should answer the same type", deprecatedList,
+				this.environment.createParameterizedType(list, new TypeBinding[] { string }, null, deprecated));
+		ParameterizedTypeBinding functionalList = this.environment.createParameterizedType(list, new TypeBinding[] { string }, null, functional);
+		assertNotSame("Other annotations should answer another type", deprecatedList, functionalList);
+		assertSame("Unannotated variant should be the unannotated type", listOfString, this.environment.getUnannotatedType(deprecatedList));
+		assertSame("Unannotated variant should be the unannotated type", listOfString, this.environment.getUnannotatedType(functionalList));
+		assertSame("Unannotated type should still be found", listOfString, parameterize(list, string));
+
+		TypeBinding deprecatedString = this.environment.createAnnotatedType(string, deprecated);
+		ParameterizedTypeBinding listOfDeprecatedString = parameterize(list, deprecatedString);
+		assertNotSame("Annotated argument should answer another type", listOfString, listOfDeprecatedString);
+		assertSame("Annotated argument should be kept", deprecatedString, listOfDeprecatedString.arguments[0]);
+		assertSame("Same annotated argument should answer the same type", listOfDeprecatedString, parameterize(list, deprecatedString));
+		assertEquals("Annotated argument should have the same id", listOfString.id, listOfDeprecatedString.id);
+		assertSame("Unannotated type should still be found", listOfString, parameterize(list, string));
+	}
+}
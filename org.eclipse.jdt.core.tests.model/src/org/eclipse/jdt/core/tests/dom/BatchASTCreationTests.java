@@ -13,8 +13,11 @@
  *******************************************************************************/
 package org.eclipse.jdt.core.tests.dom;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
 import junit.framework.Test;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.jdt.core.BindingKey;
@@ -2274,4 +2277,148 @@ public void test082() throws CoreException, IOException {
 					requestor.asts
 				);
 	}
+
+	/*
+	 * Ensures that the ASTs of a batch created on several threads are all delivered, with their bindings resolved.
+	 */
+	public void testParallelism() throws CoreException {
+		this.workingCopies = createWorkingCopies(new String[] {
+				"/P/p1/X.java",
+				"package p1;\n" +
+				"public class X extends Y {\n" +
+				"}",
+				"/P/p1/Y.java",
+				"package p1;\n" +
+				"public class Y extends Z {\n" +
+				"}",
+				"/P/p1/Z.java",
+				"package p1;\n" +
+				"public class Z {\n" +
+				"}",
+			});
+		Map<String, String> superclasses = new TreeMap<>();
+		ASTRequestor requestor = new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				TypeDeclaration type = (TypeDeclaration) ast.types().get(0);
+				ITypeBinding superclass = type.resolveBinding().getSuperclass();
+				superclasses.put(source.getElementName(), superclass.getQualifiedName());
+			}
+		};
+		ASTParser parser = ASTParser.newParser(AST.getAllSupportedVersions().getFirst());
+		parser.setResolveBindings(true);
+		parser.setProject(getJavaProject("P"));
+		parser.setParallelism(3);
+		parser.createASTs(this.workingCopies, new String[] {}, requestor, null);
+		assertEquals("Unexpected superclasses", "{X.java=p1.Y, Y.java=p1.Z, Z.java=java.lang.Object}", superclasses.toString());
+	}
+
+	/*
+	 * Ensures that the bindings obtained while an AST is delivered stay usable at the type level
+	 * when the units are released after delivery, while the nodes of the AST cannot be resolved anymore.
+	 */
+	public void testReleaseDeliveredUnits() throws CoreException {
+		this.workingCopies = createWorkingCopies(new String[] {
+				"/P/p1/X.java",
+				"package p1;\n" +
+				"public class X extends Y {\n" +
+				"  void foo() {\n" +
+				"    int i = 0;\n" +
+				"  }\n" +
+				"}",
+				"/P/p1/Y.java",
+				"package p1;\n" +
+				"public class Y {\n" +
+				"}",
+			});
+		ArrayList<ITypeBinding> bindings = new ArrayList<>();
+		ArrayList<TypeDeclaration> types = new ArrayList<>();
+		ASTRequestor requestor = new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				TypeDeclaration type = (TypeDeclaration) ast.types().get(0);
+				types.add(type);
+				bindings.add(type.resolveBinding());
+			}
+		};
+		ASTParser parser = ASTParser.newParser(AST.getAllSupportedVersions().getFirst());
+		parser.setResolveBindings(true);
+		parser.setProject(getJavaProject("P"));
+		parser.setReleaseDeliveredUnits(true);
+		parser.createASTs(this.workingCopies, new String[] {}, requestor, null);
+		assertEquals("Unexpected number of ASTs", 2, bindings.size());
+		assertNull("Unexpected binding after release", types.get(0).resolveBinding());
+		ITypeBinding x = bindings.get(0);
+		assertEquals("Unexpected key", "Lp1/X;", x.getKey());
+		assertEquals("Unexpected superclass", "p1.Y", x.getSuperclass().getQualifiedName());
+		assertEquals("Unexpected methods", 2, x.getDeclaredMethods().length); // foo() and the default constructor
+	}
+
+	/*
+	 * Ensures that the units of a batch of source files are released after delivery as well, while the bindings
+	 * obtained during delivery stay usable at the type level, and the next units still resolve against them.
+	 */
+	public void testReleaseDeliveredSourceFiles() throws CoreException {
+		try {
+			createFolder("/P/p2");
+			createFile("/P/p2/X.java",
+				"package p2;\n" +
+				"public class X extends Y {\n" +
+				"  void foo() {\n" +
+				"  }\n" +
+				"}");
+			createFile("/P/p2/Y.java",
+				"package p2;\n" +
+				"public class Y {\n" +
+				"  int bar(X x) {\n" +
+				"    return 0;\n" +
+				"  }\n" +
+				"}");
+			createFile("/P/p2/Z.java",
+				"package p2;\n" +
+				"public class Z extends X {\n" +
+				"}");
+			String root = getWorkspacePath() + "P" + File.separator;
+			String[] paths = {
+				root + "p2" + File.separator + "X.java",
+				root + "p2" + File.separator + "Y.java",
+				root + "p2" + File.separator + "Z.java",
+			};
+			ArrayList<ITypeBinding> bindings = new ArrayList<>();
+			ArrayList<TypeDeclaration> types = new ArrayList<>();
+			ArrayList<String> superclasses = new ArrayList<>();
+			FileASTRequestor requestor = new FileASTRequestor() {
+				@Override
+				public void acceptAST(String sourceFilePath, CompilationUnit ast) {
+					assertEquals("Unexpected problems in " + sourceFilePath, 0, ast.getProblems().length);
+					TypeDeclaration type = (TypeDeclaration) ast.types().get(0);
+					types.add(type);
+					ITypeBinding binding = type.resolveBinding();
+					bindings.add(binding);
+					superclasses.add(binding.getSuperclass().getQualifiedName());
+				}
+			};
+			ASTParser parser = ASTParser.newParser(AST.getAllSupportedVersions().getFirst());
+			parser.setResolveBindings(true);
+			parser.setEnvironment(null, new String[] { root }, null, true);
+			parser.setReleaseDeliveredUnits(true);
+			parser.createASTs(paths, null, new String[] {}, requestor, null);
+			assertEquals("Unexpected superclasses", "[p2.Y, java.lang.Object, p2.X]", superclasses.toString());
+			for (TypeDeclaration type : types)
+				assertNull("Unexpected binding after release", type.resolveBinding());
+			ITypeBinding x = bindings.get(0);
+			assertEquals("Unexpected key", "Lp2/X;", x.getKey());
+			assertEquals("Unexpected superclass", "p2.Y", x.getSuperclass().getQualifiedName());
+			assertEquals("Unexpected methods", 2, x.getDeclaredMethods().length); // foo() and the default constructor
+			IMethodBinding bar = null;
+			for (IMethodBinding method : bindings.get(1).getDeclaredMethods())
+				if (method.getName().equals("bar"))
+					bar = method;
+			assertNotNull("Missing method", bar);
+			assertEquals("Unexpected parameter type", x.getKey(), bar.getParameterTypes()[0].getKey());
+			assertTrue("Unexpected subclass", bindings.get(2).isSubTypeCompatible(x));
+		} finally {
+			deleteFolder("/P/p2");
+		}
+	}
 }
@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.formatter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import junit.framework.Test;
+import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jdt.core.formatter.CodeFormatterApplication;
+import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
+import org.eclipse.jdt.core.tests.model.AbstractJavaModelTests;
+import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.formatter.BatchCodeFormatter;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Tests the formatting of files by the {@link BatchCodeFormatter} and the {@link CodeFormatterApplication}.
+ */
+public class BatchCodeFormatterTests extends AbstractJavaModelTests {
+
+	private static final String UNFORMATTED_SOURCE = "public class X{int i;void foo(){i++;}}";
+
+	private File directory;
+	private Map<String, String> options;
+	private String output;
+
+	public BatchCodeFormatterTests(String name) {
+		super(name);
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(BatchCodeFormatterTests.class);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.directory = Files.createTempDirectory("batch_formatter").toFile();
+		this.options = DefaultCodeFormatterConstants.getEclipseDefaultSettings();
+		this.options.put(CompilerOptions.OPTION_Compliance, CompilerOptions.VERSION_1_8);
+		this.options.put(CompilerOptions.OPTION_Source, CompilerOptions.VERSION_1_8);
+		this.options.put(CompilerOptions.OPTION_TargetPlatform, CompilerOptions.VERSION_1_8);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		Util.delete(this.directory);
+		super.tearDown();
+	}
+
+	private String format(String source) throws Exception {
+		CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(this.options, ToolFactory.M_FORMAT_EXISTING);
+		TextEdit edit = codeFormatter.format(CodeFormatter.K_COMPILATION_UNIT | CodeFormatter.F_INCLUDE_COMMENTS, source, 0,
+				source.length(), 0, null);
+		assertNotNull("Cannot format", edit);
+		IDocument document = new Document(source);
+		edit.apply(document);
+		return document.get();
+	}
+
+	private File createFile(String name, String contents) throws IOException {
+		File file = new File(this.directory, name);
+		file.getParentFile().mkdirs();
+		Files.writeString(file.toPath(), contents, StandardCharsets.UTF_8);
+		return file;
+	}
+
+	private String read(File file) throws IOException {
+		return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+	}
+
+	private List<String> readCache(File cacheFile) throws IOException {
+		return Files.readAllLines(cacheFile.toPath(), StandardCharsets.UTF_8);
+	}
+
+	private BatchCodeFormatter.Statistics formatBatch(File cacheFile, File... files) throws IOException {
+		final StringBuilder failures = new StringBuilder();
+		BatchCodeFormatter batch = new BatchCodeFormatter(this.options, 2, cacheFile);
+		BatchCodeFormatter.Statistics statistics = batch.format(Arrays.asList(files), new BatchCodeFormatter.Listener() {
+			@Override
+			public void formatting(File file) {
+				// nothing to check
+			}
+			@Override
+			public void formatFailed(File file) {
+				failures.append("Failed: ").append(file.getName()).append('\n');
+			}
+			@Override
+			public void exceptionCaught(File file, Exception exception) {
+				failures.append(exception).append('\n');
+			}
+		});
+		assertEquals("Unexpected failures", "", failures.toString());
+		return statistics;
+	}
+
+	private void assertStatistics(String expected, BatchCodeFormatter.Statistics statistics) {
+		assertEquals("Unexpected statistics", expected,
+				"changed=" + statistics.changed +
+				" unchanged=" + statistics.unchanged +
+				" cached=" + statistics.cached +
+				" failed=" + statistics.failed);
+	}
+
+	/**
+	 * Runs the formatter application with the given arguments, and answers what it printed to the error stream. What it
+	 * printed to the output stream is kept in {@link #output}.
+	 */
+	private String runApplication(String... arguments) throws Exception {
+		IApplicationContext context = (IApplicationContext) Proxy.newProxyInstance(
+			IApplicationContext.class.getClassLoader(),
+			new Class[] { IApplicationContext.class },
+			(proxy, method, args) -> "getArguments".equals(method.getName())
+				? Collections.singletonMap(IApplicationContext.APPLICATION_ARGS, arguments)
+				: null);
+		PrintStream out = System.out;
+		PrintStream err = System.err;
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ByteArrayOutputStream errors = new ByteArrayOutputStream();
+		try {
+			System.setOut(new PrintStream(output, true, StandardCharsets.UTF_8));
+			System.setErr(new PrintStream(errors, true, StandardCharsets.UTF_8));
+			new CodeFormatterApplication().start(context);
+		} finally {
+			System.setOut(out);
+			System.setErr(err);
+		}
+		this.output = output.toString(StandardCharsets.UTF_8);
+		return errors.toString(StandardCharsets.UTF_8);
+	}
+
+	private File createConfigFile() throws IOException {
+		Properties properties = new Properties();
+		properties.putAll(this.options);
+		File configFile = new File(this.directory, "formatter.prefs");
+		try (FileOutputStream stream = new FileOutputStream(configFile)) {
+			properties.store(stream, null);
+		}
+		return configFile;
+	}
+
+	/*
+	 * A file is formatted when the cache misses it, and skipped once a later run found it formatted
+	 */
+	public void testCacheMissAndHit() throws Exception {
+		File formatted = createFile("A.java", format("public class A{int a;}"));
+		File unformatted = createFile("B.java", UNFORMATTED_SOURCE);
+		File cacheFile = new File(this.directory, "cache/formatter.cache");
+
+		assertStatistics("changed=1 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, formatted, unformatted));
+		assertEquals("Unexpected content", format(UNFORMATTED_SOURCE), read(unformatted));
+		assertEquals("Unexpected cache size", 2, readCache(cacheFile).size());
+
+		// the formatted file is now found unchanged, and recorded in its turn
+		assertStatistics("changed=0 unchanged=1 cached=1 failed=0", formatBatch(cacheFile, formatted, unformatted));
+		assertEquals("Unexpected cache size", 3, readCache(cacheFile).size());
+
+		assertStatistics("changed=0 unchanged=0 cached=2 failed=0", formatBatch(cacheFile, formatted, unformatted));
+	}
+
+	/*
+	 * A cache written with other options is ignored and overwritten
+	 */
+	public void testCacheOptionsMismatch() throws Exception {
+		File file = createFile("A.java", format(UNFORMATTED_SOURCE));
+		File cacheFile = new File(this.directory, "formatter.cache");
+		assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, file));
+		assertStatistics("changed=0 unchanged=0 cached=1 failed=0", formatBatch(cacheFile, file));
+		String optionsHash = readCache(cacheFile).get(0);
+
+		this.options.put(DefaultCodeFormatterConstants.FORMATTER_LINE_SPLIT, "100");
+		assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, file));
+		List<String> lines = readCache(cacheFile);
+		assertFalse("Options hash should change", optionsHash.equals(lines.get(0)));
+		assertEquals("Unexpected cache size", 2, lines.size());
+		assertStatistics("changed=0 unchanged=0 cached=1 failed=0", formatBatch(cacheFile, file));
+	}
+
+	/*
+	 * The cache keeps the hashes it read, after the hashes confirmed by the last run
+	 */
+	public void testCacheKeepsReadHashes() throws Exception {
+		File first = createFile("A.java", format(UNFORMATTED_SOURCE));
+		File second = createFile("B.java", format("public class B{int j;}"));
+		File cacheFile = new File(this.directory, "formatter.cache");
+		assertStatistics("changed=0 unchanged=2 cached=0 failed=0", formatBatch(cacheFile, first, second));
+		List<String> lines = readCache(cacheFile);
+		assertEquals("Unexpected cache size", 3, lines.size());
+
+		// the hash of the new content of the second file comes first, the hash of its previous content last
+		Files.writeString(second.toPath(), format("public class B{long j;}"), StandardCharsets.UTF_8);
+		assertStatistics("changed=0 unchanged=1 cached=1 failed=0", formatBatch(cacheFile, first, second));
+		List<String> newLines = readCache(cacheFile);
+		assertEquals("Unexpected cache size", 4, newLines.size());
+		assertTrue("Read hashes should be kept", newLines.containsAll(lines));
+		List<String> previous = new ArrayList<>(lines);
+		previous.removeAll(newLines.subList(0, 3));
+		assertEquals("Oldest hash should be last", Collections.singletonList(newLines.get(3)), previous);
+
+		// the files that are not part of a run are kept
+		assertStatistics("changed=0 unchanged=0 cached=1 failed=0", formatBatch(cacheFile, first));
+		assertEquals("Unexpected cache size", 4, readCache(cacheFile).size());
+		Files.writeString(second.toPath(), format("public class B{int j;}"), StandardCharsets.UTF_8);
+		assertStatistics("changed=0 unchanged=0 cached=2 failed=0", formatBatch(cacheFile, first, second));
+	}
+
+	/*
+	 * The oldest hashes are dropped beyond the size of the cache
+	 */
+	public void testCacheSize() throws Exception {
+		File first = createFile("A.java", format(UNFORMATTED_SOURCE));
+		File second = createFile("B.java", format("public class B{int j;}"));
+		File cacheFile = new File(this.directory, "formatter.cache");
+		String property = "org.eclipse.jdt.core.formatter.cacheSize";
+		String previous = System.setProperty(property, "2");
+		try {
+			assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, first));
+			assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, second));
+			List<String> lines = readCache(cacheFile);
+			assertEquals("Unexpected cache size", 3, lines.size());
+			String firstHash = lines.get(2);
+
+			// the hash of the first file, confirmed by the oldest run, is dropped
+			Files.writeString(second.toPath(), format("public class B{long j;}"), StandardCharsets.UTF_8);
+			assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, second));
+			lines = readCache(cacheFile);
+			assertEquals("Unexpected cache size", 3, lines.size());
+			assertFalse("Oldest hash should be dropped", lines.contains(firstHash));
+			assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(cacheFile, first));
+		} finally {
+			if (previous == null)
+				System.clearProperty(property);
+			else
+				System.setProperty(property, previous);
+		}
+	}
+
+	/*
+	 * A file that formatting leaves unchanged is not written
+	 */
+	public void testUnchangedFileNotRewritten() throws Exception {
+		File file = createFile("A.java", format(UNFORMATTED_SOURCE));
+		FileTime lastModified = FileTime.fromMillis(1_000_000_000_000L);
+		Files.setLastModifiedTime(file.toPath(), lastModified);
+		assertStatistics("changed=0 unchanged=1 cached=0 failed=0", formatBatch(null, file));
+		assertEquals("File should not be written", lastModified, Files.getLastModifiedTime(file.toPath()));
+
+		File other = createFile("B.java", UNFORMATTED_SOURCE);
+		Files.setLastModifiedTime(other.toPath(), lastModified);
+		assertStatistics("changed=1 unchanged=0 cached=0 failed=0", formatBatch(null, other));
+		assertFalse("File should be written", lastModified.equals(Files.getLastModifiedTime(other.toPath())));
+	}
+
+	/*
+	 * The number of threads must be a positive number
+	 */
+	public void testThreadsValidation() throws Exception {
+		File file = createFile("A.java", UNFORMATTED_SOURCE);
+		String configPath = createConfigFile().getAbsolutePath();
+
+		String errors = runApplication("-config", configPath, "-threads", "0", file.getAbsolutePath());
+		assertTrue("Unexpected errors: " + errors, errors.contains("0 is not a valid number of threads."));
+		errors = runApplication("-config", configPath, "-threads", "two", file.getAbsolutePath());
+		assertTrue("Unexpected errors: " + errors, errors.contains("two is not a valid number of threads."));
+		errors = runApplication("-config", configPath, "-threads", "-1", file.getAbsolutePath());
+		assertTrue("Unexpected errors: " + errors, errors.contains("-1 is not a valid number of threads."));
+		assertEquals("File should not be formatted", UNFORMATTED_SOURCE, read(file));
+
+		assertEquals("Unexpected errors", "", runApplication("-config", configPath, "-threads", "3", file.getAbsolutePath()));
+		assertEquals("Unexpected content", format(UNFORMATTED_SOURCE), read(file));
+	}
+
+	/*
+	 * A file reached through several paths is formatted once
+	 */
+	public void testSameFileThroughSeveralPaths() throws Exception {
+		File file = createFile("p/A.java", UNFORMATTED_SOURCE);
+		String configPath = createConfigFile().getAbsolutePath();
+		File otherPath = new File(this.directory, "p/../p/A.java");
+		assertEquals("Unexpected errors", "", runApplication("-config", configPath, "-verbose", file.getParent(),
+				otherPath.getPath(), file.getAbsolutePath()));
+		assertEquals("Unexpected content", format(UNFORMATTED_SOURCE), read(file));
+		assertEquals("Unexpected output: " + this.output, 1, this.output.split("Formatting: ", -1).length - 1);
+	}
+}
@@ -16571,4 +16571,313 @@ public void testIssue2977() {
 				""";
 		formatSource(input, expected);
 	}
+
+	private static final String LONG_LINE = "String s = \"aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa\" + \"bbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbbb\" + \"cccccccccccccccccccccccccccccccccccccccc\";\n";
+
+	/*
+	 * Formatting a region only formats the comments of the members enclosing it: the other comments and long lines
+	 * must be left as they are, as when all of them were formatted and their edits discarded.
+	 */
+	public void testFormatRegionInMethod() {
+		String source =
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * The field. \n" +
+			"	 */\n" +
+			"	int field;\n" +
+			"\n" +
+			"	/* A block    comment\n" +
+			"	   on two lines. */\n" +
+			"	void a() {\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method b. \n" +
+			"	 */\n" +
+			"	int b(int i) {\n" +
+			"		// a line comment that is longer than the line length of comments, which is eighty characters\n" +
+			"		" + LONG_LINE +
+			"[#		int j     =     i*2;#]\n" +
+			"		return j     +     s.length();\n" +
+			"	}\n" +
+			"\n" +
+			"	/** Method c. */\n" +
+			"	void c() {\n" +
+			"	}\n" +
+			"}\n";
+		formatSource(source,
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * The field. \n" +
+			"	 */\n" +
+			"	int field;\n" +
+			"\n" +
+			"	/* A block    comment\n" +
+			"	   on two lines. */\n" +
+			"	void a() {\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method b. \n" +
+			"	 */\n" +
+			"	int b(int i) {\n" +
+			"		// a line comment that is longer than the line length of comments, which is eighty characters\n" +
+			"		" + LONG_LINE +
+			"		int j = i * 2;\n" +
+			"		return j     +     s.length();\n" +
+			"	}\n" +
+			"\n" +
+			"	/** Method c. */\n" +
+			"	void c() {\n" +
+			"	}\n" +
+			"}\n");
+	}
+
+	public void testFormatRegionSpanningMembers() {
+		String source =
+			"public class A {\n" +
+			"\n" +
+			"	/* A block    comment */\n" +
+			"	void a() {\n" +
+			"		" + LONG_LINE +
+			"[#		int x     =     1;\n" +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method b. \n" +
+			"	 */\n" +
+			"	void b() {\n" +
+			"		int y     =     2;#]\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method c. \n" +
+			"	 */\n" +
+			"	void c() {\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"}\n";
+		formatSource(source,
+			"public class A {\n" +
+			"\n" +
+			"	/* A block    comment */\n" +
+			"	void a() {\n" +
+			"		" + LONG_LINE +
+			"		int x = 1;\n" +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method b.\n" +
+			"	 */\n" +
+			"	void b() {\n" +
+			"		int y = 2;\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method c. \n" +
+			"	 */\n" +
+			"	void c() {\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"}\n");
+	}
+
+	public void testFormatRegionsInSeveralMembers() {
+		String source =
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method a. \n" +
+			"	 */\n" +
+			"	void a() {\n" +
+			"[#		int x     =     1;#]\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method b. \n" +
+			"	 */\n" +
+			"	void b() {\n" +
+			"		" + LONG_LINE +
+			"		int y     =     2;\n" +
+			"	}\n" +
+			"\n" +
+			"	/* A block    comment */\n" +
+			"	void c() {\n" +
+			"		" + LONG_LINE +
+			"[#		int z     =     3;#]\n" +
+			"	}\n" +
+			"}\n";
+		formatSource(source,
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method a. \n" +
+			"	 */\n" +
+			"	void a() {\n" +
+			"		int x = 1;\n" +
+			"		" + LONG_LINE +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method b. \n" +
+			"	 */\n" +
+			"	void b() {\n" +
+			"		" + LONG_LINE +
+			"		int y     =     2;\n" +
+			"	}\n" +
+			"\n" +
+			"	/* A block    comment */\n" +
+			"	void c() {\n" +
+			"		" + LONG_LINE +
+			"		int z = 3;\n" +
+			"	}\n" +
+			"}\n");
+	}
+
+	public void testFormatRegionInAnonymousType() {
+		String source =
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * The runnable. \n" +
+			"	 */\n" +
+			"	Runnable r = new Runnable() {\n" +
+			"		/**\n" +
+			"		 * Runs. \n" +
+			"		 */\n" +
+			"		@Override\n" +
+			"		public void run() {\n" +
+			"			" + LONG_LINE +
+			"[#			int i     =     0;#]\n" +
+			"		}\n" +
+			"	};\n" +
+			"\n" +
+			"	/* A block    comment */\n" +
+			"	void a() {\n" +
+			"		" + LONG_LINE +
+			"		new Thread() {\n" +
+			"			/* Another block    comment */\n" +
+			"			@Override\n" +
+			"			public void run() {\n" +
+			"				" + LONG_LINE +
+			"[#				int j     =     1;#]\n" +
+			"			}\n" +
+			"		}.start();\n" +
+			"	}\n" +
+			"}\n";
+		formatSource(source,
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * The runnable. \n" +
+			"	 */\n" +
+			"	Runnable r = new Runnable() {\n" +
+			"		/**\n" +
+			"		 * Runs. \n" +
+			"		 */\n" +
+			"		@Override\n" +
+			"		public void run() {\n" +
+			"			" + LONG_LINE +
+			"			int i = 0;\n" +
+			"		}\n" +
+			"	};\n" +
+			"\n" +
+			"	/* A block    comment */\n" +
+			"	void a() {\n" +
+			"		" + LONG_LINE +
+			"		new Thread() {\n" +
+			"			/* Another block    comment */\n" +
+			"			@Override\n" +
+			"			public void run() {\n" +
+			"				" + LONG_LINE +
+			"				int j = 1;\n" +
+			"			}\n" +
+			"		}.start();\n" +
+			"	}\n" +
+			"}\n");
+	}
+
+	public void testFormatRegionInNestedType() {
+		String source =
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Nested. \n" +
+			"	 */\n" +
+			"	static class B {\n" +
+			"\n" +
+			"		/* A block    comment */\n" +
+			"		void b() {\n" +
+			"			" + LONG_LINE +
+			"[#			int i     =     0;#]\n" +
+			"		}\n" +
+			"\n" +
+			"		/**\n" +
+			"		 * Method c. \n" +
+			"		 */\n" +
+			"		void c() {\n" +
+			"			" + LONG_LINE +
+			"		}\n" +
+			"\n" +
+			"		class C {\n" +
+			"			/**\n" +
+			"			 * Method d. \n" +
+			"			 */\n" +
+			"			void d() {\n" +
+			"[#				int j     =     1;#]\n" +
+			"			}\n" +
+			"		}\n" +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method e. \n" +
+			"	 */\n" +
+			"	void e() {\n" +
+			"	}\n" +
+			"}\n";
+		formatSource(source,
+			"public class A {\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Nested. \n" +
+			"	 */\n" +
+			"	static class B {\n" +
+			"\n" +
+			"		/* A block    comment */\n" +
+			"		void b() {\n" +
+			"			" + LONG_LINE +
+			"			int i = 0;\n" +
+			"		}\n" +
+			"\n" +
+			"		/**\n" +
+			"		 * Method c. \n" +
+			"		 */\n" +
+			"		void c() {\n" +
+			"			" + LONG_LINE +
+			"		}\n" +
+			"\n" +
+			"		class C {\n" +
+			"			/**\n" +
+			"			 * Method d. \n" +
+			"			 */\n" +
+			"			void d() {\n" +
+			"				int j = 1;\n" +
+			"			}\n" +
+			"		}\n" +
+			"	}\n" +
+			"\n" +
+			"	/**\n" +
+			"	 * Method e. \n" +
+			"	 */\n" +
+			"	void e() {\n" +
+			"	}\n" +
+			"}\n");
+	}
 }
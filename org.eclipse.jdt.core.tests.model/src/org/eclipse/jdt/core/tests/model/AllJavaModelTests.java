@@ -72,6 +72,8 @@ private static Class[] getAllTestClasses() {
 		RunJavaSearchTests.class,
 
 		IndexManagerTests.class,
+		JobManagerTests.class,
+		IndexQueryTests.class,
 
 		// Tests for the new index - disabled because the index is not used anymore
 		// See bug 572976 and bug 544898
@@ -229,6 +231,7 @@ private static Class[] getAllTestClasses() {
 
 		// Util tests
 		UtilTests.class,
+		MemoryGovernorTests.class,
 
 		JavaCoreOptionsTests.class,
 		JavaCorePreferenceModifyListenerTest.class,
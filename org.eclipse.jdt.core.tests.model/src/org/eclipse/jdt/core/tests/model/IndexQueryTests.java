@@ -0,0 +1,686 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import junit.framework.Test;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileConstants;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
+import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
+import org.eclipse.jdt.internal.core.search.matching.SuperTypeReferencePattern;
+import org.eclipse.jdt.internal.core.search.matching.TypeDeclarationPattern;
+
+/**
+ * Tests the queries of an {@link Index} that are answered from tables kept by its disk index, against the queries of
+ * the category tables they replace.
+ */
+public class IndexQueryTests extends AbstractJavaModelTests {
+
+	private static final char[][] SUPER_REF = { IIndexConstants.SUPER_REF };
+	private static final char[][] TYPE_DECL = { IIndexConstants.TYPE_DECL };
+	private static final int EXACT = SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE;
+	private static final int PREFIX = SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE;
+
+	private File indexFile;
+	private Index index;
+
+	public static Test suite() {
+		return buildModelTestSuite(IndexQueryTests.class);
+	}
+
+	public IndexQueryTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		this.indexFile = File.createTempFile("indexquerytests", ".index");
+		this.index = newIndex(false);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		this.index = null;
+		this.indexFile.delete();
+		super.tearDown();
+	}
+
+	private Index newIndex(boolean reuseExistingFile) throws IOException {
+		return new Index(new FileIndexLocation(this.indexFile), "/container", reuseExistingFile);
+	}
+
+	private void save() throws IOException {
+		this.index.monitor.enterWrite();
+		try {
+			this.index.save();
+		} finally {
+			this.index.monitor.exitWrite();
+		}
+	}
+
+	private void addSuperTypeReference(String document, String typeName, String superTypeName) {
+		this.index.addIndexEntry(IIndexConstants.SUPER_REF, SuperTypeReferencePattern.createIndexKey(0, "p".toCharArray(),
+				typeName.toCharArray(), null, null, IIndexConstants.CLASS_SUFFIX, superTypeName.toCharArray(),
+				IIndexConstants.CLASS_SUFFIX), document);
+	}
+
+	/*
+	 * Adds the documents X extends A, Y extends AB, Z extends a and W extends A.
+	 */
+	private void addSuperTypeReferences() {
+		addSuperTypeReference("p/X.java", "X", "A");
+		addSuperTypeReference("p/Y.java", "Y", "AB");
+		addSuperTypeReference("p/Z.java", "Z", "a");
+		addSuperTypeReference("p/W.java", "W", "q.A");
+	}
+
+	private static Object getField(Object object, Class<?> type, String name) throws ReflectiveOperationException {
+		Field field = type.getDeclaredField(name);
+		field.setAccessible(true);
+		return field.get(object);
+	}
+
+	/*
+	 * Answers the table of the given index kept resident in the given field of the given class, or null if there is none.
+	 */
+	private static Object getResidentTable(Index index, String className, String fieldName) throws ReflectiveOperationException {
+		Object diskIndex = getField(index, Index.class, "diskIndex");
+		Object residentTables = getField(null, Class.forName(className), fieldName);
+		Method get = residentTables.getClass().getDeclaredMethod("get", diskIndex.getClass());
+		get.setAccessible(true);
+		return get.invoke(residentTables, diskIndex);
+	}
+
+	private Object getSubTypeGraph() throws ReflectiveOperationException {
+		return getResidentTable(this.index, "org.eclipse.jdt.internal.core.index.SubTypeGraph", "RESIDENT_GRAPHS");
+	}
+
+	/*
+	 * Reads the whole category table of the super type references, after which its dictionary cannot be searched
+	 * anymore, so that the next query reads the sub type graph.
+	 */
+	private void readGraph() throws IOException, ReflectiveOperationException {
+		this.index.query(SUPER_REF, null, EXACT);
+		assertNull("Graph should not be read by the dictionary queries", getSubTypeGraph());
+		assertNull("Unexpected results", this.index.querySuperTypeReferences("Missing".toCharArray()));
+		assertNotNull("Graph should be read once the dictionary cannot be searched", getSubTypeGraph());
+	}
+
+	/*
+	 * Returns the sorted words of the given results, each followed by its sorted document names.
+	 */
+	private String toString(EntryResult[] results) throws IOException {
+		if (results == null)
+			return "null";
+		List<String> entries = new ArrayList<>();
+		for (EntryResult result : results) {
+			String[] documentNames = result.getDocumentNames(this.index);
+			Arrays.sort(documentNames);
+			entries.add(new String(result.getWord()) + "=" + Arrays.toString(documentNames));
+		}
+		Collections.sort(entries);
+		return String.join("\n", entries);
+	}
+
+	/*
+	 * Returns the sorted document names of the given results.
+	 */
+	private String documentNames(EntryResult[] results) throws IOException {
+		TreeSet<String> documentNames = new TreeSet<>();
+		if (results != null)
+			for (EntryResult result : results)
+				documentNames.addAll(Arrays.asList(result.getDocumentNames(this.index)));
+		return documentNames.toString();
+	}
+
+	private void assertSuperTypeReferences(String superSimpleName, String expectedDocumentNames) throws IOException {
+		char[] name = superSimpleName == null ? null : superSimpleName.toCharArray();
+		EntryResult[] results = this.index.querySuperTypeReferences(name);
+		assertEquals("Unexpected documents referencing " + superSimpleName, expectedDocumentNames, documentNames(results));
+		char[] key = name == null ? null : (superSimpleName + '/').toCharArray();
+		assertEquals("Unexpected entries referencing " + superSimpleName,
+				toString(this.index.query(SUPER_REF, key, name == null ? EXACT : PREFIX)), toString(results));
+	}
+
+	/*
+	 * The super type references to a simple name are the ones to this exact name, case sensitive, whatever the
+	 * qualification of the super type.
+	 */
+	public void testSuperTypeReferencesExactCase() throws IOException, ReflectiveOperationException {
+		addSuperTypeReferences();
+		save();
+		this.index.startQuery();
+		try {
+			assertSuperTypeReferences("A", "[p/W.java, p/X.java]");
+			assertSuperTypeReferences("AB", "[p/Y.java]");
+			assertSuperTypeReferences("a", "[p/Z.java]");
+			assertSuperTypeReferences("B", "[]");
+			assertNull("Graph should not be read by the dictionary queries", getSubTypeGraph());
+			readGraph();
+			assertSuperTypeReferences("A", "[p/W.java, p/X.java]");
+			assertSuperTypeReferences("AB", "[p/Y.java]");
+			assertSuperTypeReferences("a", "[p/Z.java]");
+			assertSuperTypeReferences("B", "[]");
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * Without simple name, all the super type references are answered.
+	 */
+	public void testSuperTypeReferencesAll() throws IOException {
+		addSuperTypeReferences();
+		save();
+		this.index.startQuery();
+		try {
+			assertSuperTypeReferences(null, "[p/W.java, p/X.java, p/Y.java, p/Z.java]");
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * The changes of the memory index shadow the documents of the graph, and are carried over to the graph of the
+	 * merged disk index, which answers as the graph read from the saved file.
+	 */
+	public void testSuperTypeReferencesUpdate() throws IOException, ReflectiveOperationException {
+		addSuperTypeReferences();
+		save();
+		this.index.startQuery();
+		try {
+			readGraph();
+			assertSuperTypeReferences("A", "[p/W.java, p/X.java]");
+			this.index.remove("p/X.java");
+			this.index.remove("p/Y.java");
+			addSuperTypeReference("p/Y.java", "Y", "A");
+			addSuperTypeReference("p/V.java", "V", "AB");
+			assertSuperTypeReferences("A", "[p/W.java, p/Y.java]");
+			assertSuperTypeReferences("AB", "[p/V.java]");
+			assertSuperTypeReferences(null, "[p/V.java, p/W.java, p/Y.java, p/Z.java]");
+
+			Object graph = getSubTypeGraph();
+			assertNotNull("Graph should be read", graph);
+			save();
+			assertSame("Graph should be carried over to the merged index", graph, getSubTypeGraph());
+			assertSuperTypeReferences("A", "[p/W.java, p/Y.java]");
+			assertSuperTypeReferences("AB", "[p/V.java]");
+			assertSuperTypeReferences(null, "[p/V.java, p/W.java, p/Y.java, p/Z.java]");
+		} finally {
+			this.index.stopQuery();
+		}
+
+		this.index = newIndex(true);
+		this.index.startQuery();
+		try {
+			assertSuperTypeReferences("A", "[p/W.java, p/Y.java]");
+			assertSuperTypeReferences("AB", "[p/V.java]");
+			assertSuperTypeReferences(null, "[p/V.java, p/W.java, p/Y.java, p/Z.java]");
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * The patterns which are not exact and case sensitive query the category table instead of the graph. Once they
+	 * read the table, the exact case sensitive pattern reads the graph instead of scanning the table.
+	 */
+	public void testSuperTypeReferencesFallback() throws IOException, ReflectiveOperationException {
+		addSuperTypeReferences();
+		save();
+		this.index.startQuery();
+		try {
+			assertEquals("Unexpected exact case sensitive matches", "[p/W.java, p/X.java]",
+					documentNames(superTypeReferencePattern("A", EXACT).queryIn(this.index)));
+			assertEquals("Unexpected exact case insensitive matches", "[p/W.java, p/X.java, p/Z.java]",
+					documentNames(superTypeReferencePattern("A", SearchPattern.R_EXACT_MATCH).queryIn(this.index)));
+			assertEquals("Unexpected prefix matches", "[p/W.java, p/X.java, p/Y.java]",
+					documentNames(superTypeReferencePattern("A", PREFIX).queryIn(this.index)));
+			assertEquals("Unexpected pattern matches", "[p/Y.java]",
+					documentNames(superTypeReferencePattern("?B*", SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE).queryIn(this.index)));
+			assertNull("Graph should not be read by the other patterns", getSubTypeGraph());
+			assertEquals("Unexpected exact case sensitive matches", "[p/W.java, p/X.java]",
+					documentNames(superTypeReferencePattern("A", EXACT).queryIn(this.index)));
+			assertNotNull("Graph should be read once the table was read", getSubTypeGraph());
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	private static SuperTypeReferencePattern superTypeReferencePattern(String superSimpleName, int matchRule) {
+		return new SuperTypeReferencePattern(null, superSimpleName.toCharArray(), SuperTypeReferencePattern.ALL_SUPER_TYPES, matchRule);
+	}
+
+	/*
+	 * The graph stays resident for the next searches, which look it up from their first query on.
+	 */
+	public void testSubTypeGraphResident() throws IOException, ReflectiveOperationException {
+		addSuperTypeReferences();
+		save();
+		this.index.startQuery();
+		try {
+			readGraph();
+		} finally {
+			this.index.stopQuery();
+		}
+		Object graph = getSubTypeGraph();
+		assertNotNull("Graph should stay resident", graph);
+		this.index.startQuery();
+		try {
+			assertSuperTypeReferences("A", "[p/W.java, p/X.java]");
+			assertSame("Graph should not be read again", graph, getSubTypeGraph());
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * One level hierarchy searches only read the matching entries of the dictionary, however many they are.
+	 */
+	public void testSubTypeGraphOneLevel() throws IOException, ReflectiveOperationException {
+		addSuperTypeReferences();
+		save();
+		for (int i = 0; i < 20; i++) {
+			this.index.startQuery();
+			try {
+				assertSuperTypeReferences("A", "[p/W.java, p/X.java]");
+			} finally {
+				this.index.stopQuery();
+			}
+		}
+		assertNull("Graph should not be read by one level searches", getSubTypeGraph());
+	}
+
+	/*
+	 * Adds the documents p/D0.java to p/D<count-1>.java, which are not sorted by number, each referencing w, and w0,
+	 * w1 or w2 in another category.
+	 */
+	private void addDocuments(int count) {
+		for (int i = 0; i < count; i++) {
+			String document = "p/D" + i + ".java";
+			this.index.addIndexEntry(IIndexConstants.REF, "w".toCharArray(), document);
+			this.index.addIndexEntry(IIndexConstants.TYPE_DECL, ("w" + i % 3).toCharArray(), document);
+		}
+	}
+
+	/*
+	 * The numbers of the documents of the disk index and the names of the documents of the memory index of an entry
+	 * give the names of its documents once each.
+	 */
+	public void testEntryResultDocumentNumbers() throws IOException, ReflectiveOperationException {
+		addDocuments(250);
+		save();
+		Method addDocumentNumber = EntryResult.class.getDeclaredMethod("addDocumentNumber", int.class);
+		addDocumentNumber.setAccessible(true);
+		this.index.startQuery();
+		try {
+			EntryResult result = new EntryResult("w".toCharArray(), null);
+			assertEquals("Unexpected documents", "[]", documentNames(new EntryResult[] { result }));
+			for (int documentNumber : new int[] { 249, 0, 120, 0, 99, 100 })
+				addDocumentNumber.invoke(result, Integer.valueOf(documentNumber));
+			result.addDocumentName("q/New.java");
+			String[] documentNames = result.getDocumentNames(this.index);
+			assertEquals("Unexpected number of documents", 6, documentNames.length);
+			String[] sortedNames = this.index.queryDocumentNames(null);
+			Arrays.sort(sortedNames);
+			assertEquals("Unexpected documents",
+					new TreeSet<>(Arrays.asList(sortedNames[0], sortedNames[99], sortedNames[100], sortedNames[120], sortedNames[249], "q/New.java")).toString(),
+					documentNames(new EntryResult[] { result }));
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	private String query(char[][] categories, String key, int matchRule) throws IOException {
+		this.index.startQuery();
+		try {
+			return toString(this.index.query(categories, key == null ? null : key.toCharArray(), matchRule));
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * The documents of the disk index which the memory index added, changed or removed are not answered by the disk
+	 * index, in the first, last and chunk boundary positions as well, and the results are the same once saved.
+	 */
+	public void testShadowedDocuments() throws IOException {
+		addDocuments(250);
+		save();
+		String[] sortedNames = this.index.queryDocumentNames(null);
+		Arrays.sort(sortedNames);
+		for (int i : new int[] { 0, 99, 100, 249 })
+			this.index.remove(sortedNames[i]);
+		this.index.remove(sortedNames[150]);
+		this.index.addIndexEntry(IIndexConstants.REF, "v".toCharArray(), sortedNames[150]);
+		this.index.addIndexEntry(IIndexConstants.REF, "w".toCharArray(), "q/New.java");
+		this.index.remove("q/Missing.java");
+
+		char[][] categories = { IIndexConstants.REF, IIndexConstants.TYPE_DECL };
+		String[] queries = {
+			query(new char[][] { IIndexConstants.REF }, "w", EXACT),
+			query(categories, "w", PREFIX),
+			query(categories, "w*", SearchPattern.R_PATTERN_MATCH),
+			query(categories, "W", SearchPattern.R_EXACT_MATCH),
+			query(categories, null, EXACT),
+		};
+		TreeSet<String> expected = new TreeSet<>(Arrays.asList(sortedNames));
+		for (int i : new int[] { 0, 99, 100, 150, 249 })
+			expected.remove(sortedNames[i]);
+		expected.add("q/New.java");
+		assertEquals("Unexpected documents", "w=" + expected, queries[0]);
+		assertTrue("Unexpected documents: " + queries[4], queries[4].startsWith("v=[" + sortedNames[150] + "]\n"));
+
+		save();
+		assertEquals("Unexpected documents once saved", queries[0], query(new char[][] { IIndexConstants.REF }, "w", EXACT));
+		assertEquals("Unexpected documents once saved", queries[1], query(categories, "w", PREFIX));
+		assertEquals("Unexpected documents once saved", queries[2], query(categories, "w*", SearchPattern.R_PATTERN_MATCH));
+		assertEquals("Unexpected documents once saved", queries[3], query(categories, "W", SearchPattern.R_EXACT_MATCH));
+		assertEquals("Unexpected documents once saved", queries[4], query(categories, null, EXACT));
+	}
+
+	/*
+	 * Runs the exact and prefix case sensitive queries of the dictionaries in a single query session, and answers their
+	 * results. The file of the index stays open for the whole session.
+	 */
+	private String[] queryDictionaries(boolean expectOpenFile) throws IOException, ReflectiveOperationException {
+		char[][] ref = { IIndexConstants.REF };
+		char[][] categories = { IIndexConstants.REF, IIndexConstants.TYPE_DECL };
+		Object diskIndex = getField(this.index, Index.class, "diskIndex");
+		this.index.startQuery();
+		try {
+			String[] results = {
+				toString(this.index.query(ref, "w".toCharArray(), EXACT)),
+				toString(this.index.query(ref, "wa".toCharArray(), EXACT)),
+				toString(this.index.query(ref, "\u00e9t\u00e9".toCharArray(), EXACT)),
+				toString(this.index.query(ref, "a".toCharArray(), EXACT)),
+				toString(this.index.query(ref, "zz".toCharArray(), EXACT)),
+				toString(this.index.query(ref, "w".toCharArray(), PREFIX)),
+				toString(this.index.query(ref, "\u00e9".toCharArray(), PREFIX)),
+				toString(this.index.query(ref, "wz".toCharArray(), PREFIX)),
+				toString(this.index.query(categories, "w".toCharArray(), PREFIX)),
+			};
+			assertEquals("Unexpected open file", expectOpenFile, getField(diskIndex, diskIndex.getClass(), "queryReader") != null);
+			return results;
+		} finally {
+			this.index.stopQuery();
+			assertNull("File should be closed when the query stops", getField(diskIndex, diskIndex.getClass(), "queryReader"));
+		}
+	}
+
+	/*
+	 * The exact and prefix queries looking up the dictionaries of the saved category tables answer the same results as
+	 * the queries reading the whole tables when the index has no dictionary, e.g. when it is not a local file.
+	 */
+	public void testDictionaryQueries() throws IOException, ReflectiveOperationException {
+		addDocuments(300); // more documents than the size of the document arrays written with their table
+		this.index.addIndexEntry(IIndexConstants.REF, "a".toCharArray(), "p/A.java");
+		this.index.addIndexEntry(IIndexConstants.REF, "wa".toCharArray(), "p/A.java");
+		this.index.addIndexEntry(IIndexConstants.REF, "wb".toCharArray(), "p/A.java");
+		this.index.addIndexEntry(IIndexConstants.REF, "wb".toCharArray(), "p/B.java");
+		this.index.addIndexEntry(IIndexConstants.REF, "\u00e9t\u00e9".toCharArray(), "p/B.java");
+		this.index.addIndexEntry(IIndexConstants.REF, "x".toCharArray(), "p/B.java");
+		save();
+
+		String[] dictionaryResults = queryDictionaries(true);
+		assertEquals("Unexpected exact matches", "wa=[p/A.java]", dictionaryResults[1]);
+		assertEquals("Unexpected exact matches", "\u00e9t\u00e9=[p/B.java]", dictionaryResults[2]);
+		assertEquals("Unexpected exact matches", "a=[p/A.java]", dictionaryResults[3]);
+		assertEquals("Unexpected exact matches", "null", dictionaryResults[4]);
+		assertEquals("Unexpected prefix matches", "null", dictionaryResults[7]);
+		String[] lines = dictionaryResults[5].split("\n");
+		assertEquals("Unexpected prefix matches", 3, lines.length);
+		assertEquals("Unexpected prefix matches", dictionaryResults[0], lines[0]);
+		assertEquals("Unexpected prefix matches", "wa=[p/A.java]", lines[1]);
+		assertEquals("Unexpected prefix matches", "wb=[p/A.java, p/B.java]", lines[2]);
+		assertEquals("Unexpected documents", 300, dictionaryResults[0].split(",").length);
+		assertEquals("Unexpected prefix matches", 6, dictionaryResults[8].split("\n").length);
+
+		// an index read again without dictionary reads the whole tables
+		this.index = newIndex(true);
+		Object diskIndex = getField(this.index, Index.class, "diskIndex");
+		Field dictionaryOffsets = diskIndex.getClass().getDeclaredField("categoryDictionaryOffsets");
+		dictionaryOffsets.setAccessible(true);
+		dictionaryOffsets.set(diskIndex, null);
+		assertEquals("Unexpected results without dictionary", Arrays.asList(dictionaryResults), Arrays.asList(queryDictionaries(false)));
+	}
+
+	private void addTypeDeclaration(String document, String packageName, String typeName) {
+		this.index.addIndexEntry(IIndexConstants.TYPE_DECL, TypeDeclarationPattern.createIndexKey(ClassFileConstants.AccPublic,
+				typeName.toCharArray(), packageName.toCharArray(), null, false), document);
+	}
+
+	private void addTypeDeclarations() {
+		addTypeDeclaration("p/HashMap.java", "p", "HashMap");
+		addTypeDeclaration("q/HashMap.java", "q", "HashMap");
+		addTypeDeclaration("p/HashSet.java", "p", "HashSet");
+		addTypeDeclaration("p/Hashtable.java", "p", "Hashtable");
+		addTypeDeclaration("p/hashing.java", "p", "hashing");
+		addTypeDeclaration("p/Map.java", "p", "Map");
+		addTypeDeclaration("p/NPE.java", "p", "NPE");
+		addTypeDeclaration("p/NullPointerException.java", "p", "NullPointerException");
+		addTypeDeclaration("p/Zip.java", "p", "Zip");
+	}
+
+	private static Object getTypeNameTable(Index index) throws ReflectiveOperationException {
+		return getResidentTable(index, "org.eclipse.jdt.internal.core.index.TypeNameTable", "RESIDENT_TABLES");
+	}
+
+	private Object getTypeNameTable() throws ReflectiveOperationException {
+		return getTypeNameTable(this.index);
+	}
+
+	/*
+	 * Asserts the documents of the type declarations matching the given key, and that they are the ones of the
+	 * category table.
+	 */
+	private void assertTypeDeclarations(String key, int matchRule, String expectedDocumentNames) throws IOException {
+		char[] pattern = key == null ? null : key.toCharArray();
+		EntryResult[] results = this.index.queryTypeDeclarations(pattern, matchRule);
+		assertEquals("Unexpected documents declaring " + key, expectedDocumentNames, documentNames(results));
+		assertEquals("Unexpected entries declaring " + key,
+				toString(this.index.query(TYPE_DECL, pattern, matchRule)), toString(results));
+	}
+
+	/*
+	 * Exact case sensitive keys, and the null key, are looked up in the category table without reading the table of
+	 * the type names.
+	 */
+	public void testTypeDeclarationsExact() throws IOException, ReflectiveOperationException {
+		addTypeDeclarations();
+		save();
+		this.index.startQuery();
+		try {
+			String hashMap = new String(TypeDeclarationPattern.createIndexKey(ClassFileConstants.AccPublic,
+					"HashMap".toCharArray(), "p".toCharArray(), null, false));
+			assertTypeDeclarations(hashMap, EXACT, "[p/HashMap.java]");
+			assertTypeDeclarations(hashMap.toLowerCase(), EXACT, "[]");
+			assertTypeDeclarations(null, EXACT, "[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/Map.java, p/NPE.java, "
+					+ "p/NullPointerException.java, p/Zip.java, p/hashing.java, q/HashMap.java]");
+			assertNull("Table should not be read by exact queries", getTypeNameTable());
+			assertTypeDeclarations(hashMap.toLowerCase(), SearchPattern.R_EXACT_MATCH, "[p/HashMap.java]");
+			assertNotNull("Table should be read by case insensitive queries", getTypeNameTable());
+		} finally {
+			this.index.stopQuery();
+		}
+		Object table = getTypeNameTable();
+		assertNotNull("Table should stay resident", table);
+		this.index.startQuery();
+		try {
+			assertTypeDeclarations("hash", SearchPattern.R_PREFIX_MATCH,
+					"[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/hashing.java, q/HashMap.java]");
+			assertSame("Table should not be read again", table, getTypeNameTable());
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * The resident tables of all the indexes are bounded together: the table of the index queried least recently is
+	 * released first, and read again by its next query.
+	 */
+	public void testTypeDeclarationsBound() throws IOException, ReflectiveOperationException {
+		addTypeDeclarations();
+		save();
+		File otherFile = File.createTempFile("indexquerytests", ".index");
+		Object residentTables = getField(null, Class.forName("org.eclipse.jdt.internal.core.index.TypeNameTable"), "RESIDENT_TABLES");
+		Field bound = residentTables.getClass().getDeclaredField("maxEntries");
+		bound.setAccessible(true);
+		Object maxEntries = bound.get(residentTables);
+		try {
+			bound.set(residentTables, Integer.valueOf(12)); // room for the 9 type declarations of one index
+			Index other = new Index(new FileIndexLocation(otherFile), "/other", false);
+			other.addIndexEntry(IIndexConstants.TYPE_DECL, TypeDeclarationPattern.createIndexKey(ClassFileConstants.AccPublic,
+					"HashBag".toCharArray(), "r".toCharArray(), null, false), "r/HashBag.java");
+			for (int i = 0; i < 8; i++)
+				other.addIndexEntry(IIndexConstants.TYPE_DECL, TypeDeclarationPattern.createIndexKey(ClassFileConstants.AccPublic,
+						("List" + i).toCharArray(), "r".toCharArray(), null, false), "r/List" + i + ".java");
+			other.monitor.enterWrite();
+			try {
+				other.save();
+			} finally {
+				other.monitor.exitWrite();
+			}
+
+			this.index.startQuery();
+			try {
+				assertTypeDeclarations("hash", SearchPattern.R_PREFIX_MATCH,
+						"[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/hashing.java, q/HashMap.java]");
+			} finally {
+				this.index.stopQuery();
+			}
+			assertNotNull("Table should stay resident", getTypeNameTable());
+
+			other.startQuery();
+			try {
+				assertEquals("Unexpected documents", "[r/HashBag.java]",
+						documentNames(other.queryTypeDeclarations("hash".toCharArray(), SearchPattern.R_PREFIX_MATCH)));
+			} finally {
+				other.stopQuery();
+			}
+			assertNull("Table of the index queried least recently should be released", getTypeNameTable());
+			assertNotNull("Table of the index just queried should stay resident", getTypeNameTable(other));
+
+			this.index.startQuery();
+			try {
+				assertTypeDeclarations("hash", SearchPattern.R_PREFIX_MATCH,
+						"[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/hashing.java, q/HashMap.java]");
+			} finally {
+				this.index.stopQuery();
+			}
+			assertNotNull("Table should be read again", getTypeNameTable());
+			assertNull("Table of the index queried least recently should be released", getTypeNameTable(other));
+		} finally {
+			bound.set(residentTables, maxEntries);
+			otherFile.delete();
+		}
+	}
+
+	/*
+	 * Prefixes and patterns with a leading literal only test the range of the words starting with the literal, ignoring
+	 * case, and are still matched against the whole key. As for the search patterns, case insensitive patterns are
+	 * lower case.
+	 */
+	public void testTypeDeclarationsRange() throws IOException {
+		addTypeDeclarations();
+		save();
+		this.index.startQuery();
+		try {
+			assertTypeDeclarations("hash", SearchPattern.R_PREFIX_MATCH,
+					"[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/hashing.java, q/HashMap.java]");
+			assertTypeDeclarations("Hash", PREFIX, "[p/HashMap.java, p/HashSet.java, p/Hashtable.java, q/HashMap.java]");
+			assertTypeDeclarations("HashMap/q", PREFIX, "[q/HashMap.java]");
+			assertTypeDeclarations("Hashtable", PREFIX, "[p/Hashtable.java]");
+			assertTypeDeclarations("A", SearchPattern.R_PREFIX_MATCH, "[]");
+			assertTypeDeclarations("Zip", PREFIX, "[p/Zip.java]");
+			assertTypeDeclarations("Zz", SearchPattern.R_PREFIX_MATCH, "[]");
+			assertTypeDeclarations("Hash*/p/*", SearchPattern.R_PATTERN_MATCH | SearchPattern.R_CASE_SENSITIVE,
+					"[p/HashMap.java, p/HashSet.java, p/Hashtable.java]");
+			assertTypeDeclarations("h?sh*", SearchPattern.R_PATTERN_MATCH,
+					"[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/hashing.java, q/HashMap.java]");
+			assertTypeDeclarations("*map/*", SearchPattern.R_PATTERN_MATCH, "[p/HashMap.java, p/Map.java, q/HashMap.java]");
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * Camel case keys only test the words starting with their first character.
+	 */
+	public void testTypeDeclarationsCamelCase() throws IOException {
+		addTypeDeclarations();
+		save();
+		this.index.startQuery();
+		try {
+			assertTypeDeclarations("HM", SearchPattern.R_CAMELCASE_MATCH, "[p/HashMap.java, q/HashMap.java]");
+			assertTypeDeclarations("NPE", SearchPattern.R_CAMELCASE_MATCH, "[p/NPE.java, p/NullPointerException.java]");
+			assertTypeDeclarations("NuPoEx", SearchPattern.R_CAMELCASE_MATCH, "[p/NullPointerException.java]");
+			assertTypeDeclarations("hash", SearchPattern.R_CAMELCASE_MATCH,
+					"[p/HashMap.java, p/HashSet.java, p/Hashtable.java, p/hashing.java, q/HashMap.java]");
+			assertTypeDeclarations("MH", SearchPattern.R_CAMELCASE_MATCH, "[]");
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+
+	/*
+	 * The changes of the memory index shadow the documents of the table, and are merged into the table of the merged
+	 * disk index, which answers as the table read from the saved file.
+	 */
+	public void testTypeDeclarationsUpdate() throws IOException, ReflectiveOperationException {
+		addTypeDeclarations();
+		save();
+		this.index.startQuery();
+		try {
+			assertTypeDeclarations("Hash", PREFIX, "[p/HashMap.java, p/HashSet.java, p/Hashtable.java, q/HashMap.java]");
+			this.index.remove("p/HashSet.java");
+			this.index.remove("p/Map.java");
+			addTypeDeclaration("p/Map.java", "p", "HashBag");
+			addTypeDeclaration("r/Hash.java", "r", "Hash");
+			assertTypeDeclarations("Hash", PREFIX, "[p/HashMap.java, p/Hashtable.java, p/Map.java, q/HashMap.java, r/Hash.java]");
+			assertTypeDeclarations("*map/*", SearchPattern.R_PATTERN_MATCH, "[p/HashMap.java, q/HashMap.java]");
+
+			Object table = getTypeNameTable();
+			save();
+			assertSame("Table should be carried over to the merged index", table, getTypeNameTable());
+			assertTypeDeclarations("Hash", PREFIX, "[p/HashMap.java, p/Hashtable.java, p/Map.java, q/HashMap.java, r/Hash.java]");
+			assertTypeDeclarations("*map/*", SearchPattern.R_PATTERN_MATCH, "[p/HashMap.java, q/HashMap.java]");
+			assertTypeDeclarations("HB", SearchPattern.R_CAMELCASE_MATCH, "[p/Map.java]");
+		} finally {
+			this.index.stopQuery();
+		}
+
+		this.index = newIndex(true);
+		this.index.startQuery();
+		try {
+			assertTypeDeclarations("Hash", PREFIX, "[p/HashMap.java, p/Hashtable.java, p/Map.java, q/HashMap.java, r/Hash.java]");
+			assertTypeDeclarations("*map/*", SearchPattern.R_PATTERN_MATCH, "[p/HashMap.java, q/HashMap.java]");
+			assertTypeDeclarations("HB", SearchPattern.R_CAMELCASE_MATCH, "[p/Map.java]");
+		} finally {
+			this.index.stopQuery();
+		}
+	}
+}
@@ -15,10 +15,16 @@ package org.eclipse.jdt.core.tests.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.zip.CRC32;
+import java.util.zip.ZipFile;
 import junit.framework.Test;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.CoreException;
@@ -35,13 +41,19 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.index.JavaIndexer;
 import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.tests.util.Util;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfIntValues;
 import org.eclipse.jdt.internal.core.ClasspathEntry;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.UserLibraryClasspathContainer;
 import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.index.EntryResult;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.search.indexing.IndexManager;
+import org.eclipse.jdt.internal.core.search.indexing.IndexStore;
+import org.eclipse.jdt.internal.core.search.indexing.ParallelJarIndexing;
 import org.osgi.service.prefs.BackingStoreException;
 
 public class JavaIndexTests extends AbstractJavaSearchTests  {
@@ -932,4 +944,152 @@ public class JavaIndexTests extends AbstractJavaSearchTests  {
 			ClasspathEntry.setSharedIndexLocation(null, getClass());
 		}
 	}
+
+	// Test that the index of a jar is found in the index store when the same jar is used from another location
+	public void testIndexStore() throws CoreException, IOException {
+		File storeDir = Files.createTempDirectory("index_store").toFile();
+		File jarDir1 = Files.createTempDirectory("index_store_jars").toFile();
+		File jarDir2 = Files.createTempDirectory("index_store_jars").toFile();
+		File jarFile1 = new File(jarDir1, "Test.jar");
+		File jarFile2 = new File(jarDir2, "Test.jar");
+		try {
+			createJar(new String[] {
+					"pkg/Test.java",
+					"package pkg;\n" +
+					"public class Test {\n" +
+					"  protected Test(int i) {}\n" +
+					"}"}, jarFile1.getPath());
+			Files.copy(jarFile1.toPath(), jarFile2.toPath());
+
+			IndexStore indexStore = new IndexStore(storeDir);
+			assertEquals("Unexpected number of indexed jars", 1, indexStore.populate(List.of(jarDir1), 2));
+			assertEquals("Jar should not be indexed again", 0, indexStore.populate(List.of(jarFile1), 2));
+			File[] storedFiles = new File(storeDir, DiskIndex.INDEX_VERSION).listFiles();
+			assertEquals("Unexpected stored files", 1, storedFiles.length);
+			File storedFile = storedFiles[0];
+			long modified = storedFile.lastModified();
+
+			IndexStore.setDefault(indexStore, getClass());
+			IJavaProject p = createJavaProject("P");
+			Path libPath = new Path(jarFile2.getPath());
+			IClasspathEntry entry = JavaCore.newLibraryEntry(libPath, null, null, null, null, false);
+			setClasspath(p, new IClasspathEntry[] { entry });
+
+			waitUntilIndexesReady();
+
+			// Test that search works properly
+			search("Test", TYPE, DECLARATIONS, EXACT_RULE,
+					SearchEngine.createJavaSearchScope(new IJavaElement[] { p }));
+			assertSearchResults(jarFile2.getPath() + " pkg.Test");
+
+			// Test that the stored index was used, and not modified
+			File indexFile = JavaModelManager.getIndexManager().getIndex(libPath, false, false).getIndexFile();
+			assertEquals("Stored index was not used", -1, Files.mismatch(storedFile.toPath(), indexFile.toPath()));
+			assertEquals(modified, storedFile.lastModified());
+		} finally {
+			IndexStore.setDefault(null, getClass());
+			deleteProject("P");
+			Util.delete(storeDir);
+			Util.delete(jarDir1);
+			Util.delete(jarDir2);
+		}
+	}
+
+	/*
+	 * Returns the categories of the given index file, each followed by its sorted words and their sorted document
+	 * names, then the sorted document names of the index.
+	 */
+	private static String dumpIndex(File indexFile) throws IOException, ReflectiveOperationException {
+		Index index = new Index(new FileIndexLocation(indexFile), "/jar", true);
+		Field diskIndexField = Index.class.getDeclaredField("diskIndex");
+		diskIndexField.setAccessible(true);
+		Object diskIndex = diskIndexField.get(index);
+		Field categoryOffsetsField = DiskIndex.class.getDeclaredField("categoryOffsets");
+		categoryOffsetsField.setAccessible(true);
+		HashtableOfIntValues categoryOffsets = (HashtableOfIntValues) categoryOffsetsField.get(diskIndex);
+		List<String> categories = new ArrayList<>();
+		for (char[] category : categoryOffsets.keyTable)
+			if (category != null)
+				categories.add(new String(category));
+		Collections.sort(categories);
+		StringBuilder buffer = new StringBuilder();
+		index.startQuery();
+		try {
+			for (String category : categories) {
+				buffer.append(category).append('\n');
+				EntryResult[] results = index.query(new char[][] { category.toCharArray() }, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+				List<String> entries = new ArrayList<>();
+				for (EntryResult result : results) {
+					String[] documentNames = result.getDocumentNames(index);
+					Arrays.sort(documentNames);
+					entries.add(new String(result.getWord()) + '=' + Arrays.toString(documentNames));
+				}
+				Collections.sort(entries);
+				for (String entry : entries)
+					buffer.append('\t').append(entry).append('\n');
+			}
+			String[] documentNames = index.queryDocumentNames(null);
+			Arrays.sort(documentNames);
+			buffer.append(Arrays.toString(documentNames));
+		} finally {
+			index.stopQuery();
+		}
+		return buffer.toString();
+	}
+
+	private static File indexJar(File jarFile, File storeDir, boolean parallel) throws IOException {
+		ParallelJarIndexing.setForced(Boolean.valueOf(parallel), JavaIndexTests.class);
+		try {
+			assertEquals("Unexpected number of indexed jars", 1, new IndexStore(storeDir).populate(List.of(jarFile), 1));
+		} finally {
+			ParallelJarIndexing.setForced(null, JavaIndexTests.class);
+		}
+		File[] storedFiles = new File(storeDir, DiskIndex.INDEX_VERSION).listFiles();
+		assertEquals("Unexpected stored files", 1, storedFiles.length);
+		return storedFiles[0];
+	}
+
+	// Test that a jar indexed by several threads gives the same index as when indexed sequentially
+	public void testParallelJarIndexing() throws IOException, ReflectiveOperationException {
+		File jarDir = Files.createTempDirectory("parallel_jar").toFile();
+		File sequentialStoreDir = Files.createTempDirectory("index_store").toFile();
+		File parallelStoreDir = Files.createTempDirectory("index_store").toFile();
+		try {
+			int classCount = 300;
+			String[] pathsAndContents = new String[classCount * 2];
+			for (int i = 0; i < classCount; i++) {
+				String pkg = "p" + (i % 3);
+				String superclass = i < 3 ? "Object" : "p" + ((i - 3) % 3) + ".C" + (i - 3);
+				pathsAndContents[i * 2] = pkg + "/C" + i + ".java";
+				pathsAndContents[i * 2 + 1] =
+					"package " + pkg + ";\n" +
+					"public class C" + i + " extends " + superclass + " implements Comparable<C" + i + "> {\n" +
+					"  public static final int F" + i + " = " + i + ";\n" +
+					"  protected java.util.List<String> field" + i + ";\n" +
+					"  public C" + i + "() {}\n" +
+					"  public " + superclass + " method" + i + "(String s, int[] values) throws java.io.IOException {\n" +
+					"    return new " + superclass + "();\n" +
+					"  }\n" +
+					"  public int compareTo(C" + i + " other) { return F" + i + "; }\n" +
+					"  public static class Inner" + i + " { @Deprecated void run() {} }\n" +
+					"}";
+			}
+			File jarFile = new File(jarDir, "Large.jar");
+			createJar(pathsAndContents, jarFile.getPath());
+			try (ZipFile zip = new ZipFile(jarFile)) {
+				assertTrue("Jar should have at least 256 entries", zip.size() >= 256);
+			}
+
+			File sequentialIndex = indexJar(jarFile, sequentialStoreDir, false);
+			File parallelIndex = indexJar(jarFile, parallelStoreDir, true);
+			String expected = dumpIndex(sequentialIndex);
+			assertTrue("Unexpected categories of the sequential index", expected.contains("\nsuperRef\n") && expected.contains("\ntypeDecl\n"));
+			assertEquals("Unexpected index", expected, dumpIndex(parallelIndex));
+			assertEquals("Unexpected index file", -1, Files.mismatch(sequentialIndex.toPath(), parallelIndex.toPath()));
+		} finally {
+			Util.delete(jarDir);
+			Util.delete(sequentialStoreDir);
+			Util.delete(parallelStoreDir);
+		}
+	}
 }
@@ -8660,6 +8660,49 @@ private void bug167190(boolean parallel) throws JavaModelException {
 	assertEquals(String.format("Found types sounds not to be correct [Parallel=%s]", parallel), requestor.toString(), collector.toString());
 }
 
+/*
+ * The parallel search of several indexes answers the same matches as their sequential search.
+ */
+public void testParallelSearchSameMatches() throws JavaModelException {
+	assertTrue("Search should query several indexes", getJavaSearchScope().enclosingProjectsAndJars().length > 1);
+	String sequential = searchAllTypeNames(false);
+	assertTrue("Unexpected types:\n" + sequential, sequential.split("\n").length > 100);
+	assertEquals("Parallel search should find the same types", sequential, searchAllTypeNames(true));
+}
+private String searchAllTypeNames(boolean parallel) throws JavaModelException {
+	IJavaSearchScope scope = new AbstractSearchScope() {
+		IJavaSearchScope jsScope = getJavaSearchScope();
+		public void processDelta(IJavaElementDelta delta, int eventType) {
+			// we should have no delta on this test case
+		}
+		public boolean encloses(String resourcePath) {
+			return this.jsScope.encloses(resourcePath);
+		}
+		public boolean encloses(IJavaElement element) {
+			return this.jsScope.encloses(element);
+		}
+		public IPath[] enclosingProjectsAndJars() {
+			return this.jsScope.enclosingProjectsAndJars();
+		}
+		@Override
+		public boolean isParallelSearchSupported() {
+			return parallel;
+		}
+	};
+	TypeNameRequestor requestor = new SearchTests.SearchTypeNameRequestor();
+	new SearchEngine().searchAllTypeNames(
+		null,
+		SearchPattern.R_EXACT_MATCH,
+		null, // all the types of all the indexes
+		SearchPattern.R_PATTERN_MATCH,
+		IJavaSearchConstants.TYPE,
+		scope,
+		requestor,
+		IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH,
+		null);
+	return requestor.toString();
+}
+
 /**
  * bug 178596: [search] Search for method references does not find references to interface method
  * test Ensure that searching method reference finds the interface method reference
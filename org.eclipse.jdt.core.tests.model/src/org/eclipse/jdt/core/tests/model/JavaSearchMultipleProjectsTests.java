@@ -20,6 +20,8 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.jdt.core.*;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
@@ -29,6 +31,7 @@ import org.eclipse.jdt.core.search.SearchPattern;
 import org.eclipse.jdt.core.tests.model.AbstractJavaSearchTests.JavaSearchResultCollector;
 import org.eclipse.jdt.core.tests.model.AbstractJavaSearchTests.TypeNameMatchCollector;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.core.search.matching.ParallelMatchLocation;
 import org.eclipse.jdt.internal.core.search.matching.PatternLocator;
 
 /**
@@ -1575,4 +1578,67 @@ public void testBug250454_jars() throws CoreException, IOException {
 		deleteProject("P2");
 	}
 }
+/**
+ * Type references located in parallel, one partition per project, are reported as in a sequential search.
+ */
+public void testParallelMatchLocation() throws Exception {
+	IEclipsePreferences node = InstanceScope.INSTANCE.getNode(JavaCore.PLUGIN_ID);
+	String pref = ParallelMatchLocation.ENABLE_PARALLEL_MATCH_LOCATION;
+	node.putBoolean(pref, true);
+	try {
+		createJavaProject("P1", new String[] {""}, new String[] {"JCL18_LIB"}, "");
+		createFolder("/P1/p1");
+		createFile(
+			"/P1/p1/X.java",
+			"package p1;\n" +
+			"public class X {\n" +
+			"}"
+		);
+		for (int i = 2; i <= 4; i++) {
+			createJavaProject("P" + i, new String[] {""}, new String[] {"JCL18_LIB"}, new String[] {"/P1"}, "");
+			createFolder("/P" + i + "/p" + i);
+			createFile(
+				"/P" + i + "/p" + i + "/Y.java",
+				"package p" + i + ";\n" +
+				"import p1.X;\n" +
+				"public class Y {\n" +
+				"	X x;\n" +
+				"	X foo(X x) { return x; }\n" +
+				"}"
+			);
+		}
+		IType type = getCompilationUnit("/P1/p1/X.java").getType("X");
+		SearchPattern pattern = SearchPattern.createPattern(type, REFERENCES);
+		JavaSearchResultCollector resultCollector = new JavaSearchResultCollector();
+		resultCollector.showProject();
+		new SearchEngine().search(
+			pattern,
+			new SearchParticipant[] {SearchEngine.getDefaultSearchParticipant()},
+			SearchEngine.createWorkspaceScope(),
+			resultCollector,
+			null
+		);
+		assertSearchResults(
+			"Unexpected references to "+type,
+			"p2/Y.java [in P2] [p1.X]\n" +
+			"p2/Y.java [in P2] p2.Y.x [X]\n" +
+			"p2/Y.java [in P2] X p2.Y.foo(X) [X]\n" +
+			"p2/Y.java [in P2] X p2.Y.foo(X) [X]\n" +
+			"p3/Y.java [in P3] [p1.X]\n" +
+			"p3/Y.java [in P3] p3.Y.x [X]\n" +
+			"p3/Y.java [in P3] X p3.Y.foo(X) [X]\n" +
+			"p3/Y.java [in P3] X p3.Y.foo(X) [X]\n" +
+			"p4/Y.java [in P4] [p1.X]\n" +
+			"p4/Y.java [in P4] p4.Y.x [X]\n" +
+			"p4/Y.java [in P4] X p4.Y.foo(X) [X]\n" +
+			"p4/Y.java [in P4] X p4.Y.foo(X) [X]",
+			resultCollector);
+	} finally {
+		node.remove(pref);
+		deleteProject("P1");
+		deleteProject("P2");
+		deleteProject("P3");
+		deleteProject("P4");
+	}
+}
 }
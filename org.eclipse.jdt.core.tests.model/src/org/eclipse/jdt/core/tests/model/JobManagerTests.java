@@ -0,0 +1,309 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import junit.framework.Test;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.jdt.internal.core.search.processing.IJob;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+
+/**
+ * Tests the scheduling of the jobs of a {@link JobManager} on several threads.
+ */
+public class JobManagerTests extends AbstractJavaModelTests {
+
+	private static final long TIMEOUT = 10; // seconds
+	private static final long NOT_STARTED_DELAY = 200; // milliseconds
+
+	private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+	private TestJobManager manager;
+
+	static class TestJobManager extends JobManager {
+		TestJobManager(int workerCount) {
+			super(workerCount);
+		}
+		@Override
+		protected void notifyIdle(long idlingMilliSeconds) {
+			// nothing to do
+		}
+		@Override
+		public String processName() {
+			return "Test Job Manager";
+		}
+	}
+
+	class TestJob implements IJob {
+		final String name;
+		final String family;
+		final Object key;
+		final boolean bulk;
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch released = new CountDownLatch(1);
+		final CountDownLatch finished = new CountDownLatch(1);
+		volatile boolean cancelled;
+
+		TestJob(String name, String family, Object key, boolean bulk) {
+			this.name = name;
+			this.family = family;
+			this.key = key;
+			this.bulk = bulk;
+		}
+		@Override
+		public boolean belongsTo(String jobFamily) {
+			return this.family.equals(jobFamily);
+		}
+		@Override
+		public void cancel() {
+			this.cancelled = true;
+			this.released.countDown();
+		}
+		@Override
+		public void ensureReadyToRun() {
+			// always ready
+		}
+		@Override
+		public boolean execute(IProgressMonitor progress) {
+			JobManagerTests.this.events.add("start " + this.name);
+			this.started.countDown();
+			try {
+				this.released.await(TIMEOUT, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				// finish
+			}
+			JobManagerTests.this.events.add("end " + this.name);
+			this.finished.countDown();
+			return COMPLETE;
+		}
+		@Override
+		public String getJobFamily() {
+			return this.family;
+		}
+		@Override
+		public Object getConcurrencyKey() {
+			return this.key;
+		}
+		@Override
+		public boolean isBulk() {
+			return this.bulk;
+		}
+		TestJob release() {
+			this.released.countDown();
+			return this;
+		}
+		@Override
+		public String toString() {
+			return this.name;
+		}
+	}
+
+	public static Test suite() {
+		return buildModelTestSuite(JobManagerTests.class);
+	}
+
+	public JobManagerTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		if (this.manager != null) {
+			this.manager.shutdown();
+			this.manager = null;
+		}
+		this.events.clear();
+		super.tearDown();
+	}
+
+	private TestJobManager startManager(int workerCount) {
+		this.manager = new TestJobManager(workerCount);
+		this.manager.reset(); // starts the threads
+		return this.manager;
+	}
+
+	private void waitUntilIdle() throws InterruptedException {
+		long end = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(TIMEOUT);
+		while (this.manager.awaitingJobsCount() > 0) {
+			assertTrue("Jobs still waiting: " + this.manager, System.currentTimeMillis() < end);
+			Thread.sleep(10);
+		}
+	}
+
+	private static void assertStarted(TestJob job) throws InterruptedException {
+		assertTrue(job + " should have started", job.started.await(TIMEOUT, TimeUnit.SECONDS));
+	}
+
+	private static void assertNotStarted(TestJob job) throws InterruptedException {
+		assertFalse(job + " should not have started", job.started.await(NOT_STARTED_DELAY, TimeUnit.MILLISECONDS));
+	}
+
+	private List<String> eventsOf(String... names) {
+		List<String> result = new ArrayList<>();
+		synchronized (this.events) {
+			for (String event : this.events) {
+				for (String name : names) {
+					if (event.endsWith(" " + name))
+						result.add(event);
+				}
+			}
+		}
+		return result;
+	}
+
+	/*
+	 * Jobs with the same key run one after the other, in the order they were requested, even when jobs with other keys
+	 * run concurrently.
+	 */
+	public void testSameKeyOrdering() throws InterruptedException {
+		startManager(3);
+		for (int i = 1; i <= 5; i++) {
+			this.manager.request(new TestJob("A" + i, "f", "a", false).release());
+			this.manager.request(new TestJob("B" + i, "f", "b", false).release());
+		}
+		waitUntilIdle();
+		assertEquals("Unexpected order of the jobs with key a",
+				"[start A1, end A1, start A2, end A2, start A3, end A3, start A4, end A4, start A5, end A5]",
+				eventsOf("A1", "A2", "A3", "A4", "A5").toString());
+		assertEquals("Unexpected order of the jobs with key b",
+				"[start B1, end B1, start B2, end B2, start B3, end B3, start B4, end B4, start B5, end B5]",
+				eventsOf("B1", "B2", "B3", "B4", "B5").toString());
+	}
+
+	/*
+	 * Jobs with different keys run concurrently.
+	 */
+	public void testDifferentKeysRunConcurrently() throws InterruptedException {
+		startManager(2);
+		TestJob a = new TestJob("A", "f", "a", false);
+		TestJob b = new TestJob("B", "f", "b", false);
+		this.manager.request(a);
+		this.manager.request(b);
+		assertStarted(a);
+		assertStarted(b);
+		a.release();
+		b.release();
+		waitUntilIdle();
+	}
+
+	/*
+	 * A job without key waits for the jobs requested before it, and the jobs requested after it wait for it.
+	 */
+	public void testNullKeyRunsAlone() throws InterruptedException {
+		startManager(3);
+		TestJob a = new TestJob("A", "f", "a", false);
+		TestJob alone = new TestJob("Alone", "f", null, false);
+		TestJob b = new TestJob("B", "f", "b", false);
+		this.manager.request(a);
+		this.manager.request(alone);
+		this.manager.request(b);
+		assertStarted(a);
+		assertNotStarted(alone);
+		assertNotStarted(b);
+		a.release();
+		assertStarted(alone);
+		assertNotStarted(b);
+		alone.release();
+		assertStarted(b);
+		b.release();
+		waitUntilIdle();
+		assertEquals("Unexpected order",
+				"[start A, end A, start Alone, end Alone, start B, end B]",
+				this.events.toString());
+	}
+
+	/*
+	 * Amongst the jobs ready to run, the ones which are not bulk start first.
+	 */
+	public void testBulkJobsStartLast() throws InterruptedException {
+		startManager(1);
+		TestJob first = new TestJob("First", "f", "first", false);
+		this.manager.request(first);
+		assertStarted(first);
+		this.manager.request(new TestJob("Bulk", "f", "bulk", true).release());
+		this.manager.request(new TestJob("Interactive1", "f", "interactive1", false).release());
+		this.manager.request(new TestJob("Interactive2", "f", "interactive2", false).release());
+		first.release();
+		waitUntilIdle();
+		assertEquals("Unexpected order",
+				"[start First, end First, start Interactive1, end Interactive1, start Interactive2, end Interactive2, start Bulk, end Bulk]",
+				this.events.toString());
+	}
+
+	/*
+	 * Discarding the jobs of a family cancels and waits for its running jobs, removes its waiting jobs and keeps the
+	 * other ones. A client waiting until the jobs are done is released once they are.
+	 */
+	public void testDiscardJobsReleasesWaitingClient() throws InterruptedException {
+		startManager(1);
+		TestJob running = new TestJob("Running", "f", "a", false);
+		TestJob discarded = new TestJob("Discarded", "f", "a", false).release();
+		TestJob kept = new TestJob("Kept", "g", "b", false);
+		this.manager.request(running);
+		this.manager.request(discarded);
+		this.manager.request(kept);
+		assertStarted(running);
+
+		TestJob search = new TestJob("Search", "s", null, false).release();
+		Thread client = new Thread(() -> this.manager.performConcurrentJob(search, IJob.WaitUntilReady, null), "Waiting client");
+		client.start();
+		assertNotStarted(search);
+
+		this.manager.discardJobs("f");
+		assertTrue("Running job should have been cancelled", running.cancelled);
+		assertEquals("Running job should be done", 0, running.finished.getCount());
+		assertTrue("Waiting job should have been cancelled", discarded.cancelled);
+		assertNotStarted(search); // still waiting for the kept job
+
+		assertStarted(kept);
+		kept.release();
+		assertStarted(search);
+		client.join(TimeUnit.SECONDS.toMillis(TIMEOUT));
+		assertFalse("Client should be done", client.isAlive());
+		assertEquals("Unexpected order",
+				"[start Running, end Running, start Kept, end Kept, start Search, end Search]",
+				this.events.toString());
+		assertEquals("Unexpected jobs in queue", 0, this.manager.awaitingJobsCount());
+	}
+
+	/*
+	 * The statistics count the waiting, running and executed jobs.
+	 */
+	public void testStatistics() throws InterruptedException {
+		startManager(1);
+		TestJob first = new TestJob("First", "f", "a", false);
+		this.manager.request(first);
+		this.manager.request(new TestJob("Second", "f", "a", false).release());
+		this.manager.request(new TestJob("Third", "f", "a", false).release());
+		assertStarted(first);
+		JobManager.Statistics statistics = this.manager.getStatistics();
+		assertEquals("Unexpected awaiting jobs", 3, statistics.awaitingJobs());
+		assertEquals("Unexpected running jobs", 1, statistics.runningJobs());
+		assertEquals("Unexpected executed jobs", 0, statistics.executedJobs());
+
+		Thread.sleep(50);
+		first.release();
+		waitUntilIdle();
+		statistics = this.manager.getStatistics();
+		assertEquals("Unexpected awaiting jobs", 0, statistics.awaitingJobs());
+		assertEquals("Unexpected running jobs", 0, statistics.runningJobs());
+		assertEquals("Unexpected executed jobs", 3, statistics.executedJobs());
+		// the first job ran at least 50 ms, during which the two others waited
+		assertTrue("Unexpected max latency: " + statistics.maxLatency(), statistics.maxLatency() >= 50);
+		assertTrue("Unexpected average execution time: " + statistics.averageExecutionTime(), statistics.averageExecutionTime() >= 50 / 3);
+	}
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.tests.model;
+
+import junit.framework.Test;
+import org.eclipse.jdt.internal.core.util.MemoryGovernor;
+
+/**
+ * Tests how a {@link MemoryGovernor} sizes the batches from the occupancy of the heap.
+ */
+public class MemoryGovernorTests extends AbstractJavaModelTests {
+
+	private static final double HIGH = (MemoryGovernor.HIGH_OCCUPANCY + 1) / 2;
+	private static final double MEDIUM = (MemoryGovernor.LOW_OCCUPANCY + MemoryGovernor.HIGH_OCCUPANCY) / 2;
+	private static final double LOW = MemoryGovernor.LOW_OCCUPANCY / 2;
+
+	private double occupancy;
+	private int releases;
+
+	public static Test suite() {
+		return buildModelTestSuite(MemoryGovernorTests.class);
+	}
+
+	public MemoryGovernorTests(String name) {
+		super(name);
+	}
+
+	private MemoryGovernor newGovernor(int initialBatchSize, int minBatchSize, int maxBatchSize) {
+		return new MemoryGovernor("test", initialBatchSize, minBatchSize, maxBatchSize, () -> this.releases++, () -> this.occupancy);
+	}
+
+	/*
+	 * The first batch has the initial size, which is not measured.
+	 */
+	public void testInitialBatchSize() {
+		this.occupancy = HIGH;
+		MemoryGovernor governor = newGovernor(100, 10, 1000);
+		assertEquals("Unexpected first batch size", 100, governor.batchSize());
+		assertEquals("Caches should not be released", 0, this.releases);
+	}
+
+	/*
+	 * Above the high occupancy, the batches are halved down to the minimum size, and the caches are released each time.
+	 */
+	public void testShrinkAboveHighOccupancy() {
+		MemoryGovernor governor = newGovernor(100, 10, 1000);
+		this.occupancy = HIGH;
+		assertEquals("Unexpected batch size", 50, governor.nextBatchSize());
+		assertEquals("Unexpected releases", 1, this.releases);
+		assertEquals("Unexpected batch size", 25, governor.nextBatchSize());
+		assertEquals("Unexpected batch size", 12, governor.nextBatchSize());
+		assertEquals("Unexpected batch size", 10, governor.nextBatchSize());
+		assertEquals("Unexpected batch size", 10, governor.nextBatchSize());
+		assertEquals("Unexpected releases", 5, this.releases);
+		assertEquals("Unexpected current batch size", 10, governor.batchSize());
+	}
+
+	/*
+	 * Below the low occupancy, the batches grow by half up to the maximum size.
+	 */
+	public void testGrowBelowLowOccupancy() {
+		MemoryGovernor governor = newGovernor(100, 10, 300);
+		this.occupancy = LOW;
+		assertEquals("Unexpected batch size", 150, governor.nextBatchSize());
+		assertEquals("Unexpected batch size", 225, governor.nextBatchSize());
+		assertEquals("Unexpected batch size", 300, governor.nextBatchSize());
+		assertEquals("Unexpected batch size", 300, governor.nextBatchSize());
+		assertEquals("Caches should not be released", 0, this.releases);
+	}
+
+	/*
+	 * In between, the batch size is kept.
+	 */
+	public void testKeepBetweenOccupancies() {
+		MemoryGovernor governor = newGovernor(100, 10, 1000);
+		this.occupancy = MEDIUM;
+		assertEquals("Unexpected batch size", 100, governor.nextBatchSize());
+		this.occupancy = MemoryGovernor.HIGH_OCCUPANCY;
+		assertEquals("Unexpected batch size", 100, governor.nextBatchSize());
+		this.occupancy = MemoryGovernor.LOW_OCCUPANCY;
+		assertEquals("Unexpected batch size", 100, governor.nextBatchSize());
+		assertEquals("Caches should not be released", 0, this.releases);
+	}
+
+	/*
+	 * A batch of one grows, and the initial size is clamped between the minimum and the maximum sizes, the minimum
+	 * being at least one.
+	 */
+	public void testClamps() {
+		this.occupancy = LOW;
+		assertEquals("Unexpected batch size", 2, newGovernor(1, 0, 10).nextBatchSize());
+		assertEquals("Unexpected batch size", 10, newGovernor(5, 10, 100).batchSize());
+		assertEquals("Unexpected batch size", 100, newGovernor(500, 10, 100).batchSize());
+		assertEquals("Unexpected batch size", 10, newGovernor(500, 10, 5).batchSize());
+		this.occupancy = HIGH;
+		assertEquals("Unexpected batch size", 1, newGovernor(1, 0, 10).nextBatchSize());
+	}
+
+	/*
+	 * Without release hook, the batches still shrink under memory pressure.
+	 */
+	public void testNoReleaseHook() {
+		this.occupancy = HIGH;
+		MemoryGovernor governor = new MemoryGovernor("test", 100, 10, 1000, null, () -> this.occupancy);
+		assertEquals("Unexpected batch size", 50, governor.nextBatchSize());
+	}
+
+	/*
+	 * The occupancy of the heap measured after a garbage collection is a ratio.
+	 */
+	public void testHeapOccupancy() throws InterruptedException {
+		System.gc();
+		Thread.sleep(100); // the collectors notify asynchronously
+		double occupancy = MemoryGovernor.heapOccupancy();
+		assertTrue("Unexpected occupancy " + occupancy, occupancy >= 0 && occupancy <= 1);
+	}
+}
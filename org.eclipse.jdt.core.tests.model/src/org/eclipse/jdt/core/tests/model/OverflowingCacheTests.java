@@ -30,6 +30,7 @@ import org.eclipse.jdt.internal.core.BufferManager;
 import org.eclipse.jdt.internal.core.ElementCache;
 import org.eclipse.jdt.internal.core.JavaElementInfo;
 import org.eclipse.jdt.internal.core.JavaModelCache;
+import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.Openable;
 import org.eclipse.jdt.internal.core.OpenableElementInfo;
 import org.eclipse.jdt.internal.core.PackageFragmentRoot;
@@ -698,6 +699,97 @@ public class OverflowingCacheTests extends ModifyingResourceTests {
 		assertEquals("overflow space incorrect (after flush)", 0, actualOverflow);
 	}
 
+	/**
+	 * Creates an ElementCache of size 500 limited to 10000 estimated bytes, inserts 100 elements of 1000 bytes
+	 * and ensures that the oldest ones are closed to stay within the byte limit.
+	 */
+	public void testElementCacheByteLimit() {
+		int spaceLimit = 500;
+		int entryCount = 100;
+
+		ElementCache<OverflowingTestOpenable> cache = new ElementCache<>(spaceLimit);
+		cache.setByteLimit(10000);
+		OverflowingTestOpenable[] openables = new OverflowingTestOpenable[entryCount];
+		for (int i = 0; i < entryCount; i++) {
+			openables[i] = new OverflowingTestOpenable(new OverflowingTestBuffer(false, null), cache);
+			cache.put(openables[i], new MockInfo(i), 1000);
+			assertTrue("byte limit exceeded (" + i + ")", cache.getCurrentBytes() <= 10000);
+		}
+		assertEquals("current bytes incorrect", cache.getCurrentSpace() * 1000, cache.getCurrentBytes());
+		assertEquals("newest entry should be present", new MockInfo(entryCount - 1), cache.get(openables[entryCount - 1]));
+		assertNull("oldest entry should not be present", cache.get(openables[0]));
+
+		for (int i = 0; i < entryCount; i++) {
+			cache.remove(openables[i]);
+		}
+		assertEquals("current bytes incorrect (after removal)", 0, cache.getCurrentBytes());
+	}
+
+	/**
+	 * Ensures that an element read by ElementCache#peekConcurrently(...) is not closed
+	 * the next time the cache must make space, unlike the elements which were not read.
+	 */
+	public void testElementCacheSecondChance() {
+		int spaceLimit = 10;
+
+		ElementCache<OverflowingTestOpenable> cache = new ElementCache<>(spaceLimit);
+		OverflowingTestOpenable[] openables = new OverflowingTestOpenable[spaceLimit + 1];
+		for (int i = 0; i < spaceLimit; i++) {
+			openables[i] = new OverflowingTestOpenable(new OverflowingTestBuffer(false, null), cache);
+			cache.put(openables[i], new MockInfo(i));
+		}
+		assertEquals("wrong value", new MockInfo(0), cache.peekConcurrently(openables[0]));
+
+		openables[spaceLimit] = new OverflowingTestOpenable(new OverflowingTestBuffer(false, null), cache);
+		cache.put(openables[spaceLimit], new MockInfo(spaceLimit));
+		assertEquals("entry read concurrently should be present", new MockInfo(0), cache.peek(openables[0]));
+		assertNull("oldest entry not read should not be present", cache.peek(openables[1]));
+	}
+
+	/**
+	 * Ensures that the info of a type read without the lock of the model manager while its compilation unit is being
+	 * closed is not answered: the reader waits until the unit and its children are closed.
+	 */
+	public void testConcurrentReadDuringClose() throws CoreException, InterruptedException {
+		try {
+			createJavaProject("P");
+			createFile("/P/X.java",
+				"public class X {\n" +
+				"	void foo() {}\n" +
+				"}");
+			ICompilationUnit unit = getCompilationUnit("/P/X.java");
+			IType type = unit.getType("X");
+			JavaModelManager manager = JavaModelManager.getJavaModelManager();
+			unit.open(null);
+			assertNotNull("type should be open", manager.getInfo(type));
+
+			IElementInfo[] readInfo = new IElementInfo[1];
+			boolean[] readDuringClose = new boolean[1];
+			Thread[] reader = new Thread[1];
+			unit.getBuffer().addBufferChangedListener(event -> {
+				if (!event.getBuffer().isClosed())
+					return;
+				// the unit is being closed, with the lock of the model manager held
+				reader[0] = new Thread(() -> readInfo[0] = manager.getInfo(type), "Reader");
+				reader[0].start();
+				try {
+					reader[0].join(500);
+				} catch (InterruptedException e) {
+					// checked below
+				}
+				readDuringClose[0] = !reader[0].isAlive();
+			});
+			unit.close();
+			assertNotNull("buffer should have been closed", reader[0]);
+			reader[0].join(10000);
+			assertFalse("reader should be done", reader[0].isAlive());
+			assertFalse("reader should have waited for the unit to be closed", readDuringClose[0]);
+			assertNull("type should be closed", readInfo[0]);
+		} finally {
+			deleteProject("P");
+		}
+	}
+
 	static class MockInfo extends JavaElementInfo {
 		private final int index;
 
@@ -39,6 +39,7 @@ import org.eclipse.jdt.core.compiler.ReconcileContext;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.tests.util.Util;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
 import org.eclipse.jdt.internal.core.CompilationUnit;
 import org.eclipse.jdt.internal.core.JavaElement;
 import org.eclipse.jdt.internal.core.JavaModelCache;
@@ -5629,4 +5630,306 @@ public void testBug564613_001() throws CoreException, IOException, InterruptedEx
 			deleteProject(project15);
 	}
 }
+
+private static final String REUSED_PROBLEMS_SOURCE =
+	"package p1;\n" +
+	"public class X {\n" +
+	"  int f;\n" +
+	"  void m0() {\n" +
+	"  }\n" +
+	"  void m1() {\n" +
+	"    Object o = null;\n" +
+	"    o.toString();\n" +
+	"  }\n" +
+	"  void m2() throws Exception {\n" +
+	"    throw new Exception();\n" +
+	"  }\n" +
+	"  void m3() {\n" +
+	"    m2();\n" +
+	"  }\n" +
+	"}";
+/*
+ * Answers the problems recorded for the methods of the working copy by its last reconcile.
+ */
+private CategorizedProblem[][] getReconciledProblems() throws ReflectiveOperationException {
+	Object info = ((CompilationUnit) this.workingCopy).getPerWorkingCopyInfo();
+	Field reconciledMethodsField = info.getClass().getDeclaredField("reconciledMethods");
+	reconciledMethodsField.setAccessible(true);
+	Object reconciledMethods = reconciledMethodsField.get(info);
+	assertNotNull("The problems of the methods should have been recorded", reconciledMethods);
+	Field problemsField = reconciledMethods.getClass().getDeclaredField("problems");
+	problemsField.setAccessible(true);
+	return (CategorizedProblem[][]) problemsField.get(reconciledMethods);
+}
+/*
+ * Prefixes the messages of the problems recorded for the methods of the working copy by its last reconcile, so that the
+ * next reconcile tells the problems it reuses from the ones of a new analysis.
+ */
+private void markReconciledProblems() throws ReflectiveOperationException {
+	for (CategorizedProblem[] problems : getReconciledProblems()) {
+		if (problems == null)
+			continue;
+		for (int i = 0; i < problems.length; i++) {
+			DefaultProblem problem = (DefaultProblem) problems[i];
+			problems[i] = new DefaultProblem(problem.getOriginatingFileName(), "Reused: " + problem.getMessage(), problem.getID(),
+					problem.getArguments(), problem.severity, problem.getSourceStart(), problem.getSourceEnd(),
+					problem.getSourceLineNumber(), problem.getSourceColumnNumber());
+		}
+	}
+}
+/*
+ * Ensures that an edit of the body of a method reuses the problems of the other methods, at their new positions.
+ */
+public void testReusedProblems1() throws CoreException, ReflectiveOperationException {
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE);
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems(
+		"Unexpected problems",
+		"----------\n" +
+		"1. WARNING in /Reconciler/src/p1/X.java (at line 8)\n" +
+		"	o.toString();\n" +
+		"	^\n" +
+		"Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"2. ERROR in /Reconciler/src/p1/X.java (at line 14)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Unhandled exception type Exception\n" +
+		"----------\n"
+	);
+
+	markReconciledProblems();
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE.replace("  void m0() {\n", "  void m0() {\n    Object o = null;\n    o.hashCode();\n"));
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems(
+		"Unexpected problems",
+		"----------\n" +
+		"1. WARNING in /Reconciler/src/p1/X.java (at line 6)\n" +
+		"	o.hashCode();\n" +
+		"	^\n" +
+		"Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"2. WARNING in /Reconciler/src/p1/X.java (at line 10)\n" +
+		"	o.toString();\n" +
+		"	^\n" +
+		"Reused: Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"3. ERROR in /Reconciler/src/p1/X.java (at line 16)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Reused: Unhandled exception type Exception\n" +
+		"----------\n"
+	);
+
+	// the problems of the edited method are recorded for the next edit
+	markReconciledProblems();
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE.replace("  void m1() {\n", "  void m1() {\n    Object p = null;\n    p.hashCode();\n")
+			.replace("  void m0() {\n", "  void m0() {\n    Object o = null;\n    o.hashCode();\n"));
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems(
+		"Unexpected problems",
+		"----------\n" +
+		"1. WARNING in /Reconciler/src/p1/X.java (at line 6)\n" +
+		"	o.hashCode();\n" +
+		"	^\n" +
+		"Reused: Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"2. WARNING in /Reconciler/src/p1/X.java (at line 10)\n" +
+		"	p.hashCode();\n" +
+		"	^\n" +
+		"Null pointer access: The variable p can only be null at this location\n" +
+		"----------\n" +
+		"3. WARNING in /Reconciler/src/p1/X.java (at line 12)\n" +
+		"	o.toString();\n" +
+		"	^\n" +
+		"Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"4. ERROR in /Reconciler/src/p1/X.java (at line 18)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Reused: Unhandled exception type Exception\n" +
+		"----------\n"
+	);
+}
+/*
+ * Ensures that an edit of a field or of the signature of a method analyzes all the methods again.
+ */
+public void testReusedProblems2() throws CoreException, ReflectiveOperationException {
+	String expected =
+		"----------\n" +
+		"1. WARNING in /Reconciler/src/p1/X.java (at line 8)\n" +
+		"	o.toString();\n" +
+		"	^\n" +
+		"Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"2. ERROR in /Reconciler/src/p1/X.java (at line 14)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Unhandled exception type Exception\n" +
+		"----------\n";
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE);
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems("Unexpected problems", expected);
+
+	markReconciledProblems();
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE.replace("  int f;\n", "  int f, g;\n"));
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems("Unexpected problems after an edit of a field", expected);
+
+	markReconciledProblems();
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE.replace("  int f;\n", "  int f, g;\n").replace("void m0()", "void m0(int i)"));
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems("Unexpected problems after an edit of a signature", expected);
+}
+/*
+ * Ensures that a Java element delta, an edit or a reconcile of another working copy analyzes all the methods again.
+ */
+public void testReusedProblems3() throws CoreException, ReflectiveOperationException {
+	ICompilationUnit otherCopy = null;
+	try {
+		createFile(
+			"/Reconciler/src/p1/Y.java",
+			"package p1;\n" +
+			"public class Y {\n" +
+			"  void y() {\n" +
+			"  }\n" +
+			"}"
+		);
+		otherCopy = getWorkingCopy(
+			"/Reconciler/src/p1/Z.java",
+			"package p1;\n" +
+			"public class Z {\n" +
+			"  void z() {\n" +
+			"  }\n" +
+			"}",
+			this.wcOwner
+		);
+		String source =
+			"package p1;\n" +
+			"public class X {\n" +
+			"  void m0() {\n" +
+			"  }\n" +
+			"  void m1(Y y, Z z) {\n" +
+			"    y.y();\n" +
+			"    z.z();\n" +
+			"  }\n" +
+			"}";
+		setWorkingCopyContents(source);
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, this.wcOwner, null);
+		assertProblems("Unexpected problems", "----------\n----------\n");
+
+		// a Java element delta
+		deleteFile("/Reconciler/src/p1/Y.java");
+		createFile(
+			"/Reconciler/src/p1/Y.java",
+			"package p1;\n" +
+			"public class Y {\n" +
+			"  void y() throws Exception {\n" +
+			"  }\n" +
+			"}"
+		);
+		setWorkingCopyContents(source = source.replace("  void m0() {\n", "  void m0() {\n    int i;\n"));
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, this.wcOwner, null);
+		String expected =
+			"----------\n" +
+			"1. ERROR in /Reconciler/src/p1/X.java (at line 7)\n" +
+			"	y.y();\n" +
+			"	^^^^^\n" +
+			"Unhandled exception type Exception\n" +
+			"----------\n";
+		assertProblems("Unexpected problems after a delta", expected);
+
+		// an edit of another working copy, not reconciled
+		markReconciledProblems();
+		otherCopy.getBuffer().setContents(
+			"package p1;\n" +
+			"public class Z {\n" +
+			"  void z() {\n" +
+			"  }\n" +
+			"  void w() {\n" +
+			"  }\n" +
+			"}"
+		);
+		setWorkingCopyContents(source = source.replace("    int i;\n", "    int j;\n"));
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, this.wcOwner, null);
+		assertProblems("Unexpected problems after an edit of another working copy", expected);
+
+		// a reconcile of another working copy
+		markReconciledProblems();
+		otherCopy.reconcile(ICompilationUnit.NO_AST, false, this.wcOwner, null);
+		setWorkingCopyContents(source.replace("    int j;\n", "    int k;\n"));
+		this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, this.wcOwner, null);
+		assertProblems("Unexpected problems after a reconcile of another working copy", expected);
+	} finally {
+		if (otherCopy != null)
+			otherCopy.discardWorkingCopy();
+		deleteFile("/Reconciler/src/p1/Y.java");
+	}
+}
+/*
+ * Ensures that a method with a recorded problem which is not a default problem is analyzed again.
+ */
+public void testReusedProblems4() throws CoreException, ReflectiveOperationException {
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE);
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+	markReconciledProblems();
+	for (CategorizedProblem[] problems : getReconciledProblems()) {
+		if (problems != null && problems.length > 0 && problems[0].getID() == IProblem.NullLocalVariableReference) {
+			DefaultProblem problem = (DefaultProblem) problems[0];
+			problems[0] = new DefaultProblem(problem.getOriginatingFileName(), "Not a default problem", problem.getID(),
+					problem.getArguments(), problem.severity, problem.getSourceStart(), problem.getSourceEnd(),
+					problem.getSourceLineNumber(), problem.getSourceColumnNumber()) {
+				// a subclass
+			};
+		}
+	}
+	setWorkingCopyContents(REUSED_PROBLEMS_SOURCE.replace("  void m0() {\n", "  void m0() {\n    int i;\n"));
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems(
+		"Unexpected problems",
+		"----------\n" +
+		"1. WARNING in /Reconciler/src/p1/X.java (at line 9)\n" +
+		"	o.toString();\n" +
+		"	^\n" +
+		"Null pointer access: The variable o can only be null at this location\n" +
+		"----------\n" +
+		"2. ERROR in /Reconciler/src/p1/X.java (at line 15)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Reused: Unhandled exception type Exception\n" +
+		"----------\n"
+	);
+}
+/*
+ * Ensures that the reused problems of a method are suppressed by its @SuppressWarnings annotation, which is then not
+ * reported as unnecessary.
+ */
+public void testReusedProblems5() throws CoreException, ReflectiveOperationException {
+	String source = REUSED_PROBLEMS_SOURCE.replace("package p1;\n", "").replace("  void m1() {\n", "  @SuppressWarnings(\"null\")\n  void m1() {\n");
+	setUpWorkingCopy("/Reconciler15/src/X.java", source);
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, true, null, null);
+	String expected =
+		"----------\n" +
+		"1. ERROR in /Reconciler15/src/X.java (at line 14)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Unhandled exception type Exception\n" +
+		"----------\n";
+	assertProblems("Unexpected problems", expected);
+
+	assertEquals("The suppressed problem should be recorded", 1, getReconciledProblems()[1].length);
+	markReconciledProblems();
+	setWorkingCopyContents(source.replace("  void m0() {\n", "  void m0() {\n    int i;\n"));
+	this.workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+	assertProblems(
+		"Unexpected problems",
+		"----------\n" +
+		"1. ERROR in /Reconciler15/src/X.java (at line 15)\n" +
+		"	m2();\n" +
+		"	^^^^\n" +
+		"Reused: Unhandled exception type Exception\n" +
+		"----------\n"
+	);
+}
 }
@@ -477,6 +477,73 @@ public class FullSourceWorkspaceSearchTests extends FullSourceWorkspaceTests imp
 		assertPerformance();
 	}
 
+	/**
+	 * Result collector recording the time of the first match and the peak of used heap while matches are accepted.
+	 */
+	class FirstMatchResultCollector extends SearchRequestor {
+		int count = 0;
+		long start;
+		long firstMatch;
+		long peakHeap;
+		void reset() {
+			this.count = 0;
+			this.firstMatch = 0;
+			this.peakHeap = 0;
+			this.start = System.nanoTime();
+		}
+		public void acceptSearchMatch(SearchMatch match) throws CoreException {
+			if (this.count++ == 0) {
+				this.firstMatch = System.nanoTime() - this.start;
+			}
+			if ((this.count & 0xFF) == 1) {
+				Runtime runtime = Runtime.getRuntime();
+				this.peakHeap = Math.max(this.peakHeap, runtime.totalMemory() - runtime.freeMemory());
+			}
+		}
+	}
+
+	/**
+	 * Performance tests for search: Types occurrences in the whole workspace,
+	 * also reporting the time to the first match and the peak of used heap.
+	 */
+	public void testSearchTypeFirstMatch() throws CoreException {
+		tagAsSummary("Search type occurences in workspace", false); // do NOT put in fingerprint
+
+		// Wait for indexing end
+		waitUntilIndexesReady();
+
+		// Warm up
+		IJavaSearchScope scope = SearchEngine.createWorkspaceScope();
+		String name = "Object";
+		FirstMatchResultCollector resultCollector = new FirstMatchResultCollector();
+		for (int i=0 ; i<WARMUP_COUNT; i++) {
+			resultCollector.reset();
+			search(name, TYPE, ALL_OCCURRENCES, scope, resultCollector);
+			if (i==0) {
+				System.out.println("	- "+INT_FORMAT.format(resultCollector.count)+" occurences for type '"+name+"' in workspace");
+			}
+		}
+
+		// Measures
+		long firstMatch = 0, peakHeap = 0;
+		for (int i=0; i<MEASURES_COUNT; i++) {
+			cleanCategoryTableCache(true, scope, new JavaSearchResultCollector());
+			runGc();
+			resultCollector.reset();
+			startMeasuring();
+			search(name, TYPE, ALL_OCCURRENCES, scope, resultCollector);
+			stopMeasuring();
+			firstMatch += resultCollector.firstMatch;
+			peakHeap = Math.max(peakHeap, resultCollector.peakHeap);
+		}
+		System.out.println("	- time to first match [ms]: "+INT_FORMAT.format(firstMatch / MEASURES_COUNT / 1_000_000L));
+		System.out.println("	- peak of used heap [KB]: "+INT_FORMAT.format(peakHeap / 1024));
+
+		// Commit
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	/**
 	 * Performance tests for search: Fields occurrences.
 	 */
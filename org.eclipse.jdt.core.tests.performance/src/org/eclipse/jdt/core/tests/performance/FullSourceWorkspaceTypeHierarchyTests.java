@@ -156,6 +156,38 @@ public class FullSourceWorkspaceTypeHierarchyTests extends FullSourceWorkspaceTe
 
 	}
 
+	/*
+	 * CharOperation has no sub type: the hierarchy search queries each index once, from the dictionary of its super
+	 * type references, without reading the whole table.
+	 */
+	public void testPerfOneLevelHierarchy() throws CoreException {
+		ICompilationUnit unit = getCompilationUnit("org.eclipse.jdt.core", "org.eclipse.jdt.core.compiler", "CharOperation.java");
+		assertNotNull("CharOperation not found!", unit);
+
+		// Warm up
+		IType type = unit.getType("CharOperation");
+		for (int i=0; i<WARMUP_COUNT; i++) {
+			type.newTypeHierarchy(null);
+		}
+
+		// Clean memory
+		runGc();
+
+		// Measures
+		for (int i=0; i<MEASURES_COUNT; i++) {
+			runGc();
+			startMeasuring();
+			for (int j=0; j<10; j++) {
+				type.newTypeHierarchy(null);
+			}
+			stopMeasuring();
+		}
+
+		// Commit
+		commitMeasurements();
+		assertPerformance();
+	}
+
 	// Test for https://bugs.eclipse.org/bugs/show_bug.cgi?id=301438
 	public void testPerSuperTypes() throws CoreException {
 		assertNotNull("Parser not found!", PARSER_WORKING_COPY);
@@ -635,6 +635,11 @@ public final class AST {
 	 */
 	static final int RESOLVED_BINDINGS = 0x80000000;
 
+	/*
+	 * Must not collide with a value for ICompilationUnit constants
+	 */
+	static final int RELEASE_DELIVERED_UNITS = 0x40000000;
+
 	private static Map<String, Long> jdkLevelMap = getLevelMapTable();
 
 	private static Map<String, Integer> apiLevelMap = getApiLevelMapTable();
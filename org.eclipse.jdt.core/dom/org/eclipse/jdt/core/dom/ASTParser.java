@@ -215,6 +215,11 @@ public class ASTParser {
 	 */
 	private int bits;
 
+	/**
+	 * Number of threads creating the ASTs of a batch of compilation units.
+	 */
+	private int parallelism;
+
 	private final ICompilationUnitResolver unitResolver;
 
 	/**
@@ -319,6 +324,7 @@ public class ASTParser {
 		this.rawSource = null;
 		this.typeRoot = null;
 		this.bits = 0;
+		this.parallelism = 1;
 		this.sourceLength = -1;
 		this.sourceOffset = 0;
 		this.workingCopyOwner = DefaultWorkingCopyOwner.PRIMARY;
@@ -810,6 +816,59 @@ public class ASTParser {
 		}
 	}
 
+	/**
+	 * Requests that the compiler ASTs and scopes of the compilation units processed by
+	 * {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)} and
+	 * {@link #createASTs(String[], String[], String[], FileASTRequestor, IProgressMonitor)}
+	 * be released as soon as their AST has been delivered to the requestor.
+	 * <p>
+	 * Only the type level bindings, which are shared by all the compilation units of the batch,
+	 * are kept, so that the memory needed by a large batch depends on the compilation units
+	 * being resolved rather than on the size of the batch. The nodes of an AST can only be
+	 * resolved during its {@link ASTRequestor#acceptAST(ICompilationUnit, CompilationUnit) acceptAST}
+	 * callback: afterwards <code>resolveBinding()</code> and similar methods answer <code>null</code>,
+	 * while the bindings obtained during the callback stay usable at the type level (e.g. their keys,
+	 * declaring classes, super types, fields and methods).
+	 * </p>
+	 * <p>
+	 * Defaults to <code>false</code>. This setting has no effect if bindings are not resolved.
+	 * </p>
+	 *
+	 * @param enabled <code>true</code> if the compilation units should be released after delivery,
+	 *   and <code>false</code> if they are kept for the lifetime of the ASTs
+	 * @since 3.46
+	 */
+	public void setReleaseDeliveredUnits(boolean enabled) {
+		if (enabled) {
+			this.bits |= CompilationUnitResolver.RELEASE_DELIVERED_UNITS;
+		} else {
+			this.bits &= ~CompilationUnitResolver.RELEASE_DELIVERED_UNITS;
+		}
+	}
+
+	/**
+	 * Sets the number of threads creating the ASTs of a batch of compilation units in
+	 * {@link #createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)} and
+	 * {@link #createASTs(String[], String[], String[], FileASTRequestor, IProgressMonitor)}.
+	 * <p>
+	 * With a parallelism greater than 1, the compilation units are split into as many partitions,
+	 * each of them resolved with its own environment on its own thread. The ASTs are delivered
+	 * as soon as they are created, from the thread that created them; the requestor callbacks
+	 * are never made concurrently. Bindings of different partitions are not identical even when
+	 * they have the same key, and the binding keys are looked up by the first partition, after
+	 * its own ASTs are delivered.
+	 * </p>
+	 * <p>
+	 * Defaults to 1, i.e. all compilation units are processed by the calling thread.
+	 * </p>
+	 *
+	 * @param parallelism the maximum number of threads creating ASTs, 1 or less for none but the calling thread
+	 * @since 3.46
+	 */
+	public void setParallelism(int parallelism) {
+		this.parallelism = Math.max(1, parallelism);
+	}
+
 	/**
 	 * Requests an abstract syntax tree without method bodies.
 	 *
@@ -1016,9 +1075,30 @@ public class ASTParser {
 				if ((this.bits & CompilationUnitResolver.BINDING_RECOVERY) != 0) {
 					flags |= ICompilationUnit.ENABLE_BINDINGS_RECOVERY;
 				}
-				this.unitResolver.resolve(safeCopyOf(compilationUnits), safeCopyOf(bindingKeys), requestor, this.apiLevel, safeUnmodifiableMap(this.compilerOptions), this.project, this.workingCopyOwner, flags, monitor);
+				if ((this.bits & CompilationUnitResolver.RELEASE_DELIVERED_UNITS) != 0) {
+					flags |= AST.RELEASE_DELIVERED_UNITS;
+				}
+				Map<String, String> options = safeUnmodifiableMap(this.compilerOptions);
+				IJavaProject javaProject = this.project;
+				WorkingCopyOwner owner = this.workingCopyOwner;
+				int resolveFlags = flags;
+				if (ParallelASTCreation.canCreateInParallel(this.parallelism, compilationUnits)) {
+					ParallelASTCreation.createASTs(safeCopyOf(compilationUnits), safeCopyOf(bindingKeys), requestor, this.parallelism,
+							(units, keys, partitionRequestor, partitionMonitor) -> this.unitResolver.resolve(units, keys, partitionRequestor, this.apiLevel, options, javaProject, owner, resolveFlags, partitionMonitor),
+							monitor);
+				} else {
+					this.unitResolver.resolve(safeCopyOf(compilationUnits), safeCopyOf(bindingKeys), requestor, this.apiLevel, options, javaProject, owner, flags, monitor);
+				}
 			} else {
-				this.unitResolver.parse(safeCopyOf(compilationUnits), requestor, this.apiLevel, safeUnmodifiableMap(this.compilerOptions), flags, monitor);
+				Map<String, String> options = safeUnmodifiableMap(this.compilerOptions);
+				int parseFlags = flags;
+				if (ParallelASTCreation.canCreateInParallel(this.parallelism, compilationUnits)) {
+					ParallelASTCreation.createASTs(safeCopyOf(compilationUnits), null, requestor, this.parallelism,
+							(units, keys, partitionRequestor, partitionMonitor) -> this.unitResolver.parse(units, partitionRequestor, this.apiLevel, options, parseFlags, partitionMonitor),
+							monitor);
+				} else {
+					this.unitResolver.parse(safeCopyOf(compilationUnits), requestor, this.apiLevel, options, flags, monitor);
+				}
 			}
 		} finally {
 			// reset to defaults to allow reuse (and avoid leaking)
@@ -1119,9 +1199,29 @@ public class ASTParser {
 				if ((this.bits & CompilationUnitResolver.BINDING_RECOVERY) != 0) {
 					flags |= ICompilationUnit.ENABLE_BINDINGS_RECOVERY;
 				}
-				this.unitResolver.resolve(safeCopyOf(sourceFilePaths), safeCopyOf(encodings), safeCopyOf(bindingKeys), requestor, this.apiLevel, safeUnmodifiableMap(this.compilerOptions), getClasspath(), flags, monitor);
+				if ((this.bits & CompilationUnitResolver.RELEASE_DELIVERED_UNITS) != 0) {
+					flags |= AST.RELEASE_DELIVERED_UNITS;
+				}
+				Map<String, String> options = safeUnmodifiableMap(this.compilerOptions);
+				int resolveFlags = flags;
+				if (ParallelASTCreation.canCreateInParallel(this.parallelism, sourceFilePaths)) {
+					ParallelASTCreation.createASTs(safeCopyOf(sourceFilePaths), safeCopyOf(encodings), safeCopyOf(bindingKeys), requestor, this.parallelism,
+							// each partition needs its own class path entries, which hold the opened jars
+							(paths, pathEncodings, keys, partitionRequestor, partitionMonitor) -> this.unitResolver.resolve(paths, pathEncodings, keys, partitionRequestor, this.apiLevel, options, getClasspath(), resolveFlags, partitionMonitor),
+							monitor);
+				} else {
+					this.unitResolver.resolve(safeCopyOf(sourceFilePaths), safeCopyOf(encodings), safeCopyOf(bindingKeys), requestor, this.apiLevel, options, getClasspath(), flags, monitor);
+				}
 			} else {
-				this.unitResolver.parse(safeCopyOf(sourceFilePaths), safeCopyOf(encodings), requestor, this.apiLevel, safeUnmodifiableMap(this.compilerOptions), flags, monitor);
+				Map<String, String> options = safeUnmodifiableMap(this.compilerOptions);
+				int parseFlags = flags;
+				if (ParallelASTCreation.canCreateInParallel(this.parallelism, sourceFilePaths)) {
+					ParallelASTCreation.createASTs(safeCopyOf(sourceFilePaths), safeCopyOf(encodings), null, requestor, this.parallelism,
+							(paths, pathEncodings, keys, partitionRequestor, partitionMonitor) -> this.unitResolver.parse(paths, pathEncodings, partitionRequestor, this.apiLevel, options, parseFlags, partitionMonitor),
+							monitor);
+				} else {
+					this.unitResolver.parse(safeCopyOf(sourceFilePaths), safeCopyOf(encodings), requestor, this.apiLevel, options, flags, monitor);
+				}
 			}
 		} finally {
 			// reset to defaults to allow reuse (and avoid leaking)
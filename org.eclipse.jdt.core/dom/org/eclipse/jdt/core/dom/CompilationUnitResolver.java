@@ -52,6 +52,7 @@ import org.eclipse.jdt.internal.compiler.env.ISourceType;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.AnnotationBinding;
 import org.eclipse.jdt.internal.compiler.lookup.Binding;
+import org.eclipse.jdt.internal.compiler.lookup.CompilationUnitScope;
 import org.eclipse.jdt.internal.compiler.lookup.ExtraCompilerModifiers;
 import org.eclipse.jdt.internal.compiler.lookup.PackageBinding;
 import org.eclipse.jdt.internal.compiler.parser.Parser;
@@ -127,6 +128,7 @@ class CompilationUnitResolver extends Compiler {
 	public static final int BINDING_RECOVERY = 0x10;
 	public static final int INCLUDE_RUNNING_VM_BOOTCLASSPATH = 0x20;
 	public static final int FORCE_PROBLEM_DETECTION = 0x40;
+	public static final int RELEASE_DELIVERED_UNITS = 0x80;
 
 	/* A list of int */
 	static class IntArrayList {
@@ -154,6 +156,11 @@ class CompilationUnitResolver extends Compiler {
 
 	DefaultBindingResolver.BindingTables bindingTables;
 
+	/*
+	 * The scope of the resolvers of the released units, see #releaseDeliveredUnit(..)
+	 */
+	private CompilationUnitScope releasedScope;
+
 	boolean hasCompilationAborted;
 	CategorizedProblem abortProblem;
 
@@ -969,6 +976,7 @@ class CompilationUnitResolver extends Compiler {
 					break;
 				}
 				unit = this.unitsToProcess[i];
+				DefaultBindingResolver resolver = null;
 				try {
 					super.process(unit, i); // this.process(...) is optimized to not process already known units
 
@@ -984,7 +992,7 @@ class CompilationUnitResolver extends Compiler {
 						ast.setFlag(flags | AST.RESOLVED_BINDINGS);
 						ast.setDefaultNodeFlag(ASTNode.ORIGINAL);
 						ASTConverter converter = new ASTConverter(compilerOptions, true/*need to resolve bindings*/, this.monitor);
-						BindingResolver resolver = new DefaultBindingResolver(unit.scope, owner, this.bindingTables, (flags & ICompilationUnit.ENABLE_BINDINGS_RECOVERY) != 0, this.fromJavaProject);
+						resolver = new DefaultBindingResolver(unit.scope, owner, this.bindingTables, (flags & ICompilationUnit.ENABLE_BINDINGS_RECOVERY) != 0, this.fromJavaProject);
 						ast.setBindingResolver(resolver);
 						converter.setAST(ast);
 						CompilationUnit compilationUnit = converter.convert(unit, contents);
@@ -1026,6 +1034,9 @@ class CompilationUnitResolver extends Compiler {
 					// cleanup compilation unit result
 					unit.cleanUp();
 				}
+				if (resolver != null && (flags & AST.RELEASE_DELIVERED_UNITS) != 0) {
+					releaseDeliveredUnit(unit, resolver);
+				}
 				this.unitsToProcess[i] = null; // release reference to processed unit declaration
 				this.requestor.acceptResult(unit.compilationResult.tagAsAccepted());
 			}
@@ -1107,6 +1118,7 @@ class CompilationUnitResolver extends Compiler {
 					break;
 				}
 				unit = this.unitsToProcess[i];
+				DefaultBindingResolver resolver = null;
 				try {
 					super.process(unit, i); // this.process(...) is optimized to not process already known units
 
@@ -1122,7 +1134,7 @@ class CompilationUnitResolver extends Compiler {
 						ast.setFlag(flags | AST.RESOLVED_BINDINGS);
 						ast.setDefaultNodeFlag(ASTNode.ORIGINAL);
 						ASTConverter converter = new ASTConverter(compilerOptions, true/*need to resolve bindings*/, this.monitor);
-						BindingResolver resolver = new DefaultBindingResolver(unit.scope, null, this.bindingTables, (flags & ICompilationUnit.ENABLE_BINDINGS_RECOVERY) != 0, this.fromJavaProject);
+						resolver = new DefaultBindingResolver(unit.scope, null, this.bindingTables, (flags & ICompilationUnit.ENABLE_BINDINGS_RECOVERY) != 0, this.fromJavaProject);
 						ast.setBindingResolver(resolver);
 						converter.setAST(ast);
 						CompilationUnit compilationUnit = converter.convert(unit, contents);
@@ -1161,6 +1173,9 @@ class CompilationUnitResolver extends Compiler {
 					// cleanup compilation unit result
 					unit.cleanUp();
 				}
+				if (resolver != null && (flags & AST.RELEASE_DELIVERED_UNITS) != 0) {
+					releaseDeliveredUnit(unit, resolver);
+				}
 				this.unitsToProcess[i] = null; // release reference to processed unit declaration
 				this.requestor.acceptResult(unit.compilationResult.tagAsAccepted());
 			}
@@ -1190,6 +1205,49 @@ class CompilationUnitResolver extends Compiler {
 		}
 	}
 
+	/*
+	 * Releases the method bodies and the scopes of a unit whose AST was delivered, keeping the type level bindings
+	 * of the lookup environment, so that a large batch of ASTs needs the memory of the units being resolved
+	 * rather than the memory of all units of the batch.
+	 */
+	private void releaseDeliveredUnit(CompilationUnitDeclaration unit, DefaultBindingResolver resolver) {
+		if (this.releasedScope == null) {
+			this.releasedScope = new CompilationUnitScope(new CompilationUnitDeclaration(null, null, -1), this.lookupEnvironment);
+		}
+		// the bindings created for the AST keep a reference to its resolver
+		resolver.release(this.releasedScope);
+		if (unit.types != null) {
+			for (TypeDeclaration type : unit.types) {
+				releaseMethodBodies(type);
+			}
+		}
+		unit.scope = null;
+	}
+
+	private static void releaseMethodBodies(TypeDeclaration type) {
+		if (type.methods != null) {
+			for (AbstractMethodDeclaration method : type.methods) {
+				method.statements = null;
+				method.scope = null;
+			}
+		}
+		if (type.fields != null) {
+			for (org.eclipse.jdt.internal.compiler.ast.FieldDeclaration field : type.fields) {
+				if (field instanceof org.eclipse.jdt.internal.compiler.ast.Initializer initializer) {
+					initializer.block.statements = null;
+				}
+			}
+		}
+		if (type.memberTypes != null) {
+			for (TypeDeclaration memberType : type.memberTypes) {
+				releaseMethodBodies(memberType);
+			}
+		}
+		type.scope = null;
+		type.staticInitializerScope = null;
+		type.initializerScope = null;
+	}
+
 	private void reportBinding(Object key, ASTRequestor astRequestor, WorkingCopyOwner owner, CompilationUnitDeclaration unit) {
 		BindingKeyResolver keyResolver = (BindingKeyResolver) key;
 		Binding compilerBinding = keyResolver.getCompilerBinding();
@@ -102,7 +102,7 @@ class DefaultBindingResolver extends BindingResolver {
 	/**
 	 * Compilation unit scope
 	 */
-	private final CompilationUnitScope scope;
+	private CompilationUnitScope scope;
 
 	/**
 	 * The working copy owner that defines the context in which this resolver is creating the bindings.
@@ -144,6 +144,18 @@ class DefaultBindingResolver extends BindingResolver {
 		this.fromJavaProject = fromJavaProject;
 	}
 
+	/*
+	 * Releases the compiler AST and the scopes of the unit once its AST has been delivered, see
+	 * ASTParser#setReleaseDeliveredUnits(boolean): the bindings created so far, and the ones created from them,
+	 * stay usable at the type level, but the nodes of the AST cannot be resolved anymore.
+	 */
+	synchronized void release(CompilationUnitScope releasedScope) {
+		this.newAstToOldAst = new HashMap();
+		this.astNodesToBlockScope = new HashMap();
+		this.bindingsToAstNodes = new HashMap();
+		this.scope = releasedScope;
+	}
+
 	@Override
 	synchronized ASTNode findDeclaringNode(IBinding binding) {
 		if (binding == null) {
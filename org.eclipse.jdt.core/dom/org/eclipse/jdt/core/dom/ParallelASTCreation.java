@@ -0,0 +1,273 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.dom;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+
+/**
+ * Creates the ASTs of a batch of compilation units on several threads for
+ * {@link ASTParser#createASTs(ICompilationUnit[], String[], ASTRequestor, IProgressMonitor)} and
+ * {@link ASTParser#createASTs(String[], String[], String[], FileASTRequestor, IProgressMonitor)}.
+ * <p>
+ * The units are split into partitions, each of them parsed and resolved by its own call to the compilation unit
+ * resolver, hence with its own lookup environment. The ASTs are delivered to the requestor of the caller as soon as
+ * they are created, from the thread of their partition: callbacks are serialized, so requestors need not be thread
+ * safe. The binding keys are looked up by the first partition, after its own ASTs are delivered.
+ * </p>
+ */
+final class ParallelASTCreation {
+
+	private static final int THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors());
+	/** Work reported by each partition to the monitor of the caller */
+	private static final int PARTITION_WORK = 1000;
+	private static final ExecutorService AST_SERVICE = createExecutor(THREAD_COUNT);
+
+	private static ExecutorService createExecutor(int threadCount) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, /* keepAliveTime */ 1, TimeUnit.MINUTES,
+				new LinkedBlockingQueue<>(), ASTThread::new);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static class ASTThread extends Thread {
+		ASTThread(Runnable runnable) {
+			super(runnable, "AST Creation"); //$NON-NLS-1$
+			setDaemon(true);
+		}
+	}
+
+	/**
+	 * Creates the ASTs of a partition, reporting them to the given requestor.
+	 */
+	@FunctionalInterface
+	interface PartitionCreator<U, R> {
+		void create(U[] units, String[] bindingKeys, R requestor, IProgressMonitor monitor);
+	}
+
+	/**
+	 * Creates the ASTs of a partition of source files, reporting them to the given requestor.
+	 */
+	@FunctionalInterface
+	interface FilePartitionCreator {
+		void create(String[] sourceFilePaths, String[] encodings, String[] bindingKeys, FileASTRequestor requestor, IProgressMonitor monitor);
+	}
+
+	private ParallelASTCreation() {
+		// static only
+	}
+
+	/**
+	 * Answers whether the ASTs of the given units are worth creating on several threads.
+	 */
+	static boolean canCreateInParallel(int parallelism, Object[] units) {
+		if (parallelism <= 1 || units == null || units.length <= 1)
+			return false;
+		return !(Thread.currentThread() instanceof ASTThread); // nested batch, already running in parallel
+	}
+
+	static void createASTs(ICompilationUnit[] units, String[] bindingKeys, ASTRequestor requestor, int parallelism,
+			PartitionCreator<ICompilationUnit, ASTRequestor> creator, IProgressMonitor monitor) {
+		Object lock = new Object();
+		createASTs(units, bindingKeys, parallelism, () -> new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				synchronized (lock) {
+					Function<String, IBinding> previous = requestor.additionalBindingResolver;
+					requestor.additionalBindingResolver = this.additionalBindingResolver;
+					try {
+						requestor.acceptAST(source, ast);
+					} finally {
+						requestor.additionalBindingResolver = previous;
+					}
+				}
+			}
+
+			@Override
+			public void acceptBinding(String bindingKey, IBinding binding) {
+				synchronized (lock) {
+					Function<String, IBinding> previous = requestor.additionalBindingResolver;
+					requestor.additionalBindingResolver = this.additionalBindingResolver;
+					try {
+						requestor.acceptBinding(bindingKey, binding);
+					} finally {
+						requestor.additionalBindingResolver = previous;
+					}
+				}
+			}
+		}, creator, monitor);
+	}
+
+	static void createASTs(String[] sourceFilePaths, String[] encodings, String[] bindingKeys, FileASTRequestor requestor,
+			int parallelism, FilePartitionCreator creator, IProgressMonitor monitor) {
+		Object lock = new Object();
+		// the encodings parallel the source paths: partition the indices
+		Integer[] indices = new Integer[sourceFilePaths.length];
+		Arrays.setAll(indices, Integer::valueOf);
+		createASTs(indices, bindingKeys, parallelism, () -> new FileASTRequestor() {
+			@Override
+			public void acceptAST(String sourceFilePath, CompilationUnit ast) {
+				synchronized (lock) {
+					CompilationUnitResolver previous = requestor.compilationUnitResolver;
+					requestor.compilationUnitResolver = this.compilationUnitResolver;
+					try {
+						requestor.acceptAST(sourceFilePath, ast);
+					} finally {
+						requestor.compilationUnitResolver = previous;
+					}
+				}
+			}
+
+			@Override
+			public void acceptBinding(String bindingKey, IBinding binding) {
+				synchronized (lock) {
+					CompilationUnitResolver previous = requestor.compilationUnitResolver;
+					requestor.compilationUnitResolver = this.compilationUnitResolver;
+					try {
+						requestor.acceptBinding(bindingKey, binding);
+					} finally {
+						requestor.compilationUnitResolver = previous;
+					}
+				}
+			}
+		}, (partition, keys, partitionRequestor, partitionMonitor) -> {
+			String[] paths = new String[partition.length];
+			String[] partitionEncodings = encodings == null ? null : new String[partition.length];
+			for (int i = 0; i < partition.length; i++) {
+				int index = partition[i].intValue();
+				paths[i] = sourceFilePaths[index];
+				if (partitionEncodings != null)
+					partitionEncodings[i] = encodings[index];
+			}
+			creator.create(paths, partitionEncodings, keys, partitionRequestor, partitionMonitor);
+		}, monitor);
+	}
+
+	private static <U, R> void createASTs(U[] units, String[] bindingKeys, int parallelism,
+			Supplier<R> requestors, PartitionCreator<U, R> creator, IProgressMonitor monitor) {
+		int partitionCount = Math.min(parallelism, units.length);
+		SubMonitor progress = SubMonitor.convert(monitor, partitionCount * PARTITION_WORK);
+		PartitionMonitor partitionsMonitor = new PartitionMonitor(progress);
+		List<Future<?>> partitions = new ArrayList<>(partitionCount);
+		// contiguous partitions keep the units of a package together, they likely share most of their dependencies
+		for (int p = 0, start = 0; p < partitionCount; p++) {
+			int end = start + (units.length - start) / (partitionCount - p);
+			U[] partition = Arrays.copyOfRange(units, start, end);
+			String[] keys = p == 0 && bindingKeys != null ? bindingKeys : new String[0];
+			R partitionRequestor = requestors.get();
+			partitions.add(AST_SERVICE.submit(() -> {
+				try {
+					creator.create(partition, keys, partitionRequestor, new PartitionMonitor(partitionsMonitor));
+				} catch (RuntimeException | Error e) {
+					partitionsMonitor.setCanceled(true); // stop the other partitions
+					throw e;
+				}
+				return null;
+			}));
+			start = end;
+		}
+		Throwable failure = null;
+		for (Future<?> partition : partitions) {
+			// wait for all partitions even after a failure, so that no AST is delivered after returning
+			try {
+				partition.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				partitionsMonitor.setCanceled(true);
+				if (failure == null)
+					failure = new OperationCanceledException();
+			} catch (ExecutionException e) {
+				partitionsMonitor.setCanceled(true);
+				if (failure == null)
+					failure = e.getCause();
+			}
+		}
+		if (failure instanceof RuntimeException runtimeException)
+			throw runtimeException;
+		if (failure instanceof Error error)
+			throw error;
+		if (failure != null)
+			throw new RuntimeException(failure);
+	}
+
+	/**
+	 * Monitor of a partition: the work it reports is scaled to its share of the monitor of the caller, and all
+	 * partitions are canceled as soon as one of them fails.
+	 */
+	static class PartitionMonitor extends NullProgressMonitor {
+		private volatile boolean canceled;
+		private final IProgressMonitor original;
+		private final PartitionMonitor parent;
+		private double totalWork;
+
+		PartitionMonitor(IProgressMonitor original) {
+			this.original = original;
+			this.parent = null;
+		}
+
+		PartitionMonitor(PartitionMonitor parent) {
+			this.original = parent.original;
+			this.parent = parent;
+		}
+
+		@Override
+		public void beginTask(String name, int work) {
+			this.totalWork = work;
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public void internalWorked(double work) {
+			if (this.totalWork <= 0 || this.original == null)
+				return;
+			synchronized (this.original) {
+				this.original.internalWorked(work * PARTITION_WORK / this.totalWork);
+			}
+		}
+
+		@Override
+		public boolean isCanceled() {
+			if (this.canceled || (this.parent != null && this.parent.isCanceled()))
+				return true;
+			if (this.original == null)
+				return false;
+			synchronized (this.original) {
+				return this.original.isCanceled();
+			}
+		}
+
+		@Override
+		public void setCanceled(boolean canceled) {
+			this.canceled = canceled;
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2016 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,28 +13,26 @@
  *     Red Hat Incorporated - improvements based on comments from JDT developers
  *     IBM Corporation - Code review and integration
  *     IBM Corporation - Fix for 340181
+ *     Eclipse Foundation - formatting on several threads and cache of formatted files
  *******************************************************************************/
 package org.eclipse.jdt.core.formatter;
 
 import java.io.BufferedInputStream;
-import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
-import org.eclipse.jdt.core.ToolFactory;
-import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.core.util.Util;
-import org.eclipse.jface.text.BadLocationException;
-import org.eclipse.jface.text.Document;
-import org.eclipse.jface.text.IDocument;
+import org.eclipse.jdt.internal.formatter.BatchCodeFormatter;
 import org.eclipse.osgi.util.NLS;
-import org.eclipse.text.edits.TextEdit;
 
 /**
  * Implements an Eclipse Application for org.eclipse.jdt.core.JavaCodeFormatter.
@@ -43,9 +41,9 @@ import org.eclipse.text.edits.TextEdit;
  * in which the eclipse.ini file is located. This makes it harder to use relative paths to point to the
  * files to be formatted or the configuration file to use to set the code formatter's options.</p>
  *
- * <p>There are a couple improvements that could be made: 1. Make a list of all the
- * files first so that a file does not get formatted twice. 2. Use a text based
- * progress monitor for output.</p>
+ * <p>The files are listed first, so that a file does not get formatted twice, then
+ * formatted on several threads by a {@link BatchCodeFormatter}. A text based progress
+ * monitor for output could still be used.</p>
  *
  * @since 3.2
  * @noinstantiate This class is not intended to be instantiated by clients.
@@ -75,12 +73,16 @@ public class CodeFormatterApplication implements IApplication {
 
 		public static String CommandLineErrorQuietVerbose;
 
+		public static String CommandLineErrorThreads;
+
 		public static String CommandLineErrorNoConfigFile;
 
 		public static String CommandLineFormatting;
 
 		public static String CommandLineStart;
 
+		public static String CommandLineStatistics;
+
 		public static String CommandLineUsage;
 
 		public static String ConfigFileNotFoundErrorTryFullPath;
@@ -160,12 +162,18 @@ public class CodeFormatterApplication implements IApplication {
 
 	private static final String ARG_CONFIG = "-config"; //$NON-NLS-1$
 
+	private static final String ARG_CACHE = "-cache"; //$NON-NLS-1$
+
 	private static final String ARG_HELP = "-help"; //$NON-NLS-1$
 
 	private static final String ARG_QUIET = "-quiet"; //$NON-NLS-1$
 
+	private static final String ARG_THREADS = "-threads"; //$NON-NLS-1$
+
 	private static final String ARG_VERBOSE = "-verbose"; //$NON-NLS-1$
 
+	private File cacheFile;
+
 	private String configName;
 
 	private Map options = null;
@@ -174,6 +182,8 @@ public class CodeFormatterApplication implements IApplication {
 
 	private boolean quiet = false;
 
+	private int threadCount = Runtime.getRuntime().availableProcessors();
+
 	private boolean verbose = false;
 
 	/**
@@ -190,60 +200,33 @@ public class CodeFormatterApplication implements IApplication {
 	}
 
 	/**
-	 * Recursively format the Java source code that is contained in the
-	 * directory rooted at dir.
+	 * Answers the canonical form of the given file, so that a file reached through several paths or links is listed
+	 * once.
 	 */
-	private void formatDirTree(File dir, CodeFormatter codeFormatter) {
-
-		File[] files = dir.listFiles();
-		if (files == null)
-			return;
-
-		for (File file : files) {
-			if (file.isDirectory()) {
-				formatDirTree(file, codeFormatter);
-			} else if (Util.isJavaLikeFileName(file.getPath())) {
-				formatFile(file, codeFormatter);
-			}
+	private static File canonicalFile(File file) {
+		try {
+			return file.getCanonicalFile();
+		} catch (IOException e) {
+			return file.getAbsoluteFile();
 		}
 	}
 
 	/**
-	 * Format the given Java source file.
+	 * Recursively collect the Java source files that are contained in the
+	 * directory rooted at dir.
 	 */
-	private void formatFile(File file, CodeFormatter codeFormatter) {
-		IDocument doc = new Document();
-		try {
-			// read the file
-			if (this.verbose) {
-				System.out.println(Messages.bind(Messages.CommandLineFormatting, file.getAbsolutePath()));
-			}
-			String contents = new String(org.eclipse.jdt.internal.compiler.util.Util.getFileCharContent(file, null));
-			// format the file (the meat and potatoes)
-			doc.set(contents);
-			int kind = (file.getName().equals(IModule.MODULE_INFO_JAVA)? CodeFormatter.K_MODULE_INFO
-					: CodeFormatter.K_COMPILATION_UNIT) | CodeFormatter.F_INCLUDE_COMMENTS;
-			TextEdit edit = codeFormatter.format(kind, contents, 0, contents.length(), 0, null);
-			if (edit != null) {
-				edit.apply(doc);
-			} else {
-				System.err.println(Messages.bind(Messages.FormatProblem, file.getAbsolutePath()));
-				return;
-			}
+	private void collectDirTree(File dir, Set<File> files) {
+
+		File[] children = dir.listFiles();
+		if (children == null)
+			return;
 
-			// write the file
-			try (BufferedWriter out = new BufferedWriter(new FileWriter(file))) {
-				out.write(doc.get());
-				out.flush();
+		for (File file : children) {
+			if (file.isDirectory()) {
+				collectDirTree(file, files);
+			} else if (Util.isJavaLikeFileName(file.getPath())) {
+				files.add(canonicalFile(file));
 			}
-		} catch (IOException e) {
-			String errorMessage = Messages.bind(Messages.CaughtException, "IOException", e.getLocalizedMessage()); //$NON-NLS-1$
-			Util.log(e, errorMessage);
-			System.err.println(Messages.bind(Messages.ExceptionSkip ,errorMessage));
-		} catch (BadLocationException e) {
-			String errorMessage = Messages.bind(Messages.CaughtException, "BadLocationException", e.getLocalizedMessage()); //$NON-NLS-1$
-			Util.log(e, errorMessage);
-			System.err.println(Messages.bind(Messages.ExceptionSkip ,errorMessage));
 		}
 	}
 
@@ -254,6 +237,8 @@ public class CodeFormatterApplication implements IApplication {
 
 		final int DEFAULT_MODE = 0;
 		final int CONFIG_MODE = 1;
+		final int THREADS_MODE = 2;
+		final int CACHE_MODE = 3;
 
 		int mode = DEFAULT_MODE;
 		final int INITIAL_SIZE = 1;
@@ -285,6 +270,14 @@ public class CodeFormatterApplication implements IApplication {
 						mode = CONFIG_MODE;
 						continue loop;
 					}
+					if (ARG_THREADS.equals(currentArg)) {
+						mode = THREADS_MODE;
+						continue loop;
+					}
+					if (ARG_CACHE.equals(currentArg)) {
+						mode = CACHE_MODE;
+						continue loop;
+					}
 					// the current arg should be a file or a directory name
 					File file = new File(currentArg);
 					if (file.exists()) {
@@ -315,9 +308,29 @@ public class CodeFormatterApplication implements IApplication {
 					}
 					mode = DEFAULT_MODE;
 					continue loop;
+				case THREADS_MODE :
+					try {
+						this.threadCount = Integer.parseInt(currentArg);
+					} catch (NumberFormatException e) {
+						this.threadCount = 0;
+					}
+					if (this.threadCount < 1) {
+						displayHelp(Messages.bind(Messages.CommandLineErrorThreads, currentArg));
+						return null;
+					}
+					mode = DEFAULT_MODE;
+					continue loop;
+				case CACHE_MODE :
+					this.cacheFile = new File(currentArg);
+					mode = DEFAULT_MODE;
+					continue loop;
 			}
 		}
 
+		if (mode == THREADS_MODE || mode == CACHE_MODE) {
+			displayHelp();
+			return null;
+		}
 		if (mode == CONFIG_MODE || this.options == null) {
 			displayHelp(Messages.bind(Messages.CommandLineErrorNoConfigFile));
 			return null;
@@ -391,17 +404,49 @@ public class CodeFormatterApplication implements IApplication {
 			System.out.println(Messages.bind(Messages.CommandLineStart));
 		}
 
-		final CodeFormatter codeFormatter = ToolFactory.createCodeFormatter(this.options,
-				ToolFactory.M_FORMAT_EXISTING);
-		// format the list of files and/or directories
+		// list the files of the list of files and/or directories, then format them
+		Set<File> files = new LinkedHashSet<>();
 		for (final File file : filesToFormat) {
 			if (file.isDirectory()) {
-				formatDirTree(file, codeFormatter);
+				collectDirTree(file, files);
 			} else if (Util.isJavaLikeFileName(file.getPath())) {
-				formatFile(file, codeFormatter);
+				files.add(canonicalFile(file));
 			}
 		}
+		Map<String, String> formatterOptions = new HashMap<>();
+		for (Object entry : this.options.entrySet()) {
+			Map.Entry option = (Map.Entry) entry;
+			formatterOptions.put(String.valueOf(option.getKey()), String.valueOf(option.getValue()));
+		}
+		BatchCodeFormatter batch = new BatchCodeFormatter(formatterOptions, this.threadCount, this.cacheFile);
+		BatchCodeFormatter.Statistics statistics = batch.format(new ArrayList<>(files), new BatchCodeFormatter.Listener() {
+			@Override
+			public void formatting(File file) {
+				if (CodeFormatterApplication.this.verbose) {
+					System.out.println(Messages.bind(Messages.CommandLineFormatting, file.getAbsolutePath()));
+				}
+			}
+			@Override
+			public void formatFailed(File file) {
+				System.err.println(Messages.bind(Messages.FormatProblem, file.getAbsolutePath()));
+			}
+			@Override
+			public void exceptionCaught(File file, Exception exception) {
+				String errorMessage = Messages.bind(Messages.CaughtException, exception.getClass().getSimpleName(), exception.getLocalizedMessage());
+				Util.log(exception, errorMessage);
+				System.err.println(Messages.bind(Messages.ExceptionSkip ,errorMessage));
+			}
+		});
 		if (!this.quiet) {
+			System.out.println(Messages.bind(Messages.CommandLineStatistics, new Object[] {
+				Integer.valueOf(statistics.getFileCount()),
+				Long.valueOf(statistics.elapsedMillis),
+				Long.valueOf(statistics.getFileCount() * 1000L / Math.max(1, statistics.elapsedMillis)),
+				Integer.valueOf(statistics.changed),
+				Integer.valueOf(statistics.unchanged),
+				Integer.valueOf(statistics.cached),
+				Integer.valueOf(statistics.failed)
+			}));
 			System.out.println(Messages.bind(Messages.CommandLineDone));
 		}
 
@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.formatter;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.formatter.CodeFormatter;
+import org.eclipse.jdt.core.formatter.CodeFormatterApplication;
+import org.eclipse.jdt.internal.compiler.env.IModule;
+import org.eclipse.jdt.internal.compiler.util.Util;
+import org.eclipse.jface.text.BadLocationException;
+import org.eclipse.jface.text.Document;
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.text.edits.TextEdit;
+
+/**
+ * Formats a batch of Java source files in place on several threads, for the {@link CodeFormatterApplication}.
+ * <p>
+ * Code formatters are not thread safe: each thread creates its own formatter with the options of the batch and reuses
+ * it for all the files it formats. A cache file, if any, records the hashes of the contents that formatting with these
+ * options leaves unchanged: a file whose content has one of these hashes is skipped without being parsed. Since the
+ * formatter is not always idempotent, the result of formatting a file is only recorded once a later run finds it
+ * unchanged. The cache is rewritten with the hashes that the run confirmed, those of the files it skipped or found
+ * unchanged, followed by the hashes it read, so that a run over some of the files keeps the hashes of the others. The
+ * hashes are written from the most recently confirmed to the oldest, and the oldest are dropped beyond
+ * {@value #DEFAULT_CACHE_SIZE} hashes, or the size of the system property {@code org.eclipse.jdt.core.formatter.cacheSize},
+ * so that the hashes of contents that no longer exist do not accumulate.
+ * </p>
+ */
+public final class BatchCodeFormatter {
+
+	/**
+	 * Receives the progress of a batch from the formatting threads, one call at a time.
+	 */
+	public interface Listener {
+
+		/** The given file is about to be formatted. */
+		void formatting(File file);
+
+		/** The formatter could not format the given file, which is left unchanged. */
+		void formatFailed(File file);
+
+		/** The given file could not be read, formatted or written. */
+		void exceptionCaught(File file, Exception exception);
+	}
+
+	/**
+	 * The number of files of a batch per outcome.
+	 */
+	public static final class Statistics {
+		/** the files that were formatted and written */
+		public final int changed;
+		/** the files that were formatted but needed no change */
+		public final int unchanged;
+		/** the files that the cache knew to be formatted */
+		public final int cached;
+		/** the files that could not be formatted */
+		public final int failed;
+		public final long elapsedMillis;
+
+		Statistics(int changed, int unchanged, int cached, int failed, long elapsedMillis) {
+			this.changed = changed;
+			this.unchanged = unchanged;
+			this.cached = cached;
+			this.failed = failed;
+			this.elapsedMillis = elapsedMillis;
+		}
+
+		public int getFileCount() {
+			return this.changed + this.unchanged + this.cached + this.failed;
+		}
+	}
+
+	/** the default maximum number of content hashes of the cache file */
+	public static final int DEFAULT_CACHE_SIZE = 100_000;
+
+	private final Map<String, String> options;
+	private final int threadCount;
+	private final File cacheFile;
+	private final String optionsHash;
+	private final int cacheSize;
+	/** the hashes of the contents that formatting left unchanged, read from the cache file, the most recent first */
+	private final Set<String> cachedHashes = new LinkedHashSet<>();
+	/** the hashes of the contents of this batch that are cached or that formatting left unchanged */
+	private final Set<String> formattedHashes = ConcurrentHashMap.newKeySet();
+
+	private final AtomicInteger changed = new AtomicInteger();
+	private final AtomicInteger unchanged = new AtomicInteger();
+	private final AtomicInteger cached = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+
+	/**
+	 * Creates a batch formatting files with the given formatter options on the given number of threads, with the given
+	 * cache file, or none if null.
+	 */
+	public BatchCodeFormatter(Map<String, String> options, int threadCount, File cacheFile) {
+		this.options = options;
+		this.threadCount = Math.max(1, threadCount);
+		this.cacheFile = cacheFile;
+		this.optionsHash = computeOptionsHash(options);
+		this.cacheSize = Math.max(0, Integer.getInteger("org.eclipse.jdt.core.formatter.cacheSize", DEFAULT_CACHE_SIZE)); //$NON-NLS-1$
+	}
+
+	private static MessageDigest newDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // every Java platform supports SHA-256
+		}
+	}
+
+	/**
+	 * Hashes the options with the version of the formatter, since a newer formatter may format differently.
+	 */
+	private static String computeOptionsHash(Map<String, String> options) {
+		MessageDigest digest = newDigest();
+		Plugin plugin = JavaCore.getPlugin();
+		if (plugin != null)
+			digest.update(plugin.getBundle().getVersion().toString().getBytes(StandardCharsets.UTF_8));
+		for (Map.Entry<String, String> entry : new TreeMap<>(options).entrySet()) {
+			digest.update((byte) 0);
+			digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) '=');
+			digest.update(String.valueOf(entry.getValue()).getBytes(StandardCharsets.UTF_8));
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static String computeContentHash(int kind, String contents) {
+		MessageDigest digest = newDigest();
+		digest.update((byte) kind);
+		digest.update(contents.getBytes(StandardCharsets.UTF_8));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Reads the cache file, whose first line is the hash of the options it was written with, followed by one content
+	 * hash per line. A cache written with other options is ignored.
+	 */
+	private void readCache() throws IOException {
+		List<String> lines;
+		try {
+			lines = Files.readAllLines(this.cacheFile.toPath(), StandardCharsets.UTF_8);
+		} catch (NoSuchFileException e) {
+			return;
+		}
+		if (lines.isEmpty() || !lines.get(0).equals(this.optionsHash))
+			return;
+		this.cachedHashes.addAll(lines.subList(1, lines.size()));
+	}
+
+	/**
+	 * Writes the cache file with the hashes confirmed by this run, followed by the other hashes read from the cache file,
+	 * up to the size of the cache.
+	 */
+	private void writeCache() throws IOException {
+		File file = this.cacheFile.getAbsoluteFile();
+		File parent = file.getParentFile();
+		if (parent != null)
+			Files.createDirectories(parent.toPath());
+		File temp = new File(parent, file.getName() + ".tmp"); //$NON-NLS-1$
+		try (BufferedWriter out = Files.newBufferedWriter(temp.toPath(), StandardCharsets.UTF_8)) {
+			out.write(this.optionsHash);
+			out.newLine();
+			int size = 0;
+			for (String hash : this.formattedHashes) {
+				if (size == this.cacheSize)
+					break;
+				out.write(hash);
+				out.newLine();
+				size++;
+			}
+			for (String hash : this.cachedHashes) {
+				if (size == this.cacheSize)
+					break;
+				if (this.formattedHashes.contains(hash))
+					continue;
+				out.write(hash);
+				out.newLine();
+				size++;
+			}
+		}
+		Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+
+	/**
+	 * Formats the given files, reporting their progress to the given listener, and answers the number of files per
+	 * outcome. The exceptions that the formatter throws are rethrown once the other files are formatted.
+	 */
+	public Statistics format(List<File> files, Listener listener) throws IOException {
+		long start = System.currentTimeMillis();
+		if (this.cacheFile != null)
+			readCache();
+		ThreadLocal<CodeFormatter> formatters = ThreadLocal.withInitial(() -> ToolFactory.createCodeFormatter(this.options,
+				ToolFactory.M_FORMAT_EXISTING));
+		ExecutorService executor = Executors.newFixedThreadPool(this.threadCount, runnable -> {
+			Thread thread = new Thread(runnable, "Code Formatter"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures = new ArrayList<>(files.size());
+			for (File file : files)
+				futures.add(executor.submit(() -> formatFile(file, formatters.get(), listener)));
+			RuntimeException exception = null;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof Error error)
+						throw error;
+					if (exception == null)
+						exception = (RuntimeException) e.getCause();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException(e);
+				}
+			}
+			if (exception != null)
+				throw exception;
+		} finally {
+			executor.shutdownNow();
+		}
+		if (this.cacheFile != null)
+			writeCache();
+		return new Statistics(this.changed.get(), this.unchanged.get(), this.cached.get(), this.failed.get(),
+				System.currentTimeMillis() - start);
+	}
+
+	private void formatFile(File file, CodeFormatter codeFormatter, Listener listener) {
+		synchronized (listener) {
+			listener.formatting(file);
+		}
+		try {
+			String contents = new String(Util.getFileCharContent(file, null));
+			int kind = (file.getName().equals(IModule.MODULE_INFO_JAVA) ? CodeFormatter.K_MODULE_INFO
+					: CodeFormatter.K_COMPILATION_UNIT) | CodeFormatter.F_INCLUDE_COMMENTS;
+			String hash = computeContentHash(kind, contents);
+			if (this.cachedHashes.contains(hash)) {
+				this.formattedHashes.add(hash);
+				this.cached.incrementAndGet();
+				return;
+			}
+			TextEdit edit = codeFormatter.format(kind, contents, 0, contents.length(), 0, null);
+			if (edit == null) {
+				this.failed.incrementAndGet();
+				synchronized (listener) {
+					listener.formatFailed(file);
+				}
+				return;
+			}
+			IDocument doc = new Document(contents);
+			edit.apply(doc);
+			String formatted = doc.get();
+			if (formatted.equals(contents)) {
+				this.formattedHashes.add(hash);
+				this.unchanged.incrementAndGet();
+				return;
+			}
+			try (BufferedWriter out = new BufferedWriter(new FileWriter(file))) {
+				out.write(formatted);
+				out.flush();
+			}
+			this.changed.incrementAndGet();
+		} catch (IOException | BadLocationException e) {
+			this.failed.incrementAndGet();
+			synchronized (listener) {
+				listener.exceptionCaught(file, e);
+			}
+		}
+	}
+}
@@ -15,6 +15,7 @@
  *     Lars Vogel <Lars.Vogel@vogella.com> - Contributions for
  *     						Bug 473178
  *     IBM Corporation - Markdown support
+ *     Eclipse Foundation - Skip the formatting of the comments outside of given ranges
  *******************************************************************************/
 package org.eclipse.jdt.internal.formatter;
 
@@ -45,6 +46,7 @@ import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.parser.ScannerHelper;
 import org.eclipse.jdt.internal.formatter.Token.WrapMode;
 import org.eclipse.jdt.internal.formatter.Token.WrapPolicy;
+import org.eclipse.jface.text.IRegion;
 
 public class CommentsPreparator extends ASTVisitor {
 
@@ -134,6 +136,8 @@ public class CommentsPreparator extends ASTVisitor {
 	private final ArrayList<Integer> commonAttributeAnnotations = new ArrayList<>();
 	private DefaultCodeFormatter preTagCodeFormatter;
 	private DefaultCodeFormatter snippetCodeFormatter;
+	/** The ranges whose block and javadoc comments are formatted, or null if all comments are formatted */
+	private List<IRegion> formatRanges;
 
 	public CommentsPreparator(TokenManager tm, DefaultCodeFormatterOptions options, String sourceLevel) {
 		this.tm = tm;
@@ -143,6 +147,26 @@ public class CommentsPreparator extends ASTVisitor {
 		this.formatEnableTag = options.enabling_tag != null ? new String(options.enabling_tag) : null;
 	}
 
+	/**
+	 * Restricts the formatting of block and javadoc comments to the comments that intersect the given ranges. The
+	 * other comments keep their lines, as when their formatting is disabled, but are still checked for format on/off
+	 * tags and have their surrounding line breaks handled.
+	 */
+	public void setFormatRanges(List<IRegion> ranges) {
+		this.formatRanges = ranges;
+	}
+
+	private boolean isInFormatRanges(Token commentToken) {
+		if (this.formatRanges == null)
+			return true;
+		for (IRegion range : this.formatRanges) {
+			if (commentToken.originalStart < range.getOffset() + range.getLength()
+					&& commentToken.originalEnd >= range.getOffset())
+				return true;
+		}
+		return false;
+	}
+
 	@Override
 	public boolean preVisit2(ASTNode node) {
 		boolean isMalformed = (node.getFlags() & ASTNode.MALFORMED) != 0;
@@ -436,7 +460,7 @@ public class CommentsPreparator extends ASTVisitor {
 				return;
 			}
 		}
-		if (formattingEnabled && tokenizeMultilineComment(commentToken)) {
+		if (formattingEnabled && isInFormatRanges(commentToken) && tokenizeMultilineComment(commentToken)) {
 			this.commentStructure = commentToken.getInternalStructure();
 			this.ctm = new TokenManager(this.commentStructure, this.tm);
 			handleStringLiterals(this.tm.toString(commentToken), commentToken.originalStart);
@@ -607,7 +631,7 @@ public class CommentsPreparator extends ASTVisitor {
 		boolean formattingEnabled = isHeader ? this.options.comment_format_header
 				: node.isMarkdown() ? this.options.comment_format_markdown_comment
 						: this.options.comment_format_javadoc_comment;
-		if (!formattingEnabled || !tokenizeMultilineComment(commentToken)) {
+		if (!formattingEnabled || !isInFormatRanges(commentToken) || !tokenizeMultilineComment(commentToken)) {
 			commentToken.setInternalStructure(commentToLines(commentToken, -1));
 			return false;
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@
  *     Mateusz Matela <mateusz.matela@gmail.com> - [formatter] follow up bug for comments - https://bugs.eclipse.org/458208
  *     Lars Vogel <Lars.Vogel@vogella.com> - Contributions for
  *     						Bug 473178
+ *     Eclipse Foundation - Limit comment formatting to the declarations enclosing the format regions
  *******************************************************************************/
 package org.eclipse.jdt.internal.formatter;
 
@@ -42,9 +43,13 @@ import org.eclipse.jdt.core.compiler.InvalidInputException;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.BodyDeclaration;
 import org.eclipse.jdt.core.dom.Comment;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
 import org.eclipse.jdt.core.dom.Javadoc;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.TypeDeclaration;
 import org.eclipse.jdt.core.formatter.CodeFormatter;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
@@ -433,6 +438,7 @@ public class DefaultCodeFormatter extends CodeFormatter {
 	private void prepareComments() {
 		CommentsPreparator commentsPreparator = new CommentsPreparator(this.tokenManager, this.workingOptions,
 				this.sourceLevel);
+		commentsPreparator.setFormatRanges(findCommentFormatRanges());
 		List<Comment> comments = ((CompilationUnit) this.astRoot.getRoot()).getCommentList();
 		for (Comment comment : comments) {
 			comment.accept(commentsPreparator);
@@ -440,6 +446,47 @@ public class DefaultCodeFormatter extends CodeFormatter {
 		commentsPreparator.finishUp();
 	}
 
+	/**
+	 * Answers the ranges of whole lines covered by the members that enclose the format regions, outside of which the
+	 * comments need not be reflowed because their edits would be discarded anyway, or null if a region is not inside a
+	 * member.
+	 */
+	private List<IRegion> findCommentFormatRanges() {
+		if (!(this.astRoot instanceof CompilationUnit))
+			return null;
+		List<IRegion> ranges = new ArrayList<>();
+		for (IRegion region : this.formatRegions) {
+			if (region.getOffset() == 0 && region.getLength() == this.sourceString.length())
+				return null;
+			ASTNode member = NodeFinder.perform(this.astRoot, region.getOffset(), region.getLength());
+			while (member != null && !isTypeMember(member))
+				member = member.getParent();
+			if (member == null)
+				return null;
+			int start = member.getStartPosition(), end = start + member.getLength();
+			while (start > 0 && this.sourceArray[start - 1] != '\n' && this.sourceArray[start - 1] != '\r')
+				start--;
+			while (end < this.sourceArray.length && this.sourceArray[end] != '\n' && this.sourceArray[end] != '\r')
+				end++;
+			ranges.add(new Region(start, end - start));
+		}
+		return ranges;
+	}
+
+	/**
+	 * Answers whether the given node is a member of a type that is not nested in an expression, i.e. a member whose
+	 * source range is not part of an enclosing member.
+	 */
+	private boolean isTypeMember(ASTNode node) {
+		if (!(node instanceof BodyDeclaration) || node instanceof EnumConstantDeclaration)
+			return false;
+		for (ASTNode parent = node.getParent(); parent != null; parent = parent.getParent()) {
+			if (!(parent instanceof AbstractTypeDeclaration) && !(parent instanceof CompilationUnit))
+				return false;
+		}
+		return true;
+	}
+
 	private void prepareWraps(int kind) {
 		WrapPreparator wrapPreparator = new WrapPreparator(this.tokenManager, this.workingOptions, kind);
 		this.astRoot.accept(wrapPreparator);
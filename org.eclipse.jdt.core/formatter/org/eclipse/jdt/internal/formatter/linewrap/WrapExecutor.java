@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 Mateusz Matela and others.
+ * Copyright (c) 2014, 2026 Mateusz Matela and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -12,6 +12,7 @@
  *     Mateusz Matela <mateusz.matela@gmail.com> - [formatter] Formatter does not format Java code correctly, especially when max line width is set - https://bugs.eclipse.org/303519
  *     Mateusz Matela <mateusz.matela@gmail.com> - [formatter] follow up bug for comments - https://bugs.eclipse.org/458208
  *     Mateusz Matela <mateusz.matela@gmail.com> - NPE in WrapExecutor during Java text formatting  - https://bugs.eclipse.org/465669
+ *     Eclipse Foundation - Skip the wrap search of the lines outside of the format regions
  *******************************************************************************/
 package org.eclipse.jdt.internal.formatter.linewrap;
 
@@ -310,7 +311,7 @@ public class WrapExecutor {
 
 			this.currentIndent = this.stack.isEmpty() ? this.initialIndent : this.stack.peek().getIndent();
 			setIndent(token, this.currentIndent);
-			this.nextWrap = findWrapsCached(index, this.currentIndent).nextWrap;
+			this.nextWrap = hasWrapInsideFormatRegion(index) ? findWrapsCached(index, this.currentIndent).nextWrap : null;
 		}
 
 		private boolean isFixedLineStart(Token token, int index) {
@@ -726,6 +727,21 @@ public class WrapExecutor {
 		return result;
 	}
 
+	/**
+	 * Checks if the line starting at given token, or the first token of the next line, can be wrapped inside a format
+	 * region. If not, the search for wraps in this line can only find that there's nothing to wrap.
+	 */
+	private boolean hasWrapInsideFormatRegion(int lineStartIndex) {
+		for (int i = lineStartIndex; i < this.tm.size(); i++) {
+			Token token = this.tm.get(i);
+			if (i > lineStartIndex && (token.getLineBreaksBefore() > 0 || this.tm.get(i - 1).getLineBreaksAfter() > 0))
+				return token.isWrappable() && isWrapInsideFormatRegion(i);
+			if (token.isWrappable() && isWrapInsideFormatRegion(i))
+				return true;
+		}
+		return false;
+	}
+
 	boolean isWrapInsideFormatRegion(int tokenIndex) {
 		int pos1 = tokenIndex == 0 ? 0 : this.tm.get(tokenIndex - 1).originalEnd;
 		int pos2 = this.tm.get(tokenIndex).originalStart;
@@ -506,6 +506,8 @@ public org.eclipse.jdt.core.dom.CompilationUnit getOrBuildAST(WorkingCopyOwner w
 @Override
 public void bufferChanged(BufferChangedEvent event) {
 	this.ast = null;
+	// an unreconciled edit of a working copy is seen by the reconciles of the other working copies of its owner
+	JavaModelManager.getJavaModelManager().noteChange(this);
 	super.bufferChanged(event);
 }
 
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core;
 
+import java.util.HashMap;
 import java.util.Map;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -26,12 +27,14 @@ import org.eclipse.jdt.internal.compiler.ICompilerRequestor;
 import org.eclipse.jdt.internal.compiler.IErrorHandlingPolicy;
 import org.eclipse.jdt.internal.compiler.IProblemFactory;
 import org.eclipse.jdt.internal.compiler.SourceElementParser;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
 import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
 import org.eclipse.jdt.internal.compiler.env.AccessRestriction;
 import org.eclipse.jdt.internal.compiler.env.IModule;
 import org.eclipse.jdt.internal.compiler.env.INameEnvironment;
 import org.eclipse.jdt.internal.compiler.env.ISourceType;
 import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.jdt.internal.compiler.lookup.IMethodAnalysisCache;
 import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
 import org.eclipse.jdt.internal.compiler.lookup.PackageBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
@@ -96,6 +99,37 @@ public class CompilationUnitProblemFinder extends Compiler {
 		);
 	}
 
+	/**
+	 * Records the problems of the flow analysis and the code generation of the methods of a working copy for its next
+	 * reconcile, and answers the ones of its previous reconcile for the methods left unchanged.
+	 */
+	private static class MethodAnalysisCache implements IMethodAnalysisCache {
+		final Map<AbstractMethodDeclaration, CategorizedProblem[]> analysisProblems = new HashMap<>();
+		private final Map<AbstractMethodDeclaration, CategorizedProblem[]> reusedProblems;
+
+		MethodAnalysisCache(Map<AbstractMethodDeclaration, CategorizedProblem[]> reusedProblems) {
+			this.reusedProblems = reusedProblems;
+		}
+		@Override
+		public CategorizedProblem[] reusedProblems(AbstractMethodDeclaration method) {
+			return this.reusedProblems == null ? null : this.reusedProblems.get(method);
+		}
+		@Override
+		public void dropReusedProblems(AbstractMethodDeclaration method) {
+			if (this.reusedProblems != null)
+				this.reusedProblems.remove(method);
+		}
+		@Override
+		public void recordProblems(AbstractMethodDeclaration method, CategorizedProblem[] problems) {
+			this.analysisProblems.merge(method, problems, (recorded, added) -> {
+				CategorizedProblem[] merged = new CategorizedProblem[recorded.length + added.length];
+				System.arraycopy(recorded, 0, merged, 0, recorded.length);
+				System.arraycopy(added, 0, merged, recorded.length, added.length);
+				return merged;
+			});
+		}
+	}
+
 	/**
 	 * Add additional source types
 	 */
@@ -275,7 +309,8 @@ public class CompilationUnitProblemFinder extends Compiler {
 			int release = getRelease(project, unitElement);
 			environment = new CancelableNameEnvironment(project, workingCopyOwner, monitor, !isTestSource(unitElement.getJavaProject(), unitElement), release);
 			problemFactory = new CancelableProblemFactory(monitor);
-			CompilerOptions compilerOptions = getCompilerOptions(project.getOptions(true), creatingAST, ((reconcileFlags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0));
+			Map<String, String> options = project.getOptions(true);
+			CompilerOptions compilerOptions = getCompilerOptions(options, creatingAST, ((reconcileFlags & ICompilationUnit.ENABLE_STATEMENTS_RECOVERY) != 0));
 			boolean ignoreMethodBodies = (reconcileFlags & ICompilationUnit.IGNORE_METHOD_BODIES) != 0;
 			compilerOptions.ignoreMethodBodies = ignoreMethodBodies;
 			if (release >= JavaProject.FIRST_MULTI_RELEASE) {
@@ -294,16 +329,39 @@ public class CompilationUnitProblemFinder extends Compiler {
 			if (ignoreMethodBodies) {
 				analyzeAndGenerateCode = false;
 			}
+			// reuse the problems of the methods that the edits since the last reconcile did not touch
+			JavaModelManager.PerWorkingCopyInfo perWorkingCopyInfo = parser != null && analyzeAndGenerateCode
+					? unitElement.originalFromClone().getPerWorkingCopyInfo() : null;
+			ReconciledMethods reconciledMethods = null;
+			long changeStamp = JavaModelManager.getJavaModelManager().getChangeStamp();
+			if (perWorkingCopyInfo != null) {
+				reconciledMethods = perWorkingCopyInfo.reconciledMethods;
+				perWorkingCopyInfo.reconciledMethods = null;
+			}
 			try {
 				if (parser != null) {
 					problemFinder.parser = parser;
 					unit = parser.parseCompilationUnit(unitElement, true/*full parse*/, monitor);
+					char[] source = null;
+					MethodAnalysisCache analysisCache = null;
+					if (perWorkingCopyInfo != null && unit != null) {
+						source = unitElement.getContents();
+						Map<AbstractMethodDeclaration, CategorizedProblem[]> reusedProblems = null;
+						if (reconciledMethods != null && !creatingAST) {
+							reusedProblems = reconciledMethods.reuseProblems(unit, source, options, reconcileFlags, changeStamp);
+							if (reusedProblems != null && JavaModelManager.VERBOSE)
+								JavaModelManager.trace("-> Reusing the problems of the methods left unchanged in " + unitElement.getElementName()); //$NON-NLS-1$
+						}
+						problemFinder.lookupEnvironment.methodAnalysisCache = analysisCache = new MethodAnalysisCache(reusedProblems);
+					}
 					problemFinder.resolve(
 						unit,
 						unitElement,
 						true, // verify methods
 						analyzeAndGenerateCode, // analyze code
 						analyzeAndGenerateCode); // generate code
+					if (analysisCache != null)
+						perWorkingCopyInfo.reconciledMethods = ReconciledMethods.read(unit, source, options, reconcileFlags, changeStamp, analysisCache.analysisProblems);
 				} else {
 					unit =
 						problemFinder.resolve(
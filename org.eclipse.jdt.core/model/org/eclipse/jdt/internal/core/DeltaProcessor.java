@@ -1564,6 +1564,8 @@ public class DeltaProcessor {
 			trace(deltaToNotify == null ? "<NONE>" : deltaToNotify.toString()); //$NON-NLS-1$
 		}
 		if (deltaToNotify != null) {
+			this.manager.noteChange();
+
 			// flush now so as to keep listener reactions to post their own deltas for subsequent iteration
 			flush();
 
@@ -1585,6 +1587,14 @@ public class DeltaProcessor {
 			trace(deltaToNotify == null ? "<NONE>" : deltaToNotify.toString()); //$NON-NLS-1$
 		}
 		if (deltaToNotify != null) {
+			// the delta of a reconcile invalidates the results of the reconciles of the other working copies only
+			for (ICompilationUnit workingCopy : this.reconcileDeltas.keySet()) {
+				if (workingCopy instanceof CompilationUnit unit)
+					this.manager.noteChange(unit);
+				else
+					this.manager.noteChange();
+			}
+
 			// flush now so as to keep listener reactions to post their own deltas for subsequent iteration
 			this.reconcileDeltas = new HashMap<>();
 
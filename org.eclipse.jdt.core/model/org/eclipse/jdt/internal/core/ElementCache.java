@@ -22,9 +22,29 @@ import org.eclipse.jdt.core.JavaModelException;
  */
 public class ElementCache<K extends IJavaElement & IOpenable> extends OverflowingLRUCache<K, JavaElementInfo> {
 
+	/**
+	 * An entry which knows the estimated bytes retained by its element, see {@link #put(IJavaElement, JavaElementInfo, int)}
+	 */
+	static class ElementCacheEntry<K> extends LRUCacheEntry<K, JavaElementInfo> {
+		int bytes;
+
+		ElementCacheEntry(K key, JavaElementInfo value, int space, int bytes) {
+			super(key, value, space);
+			this.bytes = bytes;
+		}
+	}
+
 	IJavaElement spaceLimitParent = null;
 	private final int initialSpaceLimit;
 
+	/**
+	 * Estimated bytes retained by the elements of the cache, beyond which the oldest elements are closed even if the
+	 * space limit is not reached.
+	 */
+	private long byteLimit = Long.MAX_VALUE;
+	private long currentBytes;
+	private int bytesBeingAdded;
+
 /**
  * Constructs a new element cache of the given size.
  */
@@ -64,6 +84,90 @@ protected boolean close(LRUCacheEntry<K, JavaElementInfo> entry) {
 	}
 }
 
+/**
+ * Puts the given info, which retains the given estimated number of bytes together with the infos of its children.
+ */
+public JavaElementInfo put(K key, JavaElementInfo value, int bytes) {
+	LRUCacheEntry<K, JavaElementInfo> existing = this.entryTable.get(key);
+	this.bytesBeingAdded = bytes;
+	try {
+		put(key, value);
+	} finally {
+		this.bytesBeingAdded = 0;
+	}
+	if (existing instanceof ElementCacheEntry<K> entry && this.entryTable.get(key) == entry) {
+		// replaced in place
+		this.currentBytes += bytes - entry.bytes;
+		entry.bytes = bytes;
+	}
+	return value;
+}
+
+@Override
+protected void privateAdd(K key, JavaElementInfo value, int space) {
+	privateAddEntry(new ElementCacheEntry<>(key, value, space, this.bytesBeingAdded), false);
+}
+
+@Override
+protected void privateAddEntry(LRUCacheEntry<K, JavaElementInfo> entry, boolean shuffle) {
+	super.privateAddEntry(entry, shuffle);
+	if (!shuffle && entry instanceof ElementCacheEntry<K> elementEntry)
+		this.currentBytes += elementEntry.bytes;
+}
+
+@Override
+protected void privateRemoveEntry(LRUCacheEntry<K, JavaElementInfo> entry, boolean shuffle, boolean external) {
+	super.privateRemoveEntry(entry, shuffle, external);
+	// closing the element may have removed the entry already, or not at all
+	if (!shuffle && entry instanceof ElementCacheEntry<K> elementEntry && elementEntry.bytes != 0
+			&& this.entryTable.get(entry.key) != entry) {
+		this.currentBytes -= elementEntry.bytes;
+		elementEntry.bytes = 0;
+	}
+}
+
+@Override
+protected boolean makeSpace(int space) {
+	boolean result = super.makeSpace(space);
+	if (this.currentBytes + this.bytesBeingAdded > this.byteLimit) {
+		// free the same share of the limit as when the space limit is reached
+		long bytesNeeded = Math.max((long) ((1 - this.loadFactor) * this.byteLimit), this.bytesBeingAdded);
+		LRUCacheEntry<K, JavaElementInfo> entry = this.entryQueueTail;
+		try {
+			this.timestampsOn = false;
+			while (this.currentBytes + bytesNeeded > this.byteLimit && entry != null) {
+				entry = removeOldEntry(entry);
+			}
+		} finally {
+			this.timestampsOn = true;
+		}
+	}
+	return result;
+}
+
+@Override
+public void flush() {
+	super.flush();
+	this.currentBytes = 0;
+}
+
+public long getByteLimit() {
+	return this.byteLimit;
+}
+
+/**
+ * Returns the estimated bytes retained by the elements of the cache.
+ */
+public long getCurrentBytes() {
+	return this.currentBytes;
+}
+
+public void setByteLimit(long byteLimit) {
+	this.byteLimit = byteLimit;
+	if (this.currentBytes > byteLimit)
+		makeSpace(0);
+}
+
 /*
  * Ensures that there is enough room for adding the children of the given info.
  * If the space limit must be increased, record the parent that needed this space limit.
@@ -15,14 +15,19 @@
  *								Bug 440477 - [null] Infrastructure for feeding external annotations into compilation
  *******************************************************************************/
 package org.eclipse.jdt.internal.core;
+import java.text.NumberFormat;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.internal.compiler.env.IBinaryInfo;
+import org.eclipse.jdt.internal.compiler.env.IBinaryType;
 import org.eclipse.jdt.internal.compiler.env.IElementInfo;
 import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.core.util.LRUCache;
@@ -41,6 +46,11 @@ public class JavaModelCache {
 
 	public static final String RATIO_PROPERTY = "org.eclipse.jdt.core.javamodelcache.ratio"; //$NON-NLS-1$
 	public static final String JAR_TYPE_RATIO_PROPERTY = "org.eclipse.jdt.core.javamodelcache.jartyperatio"; //$NON-NLS-1$
+	/**
+	 * Estimated bytes that the open compilation units and class files can retain, with the infos of their children,
+	 * by default a quarter of the maximum heap size.
+	 */
+	public static final String MAX_BYTES_PROPERTY = "org.eclipse.jdt.core.javamodelcache.maxbytes"; //$NON-NLS-1$
 
 	public static final IBinaryInfo NON_EXISTING_JAR_TYPE_INFO = new IBinaryInfo() {/*empty marker instance only*/};
 
@@ -52,12 +62,12 @@ public class JavaModelCache {
 	/**
 	 * Active Java Model Info
 	 */
-	protected JavaElementInfo modelInfo;
+	protected volatile JavaElementInfo modelInfo;
 
 	/**
 	 * Cache of open projects.
 	 */
-	protected HashMap<IJavaProject, JavaElementInfo> projectCache;
+	protected Map<IJavaProject, JavaElementInfo> projectCache;
 
 	/**
 	 * Cache of open package fragment roots.
@@ -85,6 +95,30 @@ public class JavaModelCache {
 	 */
 	protected LRUCache<IJavaElement, IElementInfo> jarTypeCache;
 
+	// levels of the hit and miss counters
+	private static final int PROJECT_LEVEL = 0;
+	private static final int ROOT_LEVEL = 1;
+	private static final int PACKAGE_LEVEL = 2;
+	private static final int OPENABLE_LEVEL = 3;
+	private static final int CHILD_LEVEL = 4;
+	private static final String[] LEVEL_NAMES = { "Project", "Root", "Package", "Openable", "Child" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+	private final LongAdder[] hits = new LongAdder[LEVEL_NAMES.length];
+	private final LongAdder[] misses = new LongAdder[LEVEL_NAMES.length];
+
+	/*
+	 * Odd while the model manager stores or removes infos, see #beginUpdate(). Lets #getInfoConcurrently(IJavaElement)
+	 * ignore the infos read during an update, e.g. the info of a child while its compilation unit is being closed.
+	 */
+	private volatile int updateStamp;
+	private int updateDepth; // nested updates, guarded by the lock of the model manager
+
+	// rough sizes of the objects retained by an element info, for the byte limit of the openable cache
+	private static final int ELEMENT_BYTES = 160; // handle, info and cache entry
+	private static final int HANDLE_BYTES = 64; // handle which has no info of its own, e.g. a method parameter
+	private static final int REFERENCE_BYTES = 8;
+	private static final int ARRAY_BYTES = 16;
+	private static final int BINARY_MEMBER_BYTES = 120;
+
 public JavaModelCache() {
 	double openableRatio = getOpenableRatio();
 	int rootCacheSize = sizeLimit(DEFAULT_ROOT_SIZE * openableRatio);
@@ -93,7 +127,8 @@ public JavaModelCache() {
 
 	// NB: Don't use a LRUCache for projects as they are
 	// constantly reopened (e.g. during delta processing)
-	this.projectCache = new HashMap<>();  // HashMap size adjusts automatically
+	// concurrent maps, as hits are read without the lock of the model manager, see #getInfoConcurrently(IJavaElement)
+	this.projectCache = new ConcurrentHashMap<>();
 	if (VERBOSE) {
 		this.rootCache = new VerboseElementCache<>(rootCacheSize, "Root cache"); //$NON-NLS-1$
 		this.pkgCache = new VerboseElementCache<>(packageCacheeSize, "Package cache"); //$NON-NLS-1$
@@ -103,10 +138,28 @@ public JavaModelCache() {
 		this.pkgCache = new ElementCache<>(packageCacheeSize);
 		this.openableCache = new ElementCache<>(openableCacheSize);
 	}
-	this.childrenCache = new HashMap<>(); // HashMap size adjusts automatically
+	this.openableCache.setByteLimit(getMaxBytes());
+	this.childrenCache = new ConcurrentHashMap<>();
+	for (int i = 0; i < LEVEL_NAMES.length; i++) {
+		this.hits[i] = new LongAdder();
+		this.misses[i] = new LongAdder();
+	}
 	resetJarTypeCache();
 }
 
+private long getMaxBytes() {
+	String property = System.getProperty(MAX_BYTES_PROPERTY);
+	if (property != null) {
+		try {
+			return Long.parseLong(property);
+		} catch (NumberFormatException e) {
+			Util.log(e, "Could not parse value for " + MAX_BYTES_PROPERTY + ": " + property); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+	long maxMemory = Runtime.getRuntime().maxMemory();
+	return maxMemory == Long.MAX_VALUE ? Long.MAX_VALUE : maxMemory / 4;
+}
+
 private int sizeLimit(double d) {
 	return (int) Double.min(Integer.MAX_VALUE/2,d);
 }
@@ -140,25 +193,178 @@ public IElementInfo getInfo(IJavaElement element) {
 		case IJavaElement.JAVA_MODEL:
 			return this.modelInfo;
 		case IJavaElement.JAVA_PROJECT:
-			return this.projectCache.get(element);
+			return count(PROJECT_LEVEL, this.projectCache.get(element));
 		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
-			return this.rootCache.get((IPackageFragmentRoot) element);
+			return count(ROOT_LEVEL, this.rootCache.get((IPackageFragmentRoot) element));
 		case IJavaElement.PACKAGE_FRAGMENT:
-			return this.pkgCache.get((IPackageFragment) element);
+			return count(PACKAGE_LEVEL, this.pkgCache.get((IPackageFragment) element));
 		case IJavaElement.COMPILATION_UNIT:
 		case IJavaElement.CLASS_FILE:
-			return this.openableCache.get((ITypeRoot) element);
+			return count(OPENABLE_LEVEL, this.openableCache.get((ITypeRoot) element));
 		case IJavaElement.TYPE:
 			IElementInfo result = this.jarTypeCache.get(element);
 			if (result != null)
-				return result;
+				return count(CHILD_LEVEL, result);
 			else
-				return this.childrenCache.get(element);
+				return count(CHILD_LEVEL, this.childrenCache.get(element));
 		default:
-			return this.childrenCache.get(element);
+			return count(CHILD_LEVEL, this.childrenCache.get(element));
 	}
 }
 
+/**
+ * Returns the info for the element if it is in the cache, or null if it must be looked up again by
+ * {@link #getInfo(IJavaElement)}. Unlike the other methods, can be called without holding the lock of the model
+ * manager: elements read this way are not moved in the LRU queues but get a second chance before being closed.
+ * Answers null while the manager stores or removes infos, or if it started to since the info was read, so that an
+ * info is only answered if it was in the cache outside of an update.
+ */
+public IElementInfo getInfoConcurrently(IJavaElement element) {
+	int stamp = this.updateStamp;
+	if ((stamp & 1) != 0)
+		return null; // being updated, wait for the lock
+	IElementInfo result;
+	int level;
+	switch (element.getElementType()) {
+		case IJavaElement.JAVA_MODEL:
+			return this.modelInfo;
+		case IJavaElement.JAVA_PROJECT:
+			result = this.projectCache.get(element);
+			level = PROJECT_LEVEL;
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			result = this.rootCache.peekConcurrently((IPackageFragmentRoot) element);
+			level = ROOT_LEVEL;
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			result = this.pkgCache.peekConcurrently((IPackageFragment) element);
+			level = PACKAGE_LEVEL;
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+		case IJavaElement.CLASS_FILE:
+			result = this.openableCache.peekConcurrently((ITypeRoot) element);
+			level = OPENABLE_LEVEL;
+			break;
+		case IJavaElement.TYPE:
+			if (this.jarTypeCache.peek(element) != null)
+				return null; // let #getInfo(IJavaElement) update the order of the jar type cache
+			//$FALL-THROUGH$
+		default:
+			result = this.childrenCache.get(element);
+			level = CHILD_LEVEL;
+			break;
+	}
+	if (result == null || this.updateStamp != stamp)
+		return null; // misses are counted by #getInfo(IJavaElement)
+	this.hits[level].increment();
+	return result;
+}
+
+/**
+ * Called with the lock of the model manager held before infos are stored or removed together, e.g. when an element
+ * and its children are closed. Each call must be followed by a call to {@link #endUpdate()}.
+ */
+protected void beginUpdate() {
+	if (this.updateDepth++ == 0)
+		this.updateStamp++;
+}
+
+/**
+ * Called with the lock of the model manager held once the infos are stored or removed, see {@link #beginUpdate()}.
+ */
+protected void endUpdate() {
+	if (--this.updateDepth == 0)
+		this.updateStamp++;
+}
+
+private IElementInfo count(int level, IElementInfo info) {
+	(info == null ? this.misses : this.hits)[level].increment();
+	return info;
+}
+
+/**
+ * Returns the ratio of the lookups of the elements of the given type which found the element open.
+ *
+ * @param elementType one of {@link IJavaElement#JAVA_PROJECT}, {@link IJavaElement#PACKAGE_FRAGMENT_ROOT},
+ * 	{@link IJavaElement#PACKAGE_FRAGMENT}, {@link IJavaElement#COMPILATION_UNIT} or {@link IJavaElement#CLASS_FILE}
+ * 	(openables), or any other type for the children of the openables
+ */
+public double getHitRatio(int elementType) {
+	int level;
+	switch (elementType) {
+		case IJavaElement.JAVA_PROJECT:
+			level = PROJECT_LEVEL;
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			level = ROOT_LEVEL;
+			break;
+		case IJavaElement.PACKAGE_FRAGMENT:
+			level = PACKAGE_LEVEL;
+			break;
+		case IJavaElement.COMPILATION_UNIT:
+		case IJavaElement.CLASS_FILE:
+			level = OPENABLE_LEVEL;
+			break;
+		default:
+			level = CHILD_LEVEL;
+	}
+	return hitRatio(level);
+}
+
+private double hitRatio(int level) {
+	long hitCount = this.hits[level].sum();
+	long lookups = hitCount + this.misses[level].sum();
+	return lookups == 0 ? 0 : (double) hitCount / lookups;
+}
+
+/**
+ * Returns a rough estimate of the bytes retained by the given info, not including the infos of its children: the
+ * handles of its children, and the names, signatures and initializers that the info of a source member holds.
+ */
+static int estimateBytes(IElementInfo info) {
+	if (info instanceof JavaElementInfo javaElementInfo) {
+		int bytes = ELEMENT_BYTES + REFERENCE_BYTES * javaElementInfo.getChildren().length;
+		if (info instanceof AnnotatableInfo annotatable)
+			bytes += REFERENCE_BYTES * annotatable.annotations.length; // annotation infos are stored on their own
+		if (info instanceof SourceTypeElementInfo type) {
+			bytes += charBytes(type.superclassName) + charBytes(type.superInterfaceNames)
+					+ charBytes(type.permittedTypeNames) + REFERENCE_BYTES * type.typeParameters.length;
+		} else if (info instanceof SourceMethodElementInfo method) {
+			bytes += charBytes(method.argumentNames) + charBytes(method.exceptionTypes)
+					+ REFERENCE_BYTES * method.typeParameters.length;
+			if (method.arguments != null)
+				bytes += HANDLE_BYTES * method.arguments.length;
+			if (info instanceof SourceMethodInfo sourceMethod)
+				bytes += charBytes(sourceMethod.returnType);
+		} else if (info instanceof SourceFieldElementInfo field) {
+			bytes += charBytes(field.typeName) + charBytes(field.initializationSource);
+		}
+		return bytes;
+	}
+	if (info instanceof IBinaryType binaryType) {
+		int members = 0;
+		if (binaryType.getMethods() != null)
+			members += binaryType.getMethods().length;
+		if (binaryType.getFields() != null)
+			members += binaryType.getFields().length;
+		return ELEMENT_BYTES + BINARY_MEMBER_BYTES * members;
+	}
+	return ELEMENT_BYTES;
+}
+
+private static int charBytes(char[] chars) {
+	return chars == null ? 0 : ARRAY_BYTES + 2 * chars.length;
+}
+
+private static int charBytes(char[][] names) {
+	if (names == null)
+		return 0;
+	int bytes = ARRAY_BYTES + REFERENCE_BYTES * names.length;
+	for (char[] name : names)
+		bytes += charBytes(name);
+	return bytes;
+}
+
 /*
  *  Returns the existing element that is equal to the given element if present in the cache.
  *  Returns the given element otherwise.
@@ -215,6 +421,32 @@ protected IElementInfo peekAtInfo(IJavaElement element) {
  * Remember the info for the element.
  */
 protected void putInfo(IJavaElement element, IElementInfo info) {
+	putInfo(element, info, estimateBytes(info));
+}
+
+/**
+ * Remember the infos of the given elements, opened together. The estimated bytes of the infos of the children are
+ * accounted to their compilation unit or class file, as they are removed when it is closed.
+ */
+protected void putInfos(Map<IJavaElement, IElementInfo> infos) {
+	Map<IJavaElement, Integer> openableBytes = new HashMap<>();
+	for (Entry<IJavaElement, IElementInfo> entry : infos.entrySet()) {
+		IJavaElement element = entry.getKey();
+		if (element.getElementType() > IJavaElement.CLASS_FILE)
+			element = element.getOpenable() instanceof IJavaElement openable ? openable : element;
+		openableBytes.merge(element, estimateBytes(entry.getValue()), Integer::sum);
+	}
+	for (Entry<IJavaElement, IElementInfo> entry : infos.entrySet()) {
+		IJavaElement element = entry.getKey();
+		putInfo(element, entry.getValue(), openableBytes.getOrDefault(element, 0));
+	}
+}
+
+/**
+ * Remember the info for the element, which retains the given estimated bytes together with the infos of its children
+ * (only used for compilation units and class files).
+ */
+protected void putInfo(IJavaElement element, IElementInfo info, int bytes) {
 	switch (element.getElementType()) {
 		case IJavaElement.JAVA_MODEL:
 			this.modelInfo = (JavaElementInfo) info;
@@ -233,7 +465,7 @@ protected void putInfo(IJavaElement element, IElementInfo info) {
 			break;
 		case IJavaElement.COMPILATION_UNIT:
 		case IJavaElement.CLASS_FILE:
-			this.openableCache.put((ITypeRoot) element, (JavaElementInfo) info);
+			this.openableCache.put((ITypeRoot) element, (JavaElementInfo) info, bytes);
 			break;
 		default:
 			this.childrenCache.put(element, info);
@@ -336,6 +568,21 @@ public String toStringFillingRation(String prefix) {
 	buffer.append(prefix);
 	buffer.append(this.jarTypeCache.toStringFillingRation("Jar type cache")); //$NON-NLS-1$
 	buffer.append('\n');
+	buffer.append(prefix);
+	buffer.append("Openable cache bytes: "); //$NON-NLS-1$
+	buffer.append(NumberFormat.getInstance().format(this.openableCache.getCurrentBytes()));
+	buffer.append(" estimated of "); //$NON-NLS-1$
+	buffer.append(NumberFormat.getInstance().format(this.openableCache.getByteLimit()));
+	buffer.append('\n');
+	buffer.append(prefix);
+	buffer.append("Hit ratios:"); //$NON-NLS-1$
+	for (int i = 0; i < LEVEL_NAMES.length; i++) {
+		buffer.append(' ');
+		buffer.append(LEVEL_NAMES[i]);
+		buffer.append(' ');
+		buffer.append(NumberFormat.getPercentInstance().format(hitRatio(i)));
+	}
+	buffer.append('\n');
 	return buffer.toString();
 }
 }
@@ -36,6 +36,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
@@ -86,6 +87,7 @@ import org.eclipse.jdt.internal.core.search.processing.JobManager;
 import org.eclipse.jdt.internal.core.util.DeduplicationUtil;
 import org.eclipse.jdt.internal.core.util.HashtableOfArrayToObject;
 import org.eclipse.jdt.internal.core.util.LRUCache;
+import org.eclipse.jdt.internal.core.util.MemoryGovernor;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.Util;
 import org.eclipse.jdt.internal.formatter.DefaultCodeFormatter;
@@ -302,6 +304,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 	private static final String JAVAMODEL_INVALID_ARCHIVES = JavaCore.PLUGIN_ID + "/debug/javamodel/invalid_archives" ; //$NON-NLS-1$
 	private static final String JAVAMODELCACHE_DEBUG = JavaCore.PLUGIN_ID + "/debug/javamodel/cache" ; //$NON-NLS-1$
 	private static final String JAVAMODELCACHE_INSERTIONS_DEBUG = JavaCore.PLUGIN_ID + "/debug/javamodel/insertions" ; //$NON-NLS-1$
+	private static final String MEMORY_GOVERNOR_DEBUG = JavaCore.PLUGIN_ID + "/debug/memorygovernor" ; //$NON-NLS-1$
 	private static final String CP_RESOLVE_DEBUG = JavaCore.PLUGIN_ID + "/debug/cpresolution" ; //$NON-NLS-1$
 	private static final String CP_RESOLVE_ADVANCED_DEBUG = JavaCore.PLUGIN_ID + "/debug/cpresolution/advanced" ; //$NON-NLS-1$
 	private static final String CP_RESOLVE_FAILURE_DEBUG = JavaCore.PLUGIN_ID + "/debug/cpresolution/failure" ; //$NON-NLS-1$
@@ -1210,6 +1213,12 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 	 */
 	public DeltaProcessingState deltaState = new DeltaProcessingState();
 
+	/**
+	 * Incremented each time a Java element delta is fired, a working copy is reconciled or the buffer of a compilation
+	 * unit changes, so that the results of a reconcile can tell whether something else changed since then.
+	 */
+	private final AtomicLong changeStamp = new AtomicLong();
+
 	public IndexManager indexManager = null;
 
 	/**
@@ -1577,6 +1586,8 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		int useCount = 0;
 		private final IProblemRequestor problemRequestor;
 		final CompilationUnit workingCopy;
+		/** the problems of the methods found by the last reconcile, reused by the next one */
+		volatile ReconciledMethods reconciledMethods;
 		public PerWorkingCopyInfo(CompilationUnit workingCopy, IProblemRequestor problemRequestor) {
 			this.workingCopy = workingCopy;
 			this.problemRequestor = problemRequestor;
@@ -1945,6 +1956,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 				JavaModelManager.TRACE_TO_STDOUT = debug && options.getBooleanOption(JAVAMODEL_STDOUT, false);
 				JavaModelCache.VERBOSE = debug && options.getBooleanOption(JAVAMODELCACHE_DEBUG, false);
 				JavaModelCache.DEBUG_CACHE_INSERTIONS = debug && options.getBooleanOption(JAVAMODELCACHE_INSERTIONS_DEBUG, false);
+				MemoryGovernor.VERBOSE = debug && options.getBooleanOption(MEMORY_GOVERNOR_DEBUG, false);
 				JavaModelOperation.POST_ACTION_VERBOSE = debug && options.getBooleanOption(POST_ACTION_DEBUG, false);
 				NameLookup.VERBOSE = debug && options.getBooleanOption(RESOLUTION_DEBUG, false);
 				BasicSearchEngine.VERBOSE = debug && options.getBooleanOption(SEARCH_DEBUG, false);
@@ -2196,6 +2208,32 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		return this.deltaState.getDeltaProcessor();
 	}
 
+	/**
+	 * Answers the number of changes noted so far.
+	 */
+	public long getChangeStamp() {
+		return this.changeStamp.get();
+	}
+
+	/**
+	 * Notes a change that may affect the reconcile of any working copy, e.g. the firing of a Java element delta.
+	 */
+	void noteChange() {
+		this.changeStamp.incrementAndGet();
+	}
+
+	/**
+	 * Notes a change of the given compilation unit, i.e. an edit of its buffer or the delta of its reconcile, which
+	 * affects the reconcile of the other working copies but not the results of its own last reconcile.
+	 */
+	void noteChange(CompilationUnit unit) {
+		long stamp = this.changeStamp.incrementAndGet();
+		PerWorkingCopyInfo info = unit.getPerWorkingCopyInfo();
+		ReconciledMethods reconciledMethods = info == null ? null : info.reconciledMethods;
+		if (reconciledMethods != null)
+			reconciledMethods.changed(stamp);
+	}
+
 	public static DeltaProcessingState getDeltaState() {
 		return MANAGER.deltaState;
 	}
@@ -2218,7 +2256,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 	/**
 	 *  Returns the info for the element.
 	 */
-	public synchronized IElementInfo getInfo(IJavaElement element) {
+	public IElementInfo getInfo(IJavaElement element) {
 		HashMap<IJavaElement, IElementInfo> tempCache = this.temporaryCache.get();
 		if (tempCache != null) {
 			IElementInfo result = tempCache.get(element);
@@ -2226,7 +2264,14 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 				return result;
 			}
 		}
-		return this.cache.getInfo(element);
+		// hits do not need to wait for the elements being opened or closed by other threads
+		IElementInfo result = this.cache.getInfoConcurrently(element);
+		if (result != null) {
+			return result;
+		}
+		synchronized (this) {
+			return this.cache.getInfo(element);
+		}
 	}
 
 	/**
@@ -2825,6 +2870,14 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		return workingLocation.append("state.dat").toFile(); //$NON-NLS-1$
 	}
 
+	/**
+	 * Returns the File to use for saving and restoring the reference collections of the last built state for the given
+	 * project, next to the {@link #getSerializationFile(IProject) state file}.
+	 */
+	private File getReferencesFile(File serializationFile) {
+		return new File(serializationFile.getParentFile(), "references.dat"); //$NON-NLS-1$
+	}
+
 	public static UserLibraryManager getUserLibraryManager() {
 		JavaModelManager m = MANAGER;
 		synchronized(m) {
@@ -4082,6 +4135,15 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 			// https://bugs.eclipse.org/bugs/show_bug.cgi?id=372687
 			return existingInfo;
 		}
+		this.cache.beginUpdate();
+		try {
+			return replaceInfos(openedElement, newInfo, existingInfo, newElements);
+		} finally {
+			this.cache.endUpdate();
+		}
+	}
+
+	private IElementInfo replaceInfos(IJavaElement openedElement, IElementInfo newInfo, IElementInfo existingInfo, Map<IJavaElement, IElementInfo> newElements) {
 		if (openedElement instanceof IParent) {
 			closeChildren(existingInfo);
 		}
@@ -4106,9 +4168,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 			}
 		}
 
-		for (Entry<IJavaElement, IElementInfo> entry : newElements.entrySet()) {
-			this.cache.putInfo(entry.getKey(), entry.getValue());
-		}
+		this.cache.putInfos(newElements);
 		return newInfo;
 	}
 
@@ -4163,7 +4223,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 				if (!kind.equals("STATE")) //$NON-NLS-1$
 					throw new IOException(Messages.build_wrongFileFormat);
 				if (in.readBoolean())
-					return JavaBuilder.readState(project, in);
+					return JavaBuilder.readState(project, in, getReferencesFile(file));
 				if (JavaBuilder.DEBUG) {
 					trace("Saved state thinks last build failed for " + project.getName()); //$NON-NLS-1$
 				}
@@ -4263,6 +4323,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 		Object info = this.cache.peekAtInfo(element);
 		if (info != null) {
 			boolean wasVerbose = false;
+			this.cache.beginUpdate(); // concurrent readers must not answer the infos of the children being closed
 			try {
 				if (JavaModelCache.VERBOSE) {
 					String elementType = JavaModelCache.getCacheType(element);
@@ -4280,6 +4341,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 				}
 			} finally {
 				JavaModelCache.VERBOSE = wasVerbose;
+				this.cache.endUpdate();
 			}
 			return info;
 		}
@@ -4404,7 +4466,7 @@ public class JavaModelManager implements ISaveParticipant, IContentTypeChangeLis
 					out.writeBoolean(false);
 				} else {
 					out.writeBoolean(true);
-					JavaBuilder.writeState(info.savedState, out);
+					JavaBuilder.writeState(info.savedState, out, getReferencesFile(file));
 				}
 			}
 		} catch (RuntimeException | IOException e) {
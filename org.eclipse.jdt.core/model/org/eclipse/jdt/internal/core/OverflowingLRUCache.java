@@ -185,8 +185,7 @@ public double getLoadFactor() {
 			this.timestampsOn = false;
 
 			while (this.currentSpace + spaceNeeded > limit && entry != null) {
-				this.privateRemoveEntry(entry, false, false);
-				entry = entry.previous;
+				entry = removeOldEntry(entry);
 			}
 		} finally {
 			this.timestampsOn = true;
@@ -203,6 +202,25 @@ public double getLoadFactor() {
 		return false;
 	}
 
+	/**
+	 * Removes the given entry, which is the oldest one considered for removal, if it can be closed. An entry read by
+	 * {@link #peekConcurrently(Object)} since it was last moved in the queue is given a second chance instead: it is
+	 * moved to the start of the queue. Timestamps must be disabled.
+	 *
+	 * @return the next entry to consider for removal
+	 */
+	protected LRUCacheEntry<K, V> removeOldEntry(LRUCacheEntry<K, V> entry) {
+		if (entry.referenced) {
+			LRUCacheEntry<K, V> previous = entry.previous;
+			entry.referenced = false;
+			privateRemoveEntry(entry, true, false);
+			privateAddEntry(entry, true);
+			return previous;
+		}
+		privateRemoveEntry(entry, false, false);
+		return entry.previous;
+	}
+
 	/**
 	 * Returns a new instance of the reciever.
 	 */
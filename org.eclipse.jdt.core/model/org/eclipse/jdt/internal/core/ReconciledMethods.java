@@ -0,0 +1,226 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jdt.core.compiler.CategorizedProblem;
+import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.CompilationUnitDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.MethodDeclaration;
+import org.eclipse.jdt.internal.compiler.ast.TypeDeclaration;
+import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
+import org.eclipse.jdt.internal.compiler.util.Util;
+
+/**
+ * The problems found by the flow analysis and the code generation of the methods of a working copy at its last
+ * reconcile, reused by the next reconcile for the methods that an edit did not touch.
+ * <p>
+ * An edit confined to the body of one method leaves the declarations of the unit unchanged, and the analysis of the
+ * other methods only depends on these declarations and on the methods themselves: the next reconcile still parses and
+ * resolves the whole unit, so that the problems about unused members and imports stay exact, but only analyzes and
+ * generates the code of the edited method. The problems of the other methods are the ones of their previous analysis,
+ * moved by the length of the edit. Any other edit, a change of the options or a change of the environment, i.e. a
+ * Java element delta, an edit or a reconcile of another working copy, falls back to a full reconcile.
+ * </p>
+ */
+final class ReconciledMethods {
+
+	private static final CategorizedProblem[] NO_PROBLEMS = new CategorizedProblem[0];
+
+	private final char[] source;
+	private final Map<String, String> options;
+	private final int reconcileFlags;
+	/** the change stamp of the Java model manager when the unit was reconciled, moved by the changes of the unit itself */
+	private volatile long changeStamp;
+	/** the source declaration start, source declaration end and body start of each method, in source order */
+	private final int[] ranges;
+	/** the problems of each method, null for a method that was not analyzed */
+	private final CategorizedProblem[][] problems;
+
+	private ReconciledMethods(char[] source, Map<String, String> options, int reconcileFlags, long changeStamp, int[] ranges, CategorizedProblem[][] problems) {
+		this.source = source;
+		this.options = options;
+		this.reconcileFlags = reconcileFlags;
+		this.changeStamp = changeStamp;
+		this.ranges = ranges;
+		this.problems = problems;
+	}
+
+	/**
+	 * Answers the methods of the given unit that have a source declaration, in source order: the methods of its local and
+	 * anonymous types are part of the bodies of these methods.
+	 */
+	private static List<AbstractMethodDeclaration> methods(CompilationUnitDeclaration unit) {
+		List<AbstractMethodDeclaration> methods = new ArrayList<>();
+		if (unit.types != null) {
+			for (TypeDeclaration type : unit.types)
+				addMethods(type, methods);
+		}
+		methods.sort((method1, method2) -> Integer.compare(method1.declarationSourceStart, method2.declarationSourceStart));
+		return methods;
+	}
+
+	private static void addMethods(TypeDeclaration type, List<AbstractMethodDeclaration> methods) {
+		if (type.methods != null) {
+			for (AbstractMethodDeclaration method : type.methods) {
+				if (!method.isClinit() && !method.isDefaultConstructor())
+					methods.add(method);
+			}
+		}
+		if (type.memberTypes != null) {
+			for (TypeDeclaration memberType : type.memberTypes)
+				addMethods(memberType, methods);
+		}
+	}
+
+	/**
+	 * Answers the problems recorded for the methods of the given unit once it is resolved, or null if the unit has syntax
+	 * errors, whose recovery would make the next edit unlikely to parse to the same declarations.
+	 */
+	static ReconciledMethods read(CompilationUnitDeclaration unit, char[] source, Map<String, String> options, int reconcileFlags, long changeStamp,
+			Map<AbstractMethodDeclaration, CategorizedProblem[]> analysisProblems) {
+		if (unit.ignoreFurtherInvestigation || unit.compilationResult.hasSyntaxError)
+			return null;
+		List<AbstractMethodDeclaration> methods = methods(unit);
+		int[] ranges = new int[methods.size() * 3];
+		CategorizedProblem[][] problems = new CategorizedProblem[methods.size()][];
+		for (int i = 0, length = methods.size(); i < length; i++) {
+			AbstractMethodDeclaration method = methods.get(i);
+			ranges[i * 3] = method.declarationSourceStart;
+			ranges[i * 3 + 1] = method.declarationSourceEnd;
+			ranges[i * 3 + 2] = method.bodyStart;
+			if (method instanceof MethodDeclaration && !method.ignoreFurtherInvestigation && method.binding != null)
+				problems[i] = analysisProblems.getOrDefault(method, NO_PROBLEMS);
+		}
+		return new ReconciledMethods(source, options, reconcileFlags, changeStamp, ranges, problems);
+	}
+
+	/**
+	 * Notes that a change of the working copy itself, i.e. an edit of its buffer or the delta of its reconcile, moved the
+	 * change stamp of the Java model manager to the given stamp. Any other change since the reconcile keeps the stamps
+	 * apart.
+	 */
+	void changed(long stamp) {
+		if (this.changeStamp == stamp - 1)
+			this.changeStamp = stamp;
+	}
+
+	/**
+	 * Answers the problems to report for the methods of the given newly parsed unit that an edit of the body of one
+	 * method left unchanged, or null if anything but the body of one method changed since these problems were recorded.
+	 */
+	Map<AbstractMethodDeclaration, CategorizedProblem[]> reuseProblems(CompilationUnitDeclaration unit, char[] newSource,
+			Map<String, String> newOptions, int newReconcileFlags, long newChangeStamp) {
+		if (newChangeStamp != this.changeStamp
+				|| newReconcileFlags != this.reconcileFlags
+				|| !newOptions.equals(this.options)
+				|| unit.compilationResult.hasSyntaxError)
+			return null;
+
+		// the edit replaced [start, oldEnd[ of the previous source by [start, newEnd[
+		int oldLength = this.source.length, newLength = newSource.length;
+		int start = 0, max = Math.min(oldLength, newLength);
+		while (start < max && this.source[start] == newSource[start])
+			start++;
+		int oldEnd = oldLength, newEnd = newLength;
+		while (oldEnd > start && newEnd > start && this.source[oldEnd - 1] == newSource[newEnd - 1]) {
+			oldEnd--;
+			newEnd--;
+		}
+		int delta = newLength - oldLength;
+
+		List<AbstractMethodDeclaration> methods = methods(unit);
+		int count = this.problems.length;
+		if (methods.size() != count)
+			return null;
+		int edited = -1;
+		for (int i = 0; i < count; i++) {
+			int declarationStart = this.ranges[i * 3], declarationEnd = this.ranges[i * 3 + 1], bodyStart = this.ranges[i * 3 + 2];
+			AbstractMethodDeclaration method = methods.get(i);
+			if (declarationEnd < start) {
+				// before the edit
+				if (method.declarationSourceStart != declarationStart || method.declarationSourceEnd != declarationEnd || method.bodyStart != bodyStart)
+					return null;
+			} else if (declarationStart >= oldEnd) {
+				// after the edit
+				if (method.declarationSourceStart != declarationStart + delta || method.declarationSourceEnd != declarationEnd + delta || method.bodyStart != bodyStart + delta)
+					return null;
+			} else if (bodyStart <= start && oldEnd <= declarationEnd) {
+				// the edit is between the braces of the body of this method
+				if (method.declarationSourceStart != declarationStart || method.declarationSourceEnd != declarationEnd + delta || method.bodyStart != bodyStart)
+					return null;
+				edited = i;
+			} else {
+				return null;
+			}
+		}
+		if (edited < 0 && start != oldLength)
+			return null; // outside of the bodies
+
+		int[] lineEnds = unit.compilationResult.getLineSeparatorPositions();
+		Map<AbstractMethodDeclaration, CategorizedProblem[]> reused = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			AbstractMethodDeclaration method = methods.get(i);
+			if (i != edited && this.problems[i] != null && method instanceof MethodDeclaration) {
+				CategorizedProblem[] moved = moved(this.problems[i], start, oldEnd, delta, lineEnds);
+				if (moved != null)
+					reused.put(method, moved);
+			}
+		}
+		return reused;
+	}
+
+	/**
+	 * Answers copies of the given problems moved by the given delta if they are after the edit, or null if one of them is
+	 * in the edit or cannot be copied.
+	 */
+	private static CategorizedProblem[] moved(CategorizedProblem[] problems, int start, int oldEnd, int delta, int[] lineEnds) {
+		int length = problems.length;
+		if (length == 0)
+			return problems;
+		CategorizedProblem[] moved = new CategorizedProblem[length];
+		for (int i = 0; i < length; i++) {
+			CategorizedProblem problem = problems[i];
+			if (problem.getClass() != DefaultProblem.class)
+				return null;
+			DefaultProblem defaultProblem = (DefaultProblem) problem;
+			int sourceStart = problem.getSourceStart(), sourceEnd = problem.getSourceEnd();
+			if (sourceStart >= oldEnd) {
+				sourceStart += delta;
+				sourceEnd += delta;
+			} else if (sourceEnd >= start) {
+				return null;
+			}
+			int line = 0, column = 0;
+			if (sourceStart >= 0) {
+				line = Util.getLineNumber(sourceStart, lineEnds, 0, lineEnds.length - 1);
+				column = Util.searchColumnNumber(lineEnds, line, sourceStart);
+			}
+			moved[i] = new DefaultProblem(
+				problem.getOriginatingFileName(),
+				problem.getMessage(),
+				problem.getID(),
+				problem.getArguments(),
+				defaultProblem.severity,
+				sourceStart,
+				sourceEnd,
+				line,
+				column);
+		}
+		return moved;
+	}
+}
@@ -73,6 +73,7 @@ import org.eclipse.jdt.internal.core.CompilationGroup;
 import org.eclipse.jdt.internal.core.JavaModelManager;
 import org.eclipse.jdt.internal.core.JavaProject;
 import org.eclipse.jdt.internal.core.PackageFragment;
+import org.eclipse.jdt.internal.core.util.MemoryGovernor;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.Util;
 import org.eclipse.osgi.util.NLS;
@@ -104,7 +105,10 @@ protected boolean keepStoringProblemMarkers;
 protected Map<SourceFile, AnnotationBinding[]> filesWithAnnotations = null;
 
 //2000 is best compromise between space used and speed
-public static int MAX_AT_ONCE = Integer.getInteger(JavaModelManager.MAX_COMPILED_UNITS_AT_ONCE, 2000).intValue();
+private static final int DEFAULT_MAX_AT_ONCE = 2000;
+public static int MAX_AT_ONCE = Integer.getInteger(JavaModelManager.MAX_COMPILED_UNITS_AT_ONCE, DEFAULT_MAX_AT_ONCE).intValue();
+// unless a size is given, the batches adapt to the occupancy of the heap
+private static final boolean ADAPTIVE_BATCHES = Integer.getInteger(JavaModelManager.MAX_COMPILED_UNITS_AT_ONCE) == null;
 public final static String[] JAVA_PROBLEM_MARKER_ATTRIBUTE_NAMES = {
 		IMarker.MESSAGE,
 		IMarker.SEVERITY,
@@ -366,7 +370,9 @@ protected void compile(SourceFile[] units) {
 	}
 
 	int unitsLength = units.length;
-	this.compiledAllAtOnce = MAX_AT_ONCE == 0 || unitsLength <= MAX_AT_ONCE;
+	MemoryGovernor governor = ADAPTIVE_BATCHES && MAX_AT_ONCE == DEFAULT_MAX_AT_ONCE ? newMemoryGovernor() : null;
+	int doNow = governor == null ? MAX_AT_ONCE : governor.batchSize();
+	this.compiledAllAtOnce = MAX_AT_ONCE == 0 || unitsLength <= doNow;
 	if (this.compiledAllAtOnce) {
 		// do them all now
 		if (JavaBuilder.DEBUG) {
@@ -378,11 +384,14 @@ protected void compile(SourceFile[] units) {
 	} else {
 		SourceFile[] remainingUnits = new SourceFile[unitsLength]; // copy of units, removing units when about to compile
 		System.arraycopy(units, 0, remainingUnits, 0, unitsLength);
-		int doNow = unitsLength < MAX_AT_ONCE ? unitsLength : MAX_AT_ONCE;
-		SourceFile[] toCompile = new SourceFile[doNow];
 		int remainingIndex = 0;
 		boolean compilingFirstGroup = true;
 		while (remainingIndex < unitsLength) {
+			if (governor != null && !compilingFirstGroup)
+				doNow = governor.nextBatchSize(); // measured after the previous group
+			if (doNow > unitsLength - remainingIndex)
+				doNow = unitsLength - remainingIndex;
+			SourceFile[] toCompile = new SourceFile[doNow];
 			int count = 0;
 			while (remainingIndex < unitsLength && count < doNow) {
 				// Although it needed compiling when this method was called, it may have
@@ -416,6 +425,13 @@ protected void compile(SourceFile[] units) {
 	}
 }
 
+private MemoryGovernor newMemoryGovernor() {
+	return new MemoryGovernor("builder", DEFAULT_MAX_AT_ONCE, DEFAULT_MAX_AT_ONCE / 16, DEFAULT_MAX_AT_ONCE * 8, () -> { //$NON-NLS-1$
+		if (this.compiler != null)
+			this.compiler.lookupEnvironment.classFilePool.reset();
+	});
+}
+
 protected void compile(SourceFile[] units, SourceFile[] additionalUnits, boolean compilingFirstGroup) {
 	if (units.length == 0) return;
 	this.notifier.aboutToCompile(units[0]); // just to change the message
@@ -738,6 +754,8 @@ protected Compiler newCompiler() {
 	// temporary code to allow the compiler to revert to a single thread
 	String setting = System.getProperty("jdt.compiler.useSingleThread"); //$NON-NLS-1$
 	newCompiler.useSingleThread = setting != null && setting.equals("true"); //$NON-NLS-1$
+	setting = System.getProperty("jdt.compiler.parseMethodBodiesAhead"); //$NON-NLS-1$
+	newCompiler.parseMethodBodiesAhead = setting != null && setting.equals("true"); //$NON-NLS-1$
 
 	// enable the compiler reference info support
 	options.produceReferenceInfo = true;
@@ -938,11 +956,8 @@ protected void recordParticipantResult(CompilationParticipantResult result) {
 	}
 
 	String[] dependencies = result.dependencies;
-	if (dependencies != null) {
-		ReferenceCollection refs = this.newState.references.get(result.sourceFile.typeLocator());
-		if (refs != null)
-			refs.addDependencies(dependencies);
-	}
+	if (dependencies != null)
+		this.newState.addDependencies(result.sourceFile.typeLocator(), dependencies);
 }
 
 /**
@@ -43,6 +43,8 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReaderCache.JarFingerprint;
 import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
 import org.eclipse.jdt.internal.compiler.classfmt.ExternalAnnotationDecorator;
 import org.eclipse.jdt.internal.compiler.classfmt.ExternalAnnotationProvider;
@@ -137,6 +139,8 @@ final IFile resource;
 volatile protected ZipFile zipFile;
 volatile long lastModified;
 volatile long fileSize;
+/** set when the zip file is opened, null if its class files are not cached **/
+private volatile JarFingerprint fingerprint;
 /** lazy initialized **/
 private volatile Set<String> knownPackageNames;
 // Meant for ClasspathMultiReleaseJar, not used in here
@@ -209,6 +213,7 @@ public void cleanup() {
 	}
 	this.module = null; // TODO(SHMOD): is this safe?
 	this.knownPackageNames = null;
+	this.fingerprint = null;
 }
 
 @Override
@@ -233,15 +238,15 @@ public NameEnvironmentAnswer findClass(String binaryFileName, String qualifiedPa
 	if (!isPackage(qualifiedPackageName, moduleName)) return null; // most common case
 
 	try {
-		IBinaryType reader = ClassFileReader.read(this.zipFile, qualifiedBinaryFileName);
+		IBinaryType reader = ClassFileReaderCache.read(this.zipFile, qualifiedBinaryFileName, this.fingerprint);
 		if (reader != null) {
 			char[] modName = this.module == null ? null : this.module.name();
 			if (reader instanceof ClassFileReader) {
 				ClassFileReader classReader = (ClassFileReader) reader;
-				if (classReader.moduleName == null)
-					classReader.moduleName = modName;
-				else
+				if (classReader.moduleName != null)
 					modName = classReader.moduleName;
+				else if (this.fingerprint == null) // cached readers are shared, hence not modified
+					classReader.moduleName = modName;
 				}
 			String fileNameWithoutExtension = qualifiedBinaryFileName.substring(0, qualifiedBinaryFileName.length() - SuffixConstants.SUFFIX_CLASS.length);
 			return createAnswer(fileNameWithoutExtension, reader, modName);
@@ -305,6 +310,7 @@ private boolean readKnownPackageNames() {
 			}
 			this.zipFile = new ZipFile(this.zipFilename);
 		}
+		this.fingerprint = JarFingerprint.of(this.zipFilename);
 		this.knownPackageNames = getCachedPackageNames();
 		return true;
 	} catch(Exception e) {
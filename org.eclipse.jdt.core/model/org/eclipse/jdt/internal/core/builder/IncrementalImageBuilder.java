@@ -259,22 +259,19 @@ protected void addAffectedSourceFiles(Set<String> qualifiedSet, Set<String> simp
 		internedSimpleNames = null;
 	char[][] internedRootNames = ReferenceCollection.internSimpleNames(rootSet, false);
 
-	next: for (Entry<String, ReferenceCollection> entry : this.newState.references.entrySet()) {
-		String typeLocator = entry.getKey();
+	// only the files referencing the names are looked up in the index of the references, not every file of the project
+	next: for (String typeLocator : this.newState.getAffectedLocators(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
 		if (affectedTypes != null && !affectedTypes.contains(typeLocator)) continue next;
-		ReferenceCollection refs = entry.getValue();
-		if (refs.includes(internedQualifiedNames, internedSimpleNames, internedRootNames)) {
-			IFile file = this.javaBuilder.currentProject.getFile(typeLocator);
-			SourceFile sourceFile = findSourceFile(file, true);
-			if (sourceFile == null) continue next;
-			if (this.sourceFiles.contains(sourceFile)) continue next;
-			if (this.compiledAllAtOnce && this.previousSourceFiles != null && this.previousSourceFiles.contains(sourceFile))
-				continue next; // can skip previously compiled files since already saw hierarchy related problems
+		IFile file = this.javaBuilder.currentProject.getFile(typeLocator);
+		SourceFile sourceFile = findSourceFile(file, true);
+		if (sourceFile == null) continue next;
+		if (this.sourceFiles.contains(sourceFile)) continue next;
+		if (this.compiledAllAtOnce && this.previousSourceFiles != null && this.previousSourceFiles.contains(sourceFile))
+			continue next; // can skip previously compiled files since already saw hierarchy related problems
 
-			if (JavaBuilder.DEBUG)
-				System.out.println("  adding affected source file " + typeLocator); //$NON-NLS-1$
-			this.sourceFiles.add(sourceFile);
-		}
+		if (JavaBuilder.DEBUG)
+			System.out.println("  adding affected source file " + typeLocator); //$NON-NLS-1$
+		this.sourceFiles.add(sourceFile);
 	}
 }
 
@@ -18,6 +18,7 @@ import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Date;
@@ -192,10 +193,25 @@ public static State readState(IProject project, DataInputStream in) throws IOExc
 	return State.read(project, in);
 }
 
+/**
+ * Reads a state written by {@link #writeState(Object, DataOutputStream, File)}.
+ */
+public static State readState(IProject project, DataInputStream in, File referencesFile) throws IOException, CoreException {
+	return State.read(project, in, referencesFile);
+}
+
 public static void writeState(Object state, DataOutputStream out) throws IOException {
 	((State) state).write(out);
 }
 
+/**
+ * Writes the given state, whose reference collections are saved to the given file, appending the ones which changed
+ * since the previous save.
+ */
+public static void writeState(Object state, DataOutputStream out, File referencesFile) throws IOException {
+	((State) state).write(out, referencesFile);
+}
+
 @Override
 protected IProject[] build(int kind, Map<String, String> ignoredArgs, IProgressMonitor monitor) throws CoreException {
 	this.currentProject = getProject();
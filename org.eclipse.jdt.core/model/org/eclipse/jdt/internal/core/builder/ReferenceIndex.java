@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Inverted index of the reference collections of a {@link State}, from each referenced qualified, simple and root
+ * name to the type locators whose collection holds it, so that the source files affected by changed names are found
+ * without testing the collection of every source file of the project.
+ * <p>
+ * Names are keyed by identity, as the collections and the queries only hold names interned by
+ * {@link ReferenceCollection}. The index answers candidates, i.e. a superset of the type locators whose collection
+ * includes the changed names: callers check each candidate with
+ * {@link ReferenceCollection#includes(char[][][], char[][], char[][])}.
+ * </p>
+ */
+final class ReferenceIndex {
+
+/** The type locators whose collection holds a name, by number */
+private static final class Postings {
+	int[] ids = new int[4];
+	int size;
+
+	void add(int id) {
+		if (this.size == this.ids.length)
+			System.arraycopy(this.ids, 0, this.ids = new int[this.size * 2], 0, this.size);
+		this.ids[this.size++] = id;
+	}
+
+	void remove(int id) {
+		for (int i = this.size; --i >= 0;) {
+			if (this.ids[i] == id) {
+				this.ids[i] = this.ids[--this.size];
+				return;
+			}
+		}
+	}
+}
+
+private final Map<char[][], Postings> qualifiedNames = new IdentityHashMap<>();
+private final Map<char[], Postings> simpleNames = new IdentityHashMap<>();
+private final Map<char[], Postings> rootNames = new IdentityHashMap<>();
+private final Map<String, Integer> ids = new HashMap<>();
+private String[] typeLocators = new String[16];
+private int[] freeIds = new int[4];
+private int freeIdCount;
+private int idCount;
+
+ReferenceIndex() {
+	// empty
+}
+
+ReferenceIndex(Map<String, ReferenceCollection> references) {
+	for (Entry<String, ReferenceCollection> entry : references.entrySet())
+		add(entry.getKey(), entry.getValue());
+}
+
+/**
+ * Indexes the names of the given collection for the given type locator, which must not be indexed yet.
+ */
+void add(String typeLocator, ReferenceCollection collection) {
+	add(typeLocator, collection.qualifiedNameReferences, collection.simpleNameReferences, collection.rootReferences);
+}
+
+/**
+ * Indexes the given names, interned as the names of a {@link ReferenceCollection}, for the given type locator, which
+ * must not be indexed yet.
+ */
+void add(String typeLocator, char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	int id;
+	if (this.freeIdCount > 0) {
+		id = this.freeIds[--this.freeIdCount];
+	} else {
+		id = this.idCount++;
+		if (id == this.typeLocators.length)
+			System.arraycopy(this.typeLocators, 0, this.typeLocators = new String[id * 2], 0, id);
+	}
+	this.typeLocators[id] = typeLocator;
+	this.ids.put(typeLocator, Integer.valueOf(id));
+	for (char[][] name : qualifiedNames)
+		this.qualifiedNames.computeIfAbsent(name, n -> new Postings()).add(id);
+	for (char[] name : simpleNames)
+		this.simpleNames.computeIfAbsent(name, n -> new Postings()).add(id);
+	for (char[] name : rootNames)
+		this.rootNames.computeIfAbsent(name, n -> new Postings()).add(id);
+}
+
+/**
+ * Removes the names of the given collection, which must be the indexed collection of the given type locator.
+ */
+void remove(String typeLocator, ReferenceCollection collection) {
+	Integer boxedId = this.ids.remove(typeLocator);
+	if (boxedId == null)
+		return;
+	int id = boxedId.intValue();
+	for (char[][] name : collection.qualifiedNameReferences)
+		remove(this.qualifiedNames, name, id);
+	for (char[] name : collection.simpleNameReferences)
+		remove(this.simpleNames, name, id);
+	for (char[] name : collection.rootReferences)
+		remove(this.rootNames, name, id);
+	this.typeLocators[id] = null;
+	if (this.freeIdCount == this.freeIds.length)
+		System.arraycopy(this.freeIds, 0, this.freeIds = new int[this.freeIdCount * 2], 0, this.freeIdCount);
+	this.freeIds[this.freeIdCount++] = id;
+}
+
+private static <K> void remove(Map<K, Postings> index, K name, int id) {
+	Postings postings = index.get(name);
+	if (postings != null) {
+		postings.remove(id);
+		if (postings.size == 0)
+			index.remove(name);
+	}
+}
+
+/**
+ * Answers the type locators whose collection may include the given names, with the same arguments as
+ * {@link ReferenceCollection#includes(char[][][], char[][], char[][])}: a null array of qualified or simple names
+ * means it held a well known name.
+ */
+List<String> candidates(char[][][] qualified, char[][] simple, char[][] roots) {
+	// each non null argument must intersect the collection: use the one with the fewest postings
+	List<Postings> best = null;
+	int bestSize = Integer.MAX_VALUE;
+	if (simple != null) {
+		List<Postings> postings = new ArrayList<>(simple.length);
+		bestSize = collect(this.simpleNames, simple, postings);
+		best = postings;
+	}
+	if (qualified != null) {
+		List<Postings> postings = new ArrayList<>(qualified.length);
+		int size = collect(this.qualifiedNames, qualified, postings);
+		for (char[][] name : qualified) // a simple name can be looked up as a qualified name of one segment
+			if (name.length == 1)
+				size += collect(this.simpleNames, name, postings);
+		if (size < bestSize) {
+			bestSize = size;
+			best = postings;
+		}
+	}
+	if (roots != null) {
+		List<Postings> postings = new ArrayList<>(roots.length);
+		if (collect(this.rootNames, roots, postings) < bestSize)
+			best = postings;
+	}
+	BitSet found = new BitSet(this.idCount);
+	if (best == null) { // well known names, everything matches
+		found.set(0, this.idCount);
+		for (int i = 0; i < this.freeIdCount; i++)
+			found.clear(this.freeIds[i]);
+	} else {
+		for (Postings postings : best)
+			for (int i = 0; i < postings.size; i++)
+				found.set(postings.ids[i]);
+	}
+	List<String> result = new ArrayList<>(found.cardinality());
+	for (int id = found.nextSetBit(0); id >= 0; id = found.nextSetBit(id + 1))
+		result.add(this.typeLocators[id]);
+	return result;
+}
+
+private static <K> int collect(Map<K, Postings> index, K[] names, List<Postings> result) {
+	int size = 0;
+	for (K name : names) {
+		Postings postings = index.get(name);
+		if (postings != null) {
+			result.add(postings);
+			size += postings.size;
+		}
+	}
+	return size;
+}
+}
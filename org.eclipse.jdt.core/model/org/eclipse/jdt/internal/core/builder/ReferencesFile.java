@@ -0,0 +1,477 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.builder;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The reference collections of a {@link State}, saved in a file next to the state file so that saving a state only
+ * appends the collections which changed since the previous save instead of writing all of them again.
+ * <p>
+ * The file starts with a random id, which the state file refers to together with the length of the file when the
+ * state was saved: bytes beyond that length, written by a save which did not complete, are ignored and overwritten.
+ * Each record holds the collection of one type locator, or marks its removal. Once the file holds more outdated records
+ * than current ones, it is rewritten under a new id.
+ * </p><p>
+ * When a state is read, the file is read at once but each record is only decoded on the first access to its
+ * collection. Changed collections are detected by identity: the builder records a new collection for each compiled
+ * unit, and only modifies the collections of the units compiled by the current build (see
+ * {@link ReferenceCollection#addDependencies(String[])}).
+ * </p>
+ */
+final class ReferencesFile {
+
+private static final int MAGIC = 0x4A524546;
+private static final int HEADER_LENGTH = 12; // magic, id
+private static final byte REMOVED = 0;
+private static final byte ADDITIONAL_TYPES = 1;
+private static final byte REFERENCES = 2;
+/** outdated records which are tolerated before rewriting the file, whatever the number of current records */
+private static final int MIN_OUTDATED_RECORDS = 1000;
+
+/**
+ * Where a state finds its reference collections.
+ */
+record Position(long id, long length) {
+	// data only
+}
+
+final File file;
+private long id; // 0 until the file was read or written by this instance
+private long length;
+private int records;
+/** the collection saved for each type locator, or the Integer offset of its record when not decoded yet */
+private final Map<String, Object> saved = new HashMap<>();
+/** the offset of the record each decoded saved collection was read from, so that copies of the state share it */
+private final Map<String, Integer> decodedOffsets = new HashMap<>();
+
+ReferencesFile(File file) {
+	this.file = file;
+}
+
+/**
+ * Answers the reference collections saved at the given position, decoded on first access, or null if the file does
+ * not hold them anymore.
+ */
+synchronized Map<String, ReferenceCollection> read(Position position) throws IOException {
+	if (position.length() < HEADER_LENGTH || position.length() > Integer.MAX_VALUE || this.file.length() < position.length())
+		return null;
+	byte[] bytes = new byte[(int) position.length()];
+	try (RandomAccessFile input = new RandomAccessFile(this.file, "r")) { //$NON-NLS-1$
+		input.readFully(bytes);
+	}
+	LazyReferences references = new LazyReferences(bytes);
+	int count = 0;
+	try {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		if (buffer.getInt() != MAGIC || buffer.getLong() != position.id())
+			return null;
+		while (buffer.hasRemaining()) {
+			int offset = buffer.position();
+			int recordLength = buffer.getInt();
+			buffer.position(buffer.position() + recordLength);
+			DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, offset + 4, recordLength));
+			byte kind = in.readByte();
+			String typeLocator = in.readUTF();
+			if (kind == REMOVED)
+				references.values.remove(typeLocator);
+			else
+				references.values.put(typeLocator, Integer.valueOf(offset));
+			count++;
+		}
+	} catch (BufferUnderflowException | IllegalArgumentException | IOException e) {
+		return null; // truncated or corrupted
+	}
+	references.undecoded = references.values.size();
+	this.id = position.id();
+	this.length = position.length();
+	this.records = count;
+	this.saved.clear();
+	this.saved.putAll(references.values);
+	this.decodedOffsets.clear();
+	return references;
+}
+
+/**
+ * Answers a copy of the given reference collections. The collections of a map answered by {@link #read(Position)}
+ * which were not decoded yet are not decoded by the copy either.
+ */
+static Map<String, ReferenceCollection> copy(Map<String, ReferenceCollection> references) {
+	if (references instanceof LazyReferences lazy)
+		return lazy.copy();
+	return new LinkedHashMap<>(references);
+}
+
+/**
+ * Answers the index of the given reference collections. The records of a map answered by {@link #read(Position)}
+ * which were not decoded yet are indexed from their names, without decoding their collections.
+ */
+static ReferenceIndex index(Map<String, ReferenceCollection> references) {
+	if (references instanceof LazyReferences lazy)
+		return lazy.index();
+	return new ReferenceIndex(references);
+}
+
+/**
+ * Saves the given reference collections, appending the ones which changed since the previous save.
+ *
+ * @return the position to read them back
+ */
+synchronized Position save(Map<String, ReferenceCollection> references) throws IOException {
+	try {
+		int outdated = this.records - this.saved.size();
+		if (this.id == 0 || outdated > Math.max(this.saved.size(), MIN_OUTDATED_RECORDS))
+			rewrite(references);
+		else
+			append(references);
+	} catch (IOException | RuntimeException e) {
+		this.id = 0; // the saved collections are unknown, rewrite on next save
+		throw e;
+	}
+	return new Position(this.id, this.length);
+}
+
+private void append(Map<String, ReferenceCollection> references) throws IOException {
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+	DataOutputStream out = new DataOutputStream(bytes);
+	int appended = 0;
+	Map<String, ?> values = references instanceof LazyReferences lazy && lazy.owner() == this ? lazy.values : references;
+	for (Map.Entry<String, ?> entry : values.entrySet()) {
+		String typeLocator = entry.getKey();
+		Object value = entry.getValue();
+		Object savedValue = this.saved.get(typeLocator);
+		if (value instanceof Integer) {
+			if (value.equals(savedValue))
+				continue; // not even decoded since read
+			value = references.get(typeLocator);
+		}
+		if (value != savedValue) {
+			writeRecord(out, typeLocator, (ReferenceCollection) value);
+			this.saved.put(typeLocator, value);
+			this.decodedOffsets.remove(typeLocator);
+			appended++;
+		}
+	}
+	for (Iterator<String> iterator = this.saved.keySet().iterator(); iterator.hasNext();) {
+		String typeLocator = iterator.next();
+		if (!references.containsKey(typeLocator)) {
+			writeRecord(out, typeLocator, null);
+			iterator.remove();
+			this.decodedOffsets.remove(typeLocator);
+			appended++;
+		}
+	}
+	if (appended == 0)
+		return;
+	try (FileChannel channel = FileChannel.open(this.file.toPath(), StandardOpenOption.WRITE)) {
+		channel.truncate(this.length); // drop the records of a save which did not complete
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		channel.position(this.length);
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+	}
+	this.length += bytes.size();
+	this.records += appended;
+}
+
+private void rewrite(Map<String, ReferenceCollection> references) throws IOException {
+	long newId;
+	do {
+		newId = ThreadLocalRandom.current().nextLong();
+	} while (newId == 0);
+	this.saved.clear();
+	this.decodedOffsets.clear();
+	File temp = new File(this.file.getParentFile(), this.file.getName() + ".tmp"); //$NON-NLS-1$
+	long newLength;
+	try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp), 8192))) {
+		out.writeInt(MAGIC);
+		out.writeLong(newId);
+		for (Map.Entry<String, ReferenceCollection> entry : references.entrySet()) {
+			writeRecord(out, entry.getKey(), entry.getValue());
+			this.saved.put(entry.getKey(), entry.getValue());
+		}
+		newLength = out.size();
+	}
+	try {
+		Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	} catch (AtomicMoveNotSupportedException e) {
+		Files.move(temp.toPath(), this.file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	}
+	this.id = newId;
+	this.length = newLength;
+	this.records = this.saved.size();
+}
+
+private static void writeRecord(DataOutputStream out, String typeLocator, ReferenceCollection collection) throws IOException {
+	ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+	DataOutputStream record = new DataOutputStream(bytes);
+	if (collection == null) {
+		record.writeByte(REMOVED);
+		record.writeUTF(typeLocator);
+	} else {
+		if (collection instanceof AdditionalTypeCollection additionalTypes) {
+			record.writeByte(ADDITIONAL_TYPES);
+			record.writeUTF(typeLocator);
+			writeNames(record, additionalTypes.definedTypeNames);
+		} else {
+			record.writeByte(REFERENCES);
+			record.writeUTF(typeLocator);
+		}
+		char[][][] qualifiedNames = collection.qualifiedNameReferences;
+		record.writeInt(qualifiedNames.length);
+		for (char[][] qualifiedName : qualifiedNames)
+			writeNames(record, qualifiedName);
+		writeNames(record, collection.simpleNameReferences);
+		writeNames(record, collection.rootReferences);
+	}
+	out.writeInt(bytes.size());
+	bytes.writeTo(out);
+}
+
+private static void writeNames(DataOutputStream out, char[][] names) throws IOException {
+	int length = names == null ? 0 : names.length;
+	out.writeInt(length);
+	for (int i = 0; i < length; i++)
+		out.writeUTF(new String(names[i]));
+}
+
+private static ReferenceCollection readRecord(byte[] bytes, int offset) throws IOException {
+	DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, offset + 4, bytes.length - offset - 4));
+	byte kind = in.readByte();
+	in.readUTF(); // type locator
+	char[][] definedTypeNames = kind == ADDITIONAL_TYPES ? readNames(in) : null;
+	char[][][] qualifiedNames = new char[in.readInt()][][];
+	for (int i = 0; i < qualifiedNames.length; i++)
+		qualifiedNames[i] = readNames(in);
+	char[][] simpleNames = readNames(in);
+	char[][] rootNames = readNames(in);
+	if (definedTypeNames != null)
+		return new AdditionalTypeCollection(definedTypeNames, qualifiedNames, simpleNames, rootNames);
+	return new ReferenceCollection(qualifiedNames, simpleNames, rootNames);
+}
+
+/**
+ * Indexes the names of the record at the given offset for the given type locator, interned as the names of the
+ * collection the record would be decoded into.
+ */
+private static void indexRecord(ReferenceIndex index, String typeLocator, byte[] bytes, int offset) throws IOException {
+	DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, offset + 4, bytes.length - offset - 4));
+	byte kind = in.readByte();
+	in.readUTF(); // type locator
+	if (kind == ADDITIONAL_TYPES)
+		for (int i = in.readInt(); --i >= 0;)
+			in.skipBytes(in.readUnsignedShort()); // defined type names
+	char[][][] qualifiedNames = new char[in.readInt()][][];
+	for (int i = 0; i < qualifiedNames.length; i++)
+		qualifiedNames[i] = readNames(in);
+	char[][] simpleNames = readNames(in);
+	char[][] rootNames = readNames(in);
+	// see ReferenceCollection(char[][][], char[][], char[][])
+	index.add(typeLocator, ReferenceCollection.internQualifiedNames(qualifiedNames, false),
+			ReferenceCollection.internSimpleNames(simpleNames, true), ReferenceCollection.internSimpleNames(rootNames, false));
+}
+
+private static char[][] readNames(DataInputStream in) throws IOException {
+	char[][] names = new char[in.readInt()][];
+	for (int i = 0; i < names.length; i++)
+		names[i] = in.readUTF().toCharArray();
+	return names;
+}
+
+/**
+ * The reference collections read from the file, decoded on first access. Its iterators decode all collections, except
+ * the one of the key set.
+ */
+private final class LazyReferences extends AbstractMap<String, ReferenceCollection> {
+
+	/** the decoded collections, or the Integer offsets of the records not decoded yet */
+	final LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+	private byte[] bytes; // released once all records are decoded
+	int undecoded;
+	private Set<Entry<String, ReferenceCollection>> entries;
+
+	LazyReferences(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	LazyReferences copy() {
+		synchronized (ReferencesFile.this) {
+			LazyReferences copy = new LazyReferences(this.bytes);
+			copy.values.putAll(this.values);
+			copy.undecoded = this.undecoded;
+			return copy;
+		}
+	}
+
+	ReferencesFile owner() {
+		return ReferencesFile.this;
+	}
+
+	private ReferenceCollection decode(String typeLocator, Object value) {
+		if (!(value instanceof Integer offset))
+			return (ReferenceCollection) value;
+		synchronized (ReferencesFile.this) {
+			Object current = this.values.get(typeLocator);
+			if (!value.equals(current))
+				return current instanceof ReferenceCollection collection ? collection : read(offset); // decoded concurrently
+			Object savedValue = ReferencesFile.this.saved.get(typeLocator);
+			ReferenceCollection collection;
+			if (value.equals(savedValue)) {
+				collection = read(offset);
+				ReferencesFile.this.saved.put(typeLocator, collection);
+				ReferencesFile.this.decodedOffsets.put(typeLocator, offset);
+			} else if (savedValue instanceof ReferenceCollection savedCollection && offset.equals(ReferencesFile.this.decodedOffsets.get(typeLocator))) {
+				collection = savedCollection; // decoded by the state this one was copied from, or by a copy of it
+			} else {
+				collection = read(offset);
+			}
+			this.values.put(typeLocator, collection); // not a structural modification
+			if (--this.undecoded == 0)
+				this.bytes = null;
+			return collection;
+		}
+	}
+
+	ReferenceIndex index() {
+		synchronized (ReferencesFile.this) {
+			ReferenceIndex index = new ReferenceIndex();
+			for (Entry<String, Object> entry : this.values.entrySet()) {
+				if (entry.getValue() instanceof Integer offset) {
+					try {
+						indexRecord(index, entry.getKey(), this.bytes, offset.intValue());
+					} catch (IOException e) {
+						throw new IllegalStateException("Corrupted build state " + ReferencesFile.this.file, e); //$NON-NLS-1$
+					}
+				} else {
+					index.add(entry.getKey(), (ReferenceCollection) entry.getValue());
+				}
+			}
+			return index;
+		}
+	}
+
+	private ReferenceCollection read(Integer offset) {
+		try {
+			return readRecord(this.bytes, offset.intValue());
+		} catch (IOException e) {
+			throw new IllegalStateException("Corrupted build state " + ReferencesFile.this.file, e); //$NON-NLS-1$
+		}
+	}
+
+	/** Answers the given replaced value, decoded. */
+	private ReferenceCollection replaced(Object previous) {
+		if (!(previous instanceof Integer offset))
+			return (ReferenceCollection) previous;
+		synchronized (ReferencesFile.this) {
+			ReferenceCollection collection = read(offset);
+			if (--this.undecoded == 0)
+				this.bytes = null;
+			return collection;
+		}
+	}
+
+	@Override
+	public ReferenceCollection get(Object key) {
+		Object value = this.values.get(key);
+		return value == null ? null : decode((String) key, value);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.values.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return this.values.size();
+	}
+
+	@Override
+	public ReferenceCollection put(String key, ReferenceCollection value) {
+		return replaced(this.values.put(key, value));
+	}
+
+	@Override
+	public ReferenceCollection remove(Object key) {
+		return replaced(this.values.remove(key));
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return this.values.keySet();
+	}
+
+	@Override
+	public Set<Entry<String, ReferenceCollection>> entrySet() {
+		if (this.entries == null) {
+			this.entries = new AbstractSet<>() {
+				@Override
+				public Iterator<Entry<String, ReferenceCollection>> iterator() {
+					Iterator<Entry<String, Object>> iterator = LazyReferences.this.values.entrySet().iterator();
+					return new Iterator<>() {
+						@Override
+						public boolean hasNext() {
+							return iterator.hasNext();
+						}
+						@Override
+						public Entry<String, ReferenceCollection> next() {
+							Entry<String, Object> entry = iterator.next();
+							return new SimpleEntry<>(entry.getKey(), decode(entry.getKey(), entry.getValue())) {
+								private static final long serialVersionUID = 1L;
+								@Override
+								public ReferenceCollection setValue(ReferenceCollection value) {
+									entry.setValue(value);
+									return super.setValue(value);
+								}
+							};
+						}
+						@Override
+						public void remove() {
+							iterator.remove();
+						}
+					};
+				}
+				@Override
+				public int size() {
+					return LazyReferences.this.values.size();
+				}
+			};
+		}
+		return this.entries;
+	}
+}
+}
@@ -22,6 +22,7 @@ import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -71,6 +72,10 @@ public ClasspathLocation[] testBinaryLocations;
 Map<String, ReferenceCollection> references;
 // Holds a mapping of types to a path to detect duplicate type definitions (possibly depending on the release for multi-release types)
 public TypeLocators typeLocators;
+// the file holding the references when saved separately, shared with the following states
+ReferencesFile referencesFile;
+// inverted index of the references, built on demand and handed over to the following state
+private ReferenceIndex referenceIndex;
 
 int buildNumber;
 long lastStructuralBuildTime;
@@ -80,7 +85,7 @@ private long previousStructuralBuildTime;
 private StringSet structurallyChangedTypes;
 public static int MaxStructurallyChangedTypes = 100; // keep track of ? structurally changed types, otherwise consider all to be changed
 
-public static final byte VERSION = 0x0027;
+public static final byte VERSION = 0x0028;
 
 static final byte SOURCE_FOLDER = 1;
 static final byte BINARY_FOLDER = 2;
@@ -127,8 +132,11 @@ void copyFrom(State lastState) {
 	this.lastStructuralBuildTime = lastState.lastStructuralBuildTime;
 	this.structuralBuildTimes = lastState.structuralBuildTimes;
 
-	this.references = new LinkedHashMap<>(lastState.references);
+	this.references = ReferencesFile.copy(lastState.references); // keeps the records not decoded yet undecoded
 	this.typeLocators = new TypeLocators(lastState.typeLocators);
+	this.referencesFile = lastState.referencesFile;
+	this.referenceIndex = lastState.referenceIndex; // the last state is not modified anymore
+	lastState.referenceIndex = null;
 }
 
 /**
@@ -175,6 +183,34 @@ public Map<String, ReferenceCollection> getReferences() {
 	return this.references;
 }
 
+/**
+ * Answers the type locators whose reference collection includes the given names, as tested by
+ * {@link ReferenceCollection#includes(char[][][], char[][], char[][])}.
+ */
+List<String> getAffectedLocators(char[][][] qualifiedNames, char[][] simpleNames, char[][] rootNames) {
+	if (this.referenceIndex == null)
+		this.referenceIndex = ReferencesFile.index(this.references); // does not decode the collections
+	List<String> candidates = this.referenceIndex.candidates(qualifiedNames, simpleNames, rootNames);
+	List<String> result = new ArrayList<>(candidates.size());
+	for (String typeLocator : candidates) {
+		ReferenceCollection collection = this.references.get(typeLocator);
+		if (collection != null && collection.includes(qualifiedNames, simpleNames, rootNames))
+			result.add(typeLocator);
+	}
+	return result;
+}
+
+void addDependencies(String typeLocator, String[] typeNameDependencies) {
+	ReferenceCollection collection = this.references.get(typeLocator);
+	if (collection == null)
+		return;
+	if (this.referenceIndex != null)
+		this.referenceIndex.remove(typeLocator, collection);
+	collection.addDependencies(typeNameDependencies);
+	if (this.referenceIndex != null)
+		this.referenceIndex.add(typeLocator, collection);
+}
+
 StringSet getStructurallyChangedTypes(State prereqState) {
 	if (prereqState != null && prereqState.previousStructuralBuildTime > 0) {
 		Object o = this.structuralBuildTimes.get(prereqState.javaProjectName);
@@ -202,12 +238,19 @@ boolean isSourceFolderEmpty(IContainer sourceFolder) {
 }
 
 void record(String typeLocator, char[][][] qualifiedRefs, char[][] simpleRefs, char[][] rootRefs, char[] mainTypeName, ArrayList typeNames) {
+	ReferenceCollection collection;
 	if (typeNames.size() == 1 && CharOperation.equals(mainTypeName, (char[]) typeNames.get(0))) {
-		this.references.put(typeLocator, new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs));
+		collection = new ReferenceCollection(qualifiedRefs, simpleRefs, rootRefs);
 	} else {
 		char[][] definedTypeNames = new char[typeNames.size()][]; // can be empty when no types are defined
 		typeNames.toArray(definedTypeNames);
-		this.references.put(typeLocator, new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs));
+		collection = new AdditionalTypeCollection(definedTypeNames, qualifiedRefs, simpleRefs, rootRefs);
+	}
+	ReferenceCollection previous = this.references.put(typeLocator, collection);
+	if (this.referenceIndex != null) {
+		if (previous != null)
+			this.referenceIndex.remove(typeLocator, previous);
+		this.referenceIndex.add(typeLocator, collection);
 	}
 }
 
@@ -222,7 +265,9 @@ void recordStructuralDependency(IProject prereqProject, State prereqState) {
 }
 
 void removeLocator(String typeLocatorToRemove, int release) {
-	this.references.remove(typeLocatorToRemove);
+	ReferenceCollection previous = this.references.remove(typeLocatorToRemove);
+	if (previous != null && this.referenceIndex != null)
+		this.referenceIndex.remove(typeLocatorToRemove, previous);
 	this.typeLocators.removeLocator(typeLocatorToRemove, release);
 }
 
@@ -246,6 +291,13 @@ void removeQualifiedTypeName(String qualifiedTypeNameToRemove) {
 }
 
 static State read(IProject project, DataInputStream input) throws IOException, CoreException {
+	return read(project, input, null);
+}
+
+/**
+ * Reads a state, whose references are read from the given file if they were saved separately.
+ */
+static State read(IProject project, DataInputStream input, File referencesFile) throws IOException, CoreException {
 	CompressedReader in = new CompressedReader(input);
 	if (JavaBuilder.DEBUG) {
 		trace("About to read state " + project.getName()); //$NON-NLS-1$
@@ -289,6 +341,24 @@ static State read(IProject project, DataInputStream input) throws IOException, C
 		internedTypeLocators[i] = in.readStringUsingLast();
 	newState.typeLocators.read(in, internedTypeLocators);
 
+	if (in.readBoolean()) {
+		ReferencesFile.Position position = new ReferencesFile.Position(in.readLong(), in.readLong());
+		ReferencesFile file = referencesFile == null ? null : new ReferencesFile(referencesFile);
+		Map<String, ReferenceCollection> references = file == null ? null : file.read(position);
+		if (references == null || references.size() != internedTypeLocators.length) {
+			if (JavaBuilder.DEBUG) {
+				trace("Found outdated references file... answered null for " + project.getName()); //$NON-NLS-1$
+			}
+			return null;
+		}
+		newState.references = references;
+		newState.referencesFile = file;
+		if (JavaBuilder.DEBUG) {
+			trace("Successfully read state for " + newState.javaProjectName); //$NON-NLS-1$
+		}
+		return newState;
+	}
+
 	/*
 	 * Here we read global arrays of names for the entire project - do not mess up the ordering while interning
 	 */
@@ -493,6 +563,14 @@ void wasStructurallyChanged(String typeName) {
 }
 
 void write(DataOutputStream output) throws IOException {
+	write(output, null);
+}
+
+/**
+ * Writes this state, and saves its references to the given file if not null: only the reference collections which
+ * changed since the previous save of this state or of the states it was copied from are then written.
+ */
+void write(DataOutputStream output, File referencesFile) throws IOException {
 	CompressedWriter out=new CompressedWriter(output);
 /*
  * byte		VERSION
@@ -556,6 +634,23 @@ void write(DataOutputStream output) throws IOException {
 
 	this.typeLocators.write(out, internedTypeLocators);
 
+/*
+ * boolean	whether the references are in a separate file
+ * long		id of the references file
+ * long		length of the references file
+ */
+	if (referencesFile != null) {
+		ReferencesFile file = this.referencesFile;
+		if (file == null || !file.file.equals(referencesFile))
+			this.referencesFile = file = new ReferencesFile(referencesFile);
+		ReferencesFile.Position position = file.save(this.references);
+		out.writeBoolean(true);
+		out.writeLong(position.id());
+		out.writeLong(position.length());
+		return;
+	}
+	out.writeBoolean(false);
+
 /*
  * char[][]	Interned root names
  * char[][][]	Interned qualified names
@@ -53,9 +53,10 @@ public class LRUCache<K, V> implements Cloneable {
 		public K key;
 
 		/**
-		 * Hash table value (an LRUCacheEntry object)
+		 * Hash table value (an LRUCacheEntry object), volatile as it can be read without holding the lock of the
+		 * cache, see {@link #peekConcurrently(Object)}
 		 */
-		public V value;
+		public volatile V value;
 
 		/**
 		 * Time value for queue sorting
@@ -67,6 +68,12 @@ public class LRUCache<K, V> implements Cloneable {
 		 */
 		public int space;
 
+		/**
+		 * Whether the entry was read since it was last moved in the queue by a read which did not move it,
+		 * see {@link #peekConcurrently(Object)}
+		 */
+		public volatile boolean referenced;
+
 		/**
 		 * Previous entry in queue
 		 */
@@ -269,7 +276,7 @@ public class LRUCache<K, V> implements Cloneable {
 	/**
 	 * Hash table for fast random access to cache entries
 	 */
-	protected Hashtable<K, LRUCacheEntry<K, V>> entryTable;
+	protected volatile Hashtable<K, LRUCacheEntry<K, V>> entryTable;
 
 	/**
 	 * Start of queue (most recently used entry)
@@ -510,6 +517,20 @@ public class LRUCache<K, V> implements Cloneable {
 		return entry.value;
 	}
 
+	/**
+	 * Answers the value in the cache at the given key, or null if the value is not in the cache, without moving
+	 * it in the queue: can be called without holding the lock which guards the other methods of the cache.
+	 * The entry is marked as referenced instead, so that subclasses can give it a second chance before removing it.
+	 */
+	public V peekConcurrently(K key) {
+		LRUCacheEntry<K, V> entry = this.entryTable.get(key); // the table is synchronized by itself
+		if (entry == null) {
+			return null;
+		}
+		entry.referenced = true;
+		return entry.value;
+	}
+
 	/**
 	 * Adds an entry for the given key/value/space.
 	 */
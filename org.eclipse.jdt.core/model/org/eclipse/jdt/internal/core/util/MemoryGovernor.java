@@ -0,0 +1,193 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleSupplier;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+
+/**
+ * Sizes the batches of units processed at once, e.g. compiled by the builder or whose matches are located by the
+ * search, from the occupancy of the heap measured between batches.
+ * <p>
+ * The occupancy is the usage of the tenured pool after the last garbage collection, relatively to its maximum size,
+ * as reported by the notifications of the garbage collectors: unlike the current usage, it does not count the garbage
+ * left by the previous batch, and unlike the young pools, which are emptied or filled up by each collection, the
+ * tenured pool holds what the batches keep alive. Above {@link #HIGH_OCCUPANCY}, the next batch is halved and the
+ * caches of the governed activity are released. Below {@link #LOW_OCCUPANCY}, the next batch grows by half, up to the
+ * maximum size. The batch size is kept in between.
+ * </p>
+ */
+public class MemoryGovernor {
+
+	public static boolean VERBOSE = false;
+
+	/** Occupancy of the heap above which batches shrink and caches are released */
+	public static final double HIGH_OCCUPANCY = 0.85;
+	/** Occupancy of the heap below which batches grow */
+	public static final double LOW_OCCUPANCY = 0.5;
+
+	/** the type of the notifications of the garbage collectors, see com.sun.management.GarbageCollectionNotificationInfo */
+	private static final String GARBAGE_COLLECTION_NOTIFICATION = "com.sun.management.gc.notification"; //$NON-NLS-1$
+
+	private static final List<MemoryPoolMXBean> TENURED_POOLS = tenuredPools();
+	/** the occupancy of the tenured pools after the last garbage collection, or -1 if none was notified yet */
+	private static volatile double tenuredOccupancy = -1;
+	static {
+		if (!TENURED_POOLS.isEmpty())
+			listenToGarbageCollections();
+	}
+
+	private final String name;
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final Runnable releaseCaches;
+	private final DoubleSupplier occupancy;
+	private int batchSize;
+
+	/**
+	 * @param name the name of the governed activity, used in the trace
+	 * @param initialBatchSize the size of the first batch
+	 * @param minBatchSize the smallest size of a batch, at least 1
+	 * @param maxBatchSize the largest size of a batch
+	 * @param releaseCaches releases the caches of the governed activity under memory pressure, or <code>null</code>
+	 */
+	public MemoryGovernor(String name, int initialBatchSize, int minBatchSize, int maxBatchSize, Runnable releaseCaches) {
+		this(name, initialBatchSize, minBatchSize, maxBatchSize, releaseCaches, MemoryGovernor::heapOccupancy);
+	}
+
+	/**
+	 * Same as {@link #MemoryGovernor(String, int, int, int, Runnable)}, but measures the occupancy of the heap with the
+	 * given supplier instead of {@link #heapOccupancy()}, e.g. for tests.
+	 */
+	public MemoryGovernor(String name, int initialBatchSize, int minBatchSize, int maxBatchSize, Runnable releaseCaches, DoubleSupplier occupancy) {
+		this.name = name;
+		this.minBatchSize = Math.max(1, minBatchSize);
+		this.maxBatchSize = Math.max(this.minBatchSize, maxBatchSize);
+		this.batchSize = Math.max(this.minBatchSize, Math.min(initialBatchSize, this.maxBatchSize));
+		this.releaseCaches = releaseCaches;
+		this.occupancy = occupancy;
+	}
+
+	/**
+	 * Answers the heap pools that hold the objects surviving the young collections, those supporting a usage threshold.
+	 */
+	private static List<MemoryPoolMXBean> tenuredPools() {
+		List<MemoryPoolMXBean> pools = new ArrayList<>();
+		try {
+			for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+				if (pool.getType() == MemoryType.HEAP && pool.isUsageThresholdSupported() && pool.isCollectionUsageThresholdSupported())
+					pools.add(pool);
+		} catch (RuntimeException | LinkageError e) {
+			// no management support, fall back to the runtime
+		}
+		return pools;
+	}
+
+	private static void listenToGarbageCollections() {
+		try {
+			for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans())
+				if (collector instanceof NotificationEmitter emitter)
+					emitter.addNotificationListener((notification, handback) -> garbageCollected(notification), null, null);
+		} catch (RuntimeException | LinkageError e) {
+			// no notifications, fall back to the collection usage of the pools
+		}
+	}
+
+	/**
+	 * Records the occupancy of the tenured pools after the garbage collection of the given notification, whose data
+	 * holds the usage of each pool after the collection by pool name.
+	 */
+	private static void garbageCollected(Notification notification) {
+		if (!GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())
+				|| !(notification.getUserData() instanceof CompositeData data))
+			return;
+		try {
+			CompositeData gcInfo = (CompositeData) data.get("gcInfo"); //$NON-NLS-1$
+			TabularData usagesAfterGc = (TabularData) gcInfo.get("memoryUsageAfterGc"); //$NON-NLS-1$
+			double occupancy = -1;
+			for (MemoryPoolMXBean pool : TENURED_POOLS) {
+				CompositeData row = usagesAfterGc.get(new Object[] { pool.getName() });
+				MemoryUsage usage = row == null ? null : MemoryUsage.from((CompositeData) row.get("value")); //$NON-NLS-1$
+				if (usage != null && usage.getMax() > 0)
+					occupancy = Math.max(occupancy, (double) usage.getUsed() / usage.getMax());
+			}
+			if (occupancy >= 0)
+				tenuredOccupancy = occupancy;
+		} catch (RuntimeException e) {
+			// unexpected data, keep the previous occupancy
+		}
+	}
+
+	/**
+	 * Answers the occupancy of the heap, between 0 and 1: the highest ratio of the usage of a tenured pool after the last
+	 * garbage collection to its maximum size, or the ratio of the current usage to the maximum size of the heap if the
+	 * pools do not report it.
+	 */
+	public static double heapOccupancy() {
+		double occupancy = tenuredOccupancy;
+		if (occupancy < 0) { // no collection notified yet
+			for (MemoryPoolMXBean pool : TENURED_POOLS) {
+				MemoryUsage usage = pool.getCollectionUsage();
+				if (usage != null && usage.getMax() > 0 && usage.getUsed() > 0)
+					occupancy = Math.max(occupancy, (double) usage.getUsed() / usage.getMax());
+			}
+		}
+		if (occupancy < 0) { // no collection yet, or unbounded pools
+			Runtime runtime = Runtime.getRuntime();
+			occupancy = (double) (runtime.totalMemory() - runtime.freeMemory()) / runtime.maxMemory();
+		}
+		return occupancy;
+	}
+
+	/**
+	 * Answers the current size of a batch, without measuring the heap, e.g. the size of the first batch.
+	 */
+	public int batchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Measures the heap after a batch, adapts the size of the next batch accordingly and answers it. Releases the
+	 * caches when the heap is under pressure.
+	 */
+	public int nextBatchSize() {
+		double occupancy = this.occupancy.getAsDouble();
+		int previous = this.batchSize;
+		if (occupancy > HIGH_OCCUPANCY) {
+			this.batchSize = Math.max(this.minBatchSize, previous / 2);
+			if (this.releaseCaches != null)
+				this.releaseCaches.run();
+		} else if (occupancy < LOW_OCCUPANCY) {
+			this.batchSize = (int) Math.min(this.maxBatchSize, previous + Math.max(1L, previous / 2));
+		}
+		if (VERBOSE) {
+			String decision = occupancy > HIGH_OCCUPANCY ? "shrink and release caches" //$NON-NLS-1$
+					: this.batchSize != previous ? "grow" : "keep"; //$NON-NLS-1$ //$NON-NLS-2$
+			JavaModelManager.trace("MemoryGovernor [" + this.name + "] heap occupancy " //$NON-NLS-1$ //$NON-NLS-2$
+					+ Math.round(occupancy * 100) + "%: " + decision + ", batch size " + previous + " -> " + this.batchSize); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		return this.batchSize;
+	}
+}
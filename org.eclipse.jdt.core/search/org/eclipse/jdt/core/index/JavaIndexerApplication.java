@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.List;
 import org.eclipse.equinox.app.IApplication;
 import org.eclipse.equinox.app.IApplicationContext;
+import org.eclipse.jdt.internal.core.search.indexing.IndexStore;
 import org.eclipse.osgi.util.NLS;
 
 /**
@@ -50,6 +51,11 @@ public class JavaIndexerApplication implements IApplication {
 		public static String CommandLineIndexFileNotSpecified;
 		public static String CaughtException;
 		public static String CommandLineJarFileNotExist;
+		public static String CommandLineOnlyOneStoreError;
+		public static String CommandLineStoreTakesArgs;
+		public static String CommandLineStoreOrOutputError;
+		public static String CommandLinePopulatingStore;
+		public static String CommandLineStorePopulated;
 
 		static {
 			NLS.initializeMessages(MESSAGES_NAME, Messages.class);
@@ -74,11 +80,14 @@ public class JavaIndexerApplication implements IApplication {
 
 	private String jarToIndex;
 	private String indexFile;
+	private String indexStore;
+	private final List<File> filesToStore = new ArrayList<>();
 	private boolean verbose = false;
 	private static final String PDE_LAUNCH = "-pdelaunch"; //$NON-NLS-1$
 	private static final String ARG_HELP = "-help"; //$NON-NLS-1$
 	private static final String ARG_VERBOSE = "-verbose"; //$NON-NLS-1$
 	private static final String ARG_OUTPUT = "-output"; //$NON-NLS-1$
+	private static final String ARG_STORE = "-store"; //$NON-NLS-1$
 
 	private void displayHelp() {
 		System.out.println(Messages.bind(Messages.CommandLineUsage));
@@ -117,13 +126,30 @@ public class JavaIndexerApplication implements IApplication {
 					return false;
 				}
 				this.indexFile = argsArray[index++];
-			} else {
-				if (this.jarToIndex != null) {
-					displayError(Messages.bind(Messages.CommandLineOnlyOneJarError));
+			} else if (ARG_STORE.equals(currentArg)) {
+				if (this.indexStore != null) {
+					displayError(Messages.bind(Messages.CommandLineOnlyOneStoreError));
+					return false;
+				} else if (index == argCount) {
+					displayError(Messages.bind(Messages.CommandLineStoreTakesArgs));
 					return false;
 				}
-				this.jarToIndex = currentArg;
+				this.indexStore = argsArray[index++];
+			} else {
+				this.filesToStore.add(new File(currentArg)); // several ones only when populating an index store, see below
+				if (this.jarToIndex == null) {
+					this.jarToIndex = currentArg;
+				}
+			}
+		}
+		if (this.indexStore != null) {
+			if (this.indexFile != null) {
+				displayError(Messages.bind(Messages.CommandLineStoreOrOutputError));
+				return false;
 			}
+		} else if (this.filesToStore.size() > 1) {
+			displayError(Messages.bind(Messages.CommandLineOnlyOneJarError));
+			return false;
 		}
 		return true;
 	}
@@ -132,7 +158,25 @@ public class JavaIndexerApplication implements IApplication {
 	public Object start(IApplicationContext context) throws Exception {
 		boolean execute = processCommandLine((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
 		if (execute) {
-			if (this.jarToIndex != null && this.indexFile != null) {
+			if (this.indexStore != null && this.jarToIndex != null) {
+				for (File f : this.filesToStore) {
+					if (!f.exists()) {
+						System.out.println(Messages.bind(Messages.CommandLineJarFileNotExist, f.getPath()));
+						return IApplication.EXIT_OK;
+					}
+				}
+				if (this.verbose) {
+					System.out.println(Messages.bind(Messages.CommandLinePopulatingStore, this.indexStore));
+				}
+				try {
+					int indexed = new IndexStore(new File(this.indexStore)).populate(this.filesToStore, Runtime.getRuntime().availableProcessors());
+					if (this.verbose) {
+						System.out.println(Messages.bind(Messages.CommandLineStorePopulated, Integer.valueOf(indexed)));
+					}
+				} catch (IOException e) {
+					System.out.println(Messages.bind(Messages.CaughtException, "IOException", e.getLocalizedMessage())); //$NON-NLS-1$
+				}
+			} else if (this.jarToIndex != null && this.indexFile != null) {
 				File f = new File(this.jarToIndex);
 				if (f.exists()) {
 					if (this.verbose) {
@@ -24,6 +24,7 @@ import java.io.RandomAccessFile;
 import java.io.UTFDataFormatException;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.regex.Pattern;
 import org.eclipse.core.runtime.ILog;
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -33,6 +34,7 @@ import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
 import org.eclipse.jdt.internal.compiler.util.SimpleLookupTable;
 import org.eclipse.jdt.internal.compiler.util.SimpleSet;
 import org.eclipse.jdt.internal.compiler.util.SimpleSetOfCharArray;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
 import org.eclipse.jdt.internal.core.util.Messages;
 import org.eclipse.jdt.internal.core.util.SimpleWordSet;
 import org.eclipse.jdt.internal.core.util.Util;
@@ -49,11 +51,13 @@ private int[] chunkOffsets;
 private int documentReferenceSize; // 1, 2 or more bytes... depends on # of document names
 private int startOfCategoryTables;
 private HashtableOfIntValues categoryOffsets, categoryEnds;
+private HashtableOfIntValues categoryDictionaryOffsets; // category name -> offset to the sorted offsets of the words of its table
 
 private int cacheUserCount;
 private String[][] cachedChunks; // decompressed chunks of document names
 private HashtableOfObject categoryTables; // category name -> HashtableOfObject(words -> int[] of document #'s) or offset if not read yet
 private char[] cachedCategoryName;
+private IndexFileReader queryReader; // opened by the first dictionary lookup of a query, closed when the query stops
 
 private static final int DEFAULT_BUFFER_SIZE = 2048;
 private static int BUFFER_READ_SIZE = DEFAULT_BUFFER_SIZE;
@@ -63,7 +67,7 @@ private int bufferIndex, bufferEnd; // used when reading from the file into the
 private int streamEnd; // used when writing data from the streamBuffer to the file
 char separator = Index.DEFAULT_SEPARATOR;
 
-public static final String INDEX_VERSION = "1.134"; //$NON-NLS-1$
+public static final String INDEX_VERSION = "1.135"; //$NON-NLS-1$
 public static final String SIGNATURE = "INDEX VERSION " + INDEX_VERSION; //$NON-NLS-1$
 private static final char[] SIGNATURE_CHARS = SIGNATURE.toCharArray();
 public static boolean DEBUG = false;
@@ -72,6 +76,7 @@ private static final int RE_INDEXED = -1;
 private static final int DELETED = -2;
 
 private static final int CHUNK_SIZE = 100;
+private static final int LARGE_ARRAY_SIZE = 256; // document number arrays of at least this size are written before their category table
 
 private static final SimpleSetOfCharArray INTERNED_CATEGORY_NAMES = new SimpleSetOfCharArray(20);
 private static final String TMP_EXT = ".tmp"; //$NON-NLS-1$
@@ -113,6 +118,7 @@ DiskIndex() {
 	this.cachedCategoryName = null;
 	this.categoryOffsets = null;
 	this.categoryEnds = null;
+	this.categoryDictionaryOffsets = null;
 }
 DiskIndex(IndexLocation location) throws IOException {
 	this();
@@ -151,24 +157,23 @@ SimpleSet addDocumentNames(String substring, MemoryIndex memoryIndex) throws IOE
 	}
 	return results;
 }
-private HashtableOfObject addQueryResult(HashtableOfObject results, char[] word, Object docs, MemoryIndex memoryIndex, boolean prevResults) throws IOException {
+private HashtableOfObject addQueryResult(HashtableOfObject results, char[] word, Object docs, int[] shadowedDocNumbers, boolean prevResults) throws IOException {
 	// must skip over documents which have been added/changed/deleted in the memory index
 	if (results == null)
 		results = new HashtableOfObject(13);
 	EntryResult result = prevResults ? (EntryResult) results.get(word) : null;
-	if (memoryIndex == null) {
+	if (shadowedDocNumbers == null) {
 		if (result == null)
 			results.putUnsafely(word, new EntryResult(word, docs));
 		else
 			result.addDocumentTable(docs);
 	} else {
-		SimpleLookupTable docsToRefs = memoryIndex.docsToReferences;
 		if (result == null) result = new EntryResult(word, null);
 		int[] docNumbers = readDocumentNumbers(docs);
 		for (int docNumber : docNumbers) {
-			String docName = readDocumentName(docNumber);
-			if (!docsToRefs.containsKey(docName))
-				result.addDocumentName(docName);
+			// keep the number, the name is read again from the cached chunk if the result is ever asked for its names
+			if (Arrays.binarySearch(shadowedDocNumbers, docNumber) < 0)
+				result.addDocumentNumber(docNumber);
 		}
 		if (!result.isEmpty())
 			results.put(word, result);
@@ -179,6 +184,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 	// assumes sender has called startQuery() & will call stopQuery() when finished
 	if (this.categoryOffsets == null) return null; // file is empty
 
+	int[] shadowedDocNumbers = memoryIndex == null ? null : readShadowedDocumentNumbers(memoryIndex);
 	HashtableOfObject results = null; // initialized if needed
 
 	// No need to check the results table for duplicates while processing the
@@ -194,7 +200,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 					results = new HashtableOfObject(wordsToDocNumbers.elementSize);
 				for (int j = 0, m = words.length; j < m; j++)
 					if (words[j] != null)
-						results = addQueryResult(results, words[j], values[j], memoryIndex, prevResults);
+						results = addQueryResult(results, words[j], values[j], shadowedDocNumbers, prevResults);
 			}
 			prevResults = results != null;
 		}
@@ -204,15 +210,24 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 		switch (matchRule) {
 			case SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE:
 				for (char[] category : categories) {
-					HashtableOfObject wordsToDocNumbers = readCategoryTable(category, false);
-					Object value;
-					if (wordsToDocNumbers != null && (value = wordsToDocNumbers.get(key)) != null)
-						results = addQueryResult(results, key, value, memoryIndex, prevResults);
+					if (canSearchDictionary(category)) {
+						results = addDictionaryQueryResults(results, category, key, false, shadowedDocNumbers, prevResults);
+					} else {
+						HashtableOfObject wordsToDocNumbers = readCategoryTable(category, false);
+						Object value;
+						if (wordsToDocNumbers != null && (value = wordsToDocNumbers.get(key)) != null)
+							results = addQueryResult(results, key, value, shadowedDocNumbers, prevResults);
+					}
 					prevResults = results != null;
 				}
 				break;
 			case SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE:
 				for (char[] category : categories) {
+					if (canSearchDictionary(category)) {
+						results = addDictionaryQueryResults(results, category, key, true, shadowedDocNumbers, prevResults);
+						prevResults = results != null;
+						continue;
+					}
 					HashtableOfObject wordsToDocNumbers = readCategoryTable(category, false);
 					if (wordsToDocNumbers != null) {
 						char[][] words = wordsToDocNumbers.keyTable;
@@ -220,7 +235,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 						for (int j = 0, m = words.length; j < m; j++) {
 							char[] word = words[j];
 							if (word != null && key[0] == word[0] && CharOperation.prefixEquals(key, word))
-								results = addQueryResult(results, word, values[j], memoryIndex, prevResults);
+								results = addQueryResult(results, word, values[j], shadowedDocNumbers, prevResults);
 						}
 					}
 					prevResults = results != null;
@@ -236,7 +251,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 						for (int j = 0, m = words.length; j < m; j++) {
 							char[] word = words[j];
 							if (word != null && pattern.matcher(new String(word)).matches())
-								results = addQueryResult(results, word, values[j], memoryIndex, prevResults);
+								results = addQueryResult(results, word, values[j], shadowedDocNumbers, prevResults);
 						}
 					}
 					prevResults = results != null;
@@ -251,7 +266,7 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 						for (int j = 0, m = words.length; j < m; j++) {
 							char[] word = words[j];
 							if (word != null && Index.isMatch(key, word, matchRule))
-								results = addQueryResult(results, word, values[j], memoryIndex, prevResults);
+								results = addQueryResult(results, word, values[j], shadowedDocNumbers, prevResults);
 						}
 					}
 					prevResults = results != null;
@@ -261,6 +276,79 @@ HashtableOfObject addQueryResults(char[][] categories, char[] key, int matchRule
 
 	return results;
 }
+/*
+ * Looks up the key in the sorted dictionary of the category table, reading only the matching entries from the file
+ * instead of the whole table.
+ */
+private synchronized HashtableOfObject addDictionaryQueryResults(HashtableOfObject results, char[] category, char[] key, boolean prefixMatch, int[] shadowedDocNumbers, boolean prevResults) throws IOException {
+	int tableOffset = this.categoryOffsets.get(category);
+	int dictionaryOffset = this.categoryDictionaryOffsets.get(category);
+	try {
+		if (this.queryReader == null)
+			this.queryReader = new IndexFileReader(this.indexLocation.getIndexFile());
+		IndexFileReader reader = this.queryReader;
+		reader.seek(tableOffset);
+		int size = reader.readInt();
+		// binary search the first word which is greater or equal to the key
+		int low = 0, high = size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			reader.seek(dictionaryOffset + middle * 4L);
+			reader.seek(reader.readInt());
+			if (CharOperation.compareTo(reader.readChars(), key) < 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		if (low == size)
+			return results;
+		// entries follow each other in the order of the dictionary
+		reader.seek(dictionaryOffset + low * 4L);
+		reader.seek(reader.readInt());
+		for (int i = low; i < size; i++) {
+			char[] word = reader.readChars();
+			if (prefixMatch ? !CharOperation.prefixEquals(key, word) : !CharOperation.equals(key, word))
+				break;
+			results = addQueryResult(results, word, readDocumentEntry(reader), shadowedDocNumbers, prevResults);
+		}
+	} catch (UTFDataFormatException ue) {
+		closeQueryReader();
+		ILog.get().warn("Java Index broken - will be automatically deleted to repair: " + this.indexLocation, ue); //$NON-NLS-1$
+		// index is broken. automatically delete it
+		// https://github.com/eclipse-jdt/eclipse.jdt.core/issues/460
+		this.indexLocation.delete();
+	} finally {
+		if (this.cacheUserCount < 0)
+			closeQueryReader(); // not within a query
+	}
+	return results;
+}
+private synchronized void closeQueryReader() {
+	if (this.queryReader != null) {
+		try {
+			this.queryReader.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		this.queryReader = null;
+	}
+}
+private Object readDocumentEntry(IndexFileReader reader) throws IOException {
+	// see writeCategoryTable() for the encoding of the document numbers of a word
+	int arrayOffset = reader.readInt();
+	if (arrayOffset <= 0)
+		return new int[] {-arrayOffset};
+	if (arrayOffset < LARGE_ARRAY_SIZE)
+		return reader.readDocumentArray(arrayOffset, this.documentReferenceSize);
+	return Integer.valueOf(reader.readInt()); // offset to the array, read on demand
+}
+private synchronized boolean canSearchDictionary(char[] categoryName) {
+	if (this.categoryDictionaryOffsets == null || this.indexLocation.getIndexFile() == null)
+		return false; // random access is only supported for index files
+	if (this.categoryTables != null && this.categoryTables.get(categoryName) != null)
+		return false; // table was already read
+	return this.categoryDictionaryOffsets.get(categoryName) != HashtableOfIntValues.NO_VALUE;
+}
 private synchronized void cacheDocumentNames() throws IOException {
 	// will need all document names so get them now
 	this.cachedChunks = new String[this.numberOfChunks][];
@@ -464,6 +552,7 @@ private void initializeFrom(DiskIndex diskIndex, File newIndexFile) throws IOExc
 	int size = diskIndex.categoryOffsets == null ? 8 : diskIndex.categoryOffsets.elementSize;
 	this.categoryOffsets = new HashtableOfIntValues(size);
 	this.categoryEnds = new HashtableOfIntValues(size);
+	this.categoryDictionaryOffsets = new HashtableOfIntValues(size);
 	this.categoryTables = new HashtableOfObject(size);
 	this.separator = diskIndex.separator;
 }
@@ -529,6 +618,7 @@ private void mergeCategory(char[] categoryName, DiskIndex onDisk, int[] position
 }
 DiskIndex mergeWith(MemoryIndex memoryIndex) throws IOException {
  	// assume write lock is held
+	closeQueryReader(); // the queries of this index stop with the new index, which replaces its file
 	// compute & write out new docNames
 	if (this.indexLocation == null) {
 		throw new IOException("Pre-built index file not writeable");  //$NON-NLS-1$
@@ -542,6 +632,7 @@ DiskIndex mergeWith(MemoryIndex memoryIndex) throws IOException {
 		if (previousLength == 0) return this; // nothing to do... memory index contained deleted documents that had never been saved
 
 		// index is now empty since all the saved documents were removed
+		releaseResidentTables();
 		DiskIndex newDiskIndex = new DiskIndex(this.indexLocation);
 		newDiskIndex.initialize(false);
 		return newDiskIndex;
@@ -623,6 +714,8 @@ DiskIndex mergeWith(MemoryIndex memoryIndex) throws IOException {
 
 	if (!usingTmp) // rename done, use the new file
 		newDiskIndex.indexLocation = this.indexLocation;
+	SubTypeGraph.merge(this, memoryIndex, newDiskIndex);
+	TypeNameTable.merge(this, memoryIndex, newDiskIndex);
 	return newDiskIndex;
 }
 private synchronized String[] readAllDocumentNames() throws IOException {
@@ -695,7 +788,6 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 				ue.initCause(e);
 				throw ue;
 			}
-			int largeArraySize = 256;
 			for (int i = 0; i < size; i++) {
 				char[] word = readStreamChars(stream);
 				int arrayOffset = readStreamInt(stream);
@@ -705,7 +797,7 @@ private synchronized HashtableOfObject readCategoryTable(char[] categoryName, bo
 				//		256 if the array size >= 256 followed by another int which is the offset to the array (written prior to the table)
 				if (arrayOffset <= 0) {
 					categoryTable.putUnsafely(word, new int[] {-arrayOffset}); // store 1 element array by negating documentNumber
-				} else if (arrayOffset < largeArraySize) {
+				} else if (arrayOffset < LARGE_ARRAY_SIZE) {
 					categoryTable.putUnsafely(word, readStreamDocumentArray(stream, arrayOffset)); // read in-lined array providing size
 				} else {
 					arrayOffset = readStreamInt(stream); // read actual offset
@@ -782,6 +874,42 @@ private void readChunk(String[] docNames, InputStream stream, int index, int siz
 		current = next;
 	}
 }
+/*
+ * Returns the sorted numbers of the documents of this index which the given memory index added, changed or deleted
+ * since, or null if there are none. The document names are sorted, so that each name of the memory index is looked up
+ * by a binary search which only reads the chunks it goes through, instead of reading the name of each document of
+ * the results.
+ */
+private int[] readShadowedDocumentNumbers(MemoryIndex memoryIndex) throws IOException {
+	if (this.numberOfChunks <= 0)
+		return null;
+	int documentCount = (this.numberOfChunks - 1) * CHUNK_SIZE + this.sizeOfLastChunk;
+	int[] docNumbers = new int[memoryIndex.docsToReferences.elementSize];
+	int count = 0;
+	for (Object path : memoryIndex.docsToReferences.keyTable) {
+		if (path == null) continue;
+		String docName = (String) path;
+		int low = 0, high = documentCount - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int comparison = readDocumentName(middle).compareTo(docName);
+			if (comparison < 0) {
+				low = middle + 1;
+			} else if (comparison > 0) {
+				high = middle - 1;
+			} else {
+				docNumbers[count++] = middle;
+				break;
+			}
+		}
+	}
+	if (count == 0)
+		return null;
+	if (count < docNumbers.length)
+		System.arraycopy(docNumbers, 0, docNumbers = new int[count], 0, count);
+	Arrays.sort(docNumbers);
+	return docNumbers;
+}
 synchronized String readDocumentName(int docNumber) throws IOException {
 	if (this.cachedChunks == null)
 		this.cachedChunks = new String[this.numberOfChunks][];
@@ -861,6 +989,7 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 	int size = readStreamInt(stream);
 	this.categoryOffsets = new HashtableOfIntValues(size);
 	this.categoryEnds = new HashtableOfIntValues(size);
+	this.categoryDictionaryOffsets = new HashtableOfIntValues(size);
 	if (length != -1 && size > length) {
 		//  not an accurate check, but good enough  https://bugs.eclipse.org/bugs/show_bug.cgi?id=350612
 		if (DEBUG)
@@ -873,6 +1002,7 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 		char[] categoryName = INTERNED_CATEGORY_NAMES.get(readStreamChars(stream));
 		offset = readStreamInt(stream);
 		this.categoryOffsets.put(categoryName, offset); // cache offset to category table
+		this.categoryDictionaryOffsets.put(categoryName, readStreamInt(stream)); // cache offset to the sorted word offsets
 		if (previousCategory != null) {
 			this.categoryEnds.put(previousCategory, offset); // cache end of the category table
 		}
@@ -883,6 +1013,34 @@ private void readHeaderInfo(InputStream stream) throws IOException {
 	}
 	this.categoryTables = new HashtableOfObject(3);
 }
+/**
+ * Returns the super type references of the documents of this index if they are resident, or if the dictionary of
+ * the category table cannot be searched, e.g. the index file is not local or the table was already read: the graph is
+ * then read and kept resident within the bound of {@link SubTypeGraph#RESIDENT_GRAPHS}. Otherwise returns null, and
+ * the query looks up the dictionary, which only reads the matching entries.
+ * Assumes sender has called startQuery() &amp; will call stopQuery() when finished.
+ */
+synchronized SubTypeGraph getSubTypeGraph() throws IOException {
+	SubTypeGraph graph = SubTypeGraph.RESIDENT_GRAPHS.get(this);
+	if (graph == null && !canSearchDictionary(IIndexConstants.SUPER_REF))
+		graph = SubTypeGraph.get(this);
+	return graph;
+}
+/**
+ * Returns the type declarations of the documents of this index, read on the first call and kept resident within the
+ * bound of {@link TypeNameTable#RESIDENT_TABLES}.
+ * Assumes sender has called startQuery() &amp; will call stopQuery() when finished.
+ */
+synchronized TypeNameTable getTypeNameTable() throws IOException {
+	return TypeNameTable.get(this);
+}
+/**
+ * Releases the tables of this index kept resident between its queries, e.g. when its file is replaced.
+ */
+void releaseResidentTables() {
+	SubTypeGraph.RESIDENT_GRAPHS.release(this);
+	TypeNameTable.RESIDENT_TABLES.release(this);
+}
 synchronized void startQuery() {
 	this.cacheUserCount++;
 }
@@ -891,6 +1049,7 @@ synchronized void stopQuery() {
 		// clear cached items
 		this.cacheUserCount = -1;
 		this.cachedChunks = null;
+		closeQueryReader();
 		if (this.categoryTables != null) {
 			if (this.cachedCategoryName == null) {
 				this.categoryTables = null;
@@ -1130,46 +1289,60 @@ private void writeCategoryTable(char[] categoryName, HashtableOfObject wordsToDo
 	// the format of a category table is as follows:
 	// any document number arrays with >= 256 elements are written before the table (the offset to each array is remembered)
 	// then the number of word->int[] pairs in the table is written
-	// for each word -> int[] pair, the word is written followed by:
+	// for each word -> int[] pair, sorted by word, the word is written followed by:
 	//		an int <= 0 if the array size == 1
 	//		an int > 1 & < 256 for the size of the array if its > 1 & < 256, the document array follows immediately
 	//		256 if the array size >= 256 followed by another int which is the offset to the array (written prior to the table)
+	// then the dictionary of the table is written: the offset of each word->int[] pair, in the same order
+	// so that a word can be found by a binary search, without reading the whole table
 
-	int largeArraySize = 256;
+	char[][] words = new char[wordsToDocs.elementSize][];
+	int size = 0;
+	char[][] keys = wordsToDocs.keyTable;
 	Object[] values = wordsToDocs.valueTable;
-	for (int i = 0, l = values.length; i < l; i++) {
-		Object o = values[i];
-		if (o != null) {
-			if (o instanceof IntList)
-				o = values[i] = ((IntList) values[i]).asArray();
-			int[] documentNumbers = (int[]) o;
-			if (documentNumbers.length >= largeArraySize) {
-				values[i] = Integer.valueOf(this.streamEnd);
-				writeDocumentNumbers(documentNumbers, stream);
-			}
+	for (int i = 0, l = keys.length; i < l; i++)
+		if (values[i] != null)
+			words[size++] = keys[i];
+	if (size < words.length)
+		System.arraycopy(words, 0, words = new char[size][], 0, size);
+	Util.sort(words);
+
+	Object[] documentArrays = new Object[size];
+	for (int i = 0; i < size; i++) {
+		Object o = wordsToDocs.get(words[i]);
+		if (o instanceof IntList)
+			o = ((IntList) o).asArray();
+		int[] documentNumbers = (int[]) o;
+		if (documentNumbers.length >= LARGE_ARRAY_SIZE) {
+			documentArrays[i] = Integer.valueOf(this.streamEnd);
+			writeDocumentNumbers(documentNumbers, stream);
+		} else {
+			documentArrays[i] = documentNumbers;
 		}
 	}
 
 	this.categoryOffsets.put(categoryName, this.streamEnd); // remember the offset to the start of the table
 	this.categoryTables.put(categoryName, null); // flush cached table
-	writeStreamInt(stream, wordsToDocs.elementSize);
-	char[][] words = wordsToDocs.keyTable;
-	for (int i = 0, l = words.length; i < l; i++) {
-		Object o = values[i];
-		if (o != null) {
-			writeStreamChars(stream, words[i]);
-			if (o instanceof int[]) {
-				int[] documentNumbers = (int[]) o;
-				if (documentNumbers.length == 1)
-					writeStreamInt(stream, -documentNumbers[0]); // store an array of 1 element by negating the documentNumber (can be zero)
-				else
-					writeDocumentNumbers(documentNumbers, stream);
-			} else {
-				writeStreamInt(stream, largeArraySize); // mark to identify that an offset follows
-				writeStreamInt(stream, ((Integer) o).intValue()); // offset in the file of the array of document numbers
-			}
+	writeStreamInt(stream, size);
+	int[] wordOffsets = new int[size];
+	for (int i = 0; i < size; i++) {
+		wordOffsets[i] = this.streamEnd;
+		writeStreamChars(stream, words[i]);
+		Object o = documentArrays[i];
+		if (o instanceof int[]) {
+			int[] documentNumbers = (int[]) o;
+			if (documentNumbers.length == 1)
+				writeStreamInt(stream, -documentNumbers[0]); // store an array of 1 element by negating the documentNumber (can be zero)
+			else
+				writeDocumentNumbers(documentNumbers, stream);
+		} else {
+			writeStreamInt(stream, LARGE_ARRAY_SIZE); // mark to identify that an offset follows
+			writeStreamInt(stream, ((Integer) o).intValue()); // offset in the file of the array of document numbers
 		}
 	}
+	this.categoryDictionaryOffsets.put(categoryName, this.streamEnd); // remember the offset to the dictionary
+	for (int i = 0; i < size; i++)
+		writeStreamInt(stream, wordOffsets[i]);
 }
 private void writeDocumentNumbers(int[] documentNumbers, OutputStream stream) throws IOException {
 	// must store length as a positive int to detect in-lined array of 1 element
@@ -1235,7 +1408,8 @@ private void writeHeaderInfo(OutputStream stream) throws IOException {
 
 	writeStreamInt(stream, this.startOfCategoryTables);
 
-	// append the file with the category offsets... # of name -> offset pairs, followed by each name & an offset to its word->doc# table
+	// append the file with the category offsets... # of name -> offset pairs, followed by each name, an offset to its word->doc# table
+	// & an offset to the dictionary of that table
 	writeStreamInt(stream, this.categoryOffsets.elementSize);
 	char[][] categoryNames = this.categoryOffsets.keyTable;
 	int[] offsets = this.categoryOffsets.valueTable;
@@ -1243,6 +1417,7 @@ private void writeHeaderInfo(OutputStream stream) throws IOException {
 		if (categoryNames[i] != null) {
 			writeStreamChars(stream, categoryNames[i]);
 			writeStreamInt(stream, offsets[i]);
+			writeStreamInt(stream, this.categoryDictionaryOffsets.get(categoryNames[i]));
 		}
 	}
 	// ensure buffer is written to the stream
@@ -13,14 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.core.index;
 
+import java.util.Arrays;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.util.SimpleSet;
 
 public class EntryResult {
 
 private final char[] word;
-private Object[] documentTables;
-private SimpleSet documentNames;
+private Object[] documentTables; // offsets or arrays of document numbers of the disk index, read on demand
+private int[] documentNumbers; // document numbers of the disk index, whose names are read on demand
+private int documentNumberCount;
+private SimpleSet documentNames; // names of the documents of the memory index
 
 public EntryResult(char[] word, Object table) {
 	this.word = word;
@@ -32,6 +35,13 @@ public void addDocumentName(String documentName) {
 		this.documentNames = new SimpleSet(3);
 	this.documentNames.add(documentName);
 }
+void addDocumentNumber(int documentNumber) {
+	if (this.documentNumbers == null)
+		this.documentNumbers = new int[4];
+	else if (this.documentNumberCount == this.documentNumbers.length)
+		System.arraycopy(this.documentNumbers, 0, this.documentNumbers = new int[this.documentNumberCount * 2], 0, this.documentNumberCount);
+	this.documentNumbers[this.documentNumberCount++] = documentNumber;
+}
 public void addDocumentTable(Object table) {
 	if (this.documentTables != null) {
 		int length = this.documentTables.length;
@@ -45,37 +55,64 @@ public char[] getWord() {
 	return this.word;
 }
 public String[] getDocumentNames(Index index) throws java.io.IOException {
+	return getDocumentNames(index.diskIndex);
+}
+String[] getDocumentNames(DiskIndex diskIndex) throws java.io.IOException {
+	int[] numbers = null;
+	int numberCount = 0;
 	if (this.documentTables != null) {
 		int length = this.documentTables.length;
-		if (length == 1 && this.documentNames == null) { // have a single table
-			Object offset = this.documentTables[0];
-			int[] numbers = index.diskIndex.readDocumentNumbers(offset);
-			String[] names = new String[numbers.length];
-			for (int i = 0, l = numbers.length; i < l; i++)
-				names[i] = index.diskIndex.readDocumentName(numbers[i]);
-			return names;
-		}
-
-		for (int i = 0; i < length; i++) {
-			Object offset = this.documentTables[i];
-			int[] numbers = index.diskIndex.readDocumentNumbers(offset);
-			for (int number : numbers)
-				addDocumentName(index.diskIndex.readDocumentName(number));
+		if (length == 1 && this.documentNumberCount == 0) { // have a single table
+			numbers = diskIndex.readDocumentNumbers(this.documentTables[0]);
+			numberCount = numbers.length;
+		} else {
+			for (Object table : this.documentTables) {
+				int[] tableNumbers = diskIndex.readDocumentNumbers(table);
+				numbers = append(numbers, numberCount, tableNumbers, tableNumbers.length);
+				numberCount += tableNumbers.length;
+			}
 		}
 	}
+	if (this.documentNumberCount > 0) {
+		numbers = append(numbers, numberCount, this.documentNumbers, this.documentNumberCount);
+		numberCount += this.documentNumberCount;
+	}
+	if (numbers != null && (this.documentTables == null || this.documentTables.length > 1 || this.documentNumberCount > 0)) {
+		// the same document can be listed by several tables, i.e. categories
+		Arrays.sort(numbers, 0, numberCount);
+		int unique = 0;
+		for (int i = 0; i < numberCount; i++)
+			if (unique == 0 || numbers[unique - 1] != numbers[i])
+				numbers[unique++] = numbers[i];
+		numberCount = unique;
+	}
 
-	if (this.documentNames == null)
+	// the documents of the memory index are not listed by the disk index
+	int nameCount = this.documentNames == null ? 0 : this.documentNames.elementSize;
+	if (numberCount + nameCount == 0)
 		return CharOperation.NO_STRINGS;
-
-	String[] names = new String[this.documentNames.elementSize];
-	int count = 0;
-	Object[] values = this.documentNames.values;
-	for (Object value : values)
-		if (value != null)
-			names[count++] = (String) value;
+	String[] names = new String[numberCount + nameCount];
+	for (int i = 0; i < numberCount; i++)
+		names[i] = diskIndex.readDocumentName(numbers[i]);
+	if (nameCount > 0) {
+		int count = numberCount;
+		Object[] values = this.documentNames.values;
+		for (Object value : values)
+			if (value != null)
+				names[count++] = (String) value;
+	}
 	return names;
 }
+private static int[] append(int[] numbers, int count, int[] added, int addedCount) {
+	if (numbers == null) {
+		numbers = new int[addedCount];
+	} else if (count + addedCount > numbers.length) {
+		System.arraycopy(numbers, 0, numbers = new int[Math.max(count + addedCount, count * 2)], 0, count);
+	}
+	System.arraycopy(added, 0, numbers, count, addedCount);
+	return numbers;
+}
 public boolean isEmpty() {
-	return this.documentTables == null && this.documentNames == null;
+	return this.documentTables == null && this.documentNumberCount == 0 && this.documentNames == null;
 }
 }
@@ -15,6 +15,8 @@ package org.eclipse.jdt.internal.core.index;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -43,6 +45,8 @@ public volatile ReadWriteMonitor monitor;
 static final char DEFAULT_SEPARATOR = '/';
 public char separator = DEFAULT_SEPARATOR;
 static final char JAR_SEPARATOR = IJavaSearchScope.JAR_FILE_ENTRY_SEPARATOR.charAt(0);
+private static final char[][] SUPER_REF_CATEGORIES = { IIndexConstants.SUPER_REF };
+private static final char[][] TYPE_DECL_CATEGORIES = { IIndexConstants.TYPE_DECL };
 
 protected DiskIndex diskIndex;
 protected MemoryIndex memoryIndex;
@@ -151,10 +155,76 @@ public boolean hasChanged() {
  * If the key is null then all entries in specified categories are returned.
  */
 public EntryResult[] query(char[][] categories, char[] key, int matchRule) throws IOException {
+	if (!prepareQuery())
+		return null; // index got deleted since acquired
+
+	HashtableOfObject results;
+	int rule = matchRule & MATCH_RULE_INDEX_MASK;
+	if (this.memoryIndex.hasChanged()) {
+		results = this.diskIndex.addQueryResults(categories, key, rule, this.memoryIndex);
+		results = this.memoryIndex.addQueryResults(categories, key, rule, results);
+	} else {
+		results = this.diskIndex.addQueryResults(categories, key, rule, null);
+	}
+	return toEntryResults(results);
+}
+/**
+ * Returns the super type reference entries to the given simple name, or all of them if the name is null, or null if
+ * no matches are found. Same as querying the <code>SUPER_REF</code> category with a case sensitive prefix match of the
+ * simple name followed by a separator, but the entries of the disk index of a hierarchy search walking several levels
+ * are looked up in its {@link SubTypeGraph}, see {@link DiskIndex#getSubTypeGraph()}.
+ */
+public EntryResult[] querySuperTypeReferences(char[] superSimpleName) throws IOException {
+	if (superSimpleName == null)
+		return query(SUPER_REF_CATEGORIES, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE);
+	if (!prepareQuery())
+		return null; // index got deleted since acquired
+
+	SubTypeGraph graph = this.diskIndex.getSubTypeGraph();
+	if (graph == null) // the disk index searches the dictionary of the category
+		return query(SUPER_REF_CATEGORIES, CharOperation.append(superSimpleName, IIndexConstants.SEPARATOR),
+				SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE);
+
+	HashtableOfObject results;
+	if (this.memoryIndex.hasChanged()) {
+		results = graph.addQueryResults(superSimpleName, this.memoryIndex, null);
+		results = this.memoryIndex.addQueryResults(SUPER_REF_CATEGORIES, CharOperation.append(superSimpleName, IIndexConstants.SEPARATOR),
+				SearchPattern.R_PREFIX_MATCH | SearchPattern.R_CASE_SENSITIVE, results);
+	} else {
+		results = graph.addQueryResults(superSimpleName, null, null);
+	}
+	return toEntryResults(results);
+}
+/**
+ * Returns the type declaration entries matching the given key, or all of them if the key is null, or null if no
+ * matches are found. Same as querying the <code>TYPE_DECL</code> category, but the entries of the disk index matching
+ * a prefix or a pattern are looked up in its {@link TypeNameTable}, which is read on the first such call and kept
+ * resident for the next queries. Exact case sensitive keys are looked up in the category table as any other query.
+ */
+public EntryResult[] queryTypeDeclarations(char[] key, int matchRule) throws IOException {
+	int rule = matchRule & MATCH_RULE_INDEX_MASK;
+	if (key == null || rule == (SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE))
+		return query(TYPE_DECL_CATEGORIES, key, matchRule); // the disk index searches the dictionary of the category
+
+	if (!prepareQuery())
+		return null; // index got deleted since acquired
+
+	HashtableOfObject results;
+	if (this.memoryIndex.hasChanged()) {
+		results = this.diskIndex.getTypeNameTable().addQueryResults(key, rule, this.memoryIndex, null);
+		results = this.memoryIndex.addQueryResults(TYPE_DECL_CATEGORIES, key, rule, results);
+	} else {
+		results = this.diskIndex.getTypeNameTable().addQueryResults(key, rule, null, null);
+	}
+	return toEntryResults(results);
+}
+/*
+ * Answers false if the index got deleted since acquired, otherwise merges the memory index first when it is due.
+ */
+private boolean prepareQuery() throws IOException {
 	ReadWriteMonitor readWriteMonitor = this.monitor;
 	if(readWriteMonitor == null) {
-		// index got deleted since acquired
-		return null;
+		return false;
 	}
 	if (this.memoryIndex.shouldMerge() && readWriteMonitor.exitReadEnterWrite()) {
 		try {
@@ -163,15 +233,9 @@ public EntryResult[] query(char[][] categories, char[] key, int matchRule) throw
 			readWriteMonitor.exitWriteEnterRead();
 		}
 	}
-
-	HashtableOfObject results;
-	int rule = matchRule & MATCH_RULE_INDEX_MASK;
-	if (this.memoryIndex.hasChanged()) {
-		results = this.diskIndex.addQueryResults(categories, key, rule, this.memoryIndex);
-		results = this.memoryIndex.addQueryResults(categories, key, rule, results);
-	} else {
-		results = this.diskIndex.addQueryResults(categories, key, rule, null);
-	}
+	return true;
+}
+private static EntryResult[] toEntryResults(HashtableOfObject results) {
 	if (results == null) return null;
 
 	EntryResult[] entryResults = new EntryResult[results.elementSize];
@@ -213,9 +277,25 @@ public void remove(String containerRelativePath) {
  */
 public void reset() throws IOException {
 	this.memoryIndex = new MemoryIndex();
+	this.diskIndex.releaseResidentTables();
 	this.diskIndex = new DiskIndex(this.diskIndex.indexLocation);
 	this.diskIndex.initialize(false/*do not reuse the index file*/);
 }
+/**
+ * Replaces the content of this index by the one of the given index file, e.g. an index saved for an identical library.
+ * Must own the write lock of the monitor.
+ */
+public void resetFrom(File indexFile) throws IOException {
+	File file = getIndexFile();
+	if (file == null)
+		throw new IOException("Cannot overwrite index " + this.diskIndex.indexLocation); //$NON-NLS-1$
+	Files.copy(indexFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+	this.memoryIndex = new MemoryIndex();
+	this.diskIndex.releaseResidentTables();
+	this.diskIndex = new DiskIndex(this.diskIndex.indexLocation);
+	this.diskIndex.initialize(true/*reuse the index file*/);
+	this.separator = this.diskIndex.separator;
+}
 public boolean save() throws IOException {
 	ReadWriteMonitor readWriteMonitor = this.monitor;
 	if(readWriteMonitor == null) {
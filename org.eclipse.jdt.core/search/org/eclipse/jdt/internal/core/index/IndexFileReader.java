@@ -0,0 +1,156 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Random access reader of an index file, decoding the values written by {@link DiskIndex} at any given offset.
+ * <p>
+ * Only a small window of the file is kept in memory, which is refilled with positional reads when
+ * {@link #seek(long) seeking} outside of it. The file is not memory mapped, since a mapped file cannot be deleted
+ * on Windows until the mapping is garbage collected, and index files are replaced when saved.
+ * </p>
+ */
+class IndexFileReader implements AutoCloseable {
+
+private static final int WINDOW_SIZE = 4096;
+
+private final FileChannel channel;
+private ByteBuffer window;
+private long windowStart; // offset in the file of the first byte of the window
+
+IndexFileReader(File indexFile) throws IOException {
+	this.channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ);
+	this.window = ByteBuffer.allocate(WINDOW_SIZE);
+	this.window.limit(0);
+}
+@Override
+public void close() throws IOException {
+	this.channel.close();
+}
+long position() {
+	return this.windowStart + this.window.position();
+}
+void seek(long position) {
+	if (position >= this.windowStart && position <= this.windowStart + this.window.limit()) {
+		this.window.position((int) (position - this.windowStart));
+	} else {
+		this.windowStart = position;
+		this.window.clear();
+		this.window.limit(0);
+	}
+}
+/**
+ * Makes sure the next given number of bytes are in the window, reading as many as possible at once.
+ */
+private void ensure(int bytes) throws IOException {
+	if (this.window.remaining() >= bytes)
+		return;
+	long position = position();
+	if (bytes > this.window.capacity()) {
+		ByteBuffer larger = ByteBuffer.allocate(Math.max(bytes, this.window.capacity() * 2));
+		larger.put(this.window);
+		this.window = larger;
+	} else {
+		this.window.compact();
+	}
+	this.windowStart = position;
+	while (this.window.position() < bytes) {
+		if (this.channel.read(this.window, this.windowStart + this.window.position()) < 0)
+			break; // end of file
+	}
+	this.window.flip();
+	if (this.window.remaining() < bytes)
+		throw new EOFException();
+}
+int readInt() throws IOException {
+	ensure(4);
+	return this.window.getInt();
+}
+/**
+ * Reads a char array written by {@link DiskIndex}, prefixed by its number of chars and encoded in modified UTF-8.
+ */
+char[] readChars() throws IOException {
+	ensure(2);
+	int length = this.window.getShort() & 0xFFFF;
+	char[] word = new char[length];
+	for (int i = 0; i < length; i++) {
+		ensure(1);
+		byte b = this.window.get();
+		switch (b & 0xF0) {
+			case 0x00 :
+			case 0x10 :
+			case 0x20 :
+			case 0x30 :
+			case 0x40 :
+			case 0x50 :
+			case 0x60 :
+			case 0x70 :
+				word[i] = (char) b;
+				break;
+			case 0xC0 :
+			case 0xD0 :
+				ensure(1);
+				char next = (char) this.window.get();
+				if ((next & 0xC0) != 0x80) {
+					throw new UTFDataFormatException();
+				}
+				word[i] = (char) (((b & 0x1F) << 6) | (next & 0x3F));
+				break;
+			case 0xE0 :
+				ensure(2);
+				char first = (char) this.window.get();
+				char second = (char) this.window.get();
+				if ((first & second & 0xC0) != 0x80) {
+					throw new UTFDataFormatException();
+				}
+				word[i] = (char) (((b & 0x0F) << 12) | ((first & 0x3F) << 6) | (second & 0x3F));
+				break;
+			default:
+				throw new UTFDataFormatException();
+		}
+	}
+	return word;
+}
+/**
+ * Reads an array of document numbers, each one encoded on the given number of bytes.
+ */
+int[] readDocumentArray(int arraySize, int documentReferenceSize) throws IOException {
+	int[] indexes = new int[arraySize];
+	switch (documentReferenceSize) {
+		case 1 :
+			ensure(arraySize);
+			for (int i = 0; i < arraySize; i++)
+				indexes[i] = this.window.get() & 0xFF;
+			break;
+		case 2 :
+			ensure(arraySize * 2);
+			for (int i = 0; i < arraySize; i++)
+				indexes[i] = this.window.getShort() & 0xFFFF;
+			break;
+		default :
+			for (int i = 0; i < arraySize; i++)
+				indexes[i] = readInt();
+			break;
+	}
+	return indexes;
+}
+}
@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Tables read from the disk indexes and kept in memory between their queries. The entries of the tables of all the
+ * indexes are bounded together: when the bound is exceeded, the tables of the indexes queried least recently are
+ * released first, and read again by their next query. The table of the index just queried stays resident even if it
+ * exceeds the bound on its own.
+ */
+final class ResidentTables<T> {
+
+private record Resident<T>(T table, int size) {
+	// data only
+}
+
+/** maximum number of entries of the resident tables **/
+int maxEntries;
+/** the resident tables, the table of the index queried least recently first **/
+private final LinkedHashMap<DiskIndex, Resident<T>> tables = new LinkedHashMap<>(16, 0.75f, true);
+private int entries;
+
+ResidentTables(int maxEntries) {
+	this.maxEntries = maxEntries;
+}
+
+/**
+ * Answers the resident table of the given disk index, or null if there is none.
+ */
+synchronized T get(DiskIndex diskIndex) {
+	Resident<T> resident = this.tables.get(diskIndex);
+	return resident == null ? null : resident.table();
+}
+
+/**
+ * Keeps the given table of the given number of entries resident for the given disk index, releasing the tables of the
+ * indexes queried least recently when the bound is exceeded.
+ */
+synchronized void keep(DiskIndex diskIndex, T table, int size) {
+	Resident<T> previous = this.tables.put(diskIndex, new Resident<>(table, size));
+	if (previous != null)
+		this.entries -= previous.size();
+	this.entries += size;
+	for (Iterator<Resident<T>> iterator = this.tables.values().iterator(); this.entries > this.maxEntries && iterator.hasNext();) {
+		Resident<T> resident = iterator.next();
+		if (resident.table() == table)
+			continue;
+		this.entries -= resident.size();
+		iterator.remove();
+	}
+}
+
+/**
+ * Releases the resident table of the given disk index, and answers it or null if there was none.
+ */
+synchronized T release(DiskIndex diskIndex) {
+	Resident<T> resident = this.tables.remove(diskIndex);
+	if (resident == null)
+		return null;
+	this.entries -= resident.size();
+	return resident.table();
+}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
+import org.eclipse.jdt.internal.core.util.SimpleWordSet;
+
+/**
+ * The super type references of the documents of a {@link DiskIndex}, i.e. its edges from super types to sub types:
+ * the <code>SUPER_REF</code> words of each document, grouped by the simple name of the referenced super type.
+ * <p>
+ * A hierarchy search queries its indexes once for each type of the hierarchy. The disk index looks up each of these
+ * queries in the dictionary of its category table, which only reads the matching entries. The graph is read instead
+ * when the dictionary cannot be searched, in which case each query would otherwise read or scan the whole category
+ * table. The graph then stays resident between the queries within the bound of {@link #RESIDENT_GRAPHS}, and is
+ * updated and carried over to the resulting disk index when a memory index is merged.
+ * </p>
+ */
+final class SubTypeGraph {
+
+private static final char[][] CATEGORIES = { IIndexConstants.SUPER_REF };
+
+/**
+ * The resident graphs, of at most 200000 super type references over all the indexes by default, specify VM property:
+ * {@code -Dorg.eclipse.jdt.core.index.superTypes=<count>}. A reference takes about 150 bytes.
+ */
+static final ResidentTables<SubTypeGraph> RESIDENT_GRAPHS =
+		new ResidentTables<>(Integer.getInteger("org.eclipse.jdt.core.index.superTypes", 200_000).intValue()); //$NON-NLS-1$
+
+/** super type simple name -> document name -> super type reference words of the document */
+private final Map<String, Map<String, char[][]>> subTypes = new HashMap<>();
+/** document name -> simple names of its super types */
+private final Map<String, String[]> superTypes = new HashMap<>();
+/** number of super type reference words of all the documents **/
+private int size;
+
+/**
+ * Answers the graph of the given disk index, read if it is not resident.
+ */
+static SubTypeGraph get(DiskIndex diskIndex) throws IOException {
+	SubTypeGraph graph = RESIDENT_GRAPHS.get(diskIndex);
+	if (graph == null) {
+		graph = read(diskIndex);
+		RESIDENT_GRAPHS.keep(diskIndex, graph, graph.size);
+	}
+	return graph;
+}
+
+/**
+ * Updates the resident graph of the given disk index with the documents of the given memory index, and keeps it
+ * resident for the disk index that results from their merge.
+ */
+static void merge(DiskIndex diskIndex, MemoryIndex memoryIndex, DiskIndex newDiskIndex) {
+	SubTypeGraph graph = RESIDENT_GRAPHS.release(diskIndex);
+	if (graph != null) {
+		graph.update(memoryIndex);
+		RESIDENT_GRAPHS.keep(newDiskIndex, graph, graph.size);
+	}
+}
+
+private static SubTypeGraph read(DiskIndex diskIndex) throws IOException {
+	SubTypeGraph graph = new SubTypeGraph();
+	HashtableOfObject results = diskIndex.addQueryResults(CATEGORIES, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE, null);
+	if (results == null)
+		return graph;
+	Map<String, HashtableOfObject> wordsByDocument = new HashMap<>();
+	for (Object value : results.valueTable) {
+		if (value == null) continue;
+		EntryResult result = (EntryResult) value;
+		for (String documentName : result.getDocumentNames(diskIndex)) {
+			HashtableOfObject words = wordsByDocument.computeIfAbsent(documentName, name -> new HashtableOfObject(3));
+			words.put(result.getWord(), result.getWord());
+		}
+	}
+	for (Entry<String, HashtableOfObject> entry : wordsByDocument.entrySet()) {
+		HashtableOfObject words = entry.getValue();
+		char[][] documentWords = new char[words.elementSize][];
+		int count = 0;
+		for (char[] word : words.keyTable)
+			if (word != null)
+				documentWords[count++] = word;
+		graph.add(entry.getKey(), documentWords);
+	}
+	return graph;
+}
+
+/**
+ * Updates the graph with the documents added, changed or removed in the given memory index.
+ */
+private void update(MemoryIndex memoryIndex) {
+	Object[] documentNames = memoryIndex.docsToReferences.keyTable;
+	Object[] referenceTables = memoryIndex.docsToReferences.valueTable;
+	for (int i = 0, l = documentNames.length; i < l; i++) {
+		String documentName = (String) documentNames[i];
+		if (documentName == null) continue;
+		remove(documentName);
+		HashtableOfObject categoryToWords = (HashtableOfObject) referenceTables[i];
+		if (categoryToWords == null) continue; // removed document
+		SimpleWordSet wordSet = (SimpleWordSet) categoryToWords.get(IIndexConstants.SUPER_REF);
+		if (wordSet == null || wordSet.elementSize == 0) continue;
+		char[][] words = new char[wordSet.elementSize][];
+		int count = 0;
+		for (char[] word : wordSet.words)
+			if (word != null)
+				words[count++] = word;
+		add(documentName, words);
+	}
+}
+
+private void add(String documentName, char[][] words) {
+	HashMap<String, Integer> counts = new HashMap<>();
+	for (char[] word : words)
+		counts.merge(superSimpleName(word), Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+	String[] names = counts.keySet().toArray(new String[counts.size()]);
+	for (String name : names) {
+		char[][] wordsOfName = new char[counts.get(name).intValue()][];
+		int count = 0;
+		for (char[] word : words)
+			if (name.equals(superSimpleName(word)))
+				wordsOfName[count++] = word;
+		this.subTypes.computeIfAbsent(name, n -> new HashMap<>()).put(documentName, wordsOfName);
+	}
+	this.superTypes.put(documentName, names);
+	this.size += words.length;
+}
+
+private void remove(String documentName) {
+	String[] names = this.superTypes.remove(documentName);
+	if (names == null) return;
+	for (String name : names) {
+		Map<String, char[][]> documents = this.subTypes.get(name);
+		if (documents != null) {
+			char[][] words = documents.remove(documentName);
+			if (words != null)
+				this.size -= words.length;
+			if (documents.isEmpty())
+				this.subTypes.remove(name);
+		}
+	}
+}
+
+private static String superSimpleName(char[] word) {
+	int separator = CharOperation.indexOf(IIndexConstants.SEPARATOR, word);
+	return separator < 0 ? new String(word) : new String(word, 0, separator);
+}
+
+/**
+ * Adds the super type references to the given simple name, skipping the documents that were added, changed or
+ * removed in the given memory index.
+ */
+HashtableOfObject addQueryResults(char[] superSimpleName, MemoryIndex memoryIndex, HashtableOfObject results) {
+	Map<String, char[][]> documents = this.subTypes.get(new String(superSimpleName));
+	return documents == null ? results : addQueryResults(documents, memoryIndex, results);
+}
+
+private static HashtableOfObject addQueryResults(Map<String, char[][]> documents, MemoryIndex memoryIndex, HashtableOfObject results) {
+	for (Entry<String, char[][]> entry : documents.entrySet()) {
+		String documentName = entry.getKey();
+		if (memoryIndex != null && memoryIndex.docsToReferences.containsKey(documentName))
+			continue;
+		for (char[] word : entry.getValue()) {
+			if (results == null)
+				results = new HashtableOfObject(13);
+			EntryResult result = (EntryResult) results.get(word);
+			if (result == null)
+				results.put(word, result = new EntryResult(word, null));
+			result.addDocumentName(documentName);
+		}
+	}
+	return results;
+}
+}
@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.index;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.internal.compiler.parser.ScannerHelper;
+import org.eclipse.jdt.internal.compiler.util.HashtableOfObject;
+import org.eclipse.jdt.internal.core.search.indexing.IIndexConstants;
+import org.eclipse.jdt.internal.core.util.SimpleWordSet;
+
+/**
+ * The type declarations of the documents of a {@link DiskIndex}: its <code>TYPE_DECL</code> words with the document
+ * declaring them, sorted case insensitively.
+ * <p>
+ * Since the words start with the simple name of the declared type, the words matching a prefix, a camel case or a
+ * pattern with a leading literal are adjacent: a query only tests the words of that range, in memory, instead of
+ * reading and scanning the whole category table. Exact case sensitive queries do not need the table, since the disk
+ * index finds their words in the dictionary of the category table.
+ * </p>
+ * <p>
+ * The table is read by the first query that needs it and stays resident between the queries, so that the successive
+ * queries of a type name completion or of the open type dialog do not read it again. When a memory index is merged
+ * into the disk index, the table is updated with the changed documents and carried over to the merged disk index.
+ * The tables of all the indexes are bounded together by {@link #RESIDENT_TABLES}.
+ * </p>
+ */
+final class TypeNameTable {
+
+private static final char[][] CATEGORIES = { IIndexConstants.TYPE_DECL };
+
+/**
+ * The resident tables, of at most 200000 entries over all the indexes by default, specify VM property:
+ * {@code -Dorg.eclipse.jdt.core.index.typeNames=<count>}. An entry takes about 100 bytes.
+ */
+static final ResidentTables<TypeNameTable> RESIDENT_TABLES =
+		new ResidentTables<>(Integer.getInteger("org.eclipse.jdt.core.index.typeNames", 200_000).intValue()); //$NON-NLS-1$
+
+/** the words, sorted case insensitively, and the document declaring each of them: a word may be declared by several documents */
+private char[][] words;
+private String[] documentNames;
+private int size;
+
+private TypeNameTable(char[][] words, String[] documentNames, int size) {
+	this.words = words;
+	this.documentNames = documentNames;
+	this.size = size;
+}
+
+/**
+ * Answers the table of the given disk index, read if it is not resident.
+ */
+static TypeNameTable get(DiskIndex diskIndex) throws IOException {
+	TypeNameTable table = RESIDENT_TABLES.get(diskIndex);
+	if (table == null) {
+		table = read(diskIndex);
+		RESIDENT_TABLES.keep(diskIndex, table, table.size);
+	}
+	return table;
+}
+
+/**
+ * Updates the resident table of the given disk index with the documents of the given memory index, and keeps it
+ * resident for the disk index that results from their merge.
+ */
+static void merge(DiskIndex diskIndex, MemoryIndex memoryIndex, DiskIndex newDiskIndex) {
+	TypeNameTable table = RESIDENT_TABLES.release(diskIndex);
+	if (table != null) {
+		table.update(memoryIndex);
+		RESIDENT_TABLES.keep(newDiskIndex, table, table.size);
+	}
+}
+
+private static TypeNameTable read(DiskIndex diskIndex) throws IOException {
+	HashtableOfObject results = diskIndex.addQueryResults(CATEGORIES, null, SearchPattern.R_EXACT_MATCH | SearchPattern.R_CASE_SENSITIVE, null);
+	if (results == null)
+		return new TypeNameTable(new char[0][], new String[0], 0);
+	char[][] words = new char[results.elementSize][];
+	String[] documentNames = new String[results.elementSize];
+	int size = 0;
+	for (Object value : results.valueTable) {
+		if (value == null) continue;
+		EntryResult result = (EntryResult) value;
+		for (String documentName : result.getDocumentNames(diskIndex)) {
+			if (size == words.length) {
+				System.arraycopy(words, 0, words = new char[size * 2][], 0, size);
+				System.arraycopy(documentNames, 0, documentNames = new String[size * 2], 0, size);
+			}
+			words[size] = result.getWord();
+			documentNames[size++] = documentName;
+		}
+	}
+	return sorted(words, documentNames, size);
+}
+
+private static TypeNameTable sorted(char[][] words, String[] documentNames, int size) {
+	Integer[] order = new Integer[size];
+	for (int i = 0; i < size; i++)
+		order[i] = Integer.valueOf(i);
+	Arrays.sort(order, (a, b) -> compare(words[a.intValue()], words[b.intValue()], Integer.MAX_VALUE));
+	char[][] sortedWords = new char[size][];
+	String[] sortedNames = new String[size];
+	for (int i = 0; i < size; i++) {
+		sortedWords[i] = words[order[i].intValue()];
+		sortedNames[i] = documentNames[order[i].intValue()];
+	}
+	return new TypeNameTable(sortedWords, sortedNames, size);
+}
+
+/**
+ * Compares the first <code>length</code> characters of the given words case insensitively, a word being smaller
+ * than the words it is a proper prefix of.
+ */
+private static int compare(char[] word, char[] other, int length) {
+	int max = Math.min(length, Math.min(word.length, other.length));
+	for (int i = 0; i < max; i++) {
+		char c1 = ScannerHelper.toLowerCase(word[i]);
+		char c2 = ScannerHelper.toLowerCase(other[i]);
+		if (c1 != c2)
+			return c1 - c2;
+	}
+	return Math.min(length, word.length) - Math.min(length, other.length);
+}
+
+/**
+ * Updates the table with the documents added, changed or removed in the given memory index.
+ */
+private void update(MemoryIndex memoryIndex) {
+	Object[] paths = memoryIndex.docsToReferences.keyTable;
+	Object[] referenceTables = memoryIndex.docsToReferences.valueTable;
+	Set<String> changed = new HashSet<>();
+	char[][] addedWords = new char[8][];
+	String[] addedNames = new String[8];
+	int addedSize = 0;
+	for (int i = 0, l = paths.length; i < l; i++) {
+		String documentName = (String) paths[i];
+		if (documentName == null) continue;
+		changed.add(documentName);
+		HashtableOfObject categoryToWords = (HashtableOfObject) referenceTables[i];
+		if (categoryToWords == null) continue; // removed document
+		SimpleWordSet wordSet = (SimpleWordSet) categoryToWords.get(IIndexConstants.TYPE_DECL);
+		if (wordSet == null) continue;
+		for (char[] word : wordSet.words) {
+			if (word == null) continue;
+			if (addedSize == addedWords.length) {
+				System.arraycopy(addedWords, 0, addedWords = new char[addedSize * 2][], 0, addedSize);
+				System.arraycopy(addedNames, 0, addedNames = new String[addedSize * 2], 0, addedSize);
+			}
+			addedWords[addedSize] = word;
+			addedNames[addedSize++] = documentName;
+		}
+	}
+	if (changed.isEmpty())
+		return;
+	TypeNameTable added = sorted(addedWords, addedNames, addedSize);
+
+	// merge the added words with the words of the unchanged documents, both sorted
+	char[][] mergedWords = new char[this.size + added.size][];
+	String[] mergedNames = new String[this.size + added.size];
+	int count = 0;
+	for (int i = 0, j = 0; i < this.size || j < added.size;) {
+		if (i < this.size && changed.contains(this.documentNames[i])) {
+			i++;
+		} else if (j == added.size || (i < this.size && compare(this.words[i], added.words[j], Integer.MAX_VALUE) <= 0)) {
+			mergedWords[count] = this.words[i];
+			mergedNames[count++] = this.documentNames[i++];
+		} else {
+			mergedWords[count] = added.words[j];
+			mergedNames[count++] = added.documentNames[j++];
+		}
+	}
+	this.words = mergedWords;
+	this.documentNames = mergedNames;
+	this.size = count;
+}
+
+/**
+ * Answers the number of leading characters of the key that the words matching it share with the key, ignoring case.
+ */
+private static int literalPrefixLength(char[] key, int matchRule) {
+	if (key == null || (matchRule & (SearchPattern.R_SUBSTRING_MATCH | SearchPattern.R_SUBWORD_MATCH)) != 0)
+		return 0;
+	switch (matchRule & ~SearchPattern.R_CASE_SENSITIVE) {
+		case SearchPattern.R_EXACT_MATCH :
+		case SearchPattern.R_PREFIX_MATCH :
+			return key.length;
+		case SearchPattern.R_PATTERN_MATCH :
+			for (int i = 0; i < key.length; i++)
+				if (key[i] == '*' || key[i] == '?')
+					return i;
+			return key.length;
+		case SearchPattern.R_CAMELCASE_MATCH :
+		case SearchPattern.R_CAMELCASE_SAME_PART_COUNT_MATCH :
+			// the first character of a camel case must match, and so must the first character of a prefix
+			return Math.min(1, key.length);
+		default :
+			return 0;
+	}
+}
+
+/**
+ * Adds the type declarations matching the given key, or all of them if null, skipping the documents that were
+ * added, changed or removed in the given memory index. The match rule is masked with {@link Index#MATCH_RULE_INDEX_MASK}.
+ */
+HashtableOfObject addQueryResults(char[] key, int matchRule, MemoryIndex memoryIndex, HashtableOfObject results) {
+	int prefixLength = literalPrefixLength(key, matchRule);
+	int start = 0, end = this.size;
+	if (prefixLength > 0) {
+		// binary search the range of the words starting with the literal prefix of the key
+		int low = 0, high = this.size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (compare(this.words[middle], key, prefixLength) < 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		start = low;
+		high = this.size;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (compare(this.words[middle], key, prefixLength) <= 0)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+		end = low;
+	}
+	for (int i = start; i < end; i++) {
+		char[] word = this.words[i];
+		if (key != null && !Index.isMatch(key, word, matchRule))
+			continue;
+		String documentName = this.documentNames[i];
+		if (memoryIndex != null && memoryIndex.docsToReferences.containsKey(documentName))
+			continue;
+		if (results == null)
+			results = new HashtableOfObject(13);
+		EntryResult result = (EntryResult) results.get(word);
+		if (result == null)
+			results.put(word, result = new EntryResult(word, null));
+		result.addDocumentName(documentName);
+	}
+	return results;
+}
+}
@@ -19,9 +19,13 @@ import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -63,6 +67,31 @@ protected final AtomicLong executionTime;
 public static final String ENABLE_PARALLEL_SEARCH = "enableParallelJavaIndexSearch";//$NON-NLS-1$
 public static final boolean ENABLE_PARALLEL_SEARCH_DEFAULT = true;
 
+/**
+ * Maximum number of matches of one index waiting to be delivered to the requestor, a query blocks once reached.
+ */
+private static final int MATCH_QUEUE_CAPACITY = 1024;
+/**
+ * Interval at which waiting queries and requestor check for cancellation.
+ */
+private static final long CANCEL_CHECK_INTERVAL_MS = 50;
+/**
+ * Dedicated pool running the index queries of parallel searches, executing them in the order of submission.
+ */
+private static final int SEARCH_THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+private static final ExecutorService SEARCH_SERVICE = createExecutor(SEARCH_THREAD_COUNT);
+
+private static ExecutorService createExecutor(int threadCount) {
+	ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, /* keepAliveTime */ 1, TimeUnit.MINUTES,
+			new LinkedBlockingQueue<>(), r -> {
+				Thread t = new Thread(r, "Java Index Search"); //$NON-NLS-1$
+				t.setDaemon(true);
+				return t;
+			});
+	executor.allowCoreThreadTimeOut(true);
+	return executor;
+}
+
 public PatternSearchJob(SearchPattern pattern, SearchParticipant participant, IJavaSearchScope scope, IndexQueryRequestor requestor) {
 	this(pattern, participant, scope, true, true, requestor);
 }
@@ -123,7 +152,7 @@ public boolean execute(IProgressMonitor progressMonitor) {
 			if (parallel) {
 				long wallClockTime = System.currentTimeMillis() - startTime;
 				trace("-> execution time: " + wallClockTime + "ms - " + this);//$NON-NLS-1$//$NON-NLS-2$
-				trace("-> cumulative execution time (" + ForkJoinPool.getCommonPoolParallelism() + "): " //$NON-NLS-1$//$NON-NLS-2$
+				trace("-> cumulative execution time (" + SEARCH_THREAD_COUNT + "): " //$NON-NLS-1$//$NON-NLS-2$
 						+ this.executionTime.get() + "ms - " + this);//$NON-NLS-1$
 			} else {
 				trace("-> execution time: " + this.executionTime.get() + "ms - " + this);//$NON-NLS-1$//$NON-NLS-2$
@@ -134,10 +163,16 @@ public boolean execute(IProgressMonitor progressMonitor) {
 		SubMonitor.done(progressMonitor);
 	}
 }
+/*
+ * Queries the indexes on the search pool while the matches are delivered to the requestor in the calling thread.
+ * The matches of each index are streamed through a bounded queue, in the same order as a sequential search:
+ * the matches of the first index are accepted while it is still being queried, the ones of the following
+ * indexes wait in their queue, whose query blocks once the queue is full.
+ */
 private boolean performParallelSearch(Index[] indexes, SubMonitor loopMonitor) {
 	boolean isComplete = true;
-	List<Future<IndexResult>> futures = new ArrayList<>(indexes.length);
-	ForkJoinPool commonPool = ForkJoinPool.commonPool();
+	List<Future<Boolean>> futures = new ArrayList<>(indexes.length);
+	List<IndexMatchQueue> queues = new ArrayList<>(indexes.length);
 	ParallelSearchMonitor monitor = new ParallelSearchMonitor(loopMonitor);
 
 	try {
@@ -145,20 +180,29 @@ private boolean performParallelSearch(Index[] indexes, SubMonitor loopMonitor) {
 			((IParallelizable) this.scope).initBeforeSearch(monitor);
 		}
 		for (Index index : indexes) {
-			futures.add(commonPool.submit(() -> search(index, monitor, true)));
+			IndexMatchQueue queue = new IndexMatchQueue(monitor);
+			queues.add(queue);
+			futures.add(SEARCH_SERVICE.submit(() -> {
+				try {
+					return search(index, queue, monitor, true);
+				} finally {
+					queue.close();
+				}
+			}));
 		}
 
-		for (Future<IndexResult> future : futures) {
+		for (int i = 0, length = futures.size(); i < length; i++) {
 			loopMonitor.split(1);
+			IndexMatchQueue queue = queues.get(i);
+			IndexMatch match;
+			while ((match = queue.take()) != IndexMatchQueue.END) {
+				boolean continueSearch = this.requestor.acceptIndexMatch(match.documentPath, match.indexRecord, this.participant, match.access);
+				if(!continueSearch) {
+					throw new OperationCanceledException();
+				}
+			}
 			try {
-				IndexResult result = future.get();
-				isComplete &= result.complete;
-				result.matches.forEach(m -> {
-					boolean continueSearch = this.requestor.acceptIndexMatch(m.documentPath, m.indexRecord, this.participant, m.access);
-					if(!continueSearch) {
-						throw new OperationCanceledException();
-					}
-				});
+				isComplete &= futures.get(i).get();
 			} catch (InterruptedException e) {
 				Thread.currentThread().interrupt();
 				throw new OperationCanceledException();
@@ -175,6 +219,11 @@ private boolean performParallelSearch(Index[] indexes, SubMonitor loopMonitor) {
 	} catch (Exception e) {
 		monitor.setCanceled(true);
 		throw e;
+	} finally {
+		// queries which did not start yet are not needed anymore
+		for (Future<Boolean> future : futures) {
+			future.cancel(false);
+		}
 	}
 	return isComplete;
 }
@@ -207,13 +256,6 @@ public String getJobFamily() {
 	return ""; //$NON-NLS-1$
 }
 
-private IndexResult search(Index index, IProgressMonitor progressMonitor, boolean parallel) {
-	List<IndexMatch> matches = new ArrayList<>();
-	boolean complete = search(index, collectTo(matches, progressMonitor), progressMonitor, parallel);
-	return new IndexResult(complete, matches);
-}
-
-
 public boolean search(Index index, IndexQueryRequestor queryRequestor, IProgressMonitor progressMonitor, boolean parallel) {
 	if (index == null) return COMPLETE;
 	if (progressMonitor != null && progressMonitor.isCanceled()) throw new OperationCanceledException();
@@ -301,25 +343,63 @@ private boolean isParallelSearchEnabled() {
 			null);
 }
 
-private static IndexQueryRequestor collectTo(final List<IndexMatch> collectTo, final IProgressMonitor monitor) {
-	return new IndexQueryRequestor() {
+/**
+ * Bounded queue of the matches of one index, filled by the query on the search pool and drained by the
+ * thread delivering the matches to the requestor.
+ */
+static class IndexMatchQueue extends IndexQueryRequestor {
+	static final IndexMatch END = new IndexMatch(null, null, null);
 
-		@Override
-		public boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant,
-				AccessRuleSet access) {
-			collectTo.add(new IndexMatch(documentPath, indexRecord, access));
-			return !monitor.isCanceled();
-		}
-	};
-}
+	private final BlockingQueue<IndexMatch> matches = new LinkedBlockingQueue<>(MATCH_QUEUE_CAPACITY);
+	private final IProgressMonitor monitor;
+
+	IndexMatchQueue(IProgressMonitor monitor) {
+		this.monitor = monitor;
+	}
+
+	@Override
+	public boolean acceptIndexMatch(String documentPath, SearchPattern indexRecord, SearchParticipant participant,
+			AccessRuleSet access) {
+		return put(new IndexMatch(documentPath, indexRecord, access));
+	}
+
+	/**
+	 * Marks the end of the matches, once the query is finished, whether it completed or not.
+	 */
+	void close() {
+		put(END);
+	}
 
-static class IndexResult {
-	final boolean complete;
-	final List<IndexMatch> matches;
+	private boolean put(IndexMatch match) {
+		try {
+			while (!this.matches.offer(match, CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+				if (this.monitor.isCanceled()) {
+					return false; // nobody is waiting for the matches anymore
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		return !this.monitor.isCanceled();
+	}
 
-	IndexResult(boolean complete, List<IndexMatch> matches) {
-		this.complete = complete;
-		this.matches = matches;
+	/**
+	 * Answers the next match, or {@link #END} once all matches were taken.
+	 */
+	IndexMatch take() {
+		try {
+			IndexMatch match;
+			while ((match = this.matches.poll(CANCEL_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS)) == null) {
+				if (this.monitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+			}
+			return match;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		}
 	}
 }
 
@@ -38,6 +38,7 @@ import org.eclipse.jdt.internal.compiler.lookup.TypeConstants;
 import org.eclipse.jdt.internal.compiler.util.SimpleLookupTable;
 import org.eclipse.jdt.internal.compiler.util.Util;
 import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.index.FileIndexLocation;
 import org.eclipse.jdt.internal.core.index.Index;
 import org.eclipse.jdt.internal.core.index.IndexLocation;
 import org.eclipse.jdt.internal.core.search.JavaSearchDocument;
@@ -126,6 +127,7 @@ class AddJarFileToIndex extends BinaryContainer {
 				// this path will be a relative path to the workspace in case the zipfile in the workspace otherwise it will be a path in the
 				// local file system
 				Path zipFilePath = null;
+				File jarFile;
 
 				monitor.enterWrite(); // ask permission to write
 				if (this.resource != null) {
@@ -149,13 +151,15 @@ class AddJarFileToIndex extends BinaryContainer {
 					if (JavaModelManager.ZIP_ACCESS_VERBOSE)
 						trace("(" + Thread.currentThread() + ") [AddJarFileToIndex.execute()] Creating ZipFile on " + this.containerPath); //$NON-NLS-1$	//$NON-NLS-2$
 					zip = new ZipFile(file);
+					jarFile = file;
 					zipFilePath = (Path) this.resource.getFullPath().makeRelative();
 					// absolute path relative to the workspace
 				} else {
 					if (JavaModelManager.ZIP_ACCESS_VERBOSE)
 						trace("(" + Thread.currentThread() + ") [AddJarFileToIndex.execute()] Creating ZipFile on " + this.containerPath); //$NON-NLS-1$	//$NON-NLS-2$
 					// external file -> it is ok to use toFile()
-					zip = new ZipFile(this.containerPath.toFile());
+					jarFile = this.containerPath.toFile();
+					zip = new ZipFile(jarFile);
 					zipFilePath = (Path) this.containerPath;
 				}
 
@@ -212,6 +216,21 @@ class AddJarFileToIndex extends BinaryContainer {
 
 				// Index the jar for the first time or reindex the jar in case the previous index file has been corrupted
 				// index already existed: recreate it so that we forget about previous entries
+				char[] automaticModuleName = zip.getEntry(TypeConstants.MODULE_INFO_CLASS_NAME_STRING) == null ? determineAutomaticModuleName() : null;
+				IndexStore indexStore = this.forceIndexUpdate ? null : IndexStore.getDefault();
+				String storeKey = null;
+				if (indexStore != null) {
+					storeKey = IndexStore.computeKey(jarFile, automaticModuleName);
+					if (indexStore.restore(storeKey, index)) {
+						if (JobManager.VERBOSE)
+							trace("-> no indexing required (index found in the index store) for " //$NON-NLS-1$
+							+ zip.getName() + " (" //$NON-NLS-1$
+							+ (System.currentTimeMillis() - initialTime) + "ms)"); //$NON-NLS-1$
+						this.manager.saveIndex(index);
+						this.manager.updateMetaIndex(index);
+						return true;
+					}
+				}
 				SearchParticipant participant = SearchEngine.getDefaultSearchParticipant();
 				if (!this.manager.resetIndex(this.containerPath)) {
 					// failed to recreate index, see 73330
@@ -224,42 +243,10 @@ class AddJarFileToIndex extends BinaryContainer {
 				if ((indexLocation = index.getIndexLocation()) != null) {
 					indexPath = indexLocation.getIndexPath();
 				}
-				boolean hasModuleInfoClass = false;
-				for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
-					if (this.isCancelled) {
-						if (JobManager.VERBOSE)
-							trace("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
-						return false;
-					}
-
-					// iterate each entry to index it
-					ZipEntry ze = e.nextElement();
-					String zipEntryName = ze.getName();
-					if (Util.isClassFileName(zipEntryName) &&
-							isValidPackageNameForClassOrisModule(zipEntryName)) {
-						hasModuleInfoClass |= zipEntryName.contains(TypeConstants.MODULE_INFO_NAME_STRING);
-						// index only classes coming from valid packages - https://bugs.eclipse.org/bugs/show_bug.cgi?id=293861
-						final byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(ze, zip);
-						JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, classFileBytes, participant);
-						this.manager.indexDocument(entryDocument, participant, index, indexPath);
-					}
-				}
-				if (!hasModuleInfoClass) {
-					String s;
-					try {
-						s = this.resource == null ? this.containerPath.toOSString() :
-							JavaModelManager.getLocalFile(this.resource.getFullPath()).toPath().toAbsolutePath().toString();
-						char[] autoModuleName = AutomaticModuleNaming.determineAutomaticModuleName(s);
-						final char[] contents = CharOperation.append(CharOperation.append(TypeConstants.AUTOMATIC_MODULE_NAME.toCharArray(), ':'), autoModuleName);
-						// adding only the automatic module entry here - can be extended in the future to include other fields.
-						ZipEntry ze = new ZipEntry(TypeConstants.AUTOMATIC_MODULE_NAME);
-						JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, new String(contents).getBytes(Charset.defaultCharset()), participant);
-						this.manager.indexDocument(entryDocument, participant, index, indexPath);
-					} catch (CoreException e) {
-						if (JobManager.VERBOSE) {
-							JavaModelManager.trace("", e); //$NON-NLS-1$
-						}
-					}
+				if (!indexEntries(zip, zipFilePath, automaticModuleName, index, indexPath, participant)) {
+					if (JobManager.VERBOSE)
+						trace("-> indexing of " + zip.getName() + " has been cancelled"); //$NON-NLS-1$ //$NON-NLS-2$
+					return false;
 				}
 				if(this.forceIndexUpdate) {
 					this.manager.savePreBuiltIndex(index);
@@ -267,6 +254,14 @@ class AddJarFileToIndex extends BinaryContainer {
 				else {
 					this.manager.saveIndex(index);
 				}
+				if (storeKey != null && !index.hasChanged()) {
+					try {
+						indexStore.add(storeKey, index.getIndexFile());
+					} catch (IOException e) {
+						if (JobManager.VERBOSE)
+							trace("-> failed to add the index of " + zip.getName() + " to the index store", e); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+				}
 				if (JobManager.VERBOSE)
 					trace("-> done indexing of " //$NON-NLS-1$
 						+ zip.getName() + " (" //$NON-NLS-1$
@@ -293,6 +288,89 @@ class AddJarFileToIndex extends BinaryContainer {
 		}
 		return true;
 	}
+	/**
+	 * Indexes the class files of the given jar coming from valid packages, then its automatic module name if any.
+	 * Answers false if the request got cancelled meanwhile.
+	 */
+	boolean indexEntries(ZipFile zip, Path zipFilePath, char[] automaticModuleName, Index index, IPath indexPath, SearchParticipant participant) throws IOException {
+		// class files are decoded by several threads, but their entries are added in the order of the jar
+		ParallelJarIndexing parallelIndexing = ParallelJarIndexing.canIndexInParallel(zip) ? new ParallelJarIndexing(index, indexPath, participant) : null;
+		try {
+			for (Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+				if (this.isCancelled)
+					return false;
+
+				// iterate each entry to index it
+				ZipEntry ze = e.nextElement();
+				String zipEntryName = ze.getName();
+				if (Util.isClassFileName(zipEntryName) &&
+						isValidPackageNameForClassOrisModule(zipEntryName)) {
+					// index only classes coming from valid packages - https://bugs.eclipse.org/bugs/show_bug.cgi?id=293861
+					final byte[] classFileBytes = org.eclipse.jdt.internal.compiler.util.Util.getZipEntryByteContent(ze, zip);
+					if (parallelIndexing != null) {
+						parallelIndexing.submit(ze, zipFilePath, classFileBytes);
+					} else {
+						JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, classFileBytes, participant);
+						this.manager.indexDocument(entryDocument, participant, index, indexPath);
+					}
+				}
+			}
+			if (parallelIndexing != null)
+				parallelIndexing.finish();
+		} finally {
+			if (parallelIndexing != null)
+				parallelIndexing.cancel(); // nothing left unless cancelled or failed
+		}
+		if (automaticModuleName != null) {
+			final char[] contents = CharOperation.append(CharOperation.append(TypeConstants.AUTOMATIC_MODULE_NAME.toCharArray(), ':'), automaticModuleName);
+			// adding only the automatic module entry here - can be extended in the future to include other fields.
+			ZipEntry ze = new ZipEntry(TypeConstants.AUTOMATIC_MODULE_NAME);
+			JavaSearchDocument entryDocument = new JavaSearchDocument(ze, zipFilePath, new String(contents).getBytes(Charset.defaultCharset()), participant);
+			this.manager.indexDocument(entryDocument, participant, index, indexPath);
+		}
+		return true;
+	}
+	/**
+	 * Returns the automatic module name of the jar, used when it does not contain a module-info class.
+	 */
+	char[] determineAutomaticModuleName() {
+		try {
+			String s = this.resource == null ? this.containerPath.toOSString() :
+				JavaModelManager.getLocalFile(this.resource.getFullPath()).toPath().toAbsolutePath().toString();
+			return AutomaticModuleNaming.determineAutomaticModuleName(s);
+		} catch (CoreException e) {
+			if (JobManager.VERBOSE) {
+				JavaModelManager.trace("", e); //$NON-NLS-1$
+			}
+			return null;
+		}
+	}
+	/**
+	 * Indexes the jar into the given store, unless it is already there. Answers whether the jar got indexed.
+	 */
+	boolean indexInto(IndexStore indexStore) throws IOException {
+		File jarFile = this.containerPath.toFile();
+		try (ZipFile zip = new ZipFile(jarFile)) {
+			char[] automaticModuleName = zip.getEntry(TypeConstants.MODULE_INFO_CLASS_NAME_STRING) == null ? determineAutomaticModuleName() : null;
+			String storeKey = IndexStore.computeKey(jarFile, automaticModuleName);
+			if (indexStore.contains(storeKey))
+				return false;
+			File tempFile = indexStore.createTempFile(storeKey);
+			Index index = null;
+			try {
+				index = new Index(new FileIndexLocation(tempFile), this.containerPath.toOSString(), false /*reuse index file*/);
+				index.separator = JAR_SEPARATOR;
+				indexEntries(zip, (Path) this.containerPath, automaticModuleName, index, null, SearchEngine.getDefaultSearchParticipant());
+				index.save();
+				indexStore.add(storeKey, index.getIndexFile());
+			} finally {
+				tempFile.delete();
+				if (index != null && index.getIndexFile() != null)
+					index.getIndexFile().delete(); // the saved index may not have been renamed to the temp file
+			}
+			return true;
+		}
+	}
 	@Override
 	public String getJobFamily() {
 		if (this.resource != null)
@@ -25,6 +25,10 @@ public abstract class BinaryContainer extends IndexRequest {
 	public BinaryContainer(IPath containerPath, IndexManager manager) {
 		super(containerPath, manager);
 	}
+	@Override
+	public boolean isBulk() {
+		return true;
+	}
 
 	private boolean isIdentifier() throws InvalidInputException {
 		switch(this.scanner.scanIdentifier()) {
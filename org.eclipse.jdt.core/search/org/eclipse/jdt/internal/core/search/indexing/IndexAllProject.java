@@ -45,6 +45,10 @@ public class IndexAllProject extends IndexRequest {
 		this.project = project;
 	}
 	@Override
+	public boolean isBulk() {
+		return true;
+	}
+	@Override
 	public boolean equals(Object o) {
 		if (o instanceof IndexAllProject)
 			return this.project.equals(((IndexAllProject) o).project);
@@ -35,6 +35,10 @@ public class IndexBinaryFolder extends IndexRequest {
 		this.folder = folder;
 	}
 	@Override
+	public boolean isBulk() {
+		return true;
+	}
+	@Override
 	public boolean equals(Object o) {
 		if (o instanceof IndexBinaryFolder)
 			return this.folder.equals(((IndexBinaryFolder) o).folder);
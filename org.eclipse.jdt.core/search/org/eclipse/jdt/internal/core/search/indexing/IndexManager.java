@@ -823,10 +823,10 @@ public synchronized void jobWasCancelled(IPath containerPath) {
  * Note: clients awaiting until the job count is zero are still waiting at this point.
  */
 @Override
-protected synchronized void moveToNextJob() {
+protected synchronized void moveToNextJob(IJob job) {
 	// remember that one job was executed, and we will need to save indexes at some point
 	this.needToSave = true;
-	super.moveToNextJob();
+	super.moveToNextJob(job);
 }
 /**
  * No more job awaiting.
@@ -1786,6 +1786,12 @@ class MetaIndexUpdateRequest implements IJob {
 		return ""; //$NON-NLS-1$
 	}
 
+	@Override
+	public Object getConcurrencyKey() {
+		// the meta index is locked while updated, only serialize with the other meta index updates
+		return MetaIndexUpdateRequest.class;
+	}
+
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) {
@@ -53,4 +53,9 @@ public abstract class IndexRequest implements IJob {
 	public boolean waitNeeded() {
 		return true;
 	}
+	@Override
+	public Object getConcurrencyKey() {
+		// requests on different indexes can run concurrently
+		return this.containerPath;
+	}
 }
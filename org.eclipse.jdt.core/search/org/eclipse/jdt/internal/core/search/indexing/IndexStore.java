@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eclipse.core.runtime.Path;
+import org.eclipse.jdt.internal.compiler.util.Util;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.index.DiskIndex;
+import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.search.processing.JobManager;
+
+/**
+ * A local store of jar indexes, shared by all workspaces and keyed by the content of the indexed jars.
+ * <p>
+ * The index of a jar is stored under the SHA-256 digest of the jar (and of the automatic module name it is indexed
+ * with), in a folder specific to the {@link DiskIndex#INDEX_VERSION index version}. Jars are therefore indexed once
+ * whatever their location, and an index is never reused for a modified jar nor by an incompatible indexer.
+ * </p>
+ * <p>
+ * The store is enabled by the {@value #INDEX_STORE_LOCATION_PROPERTY} system property. Jar indexes are then looked up
+ * in the store before indexing a jar, and added to it once a jar got indexed. The store can also be populated
+ * beforehand, see {@link #populate(List, int)}.
+ * </p>
+ */
+public class IndexStore {
+
+	public static final String INDEX_STORE_LOCATION_PROPERTY = "jdt.core.indexStoreLocation"; //$NON-NLS-1$
+	private static final String INDEX_STORE_LOCATION = System.getProperty(INDEX_STORE_LOCATION_PROPERTY);
+	private static volatile IndexStore DEFAULT = INDEX_STORE_LOCATION == null ? null : new IndexStore(new File(INDEX_STORE_LOCATION));
+
+	private static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+	private static final String TEMP_FILE_EXTENSION = ".part"; //$NON-NLS-1$
+
+	private final File directory;
+
+	public IndexStore(File location) {
+		this.directory = new File(location, DiskIndex.INDEX_VERSION);
+	}
+
+	/**
+	 * Returns the store given by the {@value #INDEX_STORE_LOCATION_PROPERTY} system property, or null if none.
+	 */
+	static IndexStore getDefault() {
+		return DEFAULT;
+	}
+
+	/*
+	 * For testing the index store in JavaIndexTests only
+	 */
+	public static void setDefault(IndexStore indexStore, Class<?> clazz) throws IllegalArgumentException {
+		if (clazz != null && "org.eclipse.jdt.core.tests.model.JavaIndexTests".equals(clazz.getName())) { //$NON-NLS-1$
+			DEFAULT = indexStore;
+		} else {
+			throw new IllegalArgumentException("Cannot set index store for specified test class"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Returns the key of the index of the given jar, which is indexed with the given automatic module name (or none).
+	 */
+	static String computeKey(File jarFile, char[] automaticModuleName) throws IOException {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // every Java platform supports SHA-256
+		}
+		try (InputStream stream = Files.newInputStream(jarFile.toPath())) {
+			byte[] buffer = new byte[64 * 1024];
+			int read;
+			while ((read = stream.read(buffer)) != -1)
+				digest.update(buffer, 0, read);
+		}
+		if (automaticModuleName != null) {
+			digest.update((byte) 0);
+			digest.update(new String(automaticModuleName).getBytes(StandardCharsets.UTF_8));
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private File getIndexFile(String key) {
+		return new File(this.directory, key + INDEX_FILE_EXTENSION);
+	}
+
+	boolean contains(String key) {
+		return getIndexFile(key).isFile();
+	}
+
+	/**
+	 * Replaces the content of the given index by the stored index of the given key. Answers false if there is no such
+	 * index, or if it could not be read. The caller must own the write lock of the index.
+	 */
+	boolean restore(String key, Index index) {
+		File indexFile = getIndexFile(key);
+		if (!indexFile.isFile())
+			return false;
+		try {
+			index.resetFrom(indexFile);
+			return true;
+		} catch (IOException e) {
+			if (JobManager.VERBOSE)
+				trace("-> failed to restore " + index + " from the index store", e); //$NON-NLS-1$ //$NON-NLS-2$
+			return false;
+		}
+	}
+
+	/**
+	 * Returns a new file of the store in which an index can be written before being {@link #add(String, File) added}.
+	 */
+	File createTempFile(String key) throws IOException {
+		Files.createDirectories(this.directory.toPath());
+		return File.createTempFile(key, TEMP_FILE_EXTENSION, this.directory);
+	}
+
+	/**
+	 * Adds a copy of the given saved index to the store, unless the store already has an index with the given key.
+	 * Indexes are added atomically, so that other workspaces never read a partially written index.
+	 */
+	void add(String key, File indexFile) throws IOException {
+		File storedFile = getIndexFile(key);
+		if (storedFile.exists())
+			return;
+		File tempFile = createTempFile(key);
+		try {
+			Files.copy(indexFile.toPath(), tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			try {
+				Files.move(tempFile.toPath(), storedFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tempFile.toPath(), storedFile.toPath());
+			}
+		} catch (FileAlreadyExistsException e) {
+			// stored concurrently by another indexer
+		} finally {
+			tempFile.delete();
+		}
+	}
+
+	/**
+	 * Indexes the given jars, and all jars found in the given folders, into the store using the given number of threads.
+	 * Jars that are already in the store are not indexed again. Answers the number of jars that got indexed.
+	 *
+	 * @throws IOException if any jar could not be indexed, once all other jars are done
+	 */
+	public int populate(List<File> files, int threadCount) throws IOException {
+		List<File> jarFiles = new ArrayList<>();
+		for (File file : files)
+			collectJars(file, jarFiles);
+		IndexManager manager = JavaModelManager.getIndexManager();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threadCount), runnable -> {
+			Thread thread = new Thread(runnable, "Java Index Store"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<Boolean>> results = new ArrayList<>(jarFiles.size());
+			for (File jarFile : jarFiles) {
+				AddJarFileToIndex request = new AddJarFileToIndex(new Path(jarFile.getAbsolutePath()), null, manager);
+				results.add(executor.submit(() -> request.indexInto(this)));
+			}
+			int indexed = 0;
+			IOException failure = null;
+			for (int i = 0, length = results.size(); i < length; i++) {
+				try {
+					if (results.get(i).get())
+						indexed++;
+				} catch (ExecutionException e) {
+					IOException exception = new IOException("Failed to index " + jarFiles.get(i), e.getCause()); //$NON-NLS-1$
+					if (failure == null)
+						failure = exception;
+					else
+						failure.addSuppressed(exception);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted while populating the index store", e); //$NON-NLS-1$
+				}
+			}
+			if (failure != null)
+				throw failure;
+			return indexed;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void collectJars(File file, List<File> jarFiles) {
+		if (file.isDirectory()) {
+			File[] members = file.listFiles();
+			if (members != null) {
+				for (File member : members)
+					collectJars(member, jarFiles);
+			}
+		} else if (file.isFile()) {
+			String name = file.getName().toLowerCase(Locale.ROOT);
+			if ((name.endsWith(".jar") || name.endsWith(".zip")) && !Util.isJrt(name)) //$NON-NLS-1$ //$NON-NLS-2$
+				jarFiles.add(file);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Index store " + this.directory; //$NON-NLS-1$
+	}
+}
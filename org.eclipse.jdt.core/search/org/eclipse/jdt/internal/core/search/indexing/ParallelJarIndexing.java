@@ -0,0 +1,223 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.indexing;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.jdt.core.search.SearchParticipant;
+import org.eclipse.jdt.internal.core.index.Index;
+import org.eclipse.jdt.internal.core.search.JavaSearchDocument;
+
+/**
+ * Indexes the class files of a jar on several threads: the indexing thread streams the entries of the jar, workers
+ * decode batches of class files into buffers of index entries, and the indexing thread adds the buffers to the index
+ * in the order of the entries.
+ * <p>
+ * Since the buffered additions and removals are replayed in the same order as a sequential indexing, the resulting
+ * index is identical to the one of a sequential indexing. The number of batches being decoded or waiting to be added
+ * is bounded, so that only a few class files of the jar are held in memory at the same time.
+ * </p>
+ */
+public class ParallelJarIndexing {
+
+/** Set to disable the parallel indexing of jars: {@code -Dorg.eclipse.jdt.disableParallelJarIndexing=true} */
+private static final boolean DISABLED = Boolean.getBoolean("org.eclipse.jdt.disableParallelJarIndexing"); //$NON-NLS-1$
+private static final int THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+/** Jars with fewer entries are not worth the hand over between threads */
+private static final int MIN_ENTRIES = 256;
+/** Maximum number of class files, and of their bytes, decoded by a task */
+private static final int BATCH_SIZE = 64;
+private static final int BATCH_BYTES = 1 << 20;
+private static final ExecutorService INDEXER_SERVICE = createExecutor(THREAD_COUNT);
+/** Whether jars are indexed in parallel whatever their size, set by tests only, null if not forced */
+private static volatile Boolean FORCED;
+
+private static ExecutorService createExecutor(int threadCount) {
+	ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, /* keepAliveTime */ 1, TimeUnit.MINUTES,
+			new LinkedBlockingQueue<>(), IndexerThread::new);
+	executor.allowCoreThreadTimeOut(true);
+	return executor;
+}
+
+private static class IndexerThread extends Thread {
+	IndexerThread(Runnable runnable) {
+		super(runnable, "Java Jar Indexer"); //$NON-NLS-1$
+		setDaemon(true);
+	}
+}
+
+/**
+ * A class file of the jar, which records the index entries added and removed by the indexer instead of updating
+ * the index.
+ */
+private static class BufferedDocument extends JavaSearchDocument {
+	final String entryName;
+	/** the categories of the added entries, null for a removal of all entries of the document */
+	char[][] categories = new char[32][];
+	char[][] keys = new char[32][];
+	int size;
+
+	BufferedDocument(ZipEntry zipEntry, IPath zipFilePath, byte[] contents, SearchParticipant participant) {
+		super(zipEntry, zipFilePath, contents, participant);
+		this.entryName = zipEntry.getName();
+	}
+
+	@Override
+	public void addIndexEntry(char[] category, char[] key) {
+		if (this.size == this.categories.length) {
+			System.arraycopy(this.categories, 0, this.categories = new char[this.size * 2][], 0, this.size);
+			System.arraycopy(this.keys, 0, this.keys = new char[this.size * 2][], 0, this.size);
+		}
+		this.categories[this.size] = category;
+		this.keys[this.size++] = key;
+	}
+
+	@Override
+	public void removeAllIndexEntries() {
+		addIndexEntry(null, null);
+	}
+
+	void addTo(Index index) {
+		this.byteContents = null;
+		for (int i = 0; i < this.size; i++) {
+			if (this.categories[i] == null)
+				index.remove(this.entryName);
+			else
+				index.addIndexEntry(this.categories[i], this.keys[i], this.entryName);
+		}
+	}
+}
+
+private final Index index;
+private final IPath indexPath;
+private final SearchParticipant participant;
+private final Deque<Future<List<BufferedDocument>>> batches = new ArrayDeque<>();
+private List<BufferedDocument> batch = new ArrayList<>(BATCH_SIZE);
+private int batchBytes;
+private volatile boolean canceled;
+
+ParallelJarIndexing(Index index, IPath indexPath, SearchParticipant participant) {
+	this.index = index;
+	this.indexPath = indexPath;
+	this.participant = participant;
+}
+
+/**
+ * Answers whether the class files of the given jar are worth indexing in parallel.
+ */
+static boolean canIndexInParallel(ZipFile zip) {
+	Boolean forced = FORCED;
+	if (forced != null)
+		return forced.booleanValue();
+	return !DISABLED && THREAD_COUNT > 1 && zip.size() >= MIN_ENTRIES;
+}
+
+/*
+ * For testing the parallel indexing in JavaIndexTests only
+ */
+public static void setForced(Boolean parallel, Class<?> clazz) throws IllegalArgumentException {
+	if (clazz != null && "org.eclipse.jdt.core.tests.model.JavaIndexTests".equals(clazz.getName())) { //$NON-NLS-1$
+		FORCED = parallel;
+	} else {
+		throw new IllegalArgumentException("Cannot force parallel indexing for specified test class"); //$NON-NLS-1$
+	}
+}
+
+/**
+ * Adds the given class file to the current batch, then adds the entries of the batches decoded so far to the index.
+ * Waits for the oldest batch if too many are pending.
+ */
+void submit(ZipEntry zipEntry, IPath zipFilePath, byte[] contents) {
+	this.batch.add(new BufferedDocument(zipEntry, zipFilePath, contents, this.participant));
+	this.batchBytes += contents.length;
+	if (this.batch.size() < BATCH_SIZE && this.batchBytes < BATCH_BYTES)
+		return;
+	submitBatch();
+	while (!this.batches.isEmpty() && (this.batches.peek().isDone() || this.batches.size() > THREAD_COUNT * 2)) {
+		addToIndex(this.batches.poll());
+	}
+}
+
+private void submitBatch() {
+	if (this.batch.isEmpty())
+		return;
+	List<BufferedDocument> documents = this.batch;
+	this.batches.add(INDEXER_SERVICE.submit(() -> {
+		for (BufferedDocument document : documents) {
+			if (this.canceled)
+				break;
+			this.participant.indexDocument(document, this.indexPath);
+		}
+		return documents;
+	}));
+	this.batch = new ArrayList<>(BATCH_SIZE);
+	this.batchBytes = 0;
+}
+
+/**
+ * Waits for all batches and adds their entries to the index.
+ */
+void finish() {
+	submitBatch();
+	while (!this.batches.isEmpty()) {
+		addToIndex(this.batches.poll());
+	}
+}
+
+/**
+ * Stops decoding the batches whose entries were not added to the index yet.
+ */
+void cancel() {
+	this.canceled = true;
+	for (Future<List<BufferedDocument>> pending : this.batches) {
+		pending.cancel(false);
+	}
+	this.batches.clear();
+	this.batch.clear();
+}
+
+private void addToIndex(Future<List<BufferedDocument>> decoded) {
+	List<BufferedDocument> documents;
+	try {
+		documents = decoded.get();
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new OperationCanceledException();
+	} catch (ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		throw new RuntimeException(e);
+	}
+	for (BufferedDocument document : documents) {
+		document.addTo(this.index);
+	}
+}
+}
@@ -86,6 +86,7 @@ import org.eclipse.jdt.internal.core.search.processing.JobManager;
 import org.eclipse.jdt.internal.core.util.ASTNodeFinder;
 import org.eclipse.jdt.internal.core.util.DeduplicationUtil;
 import org.eclipse.jdt.internal.core.util.HandleFactory;
+import org.eclipse.jdt.internal.core.util.MemoryGovernor;
 import org.eclipse.jdt.internal.core.util.Util;
 
 public class MatchLocator implements ITypeRequestor {
@@ -1396,8 +1397,16 @@ protected void locateMatches(JavaProject javaProject, PossibleMatchSet matchSet,
 		this.progressMonitor.worked( expected-length);
 	}
 	// locate matches (processed matches are limited to avoid problem while using VM default memory heap size)
+	MemoryGovernor governor = new MemoryGovernor("search", MAX_AT_ONCE, MAX_AT_ONCE / 10, MAX_AT_ONCE * 4, () -> { //$NON-NLS-1$
+		// the bindings and class files of the previous batch are not needed by the next one
+		if (this.lookupEnvironment != null)
+			this.lookupEnvironment.reset();
+	});
+	int batchSize = governor.batchSize();
 	for (int index = 0; index < length;) {
-		int max = Math.min(MAX_AT_ONCE, length - index);
+		if (index > 0)
+			batchSize = governor.nextBatchSize(); // measured after the previous batch
+		int max = Math.min(batchSize, length - index);
 		locateMatches(javaProject, possibleMatches, index, max);
 		index += max;
 	}
@@ -1443,6 +1452,7 @@ public void locateMatches(SearchDocument[] searchDocuments) throws CoreException
 	JavaModelManager manager = JavaModelManager.getJavaModelManager();
 	this.bindingsByPattern = new HashMap<>();
 	this.bindingsByName = new HashMap<>();
+	ParallelMatchLocation parallelLocation = null;
 	try {
 		// optimize access to zip files during search operation
 		manager.cacheZipFiles(this);
@@ -1458,6 +1468,10 @@ public void locateMatches(SearchDocument[] searchDocuments) throws CoreException
 		// initialize pattern for polymorphic search (i.e. method reference pattern)
 		this.patternLocator.initializePolymorphicSearch(this);
 
+		// locate the matches of each project on its own lookup environment concurrently if enabled
+		if (ParallelMatchLocation.canLocateInParallel(this))
+			parallelLocation = new ParallelMatchLocation(this);
+
 		JavaProject previousJavaProject = null;
 		PossibleMatchSet matchSet = new PossibleMatchSet();
 		Util.sort(searchDocuments, new Util.Comparer() {
@@ -1517,7 +1531,11 @@ public void locateMatches(SearchDocument[] searchDocuments) throws CoreException
 				resource = javaProject.getProject(); // case of a file in an external jar or external folder
 			if (!javaProject.equals(previousJavaProject)) {
 				// locate matches in previous project
-				if (previousJavaProject != null) {
+				if (previousJavaProject != null && parallelLocation != null) {
+					parallelLocation.submit(previousJavaProject, matchSet, i-displayed);
+					displayed = i;
+					matchSet = new PossibleMatchSet();
+				} else if (previousJavaProject != null) {
 					try {
 						locateMatches(previousJavaProject, matchSet, i-displayed);
 						displayed = i;
@@ -1540,19 +1558,25 @@ public void locateMatches(SearchDocument[] searchDocuments) throws CoreException
 		}
 
 		// last project
-		if (previousJavaProject != null) {
+		if (previousJavaProject != null && parallelLocation != null) {
+			parallelLocation.submit(previousJavaProject, matchSet, docsLength-displayed);
+		} else if (previousJavaProject != null) {
 			try {
 				locateMatches(previousJavaProject, matchSet, docsLength-displayed);
 			} catch (JavaModelException e) {
 				// problem with classpath in last project -> ignore
 			}
 		}
+		if (parallelLocation != null)
+			parallelLocation.finish();
 
 		if (this.searchPackageDeclaration) {
 			locatePackageDeclarations(searchParticipant, javaModelProjects);
 		}
 
 	} finally {
+		if (parallelLocation != null)
+			parallelLocation.cancel(); // stop the partitions not reported yet, if any
 		if (this.progressMonitor != null)
 			this.progressMonitor.done();
 		if (this.nameEnvironment != null)
@@ -114,7 +114,7 @@ public boolean matchesDecodedKey(SearchPattern decodedPattern) {
 public EntryResult[] queryIn(Index index) throws IOException {
 	if (this.simpleNames == null) {
 		// if no simple names then return all possible ones from index
-		return index.query(getIndexCategories(), null, -1); // match rule is irrelevant when the key is null
+		return index.queryTypeDeclarations(null, -1); // match rule is irrelevant when the key is null
 	}
 
 	int count = -1;
@@ -147,7 +147,7 @@ public EntryResult[] queryIn(Index index) throws IOException {
 				break;
 		}
 
-		EntryResult[] entries = index.query(getIndexCategories(), key, matchRule); // match rule is irrelevant when the key is null
+		EntryResult[] entries = index.queryTypeDeclarations(key, matchRule); // match rule is irrelevant when the key is null
 		if (entries != null) {
 			if (allResults == null) return entries;
 			allResults[++count] = entries;
@@ -0,0 +1,263 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.search.matching;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.IParallelizable;
+import org.eclipse.jdt.core.search.SearchMatch;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.SearchRequestor;
+import org.eclipse.jdt.internal.core.JavaModelManager;
+import org.eclipse.jdt.internal.core.JavaProject;
+import org.eclipse.jdt.internal.core.search.AbstractSearchScope;
+import org.eclipse.jdt.internal.core.util.Util;
+
+/**
+ * Locates the matches of the possible matches of each project (a partition) concurrently, each partition with its own
+ * {@link MatchLocator}, hence its own {@link org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment} and
+ * {@link JavaSearchNameEnvironment}.
+ * <p>
+ * The matches of a partition are reported to the requestor of the original locator, in the calling thread, as soon as
+ * the partition and the ones submitted before it are done. The matches are therefore reported in the same order as a
+ * sequential match location. The number of partitions being located or waiting to be reported is bounded, so that
+ * at most a few lookup environments are alive at the same time.
+ * </p>
+ */
+public class ParallelMatchLocation {
+
+public static final String ENABLE_PARALLEL_MATCH_LOCATION = "enableParallelJavaMatchLocation";//$NON-NLS-1$
+public static final boolean ENABLE_PARALLEL_MATCH_LOCATION_DEFAULT = false;
+
+private static final int THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+/**
+ * Not shared with the index queries, since locating matches runs nested searches (e.g. to collect the super types
+ * of the searched type) which must never wait for a busy pool.
+ */
+private static final ExecutorService LOCATOR_SERVICE = createExecutor(THREAD_COUNT);
+
+private static ExecutorService createExecutor(int threadCount) {
+	ThreadPoolExecutor executor = new ThreadPoolExecutor(threadCount, threadCount, /* keepAliveTime */ 1, TimeUnit.MINUTES,
+			new LinkedBlockingQueue<>(), LocatorThread::new);
+	executor.allowCoreThreadTimeOut(true);
+	return executor;
+}
+
+private static class LocatorThread extends Thread {
+	LocatorThread(Runnable runnable) {
+		super(runnable, "Java Search Match Locator"); //$NON-NLS-1$
+		setDaemon(true);
+	}
+}
+
+private static class Partition {
+	final Future<List<SearchMatch>> matches;
+	final int expected;
+
+	Partition(Future<List<SearchMatch>> matches, int expected) {
+		this.matches = matches;
+		this.expected = expected;
+	}
+}
+
+private final MatchLocator locator;
+private final PartitionMonitor monitor;
+private final Deque<Partition> partitions = new ArrayDeque<>();
+
+ParallelMatchLocation(MatchLocator locator) {
+	this.locator = locator;
+	this.monitor = new PartitionMonitor(locator.progressMonitor);
+}
+
+/**
+ * Answers whether the matches of the given locator can be located in parallel.
+ */
+static boolean canLocateInParallel(MatchLocator locator) {
+	if (Thread.currentThread() instanceof LocatorThread)
+		return false; // nested search, already running in parallel
+	if (JavaSearchDelegateDiscovery.getInstance() != null)
+		return false;
+	return isParallelMatchLocationEnabled()
+			&& IParallelizable.isParallelSearchSupported(locator.pattern)
+			&& IParallelizable.isParallelSearchSupported(locator.scope);
+}
+
+private static boolean isParallelMatchLocationEnabled() {
+	IPreferencesService preferenceService = Platform.getPreferencesService();
+	if (preferenceService == null) {
+		return ENABLE_PARALLEL_MATCH_LOCATION_DEFAULT;
+	}
+	return preferenceService.getBoolean(JavaCore.PLUGIN_ID, ENABLE_PARALLEL_MATCH_LOCATION, ENABLE_PARALLEL_MATCH_LOCATION_DEFAULT,
+			null);
+}
+
+/**
+ * Starts locating the matches of the given possible matches of a project, then reports the matches of the
+ * partitions done so far. Waits for the oldest partition if too many are pending.
+ */
+void submit(JavaProject javaProject, PossibleMatchSet matchSet, int expected) throws CoreException {
+	List<SearchMatch> collected = new ArrayList<>();
+	MatchLocator partitionLocator = new MatchLocator(clone(this.locator.pattern), new SearchRequestor() {
+		@Override
+		public void acceptSearchMatch(SearchMatch match) {
+			collected.add(match);
+		}
+	}, clone(this.locator.scope), this.monitor);
+	partitionLocator.workingCopies = this.locator.workingCopies;
+	partitionLocator.progressStep = this.locator.progressStep;
+	partitionLocator.bindingsByPattern = new HashMap<>();
+	partitionLocator.bindingsByName = new HashMap<>();
+	this.partitions.add(new Partition(LOCATOR_SERVICE.submit(() -> {
+		locate(partitionLocator, javaProject, matchSet, expected);
+		return collected;
+	}), expected));
+
+	while (!this.partitions.isEmpty() && (this.partitions.peek().matches.isDone() || this.partitions.size() > THREAD_COUNT)) {
+		report(this.partitions.poll());
+	}
+}
+
+/**
+ * Waits for all partitions and reports their matches.
+ */
+void finish() throws CoreException {
+	while (!this.partitions.isEmpty()) {
+		report(this.partitions.poll());
+	}
+}
+
+/**
+ * Stops locating the matches of the partitions not reported yet.
+ */
+void cancel() {
+	this.monitor.setCanceled(true);
+	for (Partition partition : this.partitions) {
+		partition.matches.cancel(false);
+	}
+	this.partitions.clear();
+}
+
+private static void locate(MatchLocator partitionLocator, JavaProject javaProject, PossibleMatchSet matchSet, int expected) throws CoreException {
+	JavaModelManager manager = JavaModelManager.getJavaModelManager();
+	try {
+		// optimize access to zip files, cached per thread
+		manager.cacheZipFiles(partitionLocator);
+		partitionLocator.patternLocator.initializePolymorphicSearch(partitionLocator);
+		partitionLocator.locateMatches(javaProject, matchSet, expected);
+	} catch (JavaModelException e) {
+		// problem with classpath in this project -> skip it
+	} finally {
+		if (partitionLocator.nameEnvironment != null)
+			partitionLocator.nameEnvironment.cleanup();
+		partitionLocator.unitScope = null;
+		manager.flushZipFiles(partitionLocator);
+	}
+}
+
+private void report(Partition partition) throws CoreException {
+	List<SearchMatch> matches;
+	try {
+		matches = partition.matches.get();
+	} catch (InterruptedException e) {
+		Thread.currentThread().interrupt();
+		throw new OperationCanceledException();
+	} catch (ExecutionException e) {
+		Throwable cause = e.getCause();
+		if (cause instanceof CoreException coreException) {
+			throw coreException;
+		}
+		if (cause instanceof RuntimeException runtimeException) {
+			throw runtimeException;
+		}
+		if (cause instanceof Error error) {
+			throw error;
+		}
+		throw new RuntimeException(e);
+	}
+	IProgressMonitor progressMonitor = this.locator.progressMonitor;
+	for (SearchMatch match : matches) {
+		if (progressMonitor != null && progressMonitor.isCanceled())
+			throw new OperationCanceledException();
+		this.locator.requestor.acceptSearchMatch(match); // already filtered by the partition locator
+	}
+	if (progressMonitor != null)
+		progressMonitor.worked(partition.expected);
+}
+
+private static IJavaSearchScope clone(IJavaSearchScope searchScope) {
+	if (searchScope instanceof AbstractSearchScope) {
+		try {
+			searchScope = ((AbstractSearchScope)searchScope).clone();
+		} catch (CloneNotSupportedException e) {
+			Util.log(new Status(IStatus.WARNING, JavaCore.PLUGIN_ID,
+					"ParallelMatchLocation could not clone " + searchScope, e));//$NON-NLS-1$
+		}
+	}
+	return searchScope;
+}
+
+private static SearchPattern clone(SearchPattern searchPattern) {
+	if(searchPattern instanceof Cloneable) {
+		try {
+			searchPattern = searchPattern.clone();
+		} catch (CloneNotSupportedException e) {
+			Util.log(new Status(IStatus.WARNING, JavaCore.PLUGIN_ID,
+					"ParallelMatchLocation could not clone " + searchPattern, e));//$NON-NLS-1$
+		}
+	}
+	return searchPattern;
+}
+
+/**
+ * Monitor of the partition locators: progress is reported when the matches of a partition are reported.
+ */
+static class PartitionMonitor extends NullProgressMonitor {
+	private volatile boolean canceled;
+	private final IProgressMonitor original;
+
+	PartitionMonitor(IProgressMonitor original) {
+		this.original = original;
+	}
+
+	@Override
+	public boolean isCanceled() {
+		return this.canceled || (this.original != null && this.original.isCanceled());
+	}
+
+	@Override
+	public void setCanceled(boolean canceled) {
+		this.canceled = canceled;
+	}
+}
+}
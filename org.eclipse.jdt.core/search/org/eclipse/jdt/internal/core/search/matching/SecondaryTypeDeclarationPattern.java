@@ -43,7 +43,7 @@ protected StringBuilder print(StringBuilder output) {
 
 @Override
 public EntryResult[] queryIn(Index index) throws IOException {
-	return index.query(CATEGORIES, SECONDARY_PATTERN_KEY, R_PATTERN_MATCH | R_CASE_SENSITIVE);
+	return index.queryTypeDeclarations(SECONDARY_PATTERN_KEY, R_PATTERN_MATCH | R_CASE_SENSITIVE);
 }
 
 }
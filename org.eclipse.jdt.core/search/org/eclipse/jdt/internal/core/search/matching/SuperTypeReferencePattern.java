@@ -252,6 +252,9 @@ public boolean matchesDecodedKey(SearchPattern decodedPattern) {
 public EntryResult[] queryIn(Index index) throws IOException {
 	char[] key = this.superSimpleName; // can be null
 	int matchRule = getMatchRule();
+	if (getMatchMode() == R_EXACT_MATCH && isCaseSensitive())
+		// hierarchy queries: look up the sub type graph of the index rather than scanning its category table
+		return index.querySuperTypeReferences(key);
 
 	// cannot include the superQualification since it may not exist in the index
 	switch(getMatchMode()) {
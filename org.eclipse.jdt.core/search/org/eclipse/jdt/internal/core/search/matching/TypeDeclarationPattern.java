@@ -350,7 +350,7 @@ public EntryResult[] queryIn(Index index) throws IOException {
 			break;
 	}
 
-	return index.query(getIndexCategories(), key, matchRule); // match rule is irrelevant when the key is null
+	return index.queryTypeDeclarations(key, matchRule); // match rule is irrelevant when the key is null
 }
 @Override
 protected StringBuilder print(StringBuilder output) {
@@ -58,4 +58,26 @@ public interface IJob {
 	public default boolean waitNeeded() {
 		return false;
 	}
+
+	/**
+	 * Answers the key shared by the jobs which must not run concurrently with this one, typically the index they
+	 * update. Jobs with the same key run in the order they were requested, jobs with different keys may run
+	 * concurrently. Default implementation returns {@code null}: the job runs alone, once all the jobs requested
+	 * before it are done.
+	 *
+	 * @return the key of this job, or {@code null} if it must run alone
+	 */
+	public default Object getConcurrencyKey() {
+		return null;
+	}
+
+	/**
+	 * Answers whether this job performs bulk work, e.g. indexing a whole project or library. Other jobs ready to
+	 * run are started first. Default implementation returns {@code false}.
+	 *
+	 * @return true if this job performs bulk work
+	 */
+	public default boolean isBulk() {
+		return false;
+	}
 }
@@ -15,10 +15,16 @@ package org.eclipse.jdt.internal.core.search.processing;
 
 import static org.eclipse.jdt.internal.core.JavaModelManager.trace;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -34,13 +40,39 @@ import org.eclipse.jdt.internal.core.util.Util;
 public abstract class JobManager {
 
 	/**
-	 * queue of jobs to execute
+	 * Number of threads processing the jobs, specify VM property: {@code -Dorg.eclipse.jdt.indexer_threads=<count>}.
+	 * Jobs with different concurrency keys run concurrently, see {@link IJob#getConcurrencyKey()}.
+	 */
+	private static final int WORKER_COUNT = Math.max(1, Integer.getInteger("org.eclipse.jdt.indexer_threads", //$NON-NLS-1$
+			Math.min(4, Runtime.getRuntime().availableProcessors() / 2)).intValue());
+
+	/**
+	 * queue of jobs to execute, including the ones being executed
 	 * <br>
 	 * synchronized by JobManager.this
 	 */
 	private final List<IJob> awaitingJobs = new LinkedList<>();
 
-	private volatile boolean executing;
+	/**
+	 * jobs of the queue being executed
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private final Set<IJob> runningJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+
+	/**
+	 * time at which the jobs of the queue were requested, to measure their latency
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private final Map<IJob, Long> requestTimes = new IdentityHashMap<>();
+
+	/**
+	 * statistics of the executed jobs, in nanoseconds
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private long executedJobs, totalLatency, maxLatency, totalExecutionTime;
 
 	/**
 	 * background processing
@@ -49,6 +81,13 @@ public abstract class JobManager {
 	 */
 	private Thread processingThread;
 
+	/**
+	 * additional background processing threads, running while {@link #processingThread} runs
+	 * <br>
+	 * synchronized by JobManager.this
+	 */
+	private final List<Thread> helperThreads = new ArrayList<>();
+
 	private volatile Job progressJob;
 
 	/**
@@ -72,9 +111,36 @@ public abstract class JobManager {
 
 	private final Object idleMonitor = new Object();
 
+	/**
+	 * number of threads processing the jobs, including the processing thread
+	 */
+	private final int workerCount;
+
+	protected JobManager() {
+		this(WORKER_COUNT);
+	}
+
+	/**
+	 * Creates a job manager processing the jobs on the given number of threads, see {@link #WORKER_COUNT}
+	 */
+	protected JobManager(int workerCount) {
+		this.workerCount = Math.max(1, workerCount);
+	}
+
 	private synchronized Thread getProcessingThread() {
 		return this.processingThread;
 	}
+	/**
+	 * Answers the processing thread followed by the helper threads, if running
+	 */
+	private synchronized List<Thread> getWorkerThreads() {
+		List<Thread> workers = new ArrayList<>(this.helperThreads.size() + 1);
+		if (this.processingThread != null) {
+			workers.add(this.processingThread);
+			workers.addAll(this.helperThreads);
+		}
+		return workers;
+	}
 	/**
 	 * Invoked exactly once, in background, before starting processing any job
 	 */
@@ -141,21 +207,35 @@ public abstract class JobManager {
 		}
 
 		try {
-			IJob currentJob;
-			// cancel current job if it belongs to the given family
+			List<IJob> currentJobs;
+			boolean wasEnabled;
 			synchronized(this){
-				currentJob = currentJob();
+				wasEnabled = isEnabled();
+				currentJobs = wasEnabled ? new ArrayList<>(this.runningJobs) : Collections.emptyList();
 				disable();
+				// a client waiting for the jobs may enable the job manager again, the waiting jobs of the family must
+				// not start meanwhile
+				if (removeWaitingJobs(jobFamily)) {
+					notifyAll(); // notify waiters for awaitingJobsCount()
+				}
 			}
-			if (currentJob != null && (jobFamily == null || currentJob.belongsTo(jobFamily))) {
-				currentJob.cancel();
-
+			// cancel current jobs if they belong to the given family
+			Set<IJob> cancelledJobs = Collections.newSetFromMap(new IdentityHashMap<>());
+			boolean waitForCurrentJobs = false;
+			for (IJob currentJob : currentJobs) {
+				if (jobFamily == null || currentJob.belongsTo(jobFamily)) {
+					currentJob.cancel();
+					cancelledJobs.add(currentJob);
+					waitForCurrentJobs = true;
+				}
+			}
+			if (waitForCurrentJobs) {
 				synchronized (this) {
-					// wait until current active job has finished
-					while (getProcessingThread() != null && this.executing){
+					// wait until current active jobs have finished
+					while (getProcessingThread() != null && isRunning(currentJobs)){
 						try {
 							if (VERBOSE) {
-								trace("-> waiting end of current background job - " + currentJob); //$NON-NLS-1$
+								trace("-> waiting end of current background jobs - " + currentJobs); //$NON-NLS-1$
 							}
 							this.wait(50);
 						} catch(InterruptedException e){
@@ -166,21 +246,28 @@ public abstract class JobManager {
 			}
 
 			synchronized(this) {
-				Iterator<IJob> it = this.awaitingJobs.iterator();
-				boolean notify = false;
-				while (it.hasNext()) {
-					currentJob = it.next();
-					if (jobFamily == null || currentJob.belongsTo(jobFamily)) {
-						if (VERBOSE) {
-							trace("-> discarding background job  - " + currentJob); //$NON-NLS-1$
+				// discard the jobs of the family requested meanwhile, and the ones started meanwhile
+				while (true) {
+					if (removeWaitingJobs(jobFamily)) {
+						notifyAll(); // notify waiters for awaitingJobsCount()
+					}
+					boolean running = false;
+					for (IJob currentJob : this.runningJobs) {
+						if (jobFamily == null || currentJob.belongsTo(jobFamily)) {
+							if (cancelledJobs.add(currentJob)) {
+								currentJob.cancel();
+							}
+							running = true;
 						}
-						currentJob.cancel();
-						it.remove();
-						notify = true;
 					}
-				}
-				if (notify){
-					notifyAll(); // notify waiters for awaitingJobsCount()
+					if (!running || !wasEnabled || getProcessingThread() == null) {
+						break;
+					}
+					try {
+						this.wait(50); // running jobs are removed once finished
+					} catch (InterruptedException e) {
+						// ignore
+					}
 				}
 			}
 		} finally {
@@ -190,6 +277,30 @@ public abstract class JobManager {
 			trace("DISCARD   DONE with background job family - " + jobFamily); //$NON-NLS-1$
 		}
 	}
+	/**
+	 * Cancels and removes the jobs of the given family which are not running, answers whether there were some.
+	 * Passing null as a job family removes them all.
+	 */
+	private synchronized boolean removeWaitingJobs(String jobFamily) {
+		boolean removed = false;
+		Iterator<IJob> it = this.awaitingJobs.iterator();
+		while (it.hasNext()) {
+			IJob currentJob = it.next();
+			if (this.runningJobs.contains(currentJob)) {
+				continue; // removed once finished
+			}
+			if (jobFamily == null || currentJob.belongsTo(jobFamily)) {
+				if (VERBOSE) {
+					trace("-> discarding background job  - " + currentJob); //$NON-NLS-1$
+				}
+				currentJob.cancel();
+				it.remove();
+				this.requestTimes.remove(currentJob);
+				removed = true;
+			}
+		}
+		return removed;
+	}
 	public synchronized void enable() {
 		this.enableCount++;
 		if (VERBOSE) {
@@ -211,12 +322,11 @@ public abstract class JobManager {
 		}
 		// Start at the end and go backwards
 		ListIterator<IJob> iterator = this.awaitingJobs.listIterator(awaitingJobsCount);
-		IJob first = this.awaitingJobs.get(0);
 		while (iterator.hasPrevious()) {
 			IJob job = iterator.previous();
-			// don't check first job, as it may have already started
-			if(job == first) {
-				break;
+			// don't check running jobs, as they have already started
+			if (this.runningJobs.contains(job)) {
+				continue;
 			}
 			if (request.test(job)) {
 				return true;
@@ -226,21 +336,115 @@ public abstract class JobManager {
 	}
 
 	/**
-	 * Advance to the next available job, once the current one has been completed.
-	 * Note: clients awaiting until the job count is zero are still waiting at this point.
+	 * Answers the next job to execute and marks it as running, or null if there is no job available, the index manager
+	 * is disabled or the waiting jobs must wait for the running ones.
+	 * <p>
+	 * Jobs are executed in the order of the queue, except that a job may start before the ones requested earlier if
+	 * it has another concurrency key than all of them, and none of them must run alone. Amongst the jobs which may start,
+	 * the first one which is not {@link IJob#isBulk() bulk} is preferred.
+	 * </p>
 	 */
-	protected synchronized void moveToNextJob() {
-		//if (!enabled) return;
-
-		if (!this.awaitingJobs.isEmpty()) {
-			this.awaitingJobs.remove(0);
-			if (awaitingJobsCount() == 0) {
-				synchronized (this) {
-					this.notifyAll();
+	private synchronized IJob startNextJob() {
+		if (this.enableCount <= 0) {
+			return null;
+		}
+		IJob next = null;
+		Set<Object> blockedKeys = new HashSet<>();
+		for (IJob job : this.awaitingJobs) {
+			Object key = job.getConcurrencyKey();
+			if (this.runningJobs.contains(job)) {
+				if (key == null) {
+					return null; // running alone
+				}
+				blockedKeys.add(key);
+				continue;
+			}
+			if (key == null) {
+				// must run alone, once all the jobs requested before are done
+				if (next == null && this.runningJobs.isEmpty() && job == this.awaitingJobs.get(0)) {
+					next = job;
 				}
+				break;
+			}
+			if (!blockedKeys.add(key)) {
+				continue; // a job with the same key was requested before
+			}
+			if (!job.isBulk()) {
+				next = job;
+				break;
+			}
+			if (next == null) {
+				next = job;
+			}
+		}
+		if (next != null) {
+			this.runningJobs.add(next);
+			Long requestTime = this.requestTimes.remove(next);
+			if (requestTime != null) {
+				long latency = System.nanoTime() - requestTime.longValue();
+				this.totalLatency += latency;
+				this.maxLatency = Math.max(this.maxLatency, latency);
+			}
+		}
+		return next;
+	}
+
+	private synchronized boolean isRunning(List<IJob> jobs) {
+		for (IJob job : jobs) {
+			if (this.runningJobs.contains(job)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Remove the given job from the queue, once it has been completed.
+	 * Note: clients awaiting until the job count is zero are still waiting at this point.
+	 */
+	protected synchronized void moveToNextJob(IJob job) {
+		this.runningJobs.remove(job);
+		// remove this very job, an equal job may be waiting
+		for (Iterator<IJob> iterator = this.awaitingJobs.iterator(); iterator.hasNext();) {
+			if (iterator.next() == job) {
+				iterator.remove();
+				break;
 			}
 		}
+		// wake up waiters for awaitingJobsCount() and workers waiting for this job to finish
+		notifyAll();
+	}
+
+	private synchronized void jobExecuted(long executionTime) {
+		this.executedJobs++;
+		this.totalExecutionTime += executionTime;
+	}
+
+	/**
+	 * Statistics about the jobs of a job manager.
+	 *
+	 * @param awaitingJobs number of jobs in the queue, including the running ones
+	 * @param runningJobs number of jobs being executed
+	 * @param executedJobs number of jobs executed so far
+	 * @param averageLatency average time in milliseconds between the request of a job and its start
+	 * @param maxLatency maximum time in milliseconds between the request of a job and its start
+	 * @param averageExecutionTime average time in milliseconds spent executing a job
+	 */
+	public record Statistics(int awaitingJobs, int runningJobs, long executedJobs, long averageLatency, long maxLatency, long averageExecutionTime) {
+		// data only
 	}
+
+	/**
+	 * Answers the statistics about the queue and the executed jobs.
+	 */
+	public synchronized Statistics getStatistics() {
+		long executed = this.executedJobs;
+		return new Statistics(this.awaitingJobs.size(), this.runningJobs.size(), executed,
+				executed == 0 ? 0 : this.totalLatency / executed / 1_000_000L,
+				this.maxLatency / 1_000_000L,
+				executed == 0 ? 0 : this.totalExecutionTime / executed / 1_000_000L);
+	}
+
 	/**
 	 * When idle, give chance to do something
 	 */
@@ -304,11 +508,14 @@ public abstract class JobManager {
 						SubMonitor waitMonitor = subMonitor.setWorkRemaining(10).split(8).setWorkRemaining(totalWork);
 						// use local variable to avoid potential NPE (see bug 20435 NPE when searching java method
 						// and bug 42760 NullPointerException in JobManager when searching)
-						Thread t = getProcessingThread();
-						int originalPriority = t == null ? -1 : t.getPriority();
+						List<Thread> workers = getWorkerThreads();
+						int[] originalPriorities = new int[workers.size()];
 						try {
-							if (t != null)
+							for (int i = 0; i < originalPriorities.length; i++) {
+								Thread t = workers.get(i);
+								originalPriorities[i] = t.getPriority();
 								t.setPriority(Thread.currentThread().getPriority());
+							}
 							this.awaitingClients.incrementAndGet();
 							IJob previousJob = null;
 							int awaitingJobsCount;
@@ -375,8 +582,11 @@ public abstract class JobManager {
 							}
 						} finally {
 							this.awaitingClients.decrementAndGet();
-							if (t != null && originalPriority > -1 && t.isAlive())
-								t.setPriority(originalPriority);
+							for (int i = 0; i < originalPriorities.length; i++) {
+								Thread t = workers.get(i);
+								if (t.isAlive())
+									t.setPriority(originalPriorities[i]);
+							}
 						}
 				}
 			}
@@ -409,6 +619,7 @@ public abstract class JobManager {
 		job.ensureReadyToRun();
 		// append the job to the list of ones to process later on
 		this.awaitingJobs.add(job);
+		this.requestTimes.put(job, System.nanoTime());
 		if (VERBOSE) {
 			trace("REQUEST   background job - " + job); //$NON-NLS-1$
 			trace("AWAITING JOBS count: " + awaitingJobsCount()); //$NON-NLS-1$
@@ -439,6 +650,15 @@ public abstract class JobManager {
 				t.setContextClassLoader(this.getClass().getClassLoader());
 				t.start();
 				this.processingThread = t;
+				this.helperThreads.clear();
+				for (int i = 1; i < this.workerCount; i++) {
+					Thread helper = new Thread(() -> helperLoop(t), processName() + " #" + i); //$NON-NLS-1$
+					helper.setDaemon(true);
+					helper.setPriority(Thread.NORM_PRIORITY-1);
+					helper.setContextClassLoader(this.getClass().getClassLoader());
+					helper.start();
+					this.helperThreads.add(helper);
+				}
 			}
 		}
 	}
@@ -490,7 +710,12 @@ public abstract class JobManager {
 						if (getProcessingThread() == null) continue;
 
 						// must check for new job inside this sync block to avoid timing hole
-						if ((job = currentJob()) == null) {
+						if ((job = startNextJob()) == null) {
+							if (currentJob() != null) {
+								// the waiting jobs must wait for the jobs running on the helper threads
+								this.wait();
+								continue;
+							}
 							Job pJob = this.progressJob;
 							if (pJob != null) {
 								pJob.cancel();
@@ -521,39 +746,18 @@ public abstract class JobManager {
 						continue;
 					}
 					idlingStart = null;
-					if (VERBOSE) {
-						trace(awaitingJobsCount() + " awaiting jobs"); //$NON-NLS-1$
-						trace("STARTING background job - " + job); //$NON-NLS-1$
+					if (this.progressJob == null) {
+						ProgressJob pJob = new ProgressJob(Messages.bind(Messages.jobmanager_indexing, "", "")); //$NON-NLS-1$ //$NON-NLS-2$
+						pJob.setPriority(Job.LONG);
+						pJob.setSystem(true);
+						pJob.schedule();
+						this.progressJob = pJob;
 					}
-					try {
-						this.executing = true;
-						if (this.progressJob == null) {
-							ProgressJob pJob = new ProgressJob(Messages.bind(Messages.jobmanager_indexing, "", "")); //$NON-NLS-1$ //$NON-NLS-2$
-							pJob.setPriority(Job.LONG);
-							pJob.setSystem(true);
-							pJob.schedule();
-							this.progressJob = pJob;
-						}
-						if (!cacheZipFiles) {
-							JavaModelManager.getJavaModelManager().cacheZipFiles(this);
-							cacheZipFiles = true;
-						}
-						job.execute(null); // may enqueue a new job
-					} finally {
-						this.executing = false;
-						if (VERBOSE) {
-							trace("FINISHED background job - " + job); //$NON-NLS-1$
-						}
-						moveToNextJob();
-						if (this.awaitingClients.get() == 0 && job.waitNeeded()) {
-							if (VERBOSE) {
-								trace("WAITING after job - " + job); //$NON-NLS-1$
-							}
-							synchronized (this.idleMonitor) {
-								this.idleMonitor.wait(5); // avoid sleep fixed time
-							}
-						}
+					if (!cacheZipFiles) {
+						JavaModelManager.getJavaModelManager().cacheZipFiles(this);
+						cacheZipFiles = true;
 					}
+					executeJob(job);
 				} catch (InterruptedException e) { // background indexing was interrupted
 				}
 			}
@@ -577,6 +781,70 @@ public abstract class JobManager {
 			}
 		}
 	}
+	/**
+	 * Loop of the helper threads, performing the jobs which can run concurrently with the ones of the
+	 * processing thread, as long as the given processing thread runs
+	 */
+	void helperLoop(Thread processor) {
+		boolean cacheZipFiles = false;
+		try {
+			while (getProcessingThread() == processor) {
+				try {
+					IJob job;
+					synchronized (this) {
+						if (getProcessingThread() != processor) break;
+						if ((job = startNextJob()) == null && !cacheZipFiles) {
+							this.wait(); // wait until a new job is posted or a running job finished
+						}
+					}
+					if (job == null) {
+						if (cacheZipFiles) {
+							JavaModelManager.getJavaModelManager().flushZipFiles(this);
+							cacheZipFiles = false;
+						}
+						continue;
+					}
+					if (!cacheZipFiles) {
+						JavaModelManager.getJavaModelManager().cacheZipFiles(this);
+						cacheZipFiles = true;
+					}
+					executeJob(job);
+				} catch (InterruptedException e) { // background indexing was interrupted
+				} catch (RuntimeException|Error e) {
+					// the job was removed from the queue, keep helping with the other ones
+					Util.log(e, "Background Indexer Crash Recovery"); //$NON-NLS-1$
+				}
+			}
+		} finally {
+			if (cacheZipFiles) {
+				JavaModelManager.getJavaModelManager().flushZipFiles(this);
+			}
+		}
+	}
+	private void executeJob(IJob job) throws InterruptedException {
+		if (VERBOSE) {
+			trace(awaitingJobsCount() + " awaiting jobs"); //$NON-NLS-1$
+			trace("STARTING background job - " + job); //$NON-NLS-1$
+		}
+		long start = System.nanoTime();
+		try {
+			job.execute(null); // may enqueue a new job
+		} finally {
+			jobExecuted(System.nanoTime() - start);
+			if (VERBOSE) {
+				trace("FINISHED background job - " + job); //$NON-NLS-1$
+			}
+			moveToNextJob(job);
+			if (this.awaitingClients.get() == 0 && job.waitNeeded()) {
+				if (VERBOSE) {
+					trace("WAITING after job - " + job); //$NON-NLS-1$
+				}
+				synchronized (this.idleMonitor) {
+					this.idleMonitor.wait(5); // avoid sleep fixed time
+				}
+			}
+		}
+	}
 	/**
 	 * Stop background processing, and wait until the current job is completed before returning
 	 */
@@ -589,6 +857,7 @@ public abstract class JobManager {
 		disable();
 		discardJobs(null); // will wait until current executing job has completed
 		Thread thread = getProcessingThread();
+		List<Thread> helpers = getWorkerThreads();
 		try {
 			if (thread != null) { // see http://bugs.eclipse.org/bugs/show_bug.cgi?id=31858
 				synchronized (this.idleMonitor) {
@@ -600,6 +869,9 @@ public abstract class JobManager {
 				}
 				// in case processing thread is handling a job
 				thread.join();
+				for (Thread helper : helpers) {
+					helper.join();
+				}
 			}
 			Job job = this.progressJob;
 			if (job != null) {
@@ -616,6 +888,8 @@ public abstract class JobManager {
 		buffer.append("Enable count:").append(this.enableCount).append('\n'); //$NON-NLS-1$
 		int numJobs = this.awaitingJobs.size();
 		buffer.append("Jobs in queue:").append(numJobs).append('\n'); //$NON-NLS-1$
+		buffer.append("Running jobs:").append(this.runningJobs.size()).append('\n'); //$NON-NLS-1$
+		buffer.append("Executed jobs:").append(this.executedJobs).append('\n'); //$NON-NLS-1$
 		for (int i = 0; i < numJobs && i < 15; i++) {
 			buffer.append(i).append(" - job["+i+"]: ").append(this.awaitingJobs.get(i)).append('\n'); //$NON-NLS-1$ //$NON-NLS-2$
 		}